@@ -21,6 +21,7 @@ import org.prebid.server.json.JsonMerger;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.settings.ApplicationSettings;
 import org.prebid.server.settings.CachingApplicationSettings;
+import org.prebid.server.settings.SettingsCacheSnapshotter;
 import org.prebid.server.vertx.http.HttpClient;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -128,15 +129,13 @@ public class ExtensionSettingsConfig {
         @Autowired
         JacksonMapper mapper;
 
-        @Value("${settings.in-memory-cache.ttl-seconds:#{0}}")
-        int cacheTtlSeconds;
-
         @Value("${settings.default-account-config:#{null}}")
         String defaultAccountConfig;
 
         @Bean
         AccountHttpPeriodicRefreshService accountHttpPeriodicRefreshService(
-                CachingApplicationSettings cachingApplicationSettings
+                CachingApplicationSettings cachingApplicationSettings,
+                @Autowired(required = false) SettingsCacheSnapshotter settingsCacheSnapshotter
         ) {
             return new AccountHttpPeriodicRefreshService(
                     ReflectionUtils.resolveActualInstanceWrappedInBean(
@@ -146,13 +145,13 @@ public class ExtensionSettingsConfig {
                     endPoint,
                     refreshPeriod,
                     timeout,
-                    1000L * cacheTtlSeconds, // converted to milliseconds
                     vertx,
                     httpClient,
                     defaultAccountConfig,
                     priceFloorsConfigResolver,
                     jsonMerger,
-                    mapper
+                    mapper,
+                    settingsCacheSnapshotter
             );
         }
     }
@@ -2,6 +2,7 @@ package com.improvedigital.prebid.server.customvast;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Device;
@@ -67,6 +68,7 @@ public class CustomVastUtils {
 
     public static final String GAM_VAST_URL_BASE = "https://pubads.g.doubleclick.net/gampad/ads?";
     private static final Logger logger = LoggerFactory.getLogger(CustomVastUtils.class);
+    private static final ObjectWriter CUSTOM_VAST_WRITER = XmlUtils.writerFor(CustomVast.class);
 
     private static final double IMPROVE_DIGITAL_DEAL_FLOOR = 1.5;
     private static final String PROTO_CACHE_HOST = "pbc-proto.360polaris.biz";
@@ -702,7 +704,7 @@ public class CustomVastUtils {
 
     public static String customVastToXml(CustomVast gVastResponse) {
         try {
-            return XmlUtils.serialize(gVastResponse);
+            return CUSTOM_VAST_WRITER.writeValueAsString(gVastResponse);
         } catch (JsonProcessingException e) {
             logger.error("Could not serialize CustomVast to xml", e);
         }
@@ -7,6 +7,7 @@ import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.util.AsciiString;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import io.vertx.ext.web.RoutingContext;
@@ -222,13 +223,14 @@ public class GVastHandler implements Handler<RoutingContext> {
         final AuctionEvent auctionEvent = auctionEventBuilder.status(status).errors(errorMessages).build();
         final PrivacyContext privacyContext = auctionContext != null ? auctionContext.getPrivacyContext() : null;
         final TcfContext tcfContext = privacyContext != null ? privacyContext.getTcfContext() : TcfContext.empty();
-        respondWith(routingContext, status, body, startTime, requestType, metricRequestStatus, auctionEvent,
+        final Buffer responseBody = Buffer.buffer(body);
+        respondWith(routingContext, status, responseBody, startTime, requestType, metricRequestStatus, auctionEvent,
                 tcfContext);
 
-        httpInteractionLogger.maybeLogOpenrtb2Auction(auctionContext, routingContext, status, body);
+        httpInteractionLogger.maybeLogOpenrtb2Auction(auctionContext, routingContext, status, responseBody);
     }
 
-    private void respondWith(RoutingContext context, int status, String body, long startTime, MetricName requestType,
+    private void respondWith(RoutingContext context, int status, Buffer body, long startTime, MetricName requestType,
                              MetricName metricRequestStatus, AuctionEvent event, TcfContext tcfContext) {
         // don't send the response if client has gone
         if (context.response().closed()) {
@@ -5,10 +5,14 @@ import java.util.Set;
 public class TokenNotFoundException extends Exception {
 
     public TokenNotFoundException(String template, Set<String> invalidTokens, Set<String> validTokens) {
-        super(String.format("Template '%s' contains invalid token(s): '%s'!\nValid tokens are: '%s'",
+        super(message(template, invalidTokens, validTokens));
+    }
+
+    public static String message(String template, Set<String> invalidTokens, Set<String> validTokens) {
+        return String.format("Template '%s' contains invalid token(s): '%s'!\nValid tokens are: '%s'",
                 template,
                 String.join(", ", invalidTokens),
                 String.join(", ", validTokens)
-        ));
+        );
     }
 }
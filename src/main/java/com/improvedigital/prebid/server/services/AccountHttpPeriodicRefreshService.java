@@ -2,7 +2,6 @@ package com.improvedigital.prebid.server.services;
 
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.improvedigital.prebid.server.settings.proto.response.HttpAccountRefreshResponse;
-import com.improvedigital.prebid.server.utils.ReflectionUtils;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.core.logging.Logger;
@@ -15,6 +14,7 @@ import org.prebid.server.json.DecodeException;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.json.JsonMerger;
 import org.prebid.server.settings.CachingApplicationSettings;
+import org.prebid.server.settings.SettingsCacheSnapshotter;
 import org.prebid.server.settings.model.Account;
 import org.prebid.server.util.HttpUtil;
 import org.prebid.server.vertx.Initializable;
@@ -23,8 +23,11 @@ import org.prebid.server.vertx.http.model.HttpClientResponse;
 
 import java.time.Instant;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * <p>
@@ -35,8 +38,8 @@ import java.util.Objects;
  * <p>
  * So, until the account updates are officially supported by
  * {@link org.prebid.server.settings.service.HttpPeriodicRefreshService}
- * we needed to create this service that will call a similar HTTP API, and update account cache directly
- * via Reflection in {@link CachingApplicationSettings} bean.
+ * we needed to create this service that will call a similar HTTP API, and apply account updates to
+ * the account store of {@link CachingApplicationSettings} bean. Refreshed accounts do not expire.
  * </p>
  * <p>
  * To keep the implementation consistent, it uses the same endpoint configured for HttpPeriodicRefreshService
@@ -64,9 +67,17 @@ import java.util.Objects;
  *   }
  * }
  * </pre>
+ * <p>
+ * Accounts returned unchanged by the API are neither converted nor merged with default account again.
+ * </p>
+ * <p>
+ * If settings snapshot restored on startup contains time of the last account refresh, only accounts
+ * updated after that time are requested on the first refresh.
+ * </p>
  */
 
-public class AccountHttpPeriodicRefreshService implements Initializable {
+public class AccountHttpPeriodicRefreshService
+        implements Initializable, CachingApplicationSettings.AccountInvalidationListener {
 
     private static final Logger logger = LoggerFactory.getLogger(AccountHttpPeriodicRefreshService.class);
 
@@ -74,15 +85,15 @@ public class AccountHttpPeriodicRefreshService implements Initializable {
     private final String refreshUrl;
     private final long refreshPeriod;
     private final long timeout;
-    private final long cacheTtlMs;
     private final Vertx vertx;
     private final HttpClient httpClient;
     private final JacksonMapper mapper;
     private final Account defaultAccount;
     private final JsonMerger jsonMerger;
     private final PriceFloorsConfigResolver priceFloorsConfigResolver;
+    private final SettingsCacheSnapshotter snapshotter;
 
-    private Map<String, Account> accountCache;
+    private final Map<String, ObjectNode> accountNodes;
     private Instant lastUpdateTime;
 
     public Instant getLastUpdateTime() {
@@ -94,45 +105,63 @@ public class AccountHttpPeriodicRefreshService implements Initializable {
             String refreshUrl,
             long refreshPeriod,
             long timeout,
-            long cacheTtlMs,
             Vertx vertx,
             HttpClient httpClient,
             String defaultAccountConfig,
             PriceFloorsConfigResolver priceFloorsConfigResolver,
             JsonMerger jsonMerger,
-            JacksonMapper mapper
+            JacksonMapper mapper,
+            SettingsCacheSnapshotter snapshotter
     ) {
         this.cachingApplicationSettings = cachingApplicationSettings;
         this.refreshUrl = HttpUtil.validateUrl(Objects.requireNonNull(refreshUrl));
         this.refreshPeriod = refreshPeriod;
         this.timeout = timeout;
-        this.cacheTtlMs = cacheTtlMs;
         this.vertx = vertx;
         this.httpClient = Objects.requireNonNull(httpClient);
         this.defaultAccount = parseAccount(defaultAccountConfig, mapper);
         this.priceFloorsConfigResolver = Objects.requireNonNull(priceFloorsConfigResolver);
         this.jsonMerger = Objects.requireNonNull(jsonMerger);
         this.mapper = Objects.requireNonNull(mapper);
+        this.snapshotter = snapshotter;
+
+        // invalidation comes from http handlers, possibly running on other event loop threads
+        accountNodes = new ConcurrentHashMap<>();
     }
 
     @Override
     public void initialize() {
-        if (cachingApplicationSettings != null
-                && refreshPeriod > 0
-                && refreshPeriod < cacheTtlMs
-        ) {
-            loadAccountCache();
+        if (cachingApplicationSettings != null && refreshPeriod > 0) {
+            cachingApplicationSettings.addAccountInvalidationListener(this);
+            if (snapshotter != null) {
+                lastUpdateTime = snapshotter.lastModified(accountsEndpoint());
+            }
             this.refresh(0L);
             vertx.setPeriodic(refreshPeriod, this::refresh);
         }
     }
 
-    private void refresh(long timerId) {
-        final String lastModifiedParam = "accounts=true" + (
-                lastUpdateTime == null ? "" : "&last-modified=" + lastUpdateTime
-        );
+    /**
+     * Forgets node of invalidated account, so the account is applied again when returned by the next refresh.
+     */
+    @Override
+    public void accountInvalidated(String accountId) {
+        accountNodes.remove(accountId);
+    }
+
+    @Override
+    public void allAccountsInvalidated() {
+        accountNodes.clear();
+    }
+
+    private String accountsEndpoint() {
         final String andOrParam = refreshUrl.contains("?") ? "&" : "?";
-        final String refreshEndpoint = refreshUrl + andOrParam + lastModifiedParam;
+        return refreshUrl + andOrParam + "accounts=true";
+    }
+
+    private void refresh(long timerId) {
+        final String lastModifiedParam = lastUpdateTime == null ? "" : "&last-modified=" + lastUpdateTime;
+        final String refreshEndpoint = accountsEndpoint() + lastModifiedParam;
         logger.debug("account refresh url:\n" + refreshEndpoint);
 
         httpClient.get(refreshEndpoint, HttpUtil.headers(), timeout)
@@ -141,7 +170,10 @@ public class AccountHttpPeriodicRefreshService implements Initializable {
                 .recover(AccountHttpPeriodicRefreshService::failResponse);
     }
 
-    private Map<String, Account> processResponse(HttpClientResponse response) {
+    /**
+     * Returns account nodes changed since the last applied refresh, where null value means deleted account.
+     */
+    private Map<String, ObjectNode> processResponse(HttpClientResponse response) {
         final int statusCode = response.getStatusCode();
         if (statusCode != 200) {
             throw new PreBidException("HTTP status code " + statusCode);
@@ -151,7 +183,7 @@ public class AccountHttpPeriodicRefreshService implements Initializable {
             final HttpAccountRefreshResponse refreshResponse = mapper.decodeValue(
                     response.getBody(), HttpAccountRefreshResponse.class
             );
-            final Map<String, Account> result = new HashMap<>();
+            final Map<String, ObjectNode> result = new HashMap<>();
 
             if (refreshResponse.getAccounts() == null) { // if there is no "accounts" key in response or the key value is null
                 return result;
@@ -160,11 +192,11 @@ public class AccountHttpPeriodicRefreshService implements Initializable {
             for (Map.Entry<String, ObjectNode> entry : refreshResponse.getAccounts().entrySet()) {
                 final ObjectNode objectNode = entry.getValue();
                 final String accountId = entry.getKey();
-                Account parsedAccount = null;
-                if (objectNode != null && !(objectNode.has("deleted") && objectNode.get("deleted").asBoolean())) {
-                    parsedAccount = mapper.mapper().convertValue(objectNode, Account.class);
+                if (objectNode == null || (objectNode.has("deleted") && objectNode.get("deleted").asBoolean())) {
+                    result.put(accountId, null);
+                } else if (!objectNode.equals(accountNodes.get(accountId))) {
+                    result.put(accountId, objectNode);
                 }
-                result.put(accountId, parsedAccount);
             }
             return result;
         } catch (DecodeException e) {
@@ -205,27 +237,40 @@ public class AccountHttpPeriodicRefreshService implements Initializable {
         return Future.failedFuture(exception);
     }
 
-    private void loadAccountCache() {
-        Map<String, Account> accountCache;
+    /**
+     * Returns account ready to be stored or null if account node cannot be converted.
+     * <p>
+     * Conversion does not depend on anything but the node, so it is not retried: delta refresh returns the account
+     * again only after it is changed upstream.
+     */
+    private Account toEnrichedAccount(String accountId, ObjectNode accountNode) {
+        final Future<Account> accountFuture;
         try {
-            accountCache = ReflectionUtils.getPrivateProperty(
-                    "accountCache", cachingApplicationSettings,
-                    CachingApplicationSettings.class
-            );
-            if (accountCache == null) {
-                throw new PreBidException("accountCache is null in cachingApplicationSettings!");
-            }
-        } catch (NoSuchFieldException | IllegalAccessException e) {
-            throw new PreBidException(e.getMessage(), e);
+            final Account account = mapper.mapper().convertValue(accountNode, Account.class);
+            accountFuture = priceFloorsConfigResolver
+                    .updateFloorsConfig(account)
+                    .map(this::mergeDefaultAccount);
+        } catch (IllegalArgumentException e) {
+            logger.error(String.format("Account with id=%s cannot be converted and is skipped until it is changed: %s",
+                    accountId, e.getMessage()));
+            return null;
+        }
+
+        if (accountFuture.failed()) {
+            logger.error(String.format("Account with id=%s cannot be enriched and is skipped until it is changed: %s",
+                    accountId, accountFuture.cause().getMessage()));
+            return null;
         }
-        this.accountCache = accountCache;
+        return accountFuture.result();
     }
 
-    private Void cacheAccounts(Map<String, Account> accountMap) {
+    private Void cacheAccounts(Map<String, ObjectNode> accountMap) {
         if (MapUtils.isNotEmpty(accountMap)) {
-            for (Map.Entry<String, Account> entry: accountMap.entrySet()) {
+            final Map<String, Account> updatedAccounts = new HashMap<>();
+            final Set<String> deletedAccountIds = new HashSet<>();
+            for (Map.Entry<String, ObjectNode> entry: accountMap.entrySet()) {
                 if (entry.getValue() == null) {
-                    this.accountCache.remove(entry.getKey());
+                    deletedAccountIds.add(entry.getKey());
                     logger.debug(
                             String.format(
                                     "Account with id=%s is deleted and hence removed from cache.",
@@ -233,11 +278,12 @@ public class AccountHttpPeriodicRefreshService implements Initializable {
                             )
                     );
                 } else {
-                    final Account enrichedAccount = priceFloorsConfigResolver
-                            .updateFloorsConfig(entry.getValue())
-                            .map(this::mergeDefaultAccount)
-                            .result();
-                    this.accountCache.put(entry.getKey(), enrichedAccount);
+                    final Account account = toEnrichedAccount(entry.getKey(), entry.getValue());
+                    if (account == null) {
+                        // skipped account keeps its previous version, if any, until it is changed upstream
+                        continue;
+                    }
+                    updatedAccounts.put(entry.getKey(), account);
                     logger.debug(
                             String.format(
                                     "Account with id=%s has been saved in cache successfully.",
@@ -246,6 +292,11 @@ public class AccountHttpPeriodicRefreshService implements Initializable {
                     );
                 }
             }
+
+            cachingApplicationSettings.updateAccounts(updatedAccounts, deletedAccountIds);
+            updatedAccounts.keySet().forEach(accountId -> accountNodes.put(accountId, accountMap.get(accountId)));
+            deletedAccountIds.forEach(accountNodes::remove);
+
             logger.info(
                     String.format(
                             "Successfully %s %d accounts with ids: %s.",
@@ -258,6 +309,9 @@ public class AccountHttpPeriodicRefreshService implements Initializable {
             logger.debug("No accounts have been updated since last refresh.");
         }
         lastUpdateTime = Instant.now();
+        if (snapshotter != null) {
+            snapshotter.updateLastModified(accountsEndpoint(), lastUpdateTime);
+        }
         return null;
     }
 }
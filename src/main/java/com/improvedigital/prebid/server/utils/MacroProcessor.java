@@ -1,19 +1,38 @@
 package com.improvedigital.prebid.server.utils;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.improvedigital.prebid.server.exception.TokenNotFoundException;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
-import org.apache.commons.lang3.BooleanUtils;
+import lombok.Value;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+/**
+ * Expands {@code {{token}}} macros of templates with given values.
+ * <p>
+ * Templates are parsed once into a list of literal and token segments and kept in a bounded cache, so expansion
+ * of the same template is a plain concatenation of literals and looked up values. Values are inserted as is.
+ */
 public class MacroProcessor {
 
     private static final Logger logger = LoggerFactory.getLogger(MacroProcessor.class);
+
+    private static final int TEMPLATES_CACHE_SIZE = 1000;
+    private static final int MAX_REUSED_BUILDER_CAPACITY = 8192;
+
+    private static final ThreadLocal<StringBuilder> BUILDER = ThreadLocal.withInitial(StringBuilder::new);
+
     private final Pattern pattern;
+    private final Cache<String, Template> templates;
 
     public MacroProcessor() {
         this(false);
@@ -39,33 +58,85 @@ public class MacroProcessor {
         }
         sb.append(Pattern.quote(tokenEnd.toString()));
         this.pattern = Pattern.compile(sb.toString());
+        this.templates = Caffeine.newBuilder().maximumSize(TEMPLATES_CACHE_SIZE).build();
     }
 
     public String process(String template, Map<String, String> tokenValues) throws TokenNotFoundException {
         return this.process(template, tokenValues, false);
     }
 
+    /**
+     * Expands the template. Tokens without values are left in the result as is and are either reported by
+     * {@link TokenNotFoundException} or, if not found tokens are ignored, logged.
+     */
     public String process(String template, Map<String, String> tokenValues, boolean ignoreNotFoundTokens)
             throws TokenNotFoundException {
-        final Matcher matcher = pattern.matcher(template);
-        final Set<String> notFoundTokens = new java.util.HashSet<>();
-        final String expanded = matcher.replaceAll(matchResult -> {
-            final String token = matchResult.group(1);
-            if (tokenValues.containsKey(token)) {
-                return tokenValues.get(token);
-            }
-            notFoundTokens.add(token);
-            return matchResult.group(0);
-        });
-
-        if (!notFoundTokens.isEmpty()) {
-            TokenNotFoundException ex = new TokenNotFoundException(template, notFoundTokens, tokenValues.keySet());
-            if (BooleanUtils.isTrue(ignoreNotFoundTokens)) {
-                logger.warn(ex);
+
+        final Template compiled = templates.get(template, this::parse);
+        final StringBuilder sb = BUILDER.get();
+        sb.setLength(0);
+
+        Set<String> notFoundTokens = null;
+        for (Segment segment : compiled.getSegments()) {
+            final String token = segment.getToken();
+            if (token == null) {
+                sb.append(segment.getText());
+            } else if (tokenValues.containsKey(token)) {
+                sb.append(Objects.requireNonNull(tokenValues.get(token), () -> "Value of token " + token + " is null"));
             } else {
-                throw ex;
+                sb.append(segment.getText());
+                notFoundTokens = notFoundTokens != null ? notFoundTokens : new LinkedHashSet<>();
+                notFoundTokens.add(token);
             }
         }
+
+        final String expanded = sb.toString();
+        if (sb.capacity() > MAX_REUSED_BUILDER_CAPACITY) {
+            BUILDER.remove();
+        }
+
+        if (notFoundTokens != null) {
+            if (!ignoreNotFoundTokens) {
+                throw new TokenNotFoundException(template, notFoundTokens, tokenValues.keySet());
+            }
+            logger.warn(TokenNotFoundException.message(template, notFoundTokens, tokenValues.keySet()));
+        }
         return expanded;
     }
+
+    private Template parse(String template) {
+        final List<Segment> segments = new ArrayList<>();
+        final Matcher matcher = pattern.matcher(template);
+
+        int literalStart = 0;
+        while (matcher.find()) {
+            if (matcher.start() > literalStart) {
+                segments.add(Segment.of(template.substring(literalStart, matcher.start()), null));
+            }
+            segments.add(Segment.of(matcher.group(0), matcher.group(1)));
+            literalStart = matcher.end();
+        }
+        if (literalStart < template.length()) {
+            segments.add(Segment.of(template.substring(literalStart), null));
+        }
+
+        return Template.of(segments.toArray(new Segment[0]));
+    }
+
+    @Value(staticConstructor = "of")
+    private static class Template {
+
+        Segment[] segments;
+    }
+
+    /**
+     * Literal text or token slot. For token slot, text is the raw macro kept in result if token has no value.
+     */
+    @Value(staticConstructor = "of")
+    private static class Segment {
+
+        String text;
+
+        String token;
+    }
 }
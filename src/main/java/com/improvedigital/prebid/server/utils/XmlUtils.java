@@ -5,18 +5,34 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.dataformat.xml.XmlMapper;
 import com.fasterxml.jackson.dataformat.xml.ser.ToXmlGenerator;
 
 import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
+/**
+ * Serializes and deserializes XML.
+ * <p>
+ * Mappers are expensive to copy and must not be reconfigured once shared, so immutable {@link ObjectWriter}s
+ * and {@link ObjectReader}s are built once per configuration (pretty print, target class) and reused.
+ * Only calls with extra modules or mapper modifier still work on a copy of default mapper.
+ */
 public class XmlUtils {
 
     private static final XmlMapper DEFAULT_SERIALIZER;
     private static final XmlMapper DEFAULT_DESERIALIZER;
 
+    private static final ObjectWriter DEFAULT_WRITER;
+    private static final ObjectWriter PRETTY_PRINT_WRITER;
+    private static final Map<Class<?>, ObjectWriter> CLASS_WRITERS = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, ObjectReader> CLASS_READERS = new ConcurrentHashMap<>();
+
     static {
         DEFAULT_SERIALIZER = XmlMapper.builder()
                 .enable(ToXmlGenerator.Feature.WRITE_XML_DECLARATION)
@@ -30,6 +46,9 @@ public class XmlUtils {
                 .enable(MapperFeature.ALLOW_EXPLICIT_PROPERTY_RENAMING)
                 .enable(MapperFeature.USE_WRAPPER_NAME_AS_PROPERTY_NAME)
                 .build();
+
+        DEFAULT_WRITER = DEFAULT_SERIALIZER.writer().without(SerializationFeature.INDENT_OUTPUT);
+        PRETTY_PRINT_WRITER = DEFAULT_SERIALIZER.writer().with(SerializationFeature.INDENT_OUTPUT);
     }
 
     private XmlUtils() {
@@ -54,7 +73,11 @@ public class XmlUtils {
             Object object, boolean prettyPrint,
             Consumer<XmlMapper> mapperModifier, Module... modules
     ) throws JsonProcessingException {
-        XmlMapper mapper = copyIf(DEFAULT_SERIALIZER, prettyPrint || mapperModifier != null || modules.length > 0);
+        if (mapperModifier == null && modules.length == 0) {
+            return (prettyPrint ? PRETTY_PRINT_WRITER : DEFAULT_WRITER).writeValueAsString(object);
+        }
+
+        final XmlMapper mapper = DEFAULT_SERIALIZER.copy();
         mapper.configure(SerializationFeature.INDENT_OUTPUT, prettyPrint);
         Arrays.stream(modules).forEach(mapper::registerModule);
         if (mapperModifier != null) {
@@ -63,6 +86,14 @@ public class XmlUtils {
         return mapper.writeValueAsString(object);
     }
 
+    /**
+     * Returns reusable compact {@link ObjectWriter} for the given class with default serialization settings.
+     * Root serializer is resolved once, so it is preferable for repeatedly serialized types.
+     */
+    public static ObjectWriter writerFor(Class<?> clazz) {
+        return CLASS_WRITERS.computeIfAbsent(clazz, DEFAULT_WRITER::forType);
+    }
+
     public static <T> T deserialize(String xml, Class<T> clazz)
             throws JsonProcessingException {
         return deserialize(xml, clazz, null, new Module[]{});
@@ -77,15 +108,15 @@ public class XmlUtils {
             String xml, Class<T> clazz,
             Consumer<XmlMapper> mapperModifier, Module... modules
     ) throws JsonProcessingException {
-        XmlMapper mapper = copyIf(DEFAULT_DESERIALIZER, mapperModifier != null || modules.length > 0);
+        if (mapperModifier == null && modules.length == 0) {
+            return CLASS_READERS.computeIfAbsent(clazz, DEFAULT_DESERIALIZER::readerFor).readValue(xml);
+        }
+
+        final XmlMapper mapper = DEFAULT_DESERIALIZER.copy();
         Arrays.stream(modules).forEach(mapper::registerModule);
         if (mapperModifier != null) {
             mapperModifier.accept(mapper);
         }
         return mapper.readValue(xml, clazz);
     }
-
-    private static XmlMapper copyIf(XmlMapper source, boolean shouldCopy) {
-        return shouldCopy ? source.copy() : source;
-    }
 }
@@ -0,0 +1,29 @@
+package org.prebid.server.analytics;
+
+import io.vertx.core.Future;
+
+/**
+ * {@link AnalyticsReporter} which splits processing of event into preparation (conversion, serialization, etc.),
+ * that can run on worker thread, and reporting of the prepared event, that can use Vert.x I/O.
+ */
+public interface PreparingAnalyticsReporter extends AnalyticsReporter {
+
+    /**
+     * Converts event to the form it is reported in or returns null if the event is not reported at all.
+     * <p>
+     * Implementation note: this method can be executed on worker thread so it must never use Vert.x I/O.
+     */
+    <T> Object prepareEvent(T event);
+
+    /**
+     * Reports event returned by {@link #prepareEvent(Object)}.
+     * <p>
+     * Implementation note: this method is executed on Vert.x event loop thread so it must never use blocking API.
+     */
+    Future<Void> reportPreparedEvent(Object preparedEvent);
+
+    @Override
+    default <T> Future<Void> processEvent(T event) {
+        return reportPreparedEvent(prepareEvent(event));
+    }
+}
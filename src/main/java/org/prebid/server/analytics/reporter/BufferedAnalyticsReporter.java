@@ -0,0 +1,242 @@
+package org.prebid.server.analytics.reporter;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import lombok.Value;
+import org.prebid.server.analytics.AnalyticsReporter;
+import org.prebid.server.analytics.PreparingAnalyticsReporter;
+import org.prebid.server.exception.PreBidException;
+import org.prebid.server.metric.Metrics;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Decorates {@link AnalyticsReporter} with bounded buffer of events, which are handed over to the reporter in batches
+ * away from the event loops serving requests.
+ * <p>
+ * Batch is prepared by {@link PreparingAnalyticsReporter} on worker thread dedicated to the reporter, so event
+ * conversion and serialization never run on the event loop and never compete with other blocking tasks, while
+ * prepared events are reported on the single event loop context owned by this decorator, so reporter I/O uses
+ * the HTTP client and callbacks of that context. Other reporters process the whole event on that context.
+ * <p>
+ * Only one batch is in flight at a time: the next flush starts when all events of the previous batch are reported.
+ * <p>
+ * Batch is flushed as soon as buffer holds configured number of events or by timer, whatever comes first.
+ * When reporter falls behind and buffer is full, either the newest or the oldest event is dropped depending
+ * on configured {@link OverflowPolicy}.
+ */
+public class BufferedAnalyticsReporter implements AnalyticsReporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(BufferedAnalyticsReporter.class);
+
+    // batches are prepared one at a time, so single thread is enough
+    private static final int WORKER_POOL_SIZE = 1;
+
+    private final AnalyticsReporter analyticsReporter;
+    private final int batchSize;
+    private final OverflowPolicy overflowPolicy;
+    private final Vertx vertx;
+    private final Metrics metrics;
+    private final Clock clock;
+
+    private final Context context;
+    private final WorkerExecutor workerExecutor;
+    private final BlockingQueue<BufferedEvent<?>> events;
+    private final AtomicBoolean flushInProgress;
+
+    public BufferedAnalyticsReporter(AnalyticsReporter analyticsReporter,
+                                     int capacity,
+                                     int batchSize,
+                                     long flushIntervalMs,
+                                     OverflowPolicy overflowPolicy,
+                                     Vertx vertx,
+                                     Metrics metrics,
+                                     Clock clock) {
+
+        if (capacity <= 0 || batchSize <= 0 || flushIntervalMs <= 0) {
+            throw new IllegalArgumentException("capacity, batch size and flush interval must be positive");
+        }
+
+        this.analyticsReporter = Objects.requireNonNull(analyticsReporter);
+        this.batchSize = batchSize;
+        this.overflowPolicy = Objects.requireNonNull(overflowPolicy);
+        this.vertx = Objects.requireNonNull(vertx);
+        this.metrics = Objects.requireNonNull(metrics);
+        this.clock = Objects.requireNonNull(clock);
+
+        context = vertx.getOrCreateContext();
+        workerExecutor = vertx.createSharedWorkerExecutor(
+                "analytics-buffer-" + analyticsReporter.name(), WORKER_POOL_SIZE);
+        events = new ArrayBlockingQueue<>(capacity);
+        flushInProgress = new AtomicBoolean();
+
+        metrics.createAnalyticsQueueSizeGauge(analyticsReporter.name(), events::size);
+        vertx.setPeriodic(flushIntervalMs, ignored -> flush());
+    }
+
+    @Override
+    public <T> Future<Void> processEvent(T event) {
+        final BufferedEvent<T> bufferedEvent = BufferedEvent.of(event, Promise.promise());
+        if (!enqueue(bufferedEvent)) {
+            return Future.failedFuture(dropException());
+        }
+
+        if (events.size() >= batchSize) {
+            flush();
+        }
+
+        return bufferedEvent.getPromise().future();
+    }
+
+    private boolean enqueue(BufferedEvent<?> bufferedEvent) {
+        if (events.offer(bufferedEvent)) {
+            return true;
+        }
+
+        if (overflowPolicy == OverflowPolicy.dropOldest) {
+            final BufferedEvent<?> droppedEvent = events.poll();
+            if (droppedEvent != null) {
+                metrics.updateAnalyticsEventDropped(analyticsReporter.name());
+                droppedEvent.getPromise().tryFail(dropException());
+            }
+            if (events.offer(bufferedEvent)) {
+                return true;
+            }
+        }
+
+        metrics.updateAnalyticsEventDropped(analyticsReporter.name());
+        return false;
+    }
+
+    private PreBidException dropException() {
+        return new PreBidException("Analytics buffer of %s reporter is full, event dropped"
+                .formatted(analyticsReporter.name()));
+    }
+
+    /**
+     * Schedules preparation of the next batch of buffered events on worker thread of this decorator and its
+     * reporting on the context of this decorator unless another flush is in progress.
+     */
+    private void flush() {
+        if (events.isEmpty() || !flushInProgress.compareAndSet(false, true)) {
+            return;
+        }
+
+        final long startTime = clock.millis();
+        // blocking result handler is called on the context executeBlocking was called from
+        context.runOnContext(ignored -> workerExecutor.<List<ReportTask>>executeBlocking(
+                promise -> promise.complete(prepareBatch()),
+                false,
+                result -> completeFlush(result, startTime)));
+    }
+
+    private void completeFlush(AsyncResult<List<ReportTask>> result, long startTime) {
+        if (result.failed()) {
+            logger.warn("Failed to flush analytics events of {0} reporter",
+                    result.cause(), analyticsReporter.name());
+            finishFlush();
+            return;
+        }
+
+        final List<Future<Void>> reportFutures = result.result().stream()
+                .map(BufferedAnalyticsReporter::report)
+                .toList();
+        CompositeFuture.join(new ArrayList<>(reportFutures)).onComplete(ignored -> {
+            metrics.updateAnalyticsFlushTime(analyticsReporter.name(), clock.millis() - startTime);
+            finishFlush();
+        });
+    }
+
+    private void finishFlush() {
+        flushInProgress.set(false);
+        if (events.size() >= batchSize) {
+            flush();
+        }
+    }
+
+    private List<ReportTask> prepareBatch() {
+        final List<BufferedEvent<?>> batch = new ArrayList<>(batchSize);
+        events.drainTo(batch, batchSize);
+
+        final List<ReportTask> reportTasks = new ArrayList<>(batch.size());
+        for (BufferedEvent<?> bufferedEvent : batch) {
+            final ReportTask reportTask = prepare(bufferedEvent);
+            if (reportTask != null) {
+                reportTasks.add(reportTask);
+            }
+        }
+
+        return reportTasks;
+    }
+
+    private <T> ReportTask prepare(BufferedEvent<T> bufferedEvent) {
+        final T event = bufferedEvent.getEvent();
+        final Promise<Void> promise = bufferedEvent.getPromise();
+        if (!(analyticsReporter instanceof PreparingAnalyticsReporter preparingReporter)) {
+            return ReportTask.of(() -> analyticsReporter.processEvent(event), promise);
+        }
+
+        try {
+            final Object preparedEvent = preparingReporter.prepareEvent(event);
+            return ReportTask.of(() -> preparingReporter.reportPreparedEvent(preparedEvent), promise);
+        } catch (Exception e) {
+            promise.tryFail(e);
+            return null;
+        }
+    }
+
+    private static Future<Void> report(ReportTask reportTask) {
+        final Promise<Void> promise = reportTask.getPromise();
+        try {
+            reportTask.getReport().get().onComplete(promise);
+        } catch (Exception e) {
+            promise.tryFail(e);
+        }
+        return promise.future();
+    }
+
+    @Override
+    public int vendorId() {
+        return analyticsReporter.vendorId();
+    }
+
+    @Override
+    public String name() {
+        return analyticsReporter.name();
+    }
+
+    public enum OverflowPolicy {
+
+        dropNewest, dropOldest
+    }
+
+    @Value(staticConstructor = "of")
+    private static class BufferedEvent<T> {
+
+        T event;
+
+        Promise<Void> promise;
+    }
+
+    @Value(staticConstructor = "of")
+    private static class ReportTask {
+
+        Supplier<Future<Void>> report;
+
+        Promise<Void> promise;
+    }
+}
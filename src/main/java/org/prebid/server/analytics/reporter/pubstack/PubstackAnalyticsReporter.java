@@ -5,9 +5,10 @@ import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
+import lombok.Value;
 import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.BooleanUtils;
-import org.prebid.server.analytics.AnalyticsReporter;
+import org.prebid.server.analytics.PreparingAnalyticsReporter;
 import org.prebid.server.analytics.model.AmpEvent;
 import org.prebid.server.analytics.model.AuctionEvent;
 import org.prebid.server.analytics.model.CookieSyncEvent;
@@ -32,7 +33,7 @@ import java.util.Objects;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
-public class PubstackAnalyticsReporter implements AnalyticsReporter, Initializable {
+public class PubstackAnalyticsReporter implements PreparingAnalyticsReporter, Initializable {
 
     private static final Logger logger = LoggerFactory.getLogger(PubstackAnalyticsReporter.class);
 
@@ -46,7 +47,7 @@ public class PubstackAnalyticsReporter implements AnalyticsReporter, Initializab
     private final Vertx vertx;
 
     private final Map<EventType, PubstackEventHandler> eventHandlers;
-    private PubstackConfig pubstackConfig;
+    private volatile PubstackConfig pubstackConfig;
 
     public PubstackAnalyticsReporter(PubstackAnalyticsProperties pubstackAnalyticsProperties,
                                      HttpClient httpClient,
@@ -88,29 +89,45 @@ public class PubstackAnalyticsReporter implements AnalyticsReporter, Initializab
 
     @Override
     public <T> Future<Void> processEvent(T event) {
-        final EventType eventType;
+        final EventType eventType = eventType(event);
+        if (eventType != null) {
+            eventHandlers.get(eventType).handle(event);
+        }
 
+        return Future.succeededFuture();
+    }
+
+    @Override
+    public <T> Object prepareEvent(T event) {
+        final EventType eventType = eventType(event);
+        final String jsonEvent = eventType != null ? eventHandlers.get(eventType).prepare(event) : null;
+        return jsonEvent != null ? PreparedEvent.of(eventType, jsonEvent) : null;
+    }
+
+    @Override
+    public Future<Void> reportPreparedEvent(Object preparedEvent) {
+        if (preparedEvent instanceof PreparedEvent pubstackEvent) {
+            eventHandlers.get(pubstackEvent.getEventType()).report(pubstackEvent.getJsonEvent());
+        }
+
+        return Future.succeededFuture();
+    }
+
+    private static <T> EventType eventType(T event) {
         if (event instanceof AmpEvent) {
-            eventType = EventType.amp;
+            return EventType.amp;
         } else if (event instanceof AuctionEvent) {
-            eventType = EventType.auction;
+            return EventType.auction;
         } else if (event instanceof CookieSyncEvent) {
-            eventType = EventType.cookiesync;
+            return EventType.cookiesync;
         } else if (event instanceof NotificationEvent) {
-            eventType = EventType.notification;
+            return EventType.notification;
         } else if (event instanceof SetuidEvent) {
-            eventType = EventType.setuid;
+            return EventType.setuid;
         } else if (event instanceof VideoEvent) {
-            eventType = EventType.video;
-        } else {
-            eventType = null;
-        }
-
-        if (eventType != null) {
-            eventHandlers.get(eventType).handle(event);
+            return EventType.video;
         }
-
-        return Future.succeededFuture();
+        return null;
     }
 
     @Override
@@ -193,4 +210,12 @@ public class PubstackAnalyticsReporter implements AnalyticsReporter, Initializab
             throw new PreBidException(message);
         }
     }
+
+    @Value(staticConstructor = "of")
+    private static class PreparedEvent {
+
+        EventType eventType;
+
+        String jsonEvent;
+    }
 }
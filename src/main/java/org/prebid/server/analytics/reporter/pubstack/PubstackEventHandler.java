@@ -80,8 +80,28 @@ public class PubstackEventHandler {
     }
 
     public <T> void handle(T event) {
-        if (enabled) {
-            buffer(event);
+        report(prepare(event));
+    }
+
+    /**
+     * Serializes the given event or returns null if handler is disabled. Doesn't use Vert.x I/O.
+     */
+    public <T> String prepare(T event) {
+        if (!enabled) {
+            return null;
+        }
+
+        final ObjectNode eventNode = jacksonMapper.mapper().valueToTree(event);
+        eventNode.put(SCOPE_FIELD_NAME, scopeId);
+        return jacksonMapper.encodeToString(eventNode);
+    }
+
+    /**
+     * Buffers the given serialized event and sends buffered events if there are enough of them.
+     */
+    public void report(String jsonEvent) {
+        if (enabled && jsonEvent != null) {
+            buffer(jsonEvent);
             reportEventsOnCondition(byteSize -> byteSize.get() > maxByteSize, byteSize);
             reportEventsOnCondition(eventsReference -> eventsReference.get().size() > maxEventCount, events);
         }
@@ -100,10 +120,7 @@ public class PubstackEventHandler {
         this.scopeId = scopeId;
     }
 
-    private <T> void buffer(T event) {
-        final ObjectNode eventNode = jacksonMapper.mapper().valueToTree(event);
-        eventNode.put(SCOPE_FIELD_NAME, scopeId);
-        final String jsonEvent = jacksonMapper.encodeToString(eventNode);
+    private void buffer(String jsonEvent) {
         events.get().add(jsonEvent);
         byteSize.getAndAdd(jsonEvent.getBytes().length);
     }
@@ -34,6 +34,8 @@ import org.prebid.server.auction.model.CategoryMappingResult;
 import org.prebid.server.auction.model.DebugContext;
 import org.prebid.server.auction.model.MultiBidConfig;
 import org.prebid.server.auction.model.TargetingInfo;
+import org.prebid.server.auction.profiling.AuctionProfile;
+import org.prebid.server.auction.profiling.AuctionStage;
 import org.prebid.server.auction.requestfactory.Ortb2ImplicitParametersResolver;
 import org.prebid.server.bidder.BidderCatalog;
 import org.prebid.server.bidder.model.BidderBid;
@@ -798,7 +800,7 @@ public class BidResponseCreator {
         final ExtDebugTrace extDebugTrace = deepDebugLog.isDeepDebugEnabled() ? toExtDebugTrace(deepDebugLog) : null;
 
         return ObjectUtils.anyNotNull(httpCalls, bidRequest, extDebugPgmetrics, extDebugTrace)
-                ? ExtResponseDebug.of(httpCalls, bidRequest, extDebugPgmetrics, extDebugTrace)
+                ? ExtResponseDebug.of(httpCalls, bidRequest, extDebugPgmetrics, extDebugTrace, null)
                 : null;
     }
 
@@ -826,7 +828,9 @@ public class BidResponseCreator {
                 .shouldCacheVideoBids(cacheInfo.isShouldCacheVideoBids())
                 .build();
 
-        return cacheService.cacheBidsOpenrtb(bidsValidToBeCached, auctionContext, cacheContext, eventsContext)
+        return AuctionProfile.of(auctionContext)
+                .measureAsync(AuctionStage.cache, () -> cacheService.cacheBidsOpenrtb(
+                        bidsValidToBeCached, auctionContext, cacheContext, eventsContext))
                 .map(cacheResult -> addNotCachedBids(cacheResult, bidsToCache));
     }
 
@@ -39,6 +39,8 @@ import org.prebid.server.auction.model.BidderResponse;
 import org.prebid.server.auction.model.MultiBidConfig;
 import org.prebid.server.auction.model.StoredResponseResult;
 import org.prebid.server.auction.model.Tuple2;
+import org.prebid.server.auction.profiling.AuctionProfiler;
+import org.prebid.server.auction.profiling.AuctionStage;
 import org.prebid.server.auction.versionconverter.BidRequestOrtbVersionConversionManager;
 import org.prebid.server.auction.versionconverter.OrtbVersion;
 import org.prebid.server.bidder.Bidder;
@@ -74,6 +76,7 @@ import org.prebid.server.hooks.v1.analytics.Tags;
 import org.prebid.server.hooks.v1.bidder.BidderRequestPayload;
 import org.prebid.server.hooks.v1.bidder.BidderResponsePayload;
 import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.json.SharedFragmentCache;
 import org.prebid.server.log.CriteriaLogManager;
 import org.prebid.server.log.HttpInteractionLogger;
 import org.prebid.server.metric.MetricName;
@@ -181,6 +184,7 @@ public class ExchangeService {
     private final Clock clock;
     private final JacksonMapper mapper;
     private final CriteriaLogManager criteriaLogManager;
+    private final AuctionProfiler auctionProfiler;
     private final boolean abortOnHookError;
 
     public ExchangeService(long expectedCacheTime,
@@ -208,7 +212,8 @@ public class ExchangeService {
                            Metrics metrics,
                            Clock clock,
                            JacksonMapper mapper,
-                           CriteriaLogManager criteriaLogManager) {
+                           CriteriaLogManager criteriaLogManager,
+                           AuctionProfiler auctionProfiler) {
 
         if (expectedCacheTime < 0) {
             throw new IllegalArgumentException("Expected cache time should be positive");
@@ -238,6 +243,7 @@ public class ExchangeService {
         this.clock = Objects.requireNonNull(clock);
         this.mapper = Objects.requireNonNull(mapper);
         this.criteriaLogManager = Objects.requireNonNull(criteriaLogManager);
+        this.auctionProfiler = Objects.requireNonNull(auctionProfiler);
         this.abortOnHookError = abortOnHookError;
     }
 
@@ -246,10 +252,12 @@ public class ExchangeService {
      * response containing returned bids and additional information in extensions.
      */
     public Future<AuctionContext> holdAuction(AuctionContext context) {
-        return processAuctionRequest(context)
-                .compose(this::invokeResponseHooks)
+        return processAuctionRequest(auctionProfiler.start(context))
+                .compose(auctionContext -> auctionProfiler.measureAsync(auctionContext,
+                        AuctionStage.response_hooks, () -> invokeResponseHooks(auctionContext)))
                 .map(this::enrichWithHooksDebugInfo)
-                .map(this::updateHooksMetrics);
+                .map(this::updateHooksMetrics)
+                .map(auctionProfiler::complete);
     }
 
     private Future<AuctionContext> processAuctionRequest(AuctionContext context) {
@@ -277,48 +285,69 @@ public class ExchangeService {
         final BidRequestCacheInfo cacheInfo = bidRequestCacheInfo(bidRequest);
         final Map<String, MultiBidConfig> bidderToMultiBid = bidderToMultiBids(bidRequest, debugWarnings);
 
-        return storedResponseProcessor.getStoredResponseResult(bidRequest.getImp(), timeout)
+        return auctionProfiler.measureAsync(receivedContext, AuctionStage.stored_responses,
+                        () -> storedResponseProcessor.getStoredResponseResult(bidRequest.getImp(), timeout))
                 .map(storedResponseResult -> populateStoredResponse(storedResponseResult, storedAuctionResponses))
                 .compose(storedResponseResult -> extractAuctionParticipations(
                         receivedContext, storedResponseResult, aliases, bidderToMultiBid))
 
                 .map(auctionParticipation -> updateRequestMetric(
                         auctionParticipation, uidsCookie, aliases, account, requestTypeMetric))
-                .compose(auctionParticipations -> CompositeFuture.join(
-                        auctionParticipations.stream()
-                                .map(auctionParticipation -> invokeHooksAndRequestBids(
-                                        receivedContext,
-                                        auctionParticipation.getBidderRequest(),
-                                        auctionTimeout(timeout, cacheInfo.isDoCaching()),
-                                        aliases)
-                                        .map(auctionParticipation::with))
-                                .collect(Collectors.toCollection(ArrayList::new))))
+                .compose(auctionParticipations -> auctionProfiler.measureAsync(
+                        receivedContext,
+                        AuctionStage.bidder_calls,
+                        () -> CompositeFuture.join(
+                                auctionParticipations.stream()
+                                        .map(auctionParticipation -> invokeHooksAndRequestBids(
+                                                receivedContext,
+                                                auctionParticipation.getBidderRequest(),
+                                                auctionTimeout(timeout, cacheInfo.isDoCaching()),
+                                                aliases)
+                                                .map(auctionParticipation::with))
+                                        .collect(Collectors.toCollection(ArrayList::new)))))
                 // send all the requests to the bidders and gathers results
                 .map(CompositeFuture::<AuctionParticipation>list)
 
-                .map(storedResponseProcessor::updateStoredBidResponse)
-                .map(auctionParticipations -> storedResponseProcessor.mergeWithBidderResponses(
-                        auctionParticipations, storedAuctionResponses, bidRequest.getImp()))
-                .map(auctionParticipations -> dropZeroNonDealBids(auctionParticipations, debugWarnings))
-                .map(auctionParticipations -> validateAndAdjustBids(auctionParticipations, receivedContext, aliases))
-                .map(auctionParticipations -> updateMetricsFromResponses(auctionParticipations, account, aliases))
+                .map(auctionParticipations -> auctionProfiler.measure(receivedContext, AuctionStage.bid_processing,
+                        () -> processBidderResponses(
+                                auctionParticipations, storedAuctionResponses, receivedContext, aliases)))
 
                 .map(receivedContext::with)
                 // produce response from bidder results
-                .compose(context -> bidResponseCreator.create(
-                                context.getAuctionParticipations(),
-                                context,
-                                cacheInfo,
-                                bidderToMultiBid)
-                        .map(bidResponse -> publishAuctionEvent(bidResponse, receivedContext))
+                .compose(context -> auctionProfiler.measureAsync(context, AuctionStage.response_creation,
+                                () -> bidResponseCreator.create(
+                                        context.getAuctionParticipations(),
+                                        context,
+                                        cacheInfo,
+                                        bidderToMultiBid))
+                        .map(bidResponse -> auctionProfiler.measure(receivedContext, AuctionStage.analytics,
+                                () -> publishAuctionEvent(bidResponse, receivedContext)))
                         .map(bidResponse -> criteriaLogManager.traceResponse(logger, bidResponse,
                                 receivedContext.getBidRequest(), receivedContext.getDebugContext().isDebugEnabled()))
-                        .compose(bidResponse -> bidResponsePostProcessor.postProcess(
-                                receivedContext.getHttpRequest(), uidsCookie, bidRequest, bidResponse, account))
+                        .compose(bidResponse -> auctionProfiler.measureAsync(
+                                receivedContext,
+                                AuctionStage.post_processing,
+                                () -> bidResponsePostProcessor.postProcess(receivedContext.getHttpRequest(),
+                                        uidsCookie, bidRequest, bidResponse, account)))
 
                         .map(context::with));
     }
 
+    private List<AuctionParticipation> processBidderResponses(List<AuctionParticipation> auctionParticipations,
+                                                              List<SeatBid> storedAuctionResponses,
+                                                              AuctionContext context,
+                                                              BidderAliases aliases) {
+
+        final List<AuctionParticipation> withStoredResponses = storedResponseProcessor.mergeWithBidderResponses(
+                storedResponseProcessor.updateStoredBidResponse(auctionParticipations),
+                storedAuctionResponses,
+                context.getBidRequest().getImp());
+        final List<AuctionParticipation> validParticipations = validateAndAdjustBids(
+                dropZeroNonDealBids(withStoredResponses, context.getDebugWarnings()), context, aliases);
+
+        return updateMetricsFromResponses(validParticipations, context.getAccount(), aliases);
+    }
+
     private BidderAliases aliases(BidRequest bidRequest) {
         final ExtRequestPrebid prebid = extRequestPrebid(bidRequest);
         final Map<String, String> aliases = prebid != null ? prebid.getAliases() : null;
@@ -558,11 +587,11 @@ public class ExchangeService {
                 prepareUsers(bidders, context, aliases, bidRequest, extUser, uidsBody, biddersToConfigs,
                         eidPermissions);
 
-        return privacyEnforcementService
-                .mask(context, bidderToUser, bidders, aliases)
-                .map(bidderToPrivacyResult ->
-                        getAuctionParticipation(bidderToPrivacyResult, bidRequest, impBidderToStoredResponse, imps,
-                                bidderToMultiBid, biddersToConfigs, aliases, context));
+        return auctionProfiler.measureAsync(context, AuctionStage.privacy_enforcement,
+                        () -> privacyEnforcementService.mask(context, bidderToUser, bidders, aliases))
+                .map(bidderToPrivacyResult -> auctionProfiler.measure(context, AuctionStage.bidder_requests,
+                        () -> getAuctionParticipation(bidderToPrivacyResult, bidRequest, impBidderToStoredResponse,
+                                imps, bidderToMultiBid, biddersToConfigs, aliases, context)));
     }
 
     private Map<String, ExtBidderConfigOrtb> getBiddersToConfigs(ExtRequestPrebid prebid) {
@@ -1288,13 +1317,22 @@ public class ExchangeService {
             return Future.succeededFuture(BidderResponse.of(bidderName, bidderSeatBid, 0));
         }
 
+        final OrtbVersion ortbVersion = bidderRequest.getOrtbVersion();
+        final long conversionStartTime = System.nanoTime();
         final BidRequest convertedBidRequest = ortbVersionConversionManager.convertFromAuctionSupportedVersion(
-                mediaTypeProcessingResult.getBidRequest(), bidderRequest.getOrtbVersion());
+                mediaTypeProcessingResult.getBidRequest(), ortbVersion, auctionContext.getOrtbConversionCache());
+        if (ortbVersionConversionManager.isConversionFromAuctionSupportedVersionRequired(ortbVersion)) {
+            metrics.updateOrtbConversionTime(System.nanoTime() - conversionStartTime);
+        }
 
         final BidderRequest modifiedBidderRequest = bidderRequest.with(convertedBidRequest);
 
-        return httpBidderRequester
-                .requestBids(bidder, modifiedBidderRequest, timeout, requestHeaders, debugEnabledForBidder)
+        final SharedFragmentCache sharedFragmentCache = ObjectUtils.defaultIfNull(
+                auctionContext.getSharedFragmentCache(), SharedFragmentCache.noCache());
+
+        // bidder encodes its requests synchronously, so subtrees shared with other bidders are encoded once per auction
+        return sharedFragmentCache.use(() -> httpBidderRequester
+                        .requestBids(bidder, modifiedBidderRequest, timeout, requestHeaders, debugEnabledForBidder))
                 .map(seatBid -> BidderSeatBid.of(
                         seatBid.getBids(),
                         seatBid.getHttpCalls(),
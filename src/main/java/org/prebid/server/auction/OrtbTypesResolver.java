@@ -1,11 +1,23 @@
 package org.prebid.server.auction;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.JsonNodeType;
+import com.fasterxml.jackson.databind.node.NullNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.node.TextNode;
+import com.fasterxml.jackson.databind.util.AccessPattern;
+import com.iab.openrtb.request.App;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Site;
+import com.iab.openrtb.request.User;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import org.apache.commons.collections4.CollectionUtils;
@@ -14,7 +26,9 @@ import org.prebid.server.exception.InvalidRequestException;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.json.JsonMerger;
 import org.prebid.server.log.ConditionalLogger;
+import org.prebid.server.proto.openrtb.ext.request.ExtRequest;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -26,6 +40,7 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 /**
@@ -46,6 +61,7 @@ public class OrtbTypesResolver {
     private static final String UNKNOWN_REFERER = "unknown referer";
     private static final String DATA = "data";
     private static final String EXT = "ext";
+    private static final String WARNINGS_ATTRIBUTE = OrtbTypesResolver.class.getName() + ".warnings";
 
     private static final Map<String, Set<String>> FIRST_ARRAY_ELEMENT_STANDARD_FIELDS;
     private static final Map<String, Set<String>> FIRST_ARRAY_ELEMENT_REQUEST_FIELDS;
@@ -77,22 +93,43 @@ public class OrtbTypesResolver {
     private final JacksonMapper jacksonMapper;
     private final JsonMerger jsonMerger;
 
+    private final ObjectReader bidRequestReader;
+
     public OrtbTypesResolver(double logSamplingRate, JacksonMapper jacksonMapper, JsonMerger jsonMerger) {
         this.logSamplingRate = logSamplingRate;
         this.jacksonMapper = Objects.requireNonNull(jacksonMapper);
         this.jsonMerger = Objects.requireNonNull(jsonMerger);
+
+        bidRequestReader = jacksonMapper.mapper().copy()
+                .registerModule(new NormalizingBidRequestModule())
+                .readerFor(BidRequest.class);
     }
 
     /**
-     * Resolves fields types inconsistency to ortb2 protocol for {@param bidRequest} for bidRequest level parameters
-     * and bidderconfig.
-     * Mutates both parameters, {@param fpdContainerNode} and {@param warnings}.
+     * Parses {@param body} to {@link BidRequest} resolving fields types inconsistency to ortb2 protocol for
+     * bidRequest level parameters and bidderconfig without building the tree of the whole request: only user, app,
+     * site and ext containers are read as trees to be normalized, everything else is bound straight from the parser.
+     * Mutates {@param warnings}.
      */
-    public void normalizeBidRequest(JsonNode bidRequest, List<String> warnings, String referer) {
-        final List<String> resolverWarnings = new ArrayList<>();
-        final String rowOriginBidRequest = getOriginalRowContainerNode(bidRequest);
-        normalizeRequestFpdFields(bidRequest, resolverWarnings);
-        final JsonNode bidderConfigs = bidRequest.path("ext").path("prebid").path("bidderconfig");
+    public BidRequest parseBidRequest(String body, List<String> warnings, String referer) throws IOException {
+        final Map<String, List<String>> containerWarnings = new HashMap<>();
+        final BidRequest bidRequest = bidRequestReader
+                .withAttribute(WARNINGS_ATTRIBUTE, containerWarnings)
+                .readValue(body);
+
+        // keep warnings in the same order regardless of fields order in body
+        final List<String> resolverWarnings = Stream.of(USER, APP, SITE, EXT)
+                .map(containerWarnings::get)
+                .filter(Objects::nonNull)
+                .flatMap(List::stream)
+                .toList();
+        processWarnings(resolverWarnings, warnings, body, referer, BIDREQUEST);
+
+        return bidRequest;
+    }
+
+    private void normalizeBidderConfigs(JsonNode ext, List<String> warnings) {
+        final JsonNode bidderConfigs = ext.path("prebid").path("bidderconfig");
         if (!bidderConfigs.isMissingNode() && bidderConfigs.isArray()) {
             for (JsonNode bidderConfig : bidderConfigs) {
 
@@ -100,11 +137,10 @@ public class OrtbTypesResolver {
 
                 final JsonNode ortb2Config = bidderConfig.path("config").path("ortb2");
                 if (!ortb2Config.isMissingNode()) {
-                    normalizeStandardFpdFields(ortb2Config, resolverWarnings, "bidrequest.ext.prebid.bidderconfig");
+                    normalizeStandardFpdFields(ortb2Config, warnings, "bidrequest.ext.prebid.bidderconfig");
                 }
             }
         }
-        processWarnings(resolverWarnings, warnings, rowOriginBidRequest, referer, BIDREQUEST);
     }
 
     private String getOriginalRowContainerNode(JsonNode bidRequest) {
@@ -190,19 +226,6 @@ public class OrtbTypesResolver {
         }
     }
 
-    private void normalizeRequestFpdFields(JsonNode fpdContainerNode, List<String> warnings) {
-        if (fpdContainerNode != null && fpdContainerNode.isObject()) {
-            final ObjectNode fpdContainerObjectNode = (ObjectNode) fpdContainerNode;
-            final String bidRequestPrefix = BIDREQUEST + ".";
-            updateWithNormalizedNode(fpdContainerObjectNode, USER, FIRST_ARRAY_ELEMENT_REQUEST_FIELDS,
-                    COMMA_SEPARATED_ELEMENT_FIELDS, bidRequestPrefix, warnings);
-            updateWithNormalizedNode(fpdContainerObjectNode, APP, FIRST_ARRAY_ELEMENT_REQUEST_FIELDS,
-                    COMMA_SEPARATED_ELEMENT_FIELDS, bidRequestPrefix, warnings);
-            updateWithNormalizedNode(fpdContainerObjectNode, SITE, FIRST_ARRAY_ELEMENT_REQUEST_FIELDS,
-                    COMMA_SEPARATED_ELEMENT_FIELDS, bidRequestPrefix, warnings);
-        }
-    }
-
     private void updateWithNormalizedNode(ObjectNode containerNode, String nodeNameToNormalize,
                                           Map<String, Set<String>> firstArrayElementsFields,
                                           Map<String, Set<String>> commaSeparatedElementFields,
@@ -378,4 +401,86 @@ public class OrtbTypesResolver {
     private List<String> updateWithWarningPrefix(List<String> resolverWarning) {
         return resolverWarning.stream().map(warning -> "WARNING: " + warning).toList();
     }
+
+    @SuppressWarnings("unchecked")
+    private static List<String> containerWarnings(DeserializationContext context, String containerName) {
+        return ((Map<String, List<String>>) context.getAttribute(WARNINGS_ATTRIBUTE))
+                .computeIfAbsent(containerName, key -> new ArrayList<>());
+    }
+
+    /**
+     * Registers deserializers normalizing bidrequest.user, bidrequest.app, bidrequest.site and bidrequest.ext
+     * while {@link BidRequest} is being parsed.
+     */
+    private class NormalizingBidRequestModule extends SimpleModule {
+
+        NormalizingBidRequestModule() {
+            addDeserializer(User.class, new FpdContainerDeserializer<>(User.class, USER));
+            addDeserializer(App.class, new FpdContainerDeserializer<>(App.class, APP));
+            addDeserializer(Site.class, new FpdContainerDeserializer<>(Site.class, SITE));
+            addDeserializer(ExtRequest.class, new ExtRequestDeserializer());
+        }
+    }
+
+    private class FpdContainerDeserializer<T> extends StdDeserializer<T> {
+
+        private final Class<T> type;
+        private final String containerName;
+
+        FpdContainerDeserializer(Class<T> type, String containerName) {
+            super(type);
+            this.type = type;
+            this.containerName = containerName;
+        }
+
+        @Override
+        public T deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            final ObjectNode holder = jacksonMapper.mapper().createObjectNode()
+                    .set(containerName, context.readTree(parser));
+            updateWithNormalizedNode(holder, containerName, FIRST_ARRAY_ELEMENT_REQUEST_FIELDS,
+                    COMMA_SEPARATED_ELEMENT_FIELDS, BIDREQUEST + ".", containerWarnings(context, containerName));
+
+            final JsonNode container = holder.get(containerName);
+            return container != null ? jacksonMapper.mapper().treeToValue(container, type) : null;
+        }
+
+        /**
+         * Explicit null is not an object either, so it is dropped with warning like any other non-object value.
+         * <p>
+         * Also called when {@link #deserialize} drops non-object value, which has already been warned about.
+         */
+        @Override
+        public T getNullValue(DeserializationContext context) {
+            final JsonParser parser = context.getParser();
+            if (parser != null && parser.hasToken(JsonToken.VALUE_NULL)) {
+                normalizeNode(NullNode.getInstance(), containerName, FIRST_ARRAY_ELEMENT_REQUEST_FIELDS,
+                        COMMA_SEPARATED_ELEMENT_FIELDS, BIDREQUEST + ".", containerWarnings(context, containerName));
+            }
+            return null;
+        }
+
+        @Override
+        public AccessPattern getNullAccessPattern() {
+            return AccessPattern.DYNAMIC;
+        }
+
+        @Override
+        public Object getAbsentValue(DeserializationContext context) {
+            return null;
+        }
+    }
+
+    private class ExtRequestDeserializer extends StdDeserializer<ExtRequest> {
+
+        ExtRequestDeserializer() {
+            super(ExtRequest.class);
+        }
+
+        @Override
+        public ExtRequest deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            final JsonNode ext = context.readTree(parser);
+            normalizeBidderConfigs(ext, containerWarnings(context, EXT));
+            return jacksonMapper.mapper().treeToValue(ext, ExtRequest.class);
+        }
+    }
 }
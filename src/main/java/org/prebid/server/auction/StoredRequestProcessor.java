@@ -1,6 +1,7 @@
 package org.prebid.server.auction;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Imp;
 import com.iab.openrtb.request.Video;
@@ -25,6 +26,7 @@ import org.prebid.server.proto.openrtb.ext.request.ExtRequest;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebid;
 import org.prebid.server.proto.openrtb.ext.request.ExtStoredRequest;
 import org.prebid.server.settings.ApplicationSettings;
+import org.prebid.server.settings.StoredDataTreeCache;
 import org.prebid.server.settings.model.StoredDataResult;
 import org.prebid.server.settings.model.VideoStoredDataResult;
 import org.prebid.server.util.ObjectUtil;
@@ -56,6 +58,7 @@ public class StoredRequestProcessor {
     private final TimeoutFactory timeoutFactory;
     private final JacksonMapper mapper;
     private final JsonMerger jsonMerger;
+    private final StoredDataTreeCache storedDataTreeCache;
 
     public StoredRequestProcessor(long defaultTimeout,
                                   String defaultBidRequestPath,
@@ -66,7 +69,8 @@ public class StoredRequestProcessor {
                                   Metrics metrics,
                                   TimeoutFactory timeoutFactory,
                                   JacksonMapper mapper,
-                                  JsonMerger jsonMerger) {
+                                  JsonMerger jsonMerger,
+                                  StoredDataTreeCache storedDataTreeCache) {
 
         this.defaultTimeout = defaultTimeout;
         this.defaultBidRequest = readBidRequest(
@@ -78,6 +82,7 @@ public class StoredRequestProcessor {
         this.timeoutFactory = Objects.requireNonNull(timeoutFactory);
         this.mapper = Objects.requireNonNull(mapper);
         this.jsonMerger = Objects.requireNonNull(jsonMerger);
+        this.storedDataTreeCache = storedDataTreeCache;
     }
 
     public Future<BidRequest> processAuctionRequest(String accountId, BidRequest bidRequest) {
@@ -109,8 +114,11 @@ public class StoredRequestProcessor {
                 applicationSettings.getStoredData(accountId, requestIds, impIds, timeout(bidRequest))
                         .onSuccess(storedDataResult -> updateStoredResultMetrics(storedDataResult, requestIds, impIds));
 
-        return storedRequestsToBidRequest(
-                storedDataFuture, bidRequest, bidRequestToStoredRequestId.get(bidRequest), impToStoredRequestId)
+        return storedRequestsToBidRequest(storedDataFuture,
+                accountId,
+                bidRequest,
+                bidRequestToStoredRequestId.get(bidRequest),
+                impToStoredRequestId)
                 .map(this::generateBidRequestIdForApp);
     }
 
@@ -126,7 +134,8 @@ public class StoredRequestProcessor {
                 .onSuccess(storedDataResult -> updateStoredResultMetrics(
                         storedDataResult, Collections.singleton(ampRequestId), Collections.emptySet()));
 
-        return storedRequestsToBidRequest(ampStoredDataFuture, bidRequest, ampRequestId, Collections.emptyMap())
+        return storedRequestsToBidRequest(
+                ampStoredDataFuture, accountId, bidRequest, ampRequestId, Collections.emptyMap())
                 .map(this::generateBidRequestId);
     }
 
@@ -233,6 +242,7 @@ public class StoredRequestProcessor {
     }
 
     private Future<BidRequest> storedRequestsToBidRequest(Future<StoredDataResult> storedDataFuture,
+                                                          String accountId,
                                                           BidRequest bidRequest,
                                                           String storedBidRequestId,
                                                           Map<Imp, String> impsToStoredRequestId) {
@@ -242,7 +252,7 @@ public class StoredRequestProcessor {
                         ? Future.failedFuture(new InvalidStoredRequestException(result.getErrors()))
                         : Future.succeededFuture(result))
                 .map(result -> mergeBidRequestAndImps(
-                        bidRequest, storedBidRequestId, impsToStoredRequestId, result));
+                        accountId, bidRequest, storedBidRequestId, impsToStoredRequestId, result));
     }
 
     /**
@@ -250,16 +260,18 @@ public class StoredRequestProcessor {
      * <p>
      * The merging priority is: original request > stored request > default request
      */
-    private BidRequest mergeBidRequestAndImps(BidRequest bidRequest,
+    private BidRequest mergeBidRequestAndImps(String accountId,
+                                              BidRequest bidRequest,
                                               String storedRequestId,
                                               Map<Imp, String> impToStoredId,
                                               StoredDataResult storedDataResult) {
 
-        final BidRequest mergedWithStoredRequest = mergeBidRequest(bidRequest, storedRequestId, storedDataResult);
+        final BidRequest mergedWithStoredRequest =
+                mergeBidRequest(accountId, bidRequest, storedRequestId, storedDataResult);
 
         final BidRequest mergedWithDefaultRequest = mergeDefaultRequest(mergedWithStoredRequest);
 
-        return mergeImps(mergedWithDefaultRequest, impToStoredId, storedDataResult);
+        return mergeImps(accountId, mergedWithDefaultRequest, impToStoredId, storedDataResult);
     }
 
     private BidRequest mergeDefaultRequest(BidRequest bidRequest) {
@@ -270,21 +282,31 @@ public class StoredRequestProcessor {
      * Merges original request with request from stored request source. Values from original request
      * has higher priority than stored request values.
      */
-    private BidRequest mergeBidRequest(BidRequest originalRequest,
+    private BidRequest mergeBidRequest(String accountId,
+                                       BidRequest originalRequest,
                                        String storedRequestId,
                                        StoredDataResult storedDataResult) {
 
+        if (StringUtils.isBlank(storedRequestId)) {
+            return originalRequest;
+        }
+
         final String storedRequest = storedDataResult.getStoredIdToRequest().get(storedRequestId);
-        return StringUtils.isNotBlank(storedRequestId)
-                ? jsonMerger.merge(originalRequest, storedRequest, storedRequestId, BidRequest.class)
-                : originalRequest;
+        if (storedDataTreeCache == null) {
+            return jsonMerger.merge(originalRequest, storedRequest, storedRequestId, BidRequest.class);
+        }
+
+        final JsonNode storedRequestNode =
+                storedDataTreeCache.getRequestNode(accountId, storedRequestId, storedRequest);
+        return jsonMerger.merge(originalRequest, storedRequestNode, storedRequestId, BidRequest.class);
     }
 
     /**
      * Merges {@link Imp}s from original request with Imps from stored request source. Values from original request
      * has higher priority than stored request values.
      */
-    private BidRequest mergeImps(BidRequest bidRequest,
+    private BidRequest mergeImps(String accountId,
+                                 BidRequest bidRequest,
                                  Map<Imp, String> impToStoredId,
                                  StoredDataResult storedDataResult) {
 
@@ -302,13 +324,21 @@ public class StoredRequestProcessor {
             final String storedRequestId = impHashCodeToStoredId.get(toHashCode(imp));
             if (storedRequestId != null) {
                 final String storedImp = storedDataResult.getStoredIdToImp().get(storedRequestId);
-                final Imp mergedImp = jsonMerger.merge(imp, storedImp, storedRequestId, Imp.class);
-                mergedImps.set(i, mergedImp);
+                mergedImps.set(i, mergeImp(accountId, imp, storedRequestId, storedImp));
             }
         }
         return bidRequest.toBuilder().imp(mergedImps).build();
     }
 
+    private Imp mergeImp(String accountId, Imp imp, String storedRequestId, String storedImp) {
+        if (storedDataTreeCache == null) {
+            return jsonMerger.merge(imp, storedImp, storedRequestId, Imp.class);
+        }
+
+        final JsonNode storedImpNode = storedDataTreeCache.getImpNode(accountId, storedRequestId, storedImp);
+        return jsonMerger.merge(imp, storedImpNode, storedRequestId, Imp.class);
+    }
+
     private BidRequest generateBidRequestIdForApp(BidRequest bidRequest) {
         return bidRequest.getApp() != null
                 ? generateBidRequestId(bidRequest)
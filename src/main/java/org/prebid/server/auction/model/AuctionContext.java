@@ -5,6 +5,8 @@ import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.response.BidResponse;
 import lombok.Builder;
 import lombok.Value;
+import org.prebid.server.auction.profiling.AuctionProfile;
+import org.prebid.server.auction.versionconverter.BidRequestConversionCache;
 import org.prebid.server.cache.model.DebugHttpCall;
 import org.prebid.server.cookie.UidsCookie;
 import org.prebid.server.deals.model.DeepDebugLog;
@@ -12,6 +14,7 @@ import org.prebid.server.deals.model.TxnLog;
 import org.prebid.server.execution.Timeout;
 import org.prebid.server.geolocation.model.GeoInfo;
 import org.prebid.server.hooks.execution.model.HookExecutionContext;
+import org.prebid.server.json.SharedFragmentCache;
 import org.prebid.server.metric.MetricName;
 import org.prebid.server.model.HttpRequestContext;
 import org.prebid.server.privacy.model.PrivacyContext;
@@ -68,6 +71,15 @@ public class AuctionContext {
 
     CachedDebugLog cachedDebugLog;
 
+    @JsonIgnore
+    BidRequestConversionCache ortbConversionCache;
+
+    @JsonIgnore
+    SharedFragmentCache sharedFragmentCache;
+
+    @JsonIgnore
+    AuctionProfile auctionProfile;
+
     public AuctionContext with(Account account) {
         return this.toBuilder().account(account).build();
     }
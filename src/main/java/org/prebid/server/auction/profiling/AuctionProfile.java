@@ -0,0 +1,140 @@
+package org.prebid.server.auction.profiling;
+
+import io.vertx.core.Future;
+import lombok.Value;
+import org.prebid.server.auction.model.AuctionContext;
+
+import java.lang.management.ThreadMXBean;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Collects wall time, thread CPU time and allocated bytes of auction stages for a single request.
+ * <p>
+ * CPU time and allocated bytes are measured on the calling thread, so for asynchronous stages they cover only
+ * the synchronous part which starts the stage, while wall time lasts until the stage future is completed.
+ * Stage measured several times during the auction accumulates all of its measurements.
+ * <p>
+ * Disabled profile just runs given stages without any measurement.
+ */
+public class AuctionProfile {
+
+    private static final AuctionProfile DISABLED = new AuctionProfile(null);
+
+    private static final long UNSUPPORTED = -1L;
+
+    private final ThreadMXBean threadMXBean;
+    private final Map<AuctionStage, StageProfile> stages;
+
+    private AuctionProfile(ThreadMXBean threadMXBean) {
+        this.threadMXBean = threadMXBean;
+        stages = threadMXBean != null ? new EnumMap<>(AuctionStage.class) : Collections.emptyMap();
+    }
+
+    static AuctionProfile enabled(ThreadMXBean threadMXBean) {
+        return new AuctionProfile(threadMXBean);
+    }
+
+    public static AuctionProfile disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * Returns profile of the given auction or disabled profile if auction is not profiled.
+     */
+    public static AuctionProfile of(AuctionContext auctionContext) {
+        final AuctionProfile auctionProfile = auctionContext != null ? auctionContext.getAuctionProfile() : null;
+        return auctionProfile != null ? auctionProfile : DISABLED;
+    }
+
+    public boolean isEnabled() {
+        return threadMXBean != null;
+    }
+
+    public <T> T measure(AuctionStage stage, Supplier<T> stageSupplier) {
+        if (threadMXBean == null) {
+            return stageSupplier.get();
+        }
+
+        final long startWallTime = System.nanoTime();
+        final long startCpuTime = cpuTime();
+        final long startAllocatedBytes = allocatedBytes();
+
+        final T result = stageSupplier.get();
+
+        record(stage,
+                System.nanoTime() - startWallTime,
+                difference(startCpuTime, cpuTime()),
+                difference(startAllocatedBytes, allocatedBytes()));
+        return result;
+    }
+
+    public <T> Future<T> measureAsync(AuctionStage stage, Supplier<Future<T>> stageSupplier) {
+        if (threadMXBean == null) {
+            return stageSupplier.get();
+        }
+
+        final long startWallTime = System.nanoTime();
+        final long startCpuTime = cpuTime();
+        final long startAllocatedBytes = allocatedBytes();
+
+        final Future<T> result = stageSupplier.get();
+
+        final long cpuTime = difference(startCpuTime, cpuTime());
+        final long allocatedBytes = difference(startAllocatedBytes, allocatedBytes());
+        return result.onComplete(ignored ->
+                record(stage, System.nanoTime() - startWallTime, cpuTime, allocatedBytes));
+    }
+
+    /**
+     * Returns copy of measured stages.
+     */
+    public synchronized Map<AuctionStage, StageProfile> getStages() {
+        return stages.isEmpty() ? Collections.emptyMap() : new EnumMap<>(stages);
+    }
+
+    private synchronized void record(AuctionStage stage, long wallTime, long cpuTime, long allocatedBytes) {
+        stages.merge(stage, StageProfile.of(wallTime, cpuTime, allocatedBytes), StageProfile::plus);
+    }
+
+    private long cpuTime() {
+        return threadMXBean.isCurrentThreadCpuTimeSupported() ? threadMXBean.getCurrentThreadCpuTime() : UNSUPPORTED;
+    }
+
+    private long allocatedBytes() {
+        return threadMXBean instanceof com.sun.management.ThreadMXBean sunThreadMXBean
+                && sunThreadMXBean.isThreadAllocatedMemoryEnabled()
+                ? sunThreadMXBean.getCurrentThreadAllocatedBytes()
+                : UNSUPPORTED;
+    }
+
+    private static long difference(long start, long end) {
+        return start == UNSUPPORTED || end == UNSUPPORTED ? UNSUPPORTED : end - start;
+    }
+
+    /**
+     * Measurements of the stage in nanoseconds and bytes. Negative value means measurement is not supported.
+     */
+    @Value(staticConstructor = "of")
+    public static class StageProfile {
+
+        long wallTime;
+
+        long cpuTime;
+
+        long allocatedBytes;
+
+        StageProfile plus(StageProfile other) {
+            return StageProfile.of(
+                    wallTime + other.wallTime,
+                    sum(cpuTime, other.cpuTime),
+                    sum(allocatedBytes, other.allocatedBytes));
+        }
+
+        private static long sum(long left, long right) {
+            return left < 0 || right < 0 ? UNSUPPORTED : left + right;
+        }
+    }
+}
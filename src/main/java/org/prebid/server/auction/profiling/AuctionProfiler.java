@@ -0,0 +1,140 @@
+package org.prebid.server.auction.profiling;
+
+import com.iab.openrtb.response.BidResponse;
+import io.vertx.core.Future;
+import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.auction.model.DebugContext;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.proto.openrtb.ext.response.ExtBidResponse;
+import org.prebid.server.proto.openrtb.ext.response.ExtDebugStageProfile;
+import org.prebid.server.proto.openrtb.ext.response.ExtResponseDebug;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Decides which auctions should be profiled and publishes their stage measurements to {@link Metrics}.
+ * <p>
+ * Profiling is turned off when sampling rate is zero. Otherwise, the given share of auctions is sampled
+ * and auctions with debug enabled are always profiled.
+ */
+public class AuctionProfiler {
+
+    private final double samplingRate;
+    private final Metrics metrics;
+    private final ThreadMXBean threadMXBean;
+
+    public AuctionProfiler(double samplingRate, Metrics metrics) {
+        if (samplingRate < 0 || samplingRate > 1) {
+            throw new IllegalArgumentException("Auction profiling sampling rate should be in range [0, 1]");
+        }
+
+        this.samplingRate = samplingRate;
+        this.metrics = Objects.requireNonNull(metrics);
+        this.threadMXBean = ManagementFactory.getThreadMXBean();
+    }
+
+    public AuctionProfile start(boolean debugEnabled) {
+        if (samplingRate == 0) {
+            return AuctionProfile.disabled();
+        }
+
+        return debugEnabled || ThreadLocalRandom.current().nextDouble() < samplingRate
+                ? AuctionProfile.enabled(threadMXBean)
+                : AuctionProfile.disabled();
+    }
+
+    /**
+     * Attaches profile to the given auction if it is chosen for profiling.
+     */
+    public AuctionContext start(AuctionContext context) {
+        final DebugContext debugContext = context.getDebugContext();
+        final AuctionProfile auctionProfile = start(debugContext != null && debugContext.isDebugEnabled());
+
+        return auctionProfile.isEnabled()
+                ? context.toBuilder().auctionProfile(auctionProfile).build()
+                : context;
+    }
+
+    public <T> T measure(AuctionContext context, AuctionStage stage, Supplier<T> stageSupplier) {
+        return AuctionProfile.of(context).measure(stage, stageSupplier);
+    }
+
+    public <T> Future<T> measureAsync(AuctionContext context,
+                                      AuctionStage stage,
+                                      Supplier<Future<T>> stageSupplier) {
+
+        return AuctionProfile.of(context).measureAsync(stage, stageSupplier);
+    }
+
+    /**
+     * Publishes measurements of profiled auction and adds them to bidresponse.ext.debug if debug is enabled.
+     */
+    public AuctionContext complete(AuctionContext context) {
+        final AuctionProfile auctionProfile = AuctionProfile.of(context);
+        if (!auctionProfile.isEnabled()) {
+            return context;
+        }
+
+        publish(auctionProfile);
+
+        final BidResponse bidResponse = context.getBidResponse();
+        final DebugContext debugContext = context.getDebugContext();
+        return bidResponse != null && debugContext != null && debugContext.isDebugEnabled()
+                ? context.with(withDebugProfile(bidResponse, auctionProfile))
+                : context;
+    }
+
+    private static BidResponse withDebugProfile(BidResponse bidResponse, AuctionProfile auctionProfile) {
+        final Map<String, ExtDebugStageProfile> profile = new LinkedHashMap<>();
+        auctionProfile.getStages().forEach((stage, stageProfile) -> profile.put(stage.name(), ExtDebugStageProfile.of(
+                toMicros(stageProfile.getWallTime()),
+                nullIfNegative(toMicros(stageProfile.getCpuTime())),
+                nullIfNegative(stageProfile.getAllocatedBytes()))));
+
+        final Optional<ExtBidResponse> ext = Optional.ofNullable(bidResponse.getExt());
+        final Optional<ExtResponseDebug> debug = ext.map(ExtBidResponse::getDebug);
+
+        final ExtResponseDebug updatedDebug = ExtResponseDebug.of(
+                debug.map(ExtResponseDebug::getHttpcalls).orElse(null),
+                debug.map(ExtResponseDebug::getResolvedrequest).orElse(null),
+                debug.map(ExtResponseDebug::getPgmetrics).orElse(null),
+                debug.map(ExtResponseDebug::getTrace).orElse(null),
+                profile);
+
+        final ExtBidResponse updatedExt = ext
+                .map(ExtBidResponse::toBuilder)
+                .orElse(ExtBidResponse.builder())
+                .debug(updatedDebug)
+                .build();
+
+        return bidResponse.toBuilder().ext(updatedExt).build();
+    }
+
+    private static Long nullIfNegative(long value) {
+        return value < 0 ? null : value;
+    }
+
+    public void publish(AuctionProfile auctionProfile) {
+        if (!auctionProfile.isEnabled()) {
+            return;
+        }
+
+        auctionProfile.getStages().forEach((stage, stageProfile) -> metrics.updateAuctionStageMetrics(
+                stage.name(),
+                toMicros(stageProfile.getWallTime()),
+                toMicros(stageProfile.getCpuTime()),
+                stageProfile.getAllocatedBytes()));
+    }
+
+    public static long toMicros(long nanos) {
+        return nanos < 0 ? nanos : TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+}
@@ -0,0 +1,18 @@
+package org.prebid.server.auction.profiling;
+
+/**
+ * Stages of the auction measured by {@link AuctionProfile}.
+ */
+public enum AuctionStage {
+
+    stored_responses,
+    privacy_enforcement,
+    bidder_requests,
+    bidder_calls,
+    bid_processing,
+    response_creation,
+    cache,
+    analytics,
+    post_processing,
+    response_hooks
+}
@@ -1,7 +1,5 @@
 package org.prebid.server.auction.requestfactory;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.iab.openrtb.request.BidRequest;
 import io.vertx.core.Future;
 import io.vertx.ext.web.RoutingContext;
@@ -15,7 +13,6 @@ import org.prebid.server.auction.TimeoutResolver;
 import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.auction.versionconverter.BidRequestOrtbVersionConversionManager;
 import org.prebid.server.exception.InvalidRequestException;
-import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.metric.MetricName;
 import org.prebid.server.model.Endpoint;
 import org.prebid.server.model.HttpRequestContext;
@@ -40,7 +37,6 @@ public class AuctionRequestFactory {
     private final PrivacyEnforcementService privacyEnforcementService;
     private final TimeoutResolver timeoutResolver;
     private final DebugResolver debugResolver;
-    private final JacksonMapper mapper;
     private final OrtbTypesResolver ortbTypesResolver;
 
     private static final String ENDPOINT = Endpoint.openrtb2_auction.value();
@@ -55,8 +51,7 @@ public class AuctionRequestFactory {
                                  OrtbTypesResolver ortbTypesResolver,
                                  PrivacyEnforcementService privacyEnforcementService,
                                  TimeoutResolver timeoutResolver,
-                                 DebugResolver debugResolver,
-                                 JacksonMapper mapper) {
+                                 DebugResolver debugResolver) {
 
         this.maxRequestSize = maxRequestSize;
         this.ortb2RequestFactory = Objects.requireNonNull(ortb2RequestFactory);
@@ -69,7 +64,6 @@ public class AuctionRequestFactory {
         this.privacyEnforcementService = Objects.requireNonNull(privacyEnforcementService);
         this.timeoutResolver = Objects.requireNonNull(timeoutResolver);
         this.debugResolver = Objects.requireNonNull(debugResolver);
-        this.mapper = Objects.requireNonNull(mapper);
     }
 
     /**
@@ -135,33 +129,21 @@ public class AuctionRequestFactory {
 
     private Future<BidRequest> parseBidRequest(HttpRequestContext httpRequest, List<String> errors) {
         try {
-            final JsonNode bidRequestNode = bodyAsJsonNode(httpRequest.getBody());
-
             final String referer = paramsExtractor.refererFrom(httpRequest);
-            ortbTypesResolver.normalizeBidRequest(bidRequestNode, errors, referer);
-
-            return Future.succeededFuture(jsonNodeAsBidRequest(bidRequestNode));
+            return Future.succeededFuture(bodyAsBidRequest(httpRequest.getBody(), errors, referer));
         } catch (Exception e) {
             return Future.failedFuture(e);
         }
     }
 
-    private JsonNode bodyAsJsonNode(String body) {
+    private BidRequest bodyAsBidRequest(String body, List<String> errors, String referer) {
         try {
-            return mapper.mapper().readTree(body);
+            return ortbTypesResolver.parseBidRequest(body, errors, referer);
         } catch (IOException e) {
             throw new InvalidRequestException("Error decoding bidRequest: " + e.getMessage());
         }
     }
 
-    private BidRequest jsonNodeAsBidRequest(JsonNode bidRequestNode) {
-        try {
-            return mapper.mapper().treeToValue(bidRequestNode, BidRequest.class);
-        } catch (JsonProcessingException e) {
-            throw new InvalidRequestException("Error decoding bidRequest: " + e.getMessage());
-        }
-    }
-
     /**
      * Sets {@link BidRequest} properties which were not set explicitly by the client, but can be
      * updated by values derived from headers and other request attributes.
@@ -20,6 +20,7 @@ import org.prebid.server.auction.TimeoutResolver;
 import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.auction.model.DebugContext;
 import org.prebid.server.auction.model.IpAddress;
+import org.prebid.server.auction.versionconverter.BidRequestConversionCache;
 import org.prebid.server.cookie.UidsCookieService;
 import org.prebid.server.deals.DealsPopulator;
 import org.prebid.server.deals.model.DeepDebugLog;
@@ -38,6 +39,7 @@ import org.prebid.server.hooks.execution.model.HookExecutionContext;
 import org.prebid.server.hooks.execution.model.HookStageExecutionResult;
 import org.prebid.server.hooks.v1.auction.AuctionRequestPayload;
 import org.prebid.server.hooks.v1.entrypoint.EntrypointPayload;
+import org.prebid.server.json.SharedFragmentCache;
 import org.prebid.server.log.ConditionalLogger;
 import org.prebid.server.metric.MetricName;
 import org.prebid.server.metric.Metrics;
@@ -132,7 +134,9 @@ public class Ortb2RequestFactory {
                 .hookExecutionContext(HookExecutionContext.of(endpoint))
                 .debugContext(DebugContext.empty())
                 .requestRejected(false)
-                .txnLog(TxnLog.create())
+                .txnLog(dealsPopulator != null ? dealsPopulator.createTxnLog() : TxnLog.create())
+                .ortbConversionCache(BidRequestConversionCache.create())
+                .sharedFragmentCache(SharedFragmentCache.create())
                 .debugHttpCalls(new HashMap<>())
                 .build();
     }
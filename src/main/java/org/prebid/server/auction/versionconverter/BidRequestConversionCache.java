@@ -0,0 +1,54 @@
+package org.prebid.server.auction.versionconverter;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * Auction scoped cache of converted {@link com.iab.openrtb.request.BidRequest} parts.
+ * <p>
+ * Bidder requests of the same auction share most of their subtrees (site, app, device, video, etc.) by reference,
+ * so conversion result of each such subtree is kept by identity of the original instance and reused by all bidders
+ * of the same OpenRTB version. Subtree modified for particular bidder is a different instance and converted on its own.
+ * <p>
+ * Cache is intended for single conversion direction (auction version to OpenRTB 2.5).
+ */
+public class BidRequestConversionCache {
+
+    private static final Object NOT_MODIFIED = new Object();
+
+    private static final BidRequestConversionCache NO_CACHE = new BidRequestConversionCache(null);
+
+    private final Map<Object, Object> convertedParts;
+
+    private BidRequestConversionCache(Map<Object, Object> convertedParts) {
+        this.convertedParts = convertedParts;
+    }
+
+    public static BidRequestConversionCache create() {
+        return new BidRequestConversionCache(Collections.synchronizedMap(new IdentityHashMap<>()));
+    }
+
+    public static BidRequestConversionCache noCache() {
+        return NO_CACHE;
+    }
+
+    /**
+     * Returns result of conversion of the given part, where null result means the part doesn't need modification.
+     * Conversion is applied only once per original part instance.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T convert(T part, UnaryOperator<T> conversion) {
+        if (part == null || convertedParts == null) {
+            return conversion.apply(part);
+        }
+
+        final Object converted = convertedParts.computeIfAbsent(part, key -> {
+            final T result = conversion.apply(part);
+            return result != null ? result : NOT_MODIFIED;
+        });
+
+        return converted != NOT_MODIFIED ? (T) converted : null;
+    }
+}
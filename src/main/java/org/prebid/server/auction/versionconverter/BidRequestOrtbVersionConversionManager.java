@@ -21,9 +21,23 @@ public class BidRequestOrtbVersionConversionManager {
                 .convert(bidRequest);
     }
 
+    /**
+     * Tells whether request of auction supported version has to be converted to be sent in the given version.
+     */
+    public boolean isConversionFromAuctionSupportedVersionRequired(OrtbVersion ortbVersion) {
+        return ortbVersion != AUCTION_VERSION;
+    }
+
     public BidRequest convertFromAuctionSupportedVersion(BidRequest bidRequest, OrtbVersion ortbVersion) {
+        return convertFromAuctionSupportedVersion(bidRequest, ortbVersion, BidRequestConversionCache.noCache());
+    }
+
+    public BidRequest convertFromAuctionSupportedVersion(BidRequest bidRequest,
+                                                         OrtbVersion ortbVersion,
+                                                         BidRequestConversionCache conversionCache) {
+
         return ortbVersionConverterFactory
                 .getConverter(AUCTION_VERSION, ortbVersion)
-                .convert(bidRequest);
+                .convert(bidRequest, conversionCache != null ? conversionCache : BidRequestConversionCache.noCache());
     }
 }
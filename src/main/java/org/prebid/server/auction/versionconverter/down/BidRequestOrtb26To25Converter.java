@@ -19,6 +19,7 @@ import com.iab.openrtb.request.User;
 import com.iab.openrtb.request.Video;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.ObjectUtils;
+import org.prebid.server.auction.versionconverter.BidRequestConversionCache;
 import org.prebid.server.auction.versionconverter.BidRequestOrtbVersionConverter;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.proto.openrtb.ext.FlexibleExtension;
@@ -47,26 +48,35 @@ public class BidRequestOrtb26To25Converter implements BidRequestOrtbVersionConve
 
     @Override
     public BidRequest convert(BidRequest bidRequest) {
+        return convert(bidRequest, BidRequestConversionCache.noCache());
+    }
+
+    /**
+     * Parts of request shared between bidders are converted once per auction via given cache,
+     * only imps (that always differ by bidder's ext) are rebuilt for each bidder.
+     */
+    @Override
+    public BidRequest convert(BidRequest bidRequest, BidRequestConversionCache conversionCache) {
         final List<Imp> imps = bidRequest.getImp();
-        final List<Imp> modifiedImps = modifyImps(imps);
+        final List<Imp> modifiedImps = modifyImps(imps, conversionCache);
 
         final Site site = bidRequest.getSite();
-        final Site modifiedSite = modifySite(site);
+        final Site modifiedSite = conversionCache.convert(site, BidRequestOrtb26To25Converter::modifySite);
 
         final App app = bidRequest.getApp();
-        final App modifiedApp = modifyApp(app);
+        final App modifiedApp = conversionCache.convert(app, BidRequestOrtb26To25Converter::modifyApp);
 
         final Device device = bidRequest.getDevice();
-        final Device modifiedDevice = modifyDevice(device);
+        final Device modifiedDevice = conversionCache.convert(device, BidRequestOrtb26To25Converter::modifyDevice);
 
         final User user = bidRequest.getUser();
-        final User modifiedUser = modifyUser(user);
+        final User modifiedUser = conversionCache.convert(user, BidRequestOrtb26To25Converter::modifyUser);
 
         final Source source = bidRequest.getSource();
-        final Source modifiedSource = modifySource(source);
+        final Source modifiedSource = conversionCache.convert(source, BidRequestOrtb26To25Converter::modifySource);
 
         final Regs regs = bidRequest.getRegs();
-        final Regs modifiedRegs = modifyRegs(regs);
+        final Regs modifiedRegs = conversionCache.convert(regs, BidRequestOrtb26To25Converter::modifyRegs);
 
         return ObjectUtils.anyNotNull(
                 modifiedImps,
@@ -94,9 +104,9 @@ public class BidRequestOrtb26To25Converter implements BidRequestOrtbVersionConve
                 : bidRequest;
     }
 
-    private List<Imp> modifyImps(List<Imp> imps) {
+    private List<Imp> modifyImps(List<Imp> imps, BidRequestConversionCache conversionCache) {
         final List<Imp> modifiedImps = imps.stream()
-                .map(this::modifyImp)
+                .map(imp -> modifyImp(imp, conversionCache))
                 .toList();
 
         if (modifiedImps.stream().allMatch(Objects::isNull)) {
@@ -108,12 +118,12 @@ public class BidRequestOrtb26To25Converter implements BidRequestOrtbVersionConve
                 .toList();
     }
 
-    private Imp modifyImp(Imp imp) {
+    private Imp modifyImp(Imp imp, BidRequestConversionCache conversionCache) {
         final Video video = imp.getVideo();
-        final Video modifiedVideo = modifyVideo(video);
+        final Video modifiedVideo = conversionCache.convert(video, BidRequestOrtb26To25Converter::modifyVideo);
 
         final Audio audio = imp.getAudio();
-        final Audio modifiedAudio = modifyAudio(audio);
+        final Audio modifiedAudio = conversionCache.convert(audio, BidRequestOrtb26To25Converter::modifyAudio);
 
         final ObjectNode impExt = imp.getExt();
         final ObjectNode modifiedImpExt = modifyImpExt(impExt, imp.getRwdd());
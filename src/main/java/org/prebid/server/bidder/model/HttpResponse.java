@@ -1,19 +1,49 @@
 package org.prebid.server.bidder.model;
 
 import io.vertx.core.MultiMap;
-import lombok.AllArgsConstructor;
-import lombok.Value;
+import io.vertx.core.buffer.Buffer;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.prebid.server.vertx.http.model.HttpBody;
 
 /**
  * Packages together information from the server's http response.
+ * <p>
+ * Bidders may read the body as raw {@link Buffer} with {@link #getBodyAsBuffer()} to decode it without
+ * building intermediate {@link String}, which is created only on first {@link #getBody()} call.
  */
-@AllArgsConstructor(staticName = "of")
-@Value
+@EqualsAndHashCode
+@ToString
 public class HttpResponse {
 
-    int statusCode;
+    @Getter
+    private final int statusCode;
 
-    MultiMap headers;
+    @Getter
+    private final MultiMap headers;
 
-    String body;
+    private final HttpBody body;
+
+    private HttpResponse(int statusCode, MultiMap headers, HttpBody body) {
+        this.statusCode = statusCode;
+        this.headers = headers;
+        this.body = body;
+    }
+
+    public static HttpResponse of(int statusCode, MultiMap headers, String body) {
+        return new HttpResponse(statusCode, headers, HttpBody.of(body));
+    }
+
+    public static HttpResponse ofBuffer(int statusCode, MultiMap headers, Buffer body) {
+        return new HttpResponse(statusCode, headers, HttpBody.ofBuffer(body));
+    }
+
+    public String getBody() {
+        return body.asString();
+    }
+
+    public Buffer getBodyAsBuffer() {
+        return body.asBuffer();
+    }
 }
@@ -0,0 +1,69 @@
+package org.prebid.server.cache;
+
+import org.apache.commons.collections4.CollectionUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Consistent hash ring of PBS nodes sharing the embedded creative cache.
+ * <p>
+ * Every node is placed on the ring many times (virtual nodes) to even out the distribution of keys, so adding or
+ * removing a node moves only keys of its neighbours.
+ */
+public class CacheNodeRing {
+
+    private static final int VIRTUAL_NODES = 160;
+
+    private final String selfNode;
+    private final NavigableMap<Long, String> ring = new TreeMap<>();
+
+    public CacheNodeRing(List<String> nodes, String selfNode) {
+        this.selfNode = Objects.requireNonNull(selfNode);
+
+        if (CollectionUtils.isEmpty(nodes) || !nodes.contains(selfNode)) {
+            throw new IllegalArgumentException("Cache nodes should contain self node: " + selfNode);
+        }
+
+        for (String node : nodes) {
+            for (int i = 0; i < VIRTUAL_NODES; i++) {
+                ring.put(hash(node + "#" + i), node);
+            }
+        }
+    }
+
+    /**
+     * Returns node the given key belongs to.
+     */
+    public String ownerOf(String key) {
+        final Map.Entry<Long, String> entry = ring.ceilingEntry(hash(key));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    public boolean isOwnedBySelf(String key) {
+        return selfNode.equals(ownerOf(key));
+    }
+
+    private static long hash(String value) {
+        final byte[] digest = md5().digest(value.getBytes(StandardCharsets.UTF_8));
+        return ((long) (digest[3] & 0xFF) << 24)
+                | ((long) (digest[2] & 0xFF) << 16)
+                | ((long) (digest[1] & 0xFF) << 8)
+                | (digest[0] & 0xFF);
+    }
+
+    private static MessageDigest md5() {
+        try {
+            return MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform is required to support MD5
+            throw new IllegalStateException(e);
+        }
+    }
+}
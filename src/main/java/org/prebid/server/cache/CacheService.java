@@ -17,6 +17,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.auction.model.BidInfo;
 import org.prebid.server.auction.model.CachedDebugLog;
+import org.prebid.server.auction.model.DebugContext;
 import org.prebid.server.cache.model.CacheBid;
 import org.prebid.server.cache.model.CacheContext;
 import org.prebid.server.cache.model.CacheHttpRequest;
@@ -90,6 +91,7 @@ public class CacheService {
     private final Clock clock;
     private final UUIDIdGenerator idGenerator;
     private final JacksonMapper mapper;
+    private final CacheWriter cacheWriter;
 
     public CacheService(CacheTtl mediaTypeCacheTtl,
                         HttpClient httpClient,
@@ -103,7 +105,8 @@ public class CacheService {
                         Metrics metrics,
                         Clock clock,
                         UUIDIdGenerator idGenerator,
-                        JacksonMapper mapper) {
+                        JacksonMapper mapper,
+                        CacheWriter cacheWriter) {
 
         this.mediaTypeCacheTtl = Objects.requireNonNull(mediaTypeCacheTtl);
         this.httpClient = Objects.requireNonNull(httpClient);
@@ -118,6 +121,7 @@ public class CacheService {
         this.clock = Objects.requireNonNull(clock);
         this.idGenerator = Objects.requireNonNull(idGenerator);
         this.mapper = Objects.requireNonNull(mapper);
+        this.cacheWriter = cacheWriter;
     }
 
     public String getEndpointHost() {
@@ -144,8 +148,12 @@ public class CacheService {
         final List<CachedCreative> cachedCreatives = Collections.singletonList(
                 makeDebugCacheCreative(cachedDebugLog, cacheKey, videoCacheTtl));
         final BidCacheRequest bidCacheRequest = toBidCacheRequest(cachedCreatives);
-        httpClient.post(endpointUrl.toString(), HttpUtil.headers(), mapper.encodeToString(bidCacheRequest),
-                expectedCacheTimeMs);
+        if (cacheWriter != null) {
+            cacheWriter.write(bidCacheRequest.getPuts(), expectedCacheTimeMs);
+        } else {
+            httpClient.post(endpointUrl.toString(), HttpUtil.headers(), mapper.encodeToString(bidCacheRequest),
+                    expectedCacheTimeMs);
+        }
         return cacheKey;
     }
 
@@ -178,14 +186,14 @@ public class CacheService {
             return Future.failedFuture(new TimeoutException("Timeout has been exceeded"));
         }
 
-        final String url = endpointUrl.toString();
-        final String body = mapper.encodeToString(bidCacheRequest);
-        final List<PutObject> putObjects = bidCacheRequest.getPuts();
-
         final long startTime = clock.millis();
-        return getHttpClientResponseFuture(putObjects, url, body, startTime, remainingTimeout)
-                .map(response -> toBidCacheResponse(
-                        response.getStatusCode(), response.getBody(), bidCount, accountId, startTime))
+        final Future<BidCacheResponse> responseFuture = cacheWriter != null
+                ? writePuts(bidCacheRequest.getPuts(), startTime, remainingTimeout)
+                : postPuts(bidCacheRequest, mapper.encodeToString(bidCacheRequest), startTime, remainingTimeout)
+                        .map(response -> toBidCacheResponse(response.getStatusCode(), response.getBody()));
+
+        return responseFuture
+                .map(bidCacheResponse -> validateBidCacheResponse(bidCacheResponse, bidCount, accountId, startTime))
                 .recover(exception -> failResponse(exception, accountId, startTime));
     }
 
@@ -384,15 +392,35 @@ public class CacheService {
         updateCreativeMetrics(accountId, cachedCreatives);
 
         final String url = endpointUrl.toString();
+        final int bidCount = cachedCreatives.size();
+        final long startTime = clock.millis();
+
+        if (cacheWriter != null) {
+            // bodies are shown in debug http calls only, so there is no need to encode them otherwise
+            final boolean debugEnabled = isDebugEnabled(auctionContext);
+            final CacheHttpRequest httpRequest = CacheHttpRequest.of(
+                    url, debugEnabled ? mapper.encodeToString(bidCacheRequest) : null);
+
+            return writePuts(bidCacheRequest.getPuts(), startTime, remainingTimeout)
+                    .map(bidCacheResponse -> processWrittenResponseOpenrtb(bidCacheResponse,
+                            debugEnabled,
+                            httpRequest,
+                            bidCount,
+                            bids,
+                            videoBids,
+                            hbCacheId,
+                            accountId,
+                            startTime))
+                    .otherwise(exception -> failResponseOpenrtb(exception, accountId, httpRequest, startTime));
+        }
+
         final String body = mapper.encodeToString(bidCacheRequest);
         final CacheHttpRequest httpRequest = CacheHttpRequest.of(url, body);
-        final List<PutObject> putObjects = bidCacheRequest.getPuts();
 
-        final long startTime = clock.millis();
-        return getHttpClientResponseFuture(putObjects, url, body, startTime, remainingTimeout)
+        return postPuts(bidCacheRequest, body, startTime, remainingTimeout)
                 .map(response -> processResponseOpenrtb(response,
                         httpRequest,
-                        cachedCreatives.size(),
+                        bidCount,
                         bids,
                         videoBids,
                         hbCacheId,
@@ -401,34 +429,63 @@ public class CacheService {
                 .otherwise(exception -> failResponseOpenrtb(exception, accountId, httpRequest, startTime));
     }
 
-    private Future<HttpClientResponse> getHttpClientResponseFuture(
-            List<PutObject> putObjects, String url, String body,
-            long startTime, long remainingTimeout
-    ) {
-        final long effectiveTimeout = waitForResponse ? remainingTimeout : httpClientConnectTimeoutMs;
-        Future<HttpClientResponse> future = httpClient.post(url, CACHE_HEADERS, body, effectiveTimeout);
-        if (!waitForResponse) {
-            future.onComplete(asyncResult -> {
-                final long endTime = clock.millis();
-                logger.debug("time taken in cache service call: %d ms".formatted(endTime - startTime));
-                if (asyncResult.failed()) {
-                    logger.error("cache service call failed", asyncResult.cause());
-                }
-            });
-            final BidCacheResponse bidCacheResponse = BidCacheResponse.of(
-                    putObjects.stream().map(
-                            putObject -> CacheObject.of(putObject.getKey())
-                    ).toList()
-            );
-            future = Future.succeededFuture(
-                    HttpClientResponse.of(
-                            HttpResponseStatus.OK.code(),
-                            MultiMap.caseInsensitiveMultiMap(),
-                            mapper.encodeToString(bidCacheResponse)
-                    )
-            );
+    private static boolean isDebugEnabled(AuctionContext auctionContext) {
+        final DebugContext debugContext = auctionContext.getDebugContext();
+        return debugContext != null && debugContext.isDebugEnabled();
+    }
+
+    /**
+     * Sends puts to Prebid Cache in a request of their own.
+     */
+    private Future<HttpClientResponse> postPuts(BidCacheRequest bidCacheRequest,
+                                                String body,
+                                                long startTime,
+                                                long remainingTimeout) {
+
+        final Future<HttpClientResponse> future = httpClient.post(
+                endpointUrl.toString(), CACHE_HEADERS, body, effectiveTimeout(remainingTimeout));
+        if (waitForResponse) {
+            return future;
+        }
+
+        logCompletion(future, startTime);
+        return Future.succeededFuture(HttpClientResponse.of(
+                HttpResponseStatus.OK.code(),
+                MultiMap.caseInsensitiveMultiMap(),
+                mapper.encodeToString(keysOf(bidCacheRequest.getPuts()))));
+    }
+
+    /**
+     * Passes puts to {@link CacheWriter}, which responds with already parsed {@link BidCacheResponse}.
+     */
+    private Future<BidCacheResponse> writePuts(List<PutObject> putObjects, long startTime, long remainingTimeout) {
+        final Future<BidCacheResponse> future = cacheWriter.write(putObjects, effectiveTimeout(remainingTimeout));
+        if (waitForResponse) {
+            return future;
         }
-        return future;
+
+        logCompletion(future, startTime);
+        return Future.succeededFuture(keysOf(putObjects));
+    }
+
+    private long effectiveTimeout(long remainingTimeout) {
+        return waitForResponse ? remainingTimeout : httpClientConnectTimeoutMs;
+    }
+
+    private void logCompletion(Future<?> future, long startTime) {
+        future.onComplete(asyncResult -> {
+            final long endTime = clock.millis();
+            logger.debug("time taken in cache service call: %d ms".formatted(endTime - startTime));
+            if (asyncResult.failed()) {
+                logger.error("cache service call failed", asyncResult.cause());
+            }
+        });
+    }
+
+    private static BidCacheResponse keysOf(List<PutObject> putObjects) {
+        return BidCacheResponse.of(putObjects.stream()
+                .map(putObject -> CacheObject.of(putObject.getKey()))
+                .toList());
     }
 
     /**
@@ -448,8 +505,34 @@ public class CacheService {
         final DebugHttpCall httpCall = makeDebugHttpCall(endpointUrl.toString(), httpRequest, httpResponse, startTime);
         final BidCacheResponse bidCacheResponse;
         try {
-            bidCacheResponse = toBidCacheResponse(
-                    responseStatusCode, response.getBody(), bidCount, accountId, startTime);
+            bidCacheResponse = validateBidCacheResponse(
+                    toBidCacheResponse(responseStatusCode, response.getBody()), bidCount, accountId, startTime);
+        } catch (PreBidException e) {
+            return CacheServiceResult.of(httpCall, e, Collections.emptyMap());
+        }
+
+        final List<String> uuids = toResponse(bidCacheResponse, CacheObject::getUuid);
+        return CacheServiceResult.of(httpCall, null, toResultMap(bids, videoBids, uuids, hbCacheId));
+    }
+
+    /**
+     * Creates {@link CacheServiceResult} from the given {@link BidCacheResponse} of {@link CacheWriter}.
+     */
+    private CacheServiceResult processWrittenResponseOpenrtb(BidCacheResponse bidCacheResponse,
+                                                             boolean debugEnabled,
+                                                             CacheHttpRequest httpRequest,
+                                                             int bidCount,
+                                                             List<CacheBid> bids,
+                                                             List<CacheBid> videoBids,
+                                                             String hbCacheId,
+                                                             String accountId,
+                                                             long startTime) {
+
+        final CacheHttpResponse httpResponse = CacheHttpResponse.of(
+                HttpResponseStatus.OK.code(), debugEnabled ? mapper.encodeToString(bidCacheResponse) : null);
+        final DebugHttpCall httpCall = makeDebugHttpCall(endpointUrl.toString(), httpRequest, httpResponse, startTime);
+        try {
+            validateBidCacheResponse(bidCacheResponse, bidCount, accountId, startTime);
         } catch (PreBidException e) {
             return CacheServiceResult.of(httpCall, e, Collections.emptyMap());
         }
@@ -595,22 +678,22 @@ public class CacheService {
      * Handles http response, analyzes response status and creates {@link BidCacheResponse} from response body
      * or throws {@link PreBidException} in case of errors.
      */
-    private BidCacheResponse toBidCacheResponse(int statusCode,
-                                                String responseBody,
-                                                int bidCount,
-                                                String accountId,
-                                                long startTime) {
-
+    private BidCacheResponse toBidCacheResponse(int statusCode, String responseBody) {
         if (statusCode != 200) {
             throw new PreBidException("HTTP status code " + statusCode);
         }
 
-        final BidCacheResponse bidCacheResponse;
         try {
-            bidCacheResponse = mapper.decodeValue(responseBody, BidCacheResponse.class);
+            return mapper.decodeValue(responseBody, BidCacheResponse.class);
         } catch (DecodeException e) {
             throw new PreBidException("Cannot parse response: " + responseBody, e);
         }
+    }
+
+    private BidCacheResponse validateBidCacheResponse(BidCacheResponse bidCacheResponse,
+                                                      int bidCount,
+                                                      String accountId,
+                                                      long startTime) {
 
         final List<CacheObject> responses = bidCacheResponse.getResponses();
         if (responses == null || responses.size() != bidCount) {
@@ -0,0 +1,19 @@
+package org.prebid.server.cache;
+
+import io.vertx.core.Future;
+import org.prebid.server.cache.proto.request.PutObject;
+import org.prebid.server.cache.proto.response.BidCacheResponse;
+
+import java.util.List;
+
+/**
+ * Stores {@link PutObject}s on behalf of {@link CacheService} instead of sending them to Prebid Cache in a request
+ * of their own.
+ * <p>
+ * Implementations respond the same way as Prebid Cache does: with one cache object per put, in order of puts.
+ * The response is returned already parsed, while erroneous responses fail the returned future.
+ */
+public interface CacheWriter {
+
+    Future<BidCacheResponse> write(List<PutObject> puts, long timeout);
+}
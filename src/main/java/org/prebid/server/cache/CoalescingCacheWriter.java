@@ -0,0 +1,271 @@
+package org.prebid.server.cache;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import lombok.Value;
+import org.prebid.server.cache.proto.request.BidCacheRequest;
+import org.prebid.server.cache.proto.request.PutObject;
+import org.prebid.server.cache.proto.response.BidCacheResponse;
+import org.prebid.server.cache.proto.response.CacheObject;
+import org.prebid.server.exception.PreBidException;
+import org.prebid.server.json.DecodeException;
+import org.prebid.server.json.EncodeException;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.util.HttpUtil;
+import org.prebid.server.vertx.http.HttpClient;
+import org.prebid.server.vertx.http.model.HttpClientResponse;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Coalesces {@link PutObject}s of concurrent auctions into bulk requests to Prebid Cache.
+ * <p>
+ * Puts are collected until either the batch window elapses or the batch reaches the max number of objects, whichever
+ * happens first. Prebid Cache responds with one {@link CacheObject} per put in the order of puts, so the response is
+ * parsed once and split back: every caller gets {@link BidCacheResponse} with the part corresponding to its own puts.
+ * <p>
+ * Prebid Cache rejects the whole request if any of its puts is invalid or there are more puts than it accepts, so a
+ * batch never exceeds the max batch size unless a single write does, and on client error response to a bulk request
+ * every write of the batch is resent on its own: only the write that Prebid Cache rejects fails. Other erroneous
+ * bulk responses fail writes of all callers.
+ * <p>
+ * Bulk request uses the smallest timeout among the batched writes, so no caller waits longer than it asked for.
+ * <p>
+ * Writes are coalesced per Vert.x context, the same way {@link HttpClient} is kept per context: each event loop
+ * batches, sends and completes its own writes without locking or handing them over to another thread.
+ */
+public class CoalescingCacheWriter implements CacheWriter {
+
+    private static final MultiMap CACHE_HEADERS = HttpUtil.headers();
+    private static final long NO_TIMER = -1L;
+
+    private final Vertx vertx;
+    private final HttpClient httpClient;
+    private final String endpointUrl;
+    private final long windowMs;
+    private final int maxBatchSize;
+    private final Metrics metrics;
+    private final Clock clock;
+    private final JacksonMapper mapper;
+
+    private final String contextKey;
+
+    public CoalescingCacheWriter(Vertx vertx,
+                                 HttpClient httpClient,
+                                 String endpointUrl,
+                                 long windowMs,
+                                 int maxBatchSize,
+                                 Metrics metrics,
+                                 Clock clock,
+                                 JacksonMapper mapper) {
+
+        if (windowMs < 1) {
+            throw new IllegalArgumentException("Cache coalescing window should be positive");
+        }
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("Cache coalescing max batch size should be positive");
+        }
+
+        this.vertx = Objects.requireNonNull(vertx);
+        this.httpClient = Objects.requireNonNull(httpClient);
+        this.endpointUrl = Objects.requireNonNull(endpointUrl);
+        this.windowMs = windowMs;
+        this.maxBatchSize = maxBatchSize;
+        this.metrics = Objects.requireNonNull(metrics);
+        this.clock = Objects.requireNonNull(clock);
+        this.mapper = Objects.requireNonNull(mapper);
+
+        contextKey = CoalescingCacheWriter.class.getName() + '@' + Integer.toHexString(System.identityHashCode(this));
+    }
+
+    /**
+     * Enqueues given puts to the next bulk request of the current Vert.x context and returns the response for them
+     * once it is received.
+     */
+    @Override
+    public Future<BidCacheResponse> write(List<PutObject> puts, long timeout) {
+        final Promise<BidCacheResponse> promise = Promise.promise();
+        final PendingWrite pendingWrite = PendingWrite.of(puts, clock.millis() + timeout, promise);
+
+        final Context context = Vertx.currentContext();
+        if (context != null) {
+            batchOf(context).add(pendingWrite);
+        } else {
+            // there are no other writes to coalesce with outside of Vert.x context
+            send(Collections.singletonList(pendingWrite));
+        }
+
+        return promise.future();
+    }
+
+    private ContextBatch batchOf(Context context) {
+        ContextBatch batch = context.get(contextKey);
+        if (batch == null) {
+            batch = new ContextBatch();
+            context.put(contextKey, batch);
+        }
+        return batch;
+    }
+
+    private void send(List<PendingWrite> batch) {
+        final long startTime = clock.millis();
+
+        final List<PendingWrite> liveWrites = new ArrayList<>(batch.size());
+        for (PendingWrite pendingWrite : batch) {
+            if (pendingWrite.getDeadline() > startTime) {
+                liveWrites.add(pendingWrite);
+            } else {
+                pendingWrite.getPromise().tryFail(new TimeoutException("Timeout has been exceeded"));
+            }
+        }
+
+        if (liveWrites.isEmpty()) {
+            return;
+        }
+
+        final List<PutObject> puts = liveWrites.stream()
+                .map(PendingWrite::getPuts)
+                .flatMap(List::stream)
+                .toList();
+        final long timeout = liveWrites.stream()
+                .mapToLong(PendingWrite::getDeadline)
+                .min()
+                .orElse(startTime) - startTime;
+
+        metrics.updateCacheBatchSize(puts.size());
+
+        final String body;
+        try {
+            body = mapper.encodeToString(BidCacheRequest.of(puts));
+        } catch (EncodeException e) {
+            liveWrites.forEach(pendingWrite -> pendingWrite.getPromise().tryFail(e));
+            return;
+        }
+
+        httpClient.post(endpointUrl, CACHE_HEADERS, body, timeout)
+                .onComplete(result -> {
+                    metrics.updateCacheBatchRequestTime(clock.millis() - startTime);
+                    complete(liveWrites, result);
+                });
+    }
+
+    private void complete(List<PendingWrite> batch, AsyncResult<HttpClientResponse> result) {
+        if (result.failed()) {
+            batch.forEach(pendingWrite -> pendingWrite.getPromise().tryFail(result.cause()));
+            return;
+        }
+
+        final HttpClientResponse response = result.result();
+        if (batch.size() > 1 && isClientError(response.getStatusCode())) {
+            batch.forEach(pendingWrite -> send(Collections.singletonList(pendingWrite)));
+            return;
+        }
+
+        final int putCount = batch.stream().mapToInt(pendingWrite -> pendingWrite.getPuts().size()).sum();
+        final List<CacheObject> cacheObjects;
+        try {
+            cacheObjects = cacheObjects(response, putCount);
+        } catch (PreBidException e) {
+            batch.forEach(pendingWrite -> pendingWrite.getPromise().tryFail(e));
+            return;
+        }
+
+        int offset = 0;
+        for (PendingWrite pendingWrite : batch) {
+            final int size = pendingWrite.getPuts().size();
+            pendingWrite.getPromise().tryComplete(BidCacheResponse.of(cacheObjects.subList(offset, offset + size)));
+            offset += size;
+        }
+    }
+
+    private static boolean isClientError(int statusCode) {
+        return statusCode >= 400 && statusCode < 500;
+    }
+
+    private List<CacheObject> cacheObjects(HttpClientResponse response, int putCount) {
+        final int statusCode = response.getStatusCode();
+        if (statusCode != 200) {
+            throw new PreBidException("HTTP status code " + statusCode);
+        }
+
+        final Buffer body = response.getBodyAsBuffer();
+        final List<CacheObject> cacheObjects;
+        try {
+            cacheObjects = body != null ? mapper.decodeValue(body, BidCacheResponse.class).getResponses() : null;
+        } catch (DecodeException e) {
+            throw new PreBidException("Cannot parse response: " + response.getBody(), e);
+        }
+
+        if (cacheObjects == null || cacheObjects.size() != putCount) {
+            throw new PreBidException("The number of response cache objects doesn't match with bids");
+        }
+        return cacheObjects;
+    }
+
+    /**
+     * Pending writes of a single Vert.x context. Accessed only from the thread of that context, so the window timer,
+     * the bulk request and the completion of writes happen on the context that submitted them.
+     */
+    private class ContextBatch {
+
+        private List<PendingWrite> pendingWrites = new ArrayList<>();
+        private int pendingPuts;
+        private long windowTimerId = NO_TIMER;
+
+        void add(PendingWrite pendingWrite) {
+            final int putCount = pendingWrite.getPuts().size();
+            if (pendingPuts > 0 && pendingPuts + putCount > maxBatchSize) {
+                send(drain());
+            }
+
+            pendingWrites.add(pendingWrite);
+            pendingPuts += putCount;
+
+            if (pendingPuts >= maxBatchSize) {
+                send(drain());
+            } else if (windowTimerId == NO_TIMER) {
+                windowTimerId = vertx.setTimer(windowMs, this::flushWindow);
+            }
+        }
+
+        private void flushWindow(long timerId) {
+            // batch was already sent because of its size
+            if (timerId == windowTimerId) {
+                send(drain());
+            }
+        }
+
+        private List<PendingWrite> drain() {
+            if (windowTimerId != NO_TIMER) {
+                vertx.cancelTimer(windowTimerId);
+                windowTimerId = NO_TIMER;
+            }
+
+            final List<PendingWrite> batch = pendingWrites;
+            pendingWrites = new ArrayList<>();
+            pendingPuts = 0;
+            return batch;
+        }
+    }
+
+    @Value(staticConstructor = "of")
+    private static class PendingWrite {
+
+        List<PutObject> puts;
+
+        long deadline;
+
+        Promise<BidCacheResponse> promise;
+    }
+}
@@ -0,0 +1,219 @@
+package org.prebid.server.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import lombok.Value;
+import org.apache.commons.lang3.ObjectUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.cache.proto.request.BidCacheRequest;
+import org.prebid.server.cache.proto.request.PutObject;
+import org.prebid.server.cache.proto.response.BidCacheResponse;
+import org.prebid.server.cache.proto.response.CacheObject;
+import org.prebid.server.exception.PreBidException;
+import org.prebid.server.identity.UUIDIdGenerator;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.util.HttpUtil;
+import org.prebid.server.vertx.http.HttpClient;
+import org.prebid.server.vertx.http.model.HttpClientResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-process replacement of Prebid Cache: keeps creatives in a size-bounded store, each one for its own TTL, and
+ * serves them to {@link org.prebid.server.handler.EmbeddedCacheHandler}.
+ * <p>
+ * When PBS nodes share the cache through {@link CacheNodeRing}, every creative is stored by the node owning its key,
+ * which allows any node to find the creative by its key. Keys are generated so that they belong to this node, while
+ * puts with keys owned by other nodes (keys preset by the caller, e.g. of event logs or categories, or generated keys
+ * which happened to be owned by other node) are forwarded to their owners with the Prebid Cache POST contract.
+ */
+public class EmbeddedCacheStore implements CacheWriter {
+
+    private static final int MAX_KEY_GENERATION_ATTEMPTS = 100;
+
+    private final int defaultTtlSeconds;
+    private final int maxTtlSeconds;
+    private final CacheNodeRing nodeRing;
+    private final HttpClient httpClient;
+    private final String path;
+    private final UUIDIdGenerator idGenerator;
+    private final JacksonMapper mapper;
+
+    private final Cache<String, CachedValue> store;
+
+    public EmbeddedCacheStore(long maxSizeBytes,
+                              int defaultTtlSeconds,
+                              int maxTtlSeconds,
+                              CacheNodeRing nodeRing,
+                              HttpClient httpClient,
+                              String path,
+                              UUIDIdGenerator idGenerator,
+                              JacksonMapper mapper) {
+
+        if (defaultTtlSeconds < 1 || maxTtlSeconds < defaultTtlSeconds) {
+            throw new IllegalArgumentException(
+                    "Embedded cache TTLs should be positive and default TTL should not exceed max TTL");
+        }
+
+        this.defaultTtlSeconds = defaultTtlSeconds;
+        this.maxTtlSeconds = maxTtlSeconds;
+        this.nodeRing = nodeRing;
+        this.httpClient = Objects.requireNonNull(httpClient);
+        this.path = Objects.requireNonNull(path);
+        this.idGenerator = Objects.requireNonNull(idGenerator);
+        this.mapper = Objects.requireNonNull(mapper);
+
+        store = Caffeine.newBuilder()
+                .maximumWeight(maxSizeBytes)
+                .weigher((String key, CachedValue value) -> key.length() + value.getContent().length)
+                .expireAfter(new CachedValueExpiry())
+                .build();
+    }
+
+    @Override
+    public Future<BidCacheResponse> write(List<PutObject> puts, long timeout) {
+        final List<PutObject> keyedPuts = puts.stream()
+                .map(this::withKey)
+                .toList();
+
+        final Map<String, List<PutObject>> ownerToPuts = new LinkedHashMap<>();
+        for (PutObject put : keyedPuts) {
+            final String owner = ownerOf(put.getKey());
+            if (owner == null) {
+                store(put);
+            } else {
+                ownerToPuts.computeIfAbsent(owner, ignored -> new ArrayList<>()).add(put);
+            }
+        }
+
+        final BidCacheResponse response = BidCacheResponse.of(keyedPuts.stream()
+                .map(put -> CacheObject.of(put.getKey()))
+                .toList());
+        if (ownerToPuts.isEmpty()) {
+            return Future.succeededFuture(response);
+        }
+
+        final List<Future<Void>> forwardFutures = ownerToPuts.entrySet().stream()
+                .map(ownerAndPuts -> forward(ownerAndPuts.getKey(), ownerAndPuts.getValue(), timeout))
+                .toList();
+        return CompositeFuture.all(new ArrayList<>(forwardFutures)).map(ignored -> response);
+    }
+
+    /**
+     * Stores the given puts on this node whichever node owns their keys. Used for puts forwarded by other nodes,
+     * so they are never forwarded again, even if nodes disagree on the ring.
+     */
+    public BidCacheResponse storeLocally(List<PutObject> puts) {
+        return BidCacheResponse.of(puts.stream()
+                .map(this::withKey)
+                .map(this::store)
+                .toList());
+    }
+
+    private PutObject withKey(PutObject put) {
+        return StringUtils.isNotBlank(put.getKey()) ? put : put.toBuilder().key(generateKey()).build();
+    }
+
+    private CacheObject store(PutObject put) {
+        store.put(put.getKey(), CachedValue.of(put.getType(), content(put.getValue()), ttlSeconds(put)));
+        return CacheObject.of(put.getKey());
+    }
+
+    private Future<Void> forward(String owner, List<PutObject> puts, long timeout) {
+        return httpClient.post(owner + path, HttpUtil.headers(), mapper.encodeToString(BidCacheRequest.of(puts)),
+                        timeout)
+                .compose(response -> processForwardResponse(owner, response));
+    }
+
+    private static Future<Void> processForwardResponse(String owner, HttpClientResponse response) {
+        final int statusCode = response.getStatusCode();
+        return statusCode == 200
+                ? Future.succeededFuture()
+                : Future.failedFuture(new PreBidException(
+                "Embedded cache node %s responded with HTTP status code %d".formatted(owner, statusCode)));
+    }
+
+    private String generateKey() {
+        String key = idGenerator.generateId();
+        if (nodeRing == null) {
+            return key;
+        }
+
+        // every node owns roughly the same share of keys, so it takes about as many attempts as there are nodes,
+        // key owned by other node after the last attempt is forwarded to its owner
+        for (int i = 1; i < MAX_KEY_GENERATION_ATTEMPTS && !nodeRing.isOwnedBySelf(key); i++) {
+            key = idGenerator.generateId();
+        }
+        return key;
+    }
+
+    private byte[] content(JsonNode value) {
+        if (value == null || value.isNull()) {
+            return new byte[0];
+        }
+
+        return value.isTextual()
+                ? value.textValue().getBytes(StandardCharsets.UTF_8)
+                : mapper.encodeToBytes(value);
+    }
+
+    private int ttlSeconds(PutObject put) {
+        final Integer ttl = ObjectUtils.firstNonNull(put.getTtlseconds(), put.getExpiry());
+        return ttl != null && ttl > 0 ? Math.min(ttl, maxTtlSeconds) : defaultTtlSeconds;
+    }
+
+    /**
+     * Returns creative stored by the given key or null if there is no such creative or it is expired.
+     */
+    public CachedValue get(String key) {
+        return store.getIfPresent(key);
+    }
+
+    /**
+     * Returns node the given key belongs to or null if the key is served by this node.
+     */
+    public String ownerOf(String key) {
+        if (nodeRing == null || nodeRing.isOwnedBySelf(key)) {
+            return null;
+        }
+        return nodeRing.ownerOf(key);
+    }
+
+    @Value(staticConstructor = "of")
+    public static class CachedValue {
+
+        String type;
+
+        byte[] content;
+
+        int ttlSeconds;
+    }
+
+    private static class CachedValueExpiry implements Expiry<String, CachedValue> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedValue value, long currentTime) {
+            return TimeUnit.SECONDS.toNanos(value.getTtlSeconds());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedValue value, long currentTime, long currentDuration) {
+            return TimeUnit.SECONDS.toNanos(value.getTtlSeconds());
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedValue value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
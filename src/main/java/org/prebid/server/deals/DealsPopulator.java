@@ -29,6 +29,7 @@ import org.prebid.server.deals.deviceinfo.DeviceInfoService;
 import org.prebid.server.deals.lineitem.LineItem;
 import org.prebid.server.deals.model.DeviceInfo;
 import org.prebid.server.deals.model.MatchLineItemsResult;
+import org.prebid.server.deals.model.TxnLog;
 import org.prebid.server.deals.model.UserData;
 import org.prebid.server.deals.model.UserDetails;
 import org.prebid.server.deals.proto.LineItemSize;
@@ -88,6 +89,13 @@ public class DealsPopulator {
         this.criteriaLogManager = Objects.requireNonNull(criteriaLogManager);
     }
 
+    /**
+     * Returns new {@link TxnLog} recording line items by the index of currently known line items.
+     */
+    public TxnLog createTxnLog() {
+        return TxnLog.create(lineItemService.getLineItemIndex());
+    }
+
     /**
      * Returns new {@link AuctionContext} with populated deals information like device info,
      * geo-location data, user frequency capping info and deal IDs for corresponding impressions.
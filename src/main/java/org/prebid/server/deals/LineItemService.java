@@ -16,11 +16,13 @@ import org.prebid.server.currency.CurrencyConversionService;
 import org.prebid.server.deals.events.ApplicationEventService;
 import org.prebid.server.deals.lineitem.DeliveryPlan;
 import org.prebid.server.deals.lineitem.LineItem;
+import org.prebid.server.deals.model.LineItemIndex;
 import org.prebid.server.deals.model.MatchLineItemsResult;
 import org.prebid.server.deals.model.TxnLog;
 import org.prebid.server.deals.proto.DeliverySchedule;
 import org.prebid.server.deals.proto.LineItemMetaData;
 import org.prebid.server.deals.proto.Price;
+import org.prebid.server.deals.targeting.RequestContext;
 import org.prebid.server.deals.targeting.TargetingDefinition;
 import org.prebid.server.exception.TargetingSyntaxException;
 import org.prebid.server.log.CriteriaLogManager;
@@ -40,6 +42,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -80,6 +83,8 @@ public class LineItemService {
     private final CriteriaLogManager criteriaLogManager;
 
     protected final Map<String, LineItem> idToLineItems;
+    private volatile Map<String, Map<String, List<LineItem>>> accountToSourceToLineItems;
+    private volatile LineItemIndex lineItemIndex;
     protected volatile boolean isPlannerResponsive;
 
     public LineItemService(int maxDealsPerBidder,
@@ -101,6 +106,8 @@ public class LineItemService {
         this.criteriaLogManager = Objects.requireNonNull(criteriaLogManager);
 
         idToLineItems = new ConcurrentHashMap<>();
+        accountToSourceToLineItems = Collections.emptyMap();
+        lineItemIndex = LineItemIndex.empty();
     }
 
     /**
@@ -110,6 +117,13 @@ public class LineItemService {
         return idToLineItems.get(lineItemId);
     }
 
+    /**
+     * Returns int index of line items as of the last line items update.
+     */
+    public LineItemIndex getLineItemIndex() {
+        return lineItemIndex;
+    }
+
     /**
      * Returns true when account has at least one active {@link LineItem}.
      */
@@ -122,8 +136,9 @@ public class LineItemService {
      */
     public boolean accountHasDeals(String account, ZonedDateTime now) {
         return StringUtils.isNotEmpty(account)
-                && idToLineItems.values().stream().anyMatch(lineItem -> Objects.equals(lineItem.getAccountId(), account)
-                && lineItem.isActive(now));
+                && accountToSourceToLineItems.getOrDefault(account, Collections.emptyMap()).values().stream()
+                .flatMap(Collection::stream)
+                .anyMatch(lineItem -> lineItem.isActive(now));
     }
 
     /**
@@ -141,9 +156,11 @@ public class LineItemService {
      */
     protected MatchLineItemsResult findMatchingLineItems(AuctionContext auctionContext, Imp imp, ZonedDateTime now) {
         final BidderAliases aliases = aliases(auctionContext.getBidRequest());
+        final Map<String, RequestContext> sourceToRequestContext = new HashMap<>();
         final List<LineItem> matchedLineItems =
                 getPreMatchedLineItems(auctionContext.getAccount().getId(), imp, aliases).stream()
-                        .filter(lineItem -> isTargetingMatched(lineItem, imp, auctionContext, aliases))
+                        .filter(lineItem -> isTargetingMatched(
+                                lineItem, imp, auctionContext, aliases, sourceToRequestContext))
                         .toList();
 
         return MatchLineItemsResult.of(postProcessMatchedLineItems(matchedLineItems, auctionContext, imp, now));
@@ -171,17 +188,20 @@ public class LineItemService {
 
             removeInactiveLineItems(planResponse, now);
             lineItemsMetaData.forEach(lineItemMetaData -> updateLineItem(lineItemMetaData, now));
+            reindexLineItems();
         }
     }
 
     public void invalidateLineItemsByIds(List<String> lineItemIds) {
         idToLineItems.entrySet().removeIf(stringLineItemEntry -> lineItemIds.contains(stringLineItemEntry.getKey()));
+        reindexLineItems();
         logger.info("Line Items with ids {0} were removed", String.join(", ", lineItemIds));
     }
 
     public void invalidateLineItems() {
         final String lineItemsToRemove = String.join(", ", idToLineItems.keySet());
         idToLineItems.clear();
+        reindexLineItems();
         logger.info("Line Items with ids {0} were removed", lineItemsToRemove);
     }
 
@@ -229,9 +249,24 @@ public class LineItemService {
         for (LineItem lineItem : lineItems) {
             lineItem.advanceToNextPlan(now, isPlannerResponsive);
         }
+        reindexLineItems();
         applicationEventService.publishDeliveryUpdateEvent();
     }
 
+    /**
+     * Rebuilds account to bidder {@link LineItem}s index and int index of line item ids and replaces the current
+     * ones at once, so auctions always see consistent snapshot and never wait for update to complete.
+     * <p>
+     * Rebuilds are serialized, so the one which started later (and thus has seen the latest line items)
+     * is always published last and older snapshot cannot overwrite it.
+     */
+    private synchronized void reindexLineItems() {
+        accountToSourceToLineItems = idToLineItems.values().stream()
+                .filter(lineItem -> lineItem.getAccountId() != null && lineItem.getSource() != null)
+                .collect(Collectors.groupingBy(LineItem::getAccountId, Collectors.groupingBy(LineItem::getSource)));
+        lineItemIndex = LineItemIndex.of(idToLineItems.keySet());
+    }
+
     /**
      * Creates {@link TargetingDefinition} from {@link LineItemMetaData} targeting json node.
      */
@@ -300,11 +335,10 @@ public class LineItemService {
             return Collections.emptyList();
         }
 
-        final List<LineItem> accountsLineItems = idToLineItems.values().stream()
-                .filter(lineItem -> lineItem.getAccountId().equals(accountId))
-                .toList();
+        final Map<String, List<LineItem>> sourceToLineItems =
+                accountToSourceToLineItems.getOrDefault(accountId, Collections.emptyMap());
 
-        if (accountsLineItems.isEmpty()) {
+        if (sourceToLineItems.isEmpty()) {
             criteriaLogManager.log(
                     logger,
                     accountId,
@@ -318,8 +352,9 @@ public class LineItemService {
                 .distinct()
                 .toList();
 
-        return accountsLineItems.stream()
-                .filter(lineItem -> containBidderCodeConsideringAliases(bidders, lineItem.getSource(), aliases))
+        return sourceToLineItems.entrySet().stream()
+                .filter(entry -> containBidderCodeConsideringAliases(bidders, entry.getKey(), aliases))
+                .flatMap(entry -> entry.getValue().stream())
                 .toList();
     }
 
@@ -344,7 +379,8 @@ public class LineItemService {
     private boolean isTargetingMatched(LineItem lineItem,
                                        Imp imp,
                                        AuctionContext auctionContext,
-                                       BidderAliases aliases) {
+                                       BidderAliases aliases,
+                                       Map<String, RequestContext> sourceToRequestContext) {
 
         final TargetingDefinition targetingDefinition = lineItem.getTargetingDefinition();
         final String accountId = auctionContext.getAccount().getId();
@@ -361,8 +397,9 @@ public class LineItemService {
             return false;
         }
 
-        final boolean matched = targetingService.matchesTargeting(
-                auctionContext, imp, lineItem.getTargetingDefinition(), lineItem.getSource(), aliases);
+        final RequestContext requestContext = sourceToRequestContext.computeIfAbsent(source,
+                ignored -> targetingService.createRequestContext(auctionContext, imp, source, aliases));
+        final boolean matched = targetingService.matchesTargeting(requestContext, targetingDefinition);
         if (matched) {
             deepDebug(
                     auctionContext,
@@ -70,12 +70,31 @@ public class TargetingService {
                                     String source,
                                     BidderAliases aliases) {
 
-        final RequestContext requestContext = new RequestContext(
-                auctionContext.getBidRequest(), imp, source, aliases, auctionContext.getTxnLog(), mapper);
+        return matchesTargeting(createRequestContext(auctionContext, imp, source, aliases), targetingDefinition);
+    }
 
+    /**
+     * Evaluates Line Item targeting definition against already created {@link RequestContext}.
+     * <p>
+     * The same context should be reused for all Line Items of the same bidder matched against particular Imp,
+     * so request attributes are looked up only once.
+     */
+    public boolean matchesTargeting(RequestContext requestContext, TargetingDefinition targetingDefinition) {
         return targetingDefinition.getRootExpression().matches(requestContext);
     }
 
+    /**
+     * Creates {@link RequestContext} for evaluating targeting of the given bidder against particular Imp.
+     */
+    public RequestContext createRequestContext(AuctionContext auctionContext,
+                                               Imp imp,
+                                               String source,
+                                               BidderAliases aliases) {
+
+        return new RequestContext(
+                auctionContext.getBidRequest(), imp, source, aliases, auctionContext.getTxnLog(), mapper);
+    }
+
     private Expression parseNode(JsonNode node, String lineItemId) {
         final Map.Entry<String, JsonNode> field = validateIsSingleElementObject(node);
         final String fieldName = field.getKey();
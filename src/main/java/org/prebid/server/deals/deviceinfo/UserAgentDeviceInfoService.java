@@ -0,0 +1,46 @@
+package org.prebid.server.deals.deviceinfo;
+
+import io.vertx.core.Future;
+import org.prebid.server.deals.model.DeviceInfo;
+import org.prebid.server.deals.model.DeviceType;
+import org.prebid.server.useragent.UserAgentClassifier;
+import org.prebid.server.useragent.model.UserAgentDeviceType;
+
+import java.util.Objects;
+
+/**
+ * Provides device type resolved from User-Agent string by {@link UserAgentClassifier}.
+ */
+public class UserAgentDeviceInfoService implements DeviceInfoService {
+
+    private static final String VENDOR = "useragent";
+
+    private final UserAgentClassifier userAgentClassifier;
+
+    public UserAgentDeviceInfoService(UserAgentClassifier userAgentClassifier) {
+        this.userAgentClassifier = Objects.requireNonNull(userAgentClassifier);
+    }
+
+    @Override
+    public Future<DeviceInfo> getDeviceInfo(String ua) {
+        final UserAgentDeviceType userAgentDeviceType = userAgentClassifier.classify(ua);
+        if (userAgentDeviceType == null) {
+            return Future.failedFuture("Device type can't be resolved from empty User-Agent");
+        }
+
+        final DeviceType deviceType = toDeviceType(userAgentDeviceType);
+        return Future.succeededFuture(DeviceInfo.builder()
+                .vendor(VENDOR)
+                .deviceType(deviceType)
+                .deviceTypeRaw(deviceType.getName())
+                .build());
+    }
+
+    private static DeviceType toDeviceType(UserAgentDeviceType userAgentDeviceType) {
+        return switch (userAgentDeviceType) {
+            case desktop -> DeviceType.DESKTOP;
+            case phone -> DeviceType.MOBILE;
+            case tablet -> DeviceType.TABLET;
+        };
+    }
+}
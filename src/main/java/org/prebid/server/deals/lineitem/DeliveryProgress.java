@@ -1,6 +1,8 @@
 package org.prebid.server.deals.lineitem;
 
 import org.prebid.server.deals.LineItemService;
+import org.prebid.server.deals.model.LineItemIdSet;
+import org.prebid.server.deals.model.LineItemIndex;
 import org.prebid.server.deals.model.TxnLog;
 import org.prebid.server.deals.proto.report.Event;
 
@@ -12,6 +14,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
@@ -27,6 +30,7 @@ public class DeliveryProgress {
     private ZonedDateTime startTimeStamp;
     private ZonedDateTime endTimeStamp;
     private final LineItemService lineItemService;
+    private volatile IndexedLineItemStatuses indexedLineItemStatuses;
 
     private DeliveryProgress(ZonedDateTime startTimeStamp, LineItemService lineItemService) {
         this.startTimeStamp = Objects.requireNonNull(startTimeStamp);
@@ -62,33 +66,32 @@ public class DeliveryProgress {
 
     /**
      * Updates delivery progress from {@link TxnLog}.
+     * <p>
+     * Line items recorded by the current {@link LineItemIndex} are resolved to their {@link LineItemStatus} by
+     * index, ids are looked up only for line items missing in the index or recorded by an older one.
      */
     public void recordTransactionLog(TxnLog txnLog, Map<String, Integer> planIdToTokenPriority, String accountId) {
         accountRequests(accountId).increment();
         requests.increment();
 
-        txnLog.lineItemSentToClientAsTopMatch()
-                .forEach(lineItemId -> increment(lineItemId, LineItemStatus::incSentToClientAsTopMatch));
-        txnLog.lineItemsSentToClient()
-                .forEach(lineItemId -> increment(lineItemId, LineItemStatus::incSentToClient));
-        txnLog.lineItemsMatchedDomainTargeting()
-                .forEach(lineItemId -> increment(lineItemId, LineItemStatus::incDomainMatched));
-        txnLog.lineItemsMatchedWholeTargeting()
-                .forEach(lineItemId -> increment(lineItemId, LineItemStatus::incTargetMatched));
-        txnLog.lineItemsMatchedTargetingFcapped()
-                .forEach(lineItemId -> increment(lineItemId, LineItemStatus::incTargetMatchedButFcapped));
-        txnLog.lineItemsMatchedTargetingFcapLookupFailed()
-                .forEach(lineItemId -> increment(lineItemId, LineItemStatus::incTargetMatchedButFcapLookupFailed));
-        txnLog.lineItemsPacingDeferred()
-                .forEach(lineItemId -> increment(lineItemId, LineItemStatus::incPacingDeferred));
-        txnLog.lineItemsSentToBidder().values().forEach(idList -> idList
-                .forEach(lineItemId -> increment(lineItemId, LineItemStatus::incSentToBidder)));
-        txnLog.lineItemsSentToBidderAsTopMatch().values().forEach(bidderList -> bidderList
-                .forEach(lineItemId -> increment(lineItemId, LineItemStatus::incSentToBidderAsTopMatch)));
-        txnLog.lineItemsReceivedFromBidder().values().forEach(idList -> idList
-                .forEach(lineItemId -> increment(lineItemId, LineItemStatus::incReceivedFromBidder)));
-        txnLog.lineItemsResponseInvalidated()
-                .forEach(lineItemId -> increment(lineItemId, LineItemStatus::incReceivedFromBidderInvalidated));
+        final IndexedLineItemStatuses statuses = indexedLineItemStatuses(txnLog.lineItemIndex());
+
+        increment(txnLog.lineItemSentToClientAsTopMatch(), statuses, LineItemStatus::incSentToClientAsTopMatch);
+        increment(txnLog.lineItemsSentToClient(), statuses, LineItemStatus::incSentToClient);
+        increment(txnLog.lineItemsMatchedDomainTargeting(), statuses, LineItemStatus::incDomainMatched);
+        increment(txnLog.lineItemsMatchedWholeTargeting(), statuses, LineItemStatus::incTargetMatched);
+        increment(txnLog.lineItemsMatchedTargetingFcapped(), statuses, LineItemStatus::incTargetMatchedButFcapped);
+        increment(txnLog.lineItemsMatchedTargetingFcapLookupFailed(), statuses,
+                LineItemStatus::incTargetMatchedButFcapLookupFailed);
+        increment(txnLog.lineItemsPacingDeferred(), statuses, LineItemStatus::incPacingDeferred);
+        txnLog.lineItemsSentToBidder().values()
+                .forEach(lineItemIds -> increment(lineItemIds, statuses, LineItemStatus::incSentToBidder));
+        txnLog.lineItemsSentToBidderAsTopMatch().values()
+                .forEach(lineItemIds -> increment(lineItemIds, statuses, LineItemStatus::incSentToBidderAsTopMatch));
+        txnLog.lineItemsReceivedFromBidder().values()
+                .forEach(lineItemIds -> increment(lineItemIds, statuses, LineItemStatus::incReceivedFromBidder));
+        increment(txnLog.lineItemsResponseInvalidated(), statuses,
+                LineItemStatus::incReceivedFromBidderInvalidated);
 
         txnLog.lineItemSentToClientAsTopMatch()
                 .forEach(lineItemId -> incToken(lineItemId, planIdToTokenPriority));
@@ -178,6 +181,8 @@ public class DeliveryProgress {
      */
     public void cleanLineItemStatuses(ZonedDateTime now, long lineItemStatusTtl, int maxPlanNumberInDeliveryProgress) {
         lineItemStatuses.entrySet().removeIf(entry -> isLineItemStatusExpired(entry.getKey(), now, lineItemStatusTtl));
+        // removed statuses must not be incremented by index anymore
+        indexedLineItemStatuses = null;
 
         lineItemStatuses.values().forEach(
                 lineItemStatus -> cutCachedDeliveryPlans(lineItemStatus, maxPlanNumberInDeliveryProgress));
@@ -268,11 +273,48 @@ public class DeliveryProgress {
         return requestsPerAccount.computeIfAbsent(account, ignored -> new LongAdder());
     }
 
+    /**
+     * Returns statuses by index of the given {@link LineItemIndex} or null if it is not the current one, so
+     * transaction logs of auctions started before line items update do not replace statuses of the current index.
+     */
+    private IndexedLineItemStatuses indexedLineItemStatuses(LineItemIndex lineItemIndex) {
+        final IndexedLineItemStatuses statuses = indexedLineItemStatuses;
+        if (statuses != null && statuses.lineItemIndex == lineItemIndex) {
+            return statuses;
+        }
+        if (lineItemIndex.size() == 0 || lineItemIndex != lineItemService.getLineItemIndex()) {
+            return null;
+        }
+
+        final IndexedLineItemStatuses currentStatuses = new IndexedLineItemStatuses(lineItemIndex);
+        indexedLineItemStatuses = currentStatuses;
+        return currentStatuses;
+    }
+
+    /**
+     * Increments {@link LineItemStatus} metric of each line item, creates line item status if does not exist.
+     */
+    private void increment(Set<String> lineItemIds, IndexedLineItemStatuses statuses, Consumer<LineItemStatus> inc) {
+        if (statuses != null
+                && lineItemIds instanceof LineItemIdSet lineItemIdSet
+                && lineItemIdSet.lineItemIndex() == statuses.lineItemIndex) {
+
+            lineItemIdSet.forEachIndex(index -> inc.accept(statuses.get(index)));
+            lineItemIdSet.forEachUnindexed(lineItemId -> increment(lineItemId, inc));
+        } else {
+            lineItemIds.forEach(lineItemId -> increment(lineItemId, inc));
+        }
+    }
+
     /**
      * Increments {@link LineItemStatus} metric, creates line item status if does not exist.
      */
     private void increment(String lineItemId, Consumer<LineItemStatus> inc) {
-        inc.accept(lineItemStatuses.computeIfAbsent(lineItemId, this::createLineItemStatus));
+        inc.accept(lineItemStatus(lineItemId));
+    }
+
+    private LineItemStatus lineItemStatus(String lineItemId) {
+        return lineItemStatuses.computeIfAbsent(lineItemId, this::createLineItemStatus);
     }
 
     /**
@@ -346,4 +388,28 @@ public class DeliveryProgress {
         mergeTo.getCount().add(mergeFrom.getCount().sum());
         return mergeTo;
     }
+
+    /**
+     * {@link LineItemStatus}es by position in {@link LineItemIndex}, resolved on first use.
+     */
+    private class IndexedLineItemStatuses {
+
+        private final LineItemIndex lineItemIndex;
+
+        private final AtomicReferenceArray<LineItemStatus> statuses;
+
+        IndexedLineItemStatuses(LineItemIndex lineItemIndex) {
+            this.lineItemIndex = lineItemIndex;
+            statuses = new AtomicReferenceArray<>(lineItemIndex.size());
+        }
+
+        LineItemStatus get(int index) {
+            LineItemStatus status = statuses.get(index);
+            if (status == null) {
+                status = lineItemStatus(lineItemIndex.lineItemIdAt(index));
+                statuses.set(index, status);
+            }
+            return status;
+        }
+    }
 }
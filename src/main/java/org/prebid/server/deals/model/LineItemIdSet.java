@@ -0,0 +1,171 @@
+package org.prebid.server.deals.model;
+
+import java.util.AbstractSet;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * Set of line item ids kept as bits at their {@link LineItemIndex} positions.
+ * <p>
+ * Ids absent in the index (e.g. line items added after the index was built) are kept in a regular set allocated on
+ * the first such id. Iteration maps bits back to ids, so the set reads as any other set of ids, e.g. in
+ * ext.debug.pgmetrics, while {@link #forEachIndex(IntConsumer)} lets counters be updated without id lookups.
+ * <p>
+ * Like {@link HashSet}, is not thread-safe.
+ */
+public class LineItemIdSet extends AbstractSet<String> {
+
+    private final LineItemIndex lineItemIndex;
+
+    private final BitSet indexedLineItems = new BitSet();
+
+    private Set<String> unindexedLineItemIds;
+
+    public LineItemIdSet(LineItemIndex lineItemIndex) {
+        this.lineItemIndex = Objects.requireNonNull(lineItemIndex);
+    }
+
+    public LineItemIndex lineItemIndex() {
+        return lineItemIndex;
+    }
+
+    @Override
+    public boolean add(String lineItemId) {
+        final int index = lineItemIndex.indexOf(lineItemId);
+        if (index >= 0) {
+            if (indexedLineItems.get(index)) {
+                return false;
+            }
+            indexedLineItems.set(index);
+            return true;
+        }
+
+        if (unindexedLineItemIds == null) {
+            unindexedLineItemIds = new HashSet<>();
+        }
+        return unindexedLineItemIds.add(lineItemId);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (!(o instanceof String lineItemId)) {
+            return false;
+        }
+
+        final int index = lineItemIndex.indexOf(lineItemId);
+        return index >= 0
+                ? indexedLineItems.get(index)
+                : unindexedLineItemIds != null && unindexedLineItemIds.contains(lineItemId);
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (!(o instanceof String lineItemId)) {
+            return false;
+        }
+
+        final int index = lineItemIndex.indexOf(lineItemId);
+        if (index >= 0) {
+            final boolean present = indexedLineItems.get(index);
+            indexedLineItems.clear(index);
+            return present;
+        }
+        return unindexedLineItemIds != null && unindexedLineItemIds.remove(lineItemId);
+    }
+
+    @Override
+    public int size() {
+        return indexedLineItems.cardinality() + (unindexedLineItemIds != null ? unindexedLineItemIds.size() : 0);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return indexedLineItems.isEmpty() && (unindexedLineItemIds == null || unindexedLineItemIds.isEmpty());
+    }
+
+    @Override
+    public void clear() {
+        indexedLineItems.clear();
+        unindexedLineItemIds = null;
+    }
+
+    /**
+     * Passes {@link LineItemIndex} positions of indexed line items to the given consumer.
+     */
+    public void forEachIndex(IntConsumer consumer) {
+        for (int index = indexedLineItems.nextSetBit(0); index >= 0; index = indexedLineItems.nextSetBit(index + 1)) {
+            consumer.accept(index);
+        }
+    }
+
+    /**
+     * Passes ids of line items absent in {@link LineItemIndex} to the given consumer.
+     */
+    public void forEachUnindexed(Consumer<String> consumer) {
+        if (unindexedLineItemIds != null) {
+            unindexedLineItemIds.forEach(consumer);
+        }
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        return new LineItemIdIterator();
+    }
+
+    private class LineItemIdIterator implements Iterator<String> {
+
+        private int nextIndex = indexedLineItems.nextSetBit(0);
+
+        private int lastIndex = -1;
+
+        private Iterator<String> unindexedIterator;
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex >= 0 || unindexedIterator().hasNext();
+        }
+
+        @Override
+        public String next() {
+            if (nextIndex >= 0) {
+                lastIndex = nextIndex;
+                nextIndex = indexedLineItems.nextSetBit(nextIndex + 1);
+                return lineItemIndex.lineItemIdAt(lastIndex);
+            }
+            if (!unindexedIterator().hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            lastIndex = -1;
+            return unindexedIterator.next();
+        }
+
+        @Override
+        public void remove() {
+            if (lastIndex >= 0) {
+                indexedLineItems.clear(lastIndex);
+                lastIndex = -1;
+            } else if (unindexedIterator != null) {
+                unindexedIterator.remove();
+            } else {
+                throw new IllegalStateException();
+            }
+        }
+
+        private Iterator<String> unindexedIterator() {
+            if (unindexedIterator == null) {
+                unindexedIterator = unindexedLineItemIds != null
+                        ? unindexedLineItemIds.iterator()
+                        : Collections.emptyIterator();
+            }
+            return unindexedIterator;
+        }
+    }
+}
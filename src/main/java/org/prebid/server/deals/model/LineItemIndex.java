@@ -0,0 +1,55 @@
+package org.prebid.server.deals.model;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Dense int index of line item ids, rebuilt by {@link org.prebid.server.deals.LineItemService} when line items are
+ * updated.
+ * <p>
+ * Index is immutable: {@link TxnLog} keeps the one that was current when the auction started, so line items of
+ * in-flight auctions are mapped back to ids by the same table they were recorded with, even if line items are updated
+ * in the meantime.
+ */
+public class LineItemIndex {
+
+    private static final LineItemIndex EMPTY = new LineItemIndex(new String[0]);
+
+    private final String[] lineItemIds;
+
+    private final Map<String, Integer> lineItemIdToIndex;
+
+    private LineItemIndex(String[] lineItemIds) {
+        this.lineItemIds = lineItemIds;
+
+        lineItemIdToIndex = new HashMap<>(lineItemIds.length * 4 / 3 + 1);
+        for (int index = 0; index < lineItemIds.length; index++) {
+            lineItemIdToIndex.put(lineItemIds[index], index);
+        }
+    }
+
+    public static LineItemIndex empty() {
+        return EMPTY;
+    }
+
+    public static LineItemIndex of(Collection<String> lineItemIds) {
+        return new LineItemIndex(lineItemIds.toArray(String[]::new));
+    }
+
+    /**
+     * Returns index of given line item id or -1 if it is not indexed.
+     */
+    public int indexOf(String lineItemId) {
+        final Integer index = lineItemIdToIndex.get(lineItemId);
+        return index != null ? index : -1;
+    }
+
+    public String lineItemIdAt(int index) {
+        return lineItemIds[index];
+    }
+
+    public int size() {
+        return lineItemIds.length;
+    }
+}
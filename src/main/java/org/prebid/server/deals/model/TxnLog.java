@@ -3,54 +3,90 @@ package org.prebid.server.deals.model;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
-import lombok.NoArgsConstructor;
 import lombok.experimental.Accessors;
 import lombok.experimental.FieldDefaults;
 import org.apache.commons.collections4.Factory;
 import org.apache.commons.collections4.MapUtils;
 
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
+/**
+ * Records line item activity of a single auction.
+ * <p>
+ * Line item ids are kept in {@link LineItemIdSet}s by the {@link LineItemIndex} which was current when the auction
+ * started, so recording is a bit set per line item and ids are looked up only when sets are read as ids.
+ */
 @Getter
 @Accessors(fluent = true, chain = true)
-@NoArgsConstructor(staticName = "create")
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 @EqualsAndHashCode
 public class TxnLog {
 
-    Set<String> lineItemsMatchedDomainTargeting = new HashSet<>();
+    @EqualsAndHashCode.Exclude
+    LineItemIndex lineItemIndex;
 
-    Set<String> lineItemsMatchedWholeTargeting = new HashSet<>();
+    Set<String> lineItemsMatchedDomainTargeting;
 
-    Set<String> lineItemsMatchedTargetingFcapped = new HashSet<>();
+    Set<String> lineItemsMatchedWholeTargeting;
 
-    Set<String> lineItemsMatchedTargetingFcapLookupFailed = new HashSet<>();
+    Set<String> lineItemsMatchedTargetingFcapped;
 
-    Set<String> lineItemsReadyToServe = new HashSet<>();
+    Set<String> lineItemsMatchedTargetingFcapLookupFailed;
 
-    Set<String> lineItemsPacingDeferred = new HashSet<>();
+    Set<String> lineItemsReadyToServe;
 
-    Map<String, Set<String>> lineItemsSentToBidder = MapUtils.lazyMap(new HashMap<>(),
-            (Factory<Set<String>>) HashSet::new);
+    Set<String> lineItemsPacingDeferred;
 
-    Map<String, Set<String>> lineItemsSentToBidderAsTopMatch = MapUtils.lazyMap(new HashMap<>(),
-            (Factory<Set<String>>) HashSet::new);
+    Map<String, Set<String>> lineItemsSentToBidder;
 
-    Map<String, Set<String>> lineItemsReceivedFromBidder = MapUtils.lazyMap(new HashMap<>(),
-            (Factory<Set<String>>) HashSet::new);
+    Map<String, Set<String>> lineItemsSentToBidderAsTopMatch;
 
-    Set<String> lineItemsResponseInvalidated = new HashSet<>();
+    Map<String, Set<String>> lineItemsReceivedFromBidder;
 
-    Set<String> lineItemsSentToClient = new HashSet<>();
+    Set<String> lineItemsResponseInvalidated;
 
-    Map<String, Set<String>> lostMatchingToLineItems = MapUtils.lazyMap(new HashMap<>(),
-            (Factory<Set<String>>) HashSet::new);
+    Set<String> lineItemsSentToClient;
 
-    Map<String, Set<String>> lostAuctionToLineItems = MapUtils.lazyMap(new HashMap<>(),
-            (Factory<Set<String>>) HashSet::new);
+    Map<String, Set<String>> lostMatchingToLineItems;
 
-    Set<String> lineItemSentToClientAsTopMatch = new HashSet<>();
+    Map<String, Set<String>> lostAuctionToLineItems;
+
+    Set<String> lineItemSentToClientAsTopMatch;
+
+    private TxnLog(LineItemIndex lineItemIndex) {
+        this.lineItemIndex = Objects.requireNonNull(lineItemIndex);
+
+        lineItemsMatchedDomainTargeting = new LineItemIdSet(lineItemIndex);
+        lineItemsMatchedWholeTargeting = new LineItemIdSet(lineItemIndex);
+        lineItemsMatchedTargetingFcapped = new LineItemIdSet(lineItemIndex);
+        lineItemsMatchedTargetingFcapLookupFailed = new LineItemIdSet(lineItemIndex);
+        lineItemsReadyToServe = new LineItemIdSet(lineItemIndex);
+        lineItemsPacingDeferred = new LineItemIdSet(lineItemIndex);
+        lineItemsSentToBidder = lazyLineItemIdSets(lineItemIndex);
+        lineItemsSentToBidderAsTopMatch = lazyLineItemIdSets(lineItemIndex);
+        lineItemsReceivedFromBidder = lazyLineItemIdSets(lineItemIndex);
+        lineItemsResponseInvalidated = new LineItemIdSet(lineItemIndex);
+        lineItemsSentToClient = new LineItemIdSet(lineItemIndex);
+        lostMatchingToLineItems = lazyLineItemIdSets(lineItemIndex);
+        lostAuctionToLineItems = lazyLineItemIdSets(lineItemIndex);
+        lineItemSentToClientAsTopMatch = new LineItemIdSet(lineItemIndex);
+    }
+
+    /**
+     * Creates transaction log without line item index, all line item ids are kept as they are.
+     */
+    public static TxnLog create() {
+        return new TxnLog(LineItemIndex.empty());
+    }
+
+    public static TxnLog create(LineItemIndex lineItemIndex) {
+        return new TxnLog(lineItemIndex);
+    }
+
+    private static Map<String, Set<String>> lazyLineItemIdSets(LineItemIndex lineItemIndex) {
+        return MapUtils.lazyMap(new HashMap<>(), (Factory<Set<String>>) () -> new LineItemIdSet(lineItemIndex));
+    }
 }
@@ -47,6 +47,7 @@ import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -74,6 +75,13 @@ public class RequestContext {
     private final AttributeReader<Site> siteReader;
     private final AttributeReader<App> appReader;
 
+    private final Map<TargetingCategory, LookupResult<String>> stringLookups = new HashMap<>();
+    private final Map<TargetingCategory, LookupResult<Integer>> integerLookups = new HashMap<>();
+    private final Map<TargetingCategory, LookupResult<List<String>>> stringsLookups = new HashMap<>();
+    private final Map<TargetingCategory, LookupResult<String>> lowerCasedStringLookups = new HashMap<>();
+    private final Map<TargetingCategory, LookupResult<List<String>>> lowerCasedStringsLookups = new HashMap<>();
+    private final Map<TargetingCategory, LookupResult<List<Integer>>> integersLookups = new HashMap<>();
+
     public RequestContext(BidRequest bidRequest,
                           Imp imp,
                           String bidder,
@@ -107,6 +115,10 @@ public class RequestContext {
     }
 
     public LookupResult<String> lookupString(TargetingCategory category) {
+        return stringLookups.computeIfAbsent(category, this::doLookupString);
+    }
+
+    private LookupResult<String> doLookupString(TargetingCategory category) {
         final TargetingCategory.Type type = category.type();
         final String path = category.path();
 
@@ -138,7 +150,20 @@ public class RequestContext {
         };
     }
 
+    /**
+     * Returns the same values as {@link #lookupString(TargetingCategory)} but lower-cased, so case-insensitive
+     * expressions of all line items do not convert them on every evaluation.
+     */
+    public LookupResult<String> lookupLowerCasedString(TargetingCategory category) {
+        return lowerCasedStringLookups.computeIfAbsent(category,
+                key -> LookupResult.of(toLowerCase(lookupString(key).getValues())));
+    }
+
     public LookupResult<Integer> lookupInteger(TargetingCategory category) {
+        return integerLookups.computeIfAbsent(category, this::doLookupInteger);
+    }
+
+    private LookupResult<Integer> doLookupInteger(TargetingCategory category) {
         final TargetingCategory.Type type = category.type();
         final String path = category.path();
 
@@ -164,6 +189,10 @@ public class RequestContext {
     }
 
     public LookupResult<List<String>> lookupStrings(TargetingCategory category) {
+        return stringsLookups.computeIfAbsent(category, this::doLookupStrings);
+    }
+
+    private LookupResult<List<String>> doLookupStrings(TargetingCategory category) {
         final TargetingCategory.Type type = category.type();
         final String path = category.path();
 
@@ -185,7 +214,21 @@ public class RequestContext {
         };
     }
 
+    /**
+     * Returns the same values as {@link #lookupStrings(TargetingCategory)} but lower-cased.
+     */
+    public LookupResult<List<String>> lookupLowerCasedStrings(TargetingCategory category) {
+        return lowerCasedStringsLookups.computeIfAbsent(category,
+                key -> LookupResult.of(lookupStrings(key).getValues().stream()
+                        .map(RequestContext::toLowerCase)
+                        .toList()));
+    }
+
     public LookupResult<List<Integer>> lookupIntegers(TargetingCategory category) {
+        return integersLookups.computeIfAbsent(category, this::doLookupIntegers);
+    }
+
+    private LookupResult<List<Integer>> doLookupIntegers(TargetingCategory category) {
         final TargetingCategory.Type type = category.type();
         final String path = category.path();
 
@@ -248,6 +291,10 @@ public class RequestContext {
                 .toList();
     }
 
+    private static List<String> toLowerCase(List<String> values) {
+        return values.stream().map(String::toLowerCase).toList();
+    }
+
     private static <S, T> T getIfNotNull(S source, Function<S, T> getter) {
         return source != null ? getter.apply(source) : null;
     }
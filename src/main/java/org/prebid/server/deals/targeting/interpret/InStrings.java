@@ -20,12 +20,10 @@ public class InStrings extends In<String> {
     @Override
     public LookupResult<String> lookupActualValue(RequestContext context) {
         final List<String> actualValue = firstNonEmpty(
-                () -> context.lookupString(category).getValues(),
+                () -> context.lookupLowerCasedString(category).getValues(),
                 () -> lookupIntegerAsString(context));
 
-        return actualValue != null
-                ? LookupResult.of(actualValue.stream().map(String::toLowerCase).toList())
-                : LookupResult.empty();
+        return actualValue != null ? LookupResult.of(actualValue) : LookupResult.empty();
     }
 
     private List<String> lookupIntegerAsString(RequestContext context) {
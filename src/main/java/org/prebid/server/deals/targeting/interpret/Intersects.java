@@ -6,19 +6,21 @@ import org.prebid.server.deals.targeting.model.LookupResult;
 import org.prebid.server.deals.targeting.syntax.TargetingCategory;
 
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 @EqualsAndHashCode
 public abstract class Intersects<T> implements TerminalExpression {
 
     protected final TargetingCategory category;
 
-    protected List<T> values;
+    protected final Set<T> values;
 
     public Intersects(TargetingCategory category, List<T> values) {
         this.category = Objects.requireNonNull(category);
-        this.values = Collections.unmodifiableList(values);
+        this.values = Collections.unmodifiableSet(new HashSet<>(values));
     }
 
     @Override
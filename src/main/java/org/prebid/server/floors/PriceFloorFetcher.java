@@ -59,6 +59,7 @@ public class PriceFloorFetcher {
     private final HttpClient httpClient;
     private final JacksonMapper mapper;
     private final PriceFloorDebugProperties debugProperties;
+    private final PriceFloorRuleMatcher priceFloorRuleMatcher;
 
     private final Set<String> fetchInProgress;
     private final Map<String, AccountFetchContext> fetchedData;
@@ -69,7 +70,8 @@ public class PriceFloorFetcher {
                              TimeoutFactory timeoutFactory,
                              HttpClient httpClient,
                              PriceFloorDebugProperties debugProperties,
-                             JacksonMapper mapper) {
+                             JacksonMapper mapper,
+                             PriceFloorRuleMatcher priceFloorRuleMatcher) {
 
         this.applicationSettings = Objects.requireNonNull(applicationSettings);
         this.metrics = Objects.requireNonNull(metrics);
@@ -78,6 +80,7 @@ public class PriceFloorFetcher {
         this.httpClient = Objects.requireNonNull(httpClient);
         this.debugProperties = debugProperties;
         this.mapper = Objects.requireNonNull(mapper);
+        this.priceFloorRuleMatcher = Objects.requireNonNull(priceFloorRuleMatcher);
 
         fetchInProgress = new ConcurrentHashSet<>();
         fetchedData = Caffeine.newBuilder()
@@ -227,6 +230,7 @@ public class PriceFloorFetcher {
                 AccountFetchContext.of(cacheInfo.getRulesData(), cacheInfo.getFetchStatus(), maxAgeTimerId);
 
         if (cacheInfo.getFetchStatus() == FetchStatus.success || !fetchedData.containsKey(accountId)) {
+            priceFloorRuleMatcher.compile(fetchContext.getRulesData());
             fetchedData.put(accountId, fetchContext);
         }
 
@@ -0,0 +1,62 @@
+package org.prebid.server.floors;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.collections4.MapUtils;
+import org.apache.commons.lang3.ObjectUtils;
+import org.prebid.server.floors.model.PriceFloorData;
+import org.prebid.server.floors.model.PriceFloorModelGroup;
+import org.prebid.server.floors.model.PriceFloorSchema;
+import org.prebid.server.util.ObjectUtil;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps {@link PriceFloorRuleTrie} compiled for {@link PriceFloorModelGroup}s.
+ * <p>
+ * Model groups are compared by identity and held weakly, so compiled rules live as long as fetched
+ * or request floors data they were built from.
+ */
+public class PriceFloorRuleMatcher {
+
+    private static final String SCHEMA_DEFAULT_DELIMITER = "|";
+
+    private final Map<PriceFloorModelGroup, PriceFloorRuleTrie> compiledRules;
+
+    public PriceFloorRuleMatcher() {
+        compiledRules = Caffeine.newBuilder()
+                .weakKeys()
+                .<PriceFloorModelGroup, PriceFloorRuleTrie>build()
+                .asMap();
+    }
+
+    /**
+     * Compiles rules of all model groups of the given {@link PriceFloorData} in advance.
+     */
+    public void compile(PriceFloorData data) {
+        final List<PriceFloorModelGroup> modelGroups = ObjectUtil.getIfNotNull(data, PriceFloorData::getModelGroups);
+        if (CollectionUtils.isNotEmpty(modelGroups)) {
+            modelGroups.forEach(this::getOrCompile);
+        }
+    }
+
+    /**
+     * Returns the best matching rule of the given {@link PriceFloorModelGroup} or null if there is no matching rule.
+     */
+    public PriceFloorRuleTrie.Rule findRule(PriceFloorModelGroup modelGroup, List<List<String>> desiredRuleKey) {
+        return getOrCompile(modelGroup).find(desiredRuleKey);
+    }
+
+    private PriceFloorRuleTrie getOrCompile(PriceFloorModelGroup modelGroup) {
+        return compiledRules.computeIfAbsent(modelGroup, PriceFloorRuleMatcher::compileModelGroup);
+    }
+
+    private static PriceFloorRuleTrie compileModelGroup(PriceFloorModelGroup modelGroup) {
+        final PriceFloorSchema schema = modelGroup.getSchema();
+        final String delimiter = ObjectUtils.defaultIfNull(
+                ObjectUtil.getIfNotNull(schema, PriceFloorSchema::getDelimiter), SCHEMA_DEFAULT_DELIMITER);
+
+        return PriceFloorRuleTrie.compile(MapUtils.emptyIfNull(modelGroup.getValues()), delimiter);
+    }
+}
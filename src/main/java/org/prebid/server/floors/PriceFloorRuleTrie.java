@@ -0,0 +1,163 @@
+package org.prebid.server.floors;
+
+import lombok.Value;
+import org.apache.commons.lang3.StringUtils;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Price floor rules of single model group compiled to trie by rule key segments.
+ * <p>
+ * Finds the most specific rule for the given field values by walking the trie, so candidate rule keys
+ * with all possible wildcard combinations are not built. Among matched rules the one with the least number
+ * of wildcards wins, on equal number the one with wildcards in the rightmost schema fields wins.
+ * <p>
+ * Values of multi-value fields are not combined with each other freely: every value of a field is paired with the
+ * value of the same index of other fields (or with their last value, if they have less values), and only these
+ * pairs of values are matched.
+ */
+public class PriceFloorRuleTrie {
+
+    private static final String WILDCARD_CATCH_ALL = "*";
+
+    private final Node root;
+
+    private PriceFloorRuleTrie(Node root) {
+        this.root = root;
+    }
+
+    public static PriceFloorRuleTrie compile(Map<String, BigDecimal> rules, String delimiter) {
+        final Node root = new Node();
+        for (Map.Entry<String, BigDecimal> rule : rules.entrySet()) {
+            final String ruleKey = rule.getKey().toLowerCase();
+
+            Node node = root;
+            for (String segment : StringUtils.splitByWholeSeparatorPreserveAllTokens(ruleKey, delimiter)) {
+                node = node.children.computeIfAbsent(segment, ignored -> new Node());
+            }
+            node.ruleKey = ruleKey;
+            node.value = rule.getValue();
+        }
+
+        return new PriceFloorRuleTrie(root);
+    }
+
+    /**
+     * Returns the best matching rule for the given field values or null if there is no matching rule.
+     * <p>
+     * Each element of desired rule key holds lower-cased values of corresponding schema field,
+     * single wildcard value means field value is unknown and only wildcard rule can match it.
+     */
+    public Rule find(List<List<String>> desiredRuleKey) {
+        final Match match = new Match();
+        for (List<String> fieldValues : pairFieldValues(desiredRuleKey)) {
+            find(root, 0, fieldValues, 0, 0, match);
+        }
+
+        return match.node != null ? Rule.of(match.node.ruleKey, match.node.value) : null;
+    }
+
+    private static void find(Node node,
+                             int position,
+                             List<String> fieldValues,
+                             int wildcards,
+                             int weight,
+                             Match match) {
+
+        if (match.isBetterOrEqualThan(wildcards, weight)) {
+            return;
+        }
+
+        final int fieldsNumber = fieldValues.size();
+        if (position == fieldsNumber) {
+            if (node.ruleKey != null) {
+                match.update(node, wildcards, weight);
+            }
+            return;
+        }
+
+        final String fieldValue = fieldValues.get(position);
+        if (!WILDCARD_CATCH_ALL.equals(fieldValue)) {
+            final Node child = node.children.get(fieldValue);
+            if (child != null) {
+                find(child, position + 1, fieldValues, wildcards, weight, match);
+            }
+        }
+
+        final Node wildcardChild = node.children.get(WILDCARD_CATCH_ALL);
+        if (wildcardChild != null) {
+            final int wildcardWeight = 1 << (fieldsNumber - position);
+            find(wildcardChild, position + 1, fieldValues, wildcards + 1, weight + wildcardWeight, match);
+        }
+    }
+
+    private static Set<List<String>> pairFieldValues(List<List<String>> desiredRuleKey) {
+        final int maxValuesNumber = desiredRuleKey.stream().mapToInt(List::size).max().orElse(0);
+        if (maxValuesNumber <= 1) {
+            return Collections.singleton(desiredRuleKey.stream().map(values -> values.get(0)).toList());
+        }
+
+        final int fieldsNumber = desiredRuleKey.size();
+        final Set<List<String>> pairedFieldValues = new LinkedHashSet<>();
+        for (int position = 0; position < fieldsNumber; position++) {
+            for (String value : desiredRuleKey.get(position)) {
+                for (int index = 0; index < maxValuesNumber; index++) {
+                    final List<String> fieldValues = new ArrayList<>(fieldsNumber);
+                    for (int field = 0; field < fieldsNumber; field++) {
+                        fieldValues.add(field == position ? value : valueAt(desiredRuleKey.get(field), index));
+                    }
+                    pairedFieldValues.add(fieldValues);
+                }
+            }
+        }
+        return pairedFieldValues;
+    }
+
+    private static String valueAt(List<String> values, int index) {
+        return values.get(Math.min(index, values.size() - 1));
+    }
+
+    @Value(staticConstructor = "of")
+    public static class Rule {
+
+        String key;
+
+        BigDecimal value;
+    }
+
+    private static class Node {
+
+        private final Map<String, Node> children = new HashMap<>();
+
+        private String ruleKey;
+
+        private BigDecimal value;
+    }
+
+    private static class Match {
+
+        private Node node;
+
+        private int wildcards;
+
+        private int weight;
+
+        private boolean isBetterOrEqualThan(int wildcards, int weight) {
+            return node != null
+                    && (this.wildcards < wildcards || (this.wildcards == wildcards && this.weight <= weight));
+        }
+
+        private void update(Node node, int wildcards, int weight) {
+            this.node = node;
+            this.wildcards = wildcards;
+            this.weight = weight;
+        }
+    }
+}
@@ -1,6 +0,0 @@
-package org.prebid.server.floors.model;
-
-public enum DeviceType {
-
-    desktop, phone, tablet
-}
@@ -0,0 +1,112 @@
+package org.prebid.server.geolocation;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import inet.ipaddr.IPAddress;
+import inet.ipaddr.IPAddressString;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.prebid.server.execution.Timeout;
+import org.prebid.server.geolocation.model.GeoInfo;
+import org.prebid.server.metric.Metrics;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wrapper for geo location service with cache of successful lookups.
+ * <p>
+ * Results are cached by network prefix of IP address (/24 for IPv4 and /48 for IPv6), so all addresses
+ * of the same network share the location resolved for the first looked up one.
+ * <p>
+ * Optionally performs lookups missing in cache on worker thread to not block event loop.
+ */
+public class CachingGeoLocationService implements GeoLocationService {
+
+    private static final int IPV4_PREFIX_LENGTH = 24;
+    private static final int IPV6_PREFIX_LENGTH = 48;
+
+    private final GeoLocationService geoLocationService;
+    private final boolean lookupOnWorker;
+    private final Vertx vertx;
+    private final Metrics metrics;
+    private final Clock clock;
+
+    private final Map<String, GeoInfo> cache;
+
+    public CachingGeoLocationService(GeoLocationService geoLocationService,
+                                     int ttlSeconds,
+                                     int size,
+                                     boolean lookupOnWorker,
+                                     Vertx vertx,
+                                     Metrics metrics,
+                                     Clock clock) {
+
+        if (ttlSeconds <= 0 || size <= 0) {
+            throw new IllegalArgumentException("ttl and size must be positive");
+        }
+
+        this.geoLocationService = Objects.requireNonNull(geoLocationService);
+        this.lookupOnWorker = lookupOnWorker;
+        this.vertx = Objects.requireNonNull(vertx);
+        this.metrics = Objects.requireNonNull(metrics);
+        this.clock = Objects.requireNonNull(clock);
+
+        cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .maximumSize(size)
+                .<String, GeoInfo>build()
+                .asMap();
+    }
+
+    @Override
+    public Future<GeoInfo> lookup(String ip, Timeout timeout) {
+        final String prefix = toNetworkPrefix(ip);
+        if (prefix == null) {
+            return geoLocationService.lookup(ip, timeout);
+        }
+
+        final GeoInfo cachedGeoInfo = cache.get(prefix);
+        metrics.updateGeoLocationCacheMetric(cachedGeoInfo != null);
+        if (cachedGeoInfo != null) {
+            return Future.succeededFuture(cachedGeoInfo);
+        }
+
+        final long startTime = clock.millis();
+        return delegateLookup(ip, timeout)
+                .map(geoInfo -> cacheGeoInfo(prefix, geoInfo, startTime));
+    }
+
+    private Future<GeoInfo> delegateLookup(String ip, Timeout timeout) {
+        if (!lookupOnWorker) {
+            return geoLocationService.lookup(ip, timeout);
+        }
+
+        final Promise<GeoInfo> promise = Promise.promise();
+        vertx.<GeoInfo>executeBlocking(
+                blockingPromise -> geoLocationService.lookup(ip, timeout).onComplete(blockingPromise),
+                false,
+                promise);
+        return promise.future();
+    }
+
+    private GeoInfo cacheGeoInfo(String prefix, GeoInfo geoInfo, long startTime) {
+        metrics.updateGeoLocationRequestTime(clock.millis() - startTime);
+        if (geoInfo != null) {
+            cache.put(prefix, geoInfo);
+        }
+        return geoInfo;
+    }
+
+    private static String toNetworkPrefix(String ip) {
+        final IPAddress address = ip != null ? new IPAddressString(ip).getAddress() : null;
+        if (address == null) {
+            return null;
+        }
+
+        final int prefixLength = address.isIPv4() ? IPV4_PREFIX_LENGTH : IPV6_PREFIX_LENGTH;
+        return address.toPrefixBlock(prefixLength).toCanonicalString();
+    }
+}
@@ -0,0 +1,116 @@
+package org.prebid.server.handler;
+
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.ext.web.RoutingContext;
+import org.apache.commons.collections4.ListUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.cache.EmbeddedCacheStore;
+import org.prebid.server.cache.proto.request.BidCacheRequest;
+import org.prebid.server.cache.proto.response.BidCacheResponse;
+import org.prebid.server.json.DecodeException;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.util.HttpUtil;
+
+import java.util.Objects;
+
+/**
+ * Serves creatives of {@link EmbeddedCacheStore} the same way Prebid Cache does: GET request with "uuid" query
+ * parameter.
+ * <p>
+ * Requests for keys that are neither stored locally nor owned by this node are redirected to the owner node.
+ * <p>
+ * POST request with Prebid Cache puts stores them on this node, it is used by other nodes to forward puts
+ * with keys owned by this node.
+ */
+public class EmbeddedCacheHandler implements Handler<RoutingContext> {
+
+    private static final String UUID_PARAMETER = "uuid";
+    private static final String XML_TYPE = "xml";
+    private static final String APPLICATION_XML_CONTENT_TYPE = "application/xml";
+
+    private final EmbeddedCacheStore cacheStore;
+    private final String path;
+    private final JacksonMapper mapper;
+
+    public EmbeddedCacheHandler(EmbeddedCacheStore cacheStore, String path, JacksonMapper mapper) {
+        this.cacheStore = Objects.requireNonNull(cacheStore);
+        this.path = Objects.requireNonNull(path);
+        this.mapper = Objects.requireNonNull(mapper);
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    @Override
+    public void handle(RoutingContext routingContext) {
+        if (routingContext.request().method() == HttpMethod.POST) {
+            handlePut(routingContext);
+        } else {
+            handleGet(routingContext);
+        }
+    }
+
+    private void handlePut(RoutingContext routingContext) {
+        final Buffer body = routingContext.getBody();
+        if (body == null || body.length() == 0) {
+            respondWith(routingContext, HttpResponseStatus.BAD_REQUEST, "Incoming request has no body");
+            return;
+        }
+
+        final BidCacheRequest bidCacheRequest;
+        try {
+            bidCacheRequest = mapper.decodeValue(body, BidCacheRequest.class);
+        } catch (DecodeException e) {
+            respondWith(routingContext, HttpResponseStatus.BAD_REQUEST, "Failed to parse request body");
+            return;
+        }
+
+        final BidCacheResponse response = cacheStore.storeLocally(ListUtils.emptyIfNull(bidCacheRequest.getPuts()));
+        HttpUtil.executeSafely(routingContext, path, httpResponse -> httpResponse
+                .putHeader(HttpUtil.CONTENT_TYPE_HEADER, HttpHeaderValues.APPLICATION_JSON)
+                .end(mapper.encodeToString(response)));
+    }
+
+    private void handleGet(RoutingContext routingContext) {
+        final String uuid = routingContext.request().getParam(UUID_PARAMETER);
+        if (StringUtils.isBlank(uuid)) {
+            respondWith(routingContext, HttpResponseStatus.BAD_REQUEST, "Missing required parameter: uuid");
+            return;
+        }
+
+        // puts are stored by owners of their keys, but content forwarded by node with different ring is served too
+        final EmbeddedCacheStore.CachedValue cachedValue = cacheStore.get(uuid);
+        if (cachedValue == null) {
+            final String owner = cacheStore.ownerOf(uuid);
+            if (owner != null) {
+                HttpUtil.executeSafely(routingContext, path, response -> response
+                        .setStatusCode(HttpResponseStatus.TEMPORARY_REDIRECT.code())
+                        .putHeader(HttpUtil.LOCATION_HEADER,
+                                "%s%s?%s=%s".formatted(owner, path, UUID_PARAMETER, HttpUtil.encodeUrl(uuid)))
+                        .end());
+            } else {
+                respondWith(routingContext, HttpResponseStatus.NOT_FOUND, "No content stored for uuid=" + uuid);
+            }
+            return;
+        }
+
+        final String contentType = XML_TYPE.equals(cachedValue.getType())
+                ? APPLICATION_XML_CONTENT_TYPE
+                : HttpHeaderValues.APPLICATION_JSON.toString();
+
+        HttpUtil.executeSafely(routingContext, path, response -> response
+                .putHeader(HttpUtil.CONTENT_TYPE_HEADER, contentType)
+                .end(Buffer.buffer(cachedValue.getContent())));
+    }
+
+    private void respondWith(RoutingContext routingContext, HttpResponseStatus status, String body) {
+        HttpUtil.executeSafely(routingContext, path, response -> response
+                .setStatusCode(status.code())
+                .end(body));
+    }
+}
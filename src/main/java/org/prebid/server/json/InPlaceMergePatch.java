@@ -0,0 +1,68 @@
+package org.prebid.server.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Applies JSON merge patch (RFC 7396) in a single pass without copying the target document.
+ * <p>
+ * Unlike {@link com.github.fge.jsonpatch.mergepatch.JsonMergePatch} it does not build intermediate patch structure
+ * and does not deep copy the target. Instead, the patch node is turned into the merge result in place and the
+ * target subtrees untouched by the patch are linked into the result as is.
+ * <p>
+ * As a consequence, the patch node must be exclusively owned by the caller (e.g. just created by
+ * {@code valueToTree}), the target node is never modified and the result must be treated as read-only
+ * since it may share nodes with the target.
+ */
+public final class InPlaceMergePatch {
+
+    private InPlaceMergePatch() {
+    }
+
+    /**
+     * Returns result of applying given patch to the target.
+     */
+    public static JsonNode apply(JsonNode patch, JsonNode target) {
+        if (patch == null || !patch.isObject()) {
+            return patch;
+        }
+
+        final ObjectNode patchObject = (ObjectNode) patch;
+        final JsonNode targetObject = target != null && target.isObject() ? target : null;
+
+        Set<String> removedFields = null;
+        final Iterator<Map.Entry<String, JsonNode>> patchFields = patchObject.fields();
+        while (patchFields.hasNext()) {
+            final Map.Entry<String, JsonNode> field = patchFields.next();
+            final JsonNode value = field.getValue();
+
+            if (value.isNull()) {
+                patchFields.remove();
+                if (targetObject != null && targetObject.has(field.getKey())) {
+                    removedFields = removedFields != null ? removedFields : new HashSet<>();
+                    removedFields.add(field.getKey());
+                }
+            } else if (value.isObject()) {
+                apply(value, targetObject != null ? targetObject.get(field.getKey()) : null);
+            }
+        }
+
+        if (targetObject != null) {
+            final Iterator<Map.Entry<String, JsonNode>> targetFields = targetObject.fields();
+            while (targetFields.hasNext()) {
+                final Map.Entry<String, JsonNode> field = targetFields.next();
+                final String name = field.getKey();
+                if (!patchObject.has(name) && (removedFields == null || !removedFields.contains(name))) {
+                    patchObject.set(name, field.getValue());
+                }
+            }
+        }
+
+        return patchObject;
+    }
+}
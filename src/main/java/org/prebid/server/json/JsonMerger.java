@@ -24,21 +24,27 @@ public class JsonMerger {
      * with reason message.
      */
     public <T> T merge(T originalObject, String storedData, String id, Class<T> classToCast) {
-        final JsonNode originJsonNode = mapper.mapper().valueToTree(originalObject);
         final JsonNode storedRequestJsonNode;
         try {
             storedRequestJsonNode = mapper.mapper().readTree(storedData);
         } catch (IOException e) {
             throw new InvalidRequestException("Can't parse Json for stored request with id " + id);
         }
+        return merge(originalObject, storedRequestJsonNode, id, classToCast);
+    }
+
+    /**
+     * Merges passed object with already parsed stored data and cast it to appropriate class.
+     * Stored data node is left untouched, so it can be safely shared between requests.
+     * In case of any exception during merging, throws {@link InvalidRequestException} with reason message.
+     */
+    public <T> T merge(T originalObject, JsonNode storedRequestJsonNode, String id, Class<T> classToCast) {
+        final JsonNode originJsonNode = mapper.mapper().valueToTree(originalObject);
         try {
             // Http request fields have higher priority and will override fields from stored requests
             // in case they have different values
-            return mapper.mapper().treeToValue(JsonMergePatch.fromJson(originJsonNode).apply(storedRequestJsonNode),
+            return mapper.mapper().treeToValue(InPlaceMergePatch.apply(originJsonNode, storedRequestJsonNode),
                     classToCast);
-        } catch (JsonPatchException e) {
-            throw new InvalidRequestException(
-                    "Couldn't create merge patch from origin object node for id %s: %s".formatted(id, e.getMessage()));
         } catch (JsonProcessingException e) {
             throw new InvalidRequestException(
                     "Can't convert merging result for id %s: %s".formatted(id, e.getMessage()));
@@ -53,11 +59,8 @@ public class JsonMerger {
         final JsonNode originJsonNode = mapper.mapper().valueToTree(originalObject);
         final JsonNode mergingObjectJsonNode = mapper.mapper().valueToTree(mergingObject);
         try {
-            final JsonNode mergedNode = JsonMergePatch.fromJson(originJsonNode).apply(mergingObjectJsonNode);
+            final JsonNode mergedNode = InPlaceMergePatch.apply(originJsonNode, mergingObjectJsonNode);
             return mapper.mapper().treeToValue(mergedNode, classToCast);
-        } catch (JsonPatchException e) {
-            throw new InvalidRequestException(
-                    "Couldn't create merge patch for objects with class " + classToCast.getName());
         } catch (JsonProcessingException e) {
             throw new InvalidRequestException("Can't convert merging result class " + classToCast.getName());
         }
@@ -24,7 +24,8 @@ public final class ObjectMapperProvider {
                 .registerModule(new ZonedDateTimeModule())
                 .registerModule(new MissingJsonNodeModule())
                 .registerModule(new ZonedDateTimeModule())
-                .registerModule(new LongAdderModule());
+                .registerModule(new LongAdderModule())
+                .registerModule(new SharedFragmentModule());
     }
 
     private ObjectMapperProvider() {
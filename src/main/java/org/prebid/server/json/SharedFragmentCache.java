@@ -0,0 +1,90 @@
+package org.prebid.server.json;
+
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import lombok.Value;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Auction scoped cache of encoded request subtrees, used by {@link SharedFragmentModule}.
+ * <p>
+ * Bidder requests of the same auction share most of their subtrees (site, app, device, etc.) by reference, so JSON
+ * of each such subtree is kept by identity of the instance and written as is to all bidder requests of the auction.
+ * Subtree modified for particular bidder is a different instance and encoded on its own.
+ * <p>
+ * Cache is available to encoding only while an action passed to {@link #use(Supplier)} runs on the current thread,
+ * so it should wrap synchronous creation of bidder requests that happens after the auction request is fully built.
+ */
+public class SharedFragmentCache {
+
+    private static final ThreadLocal<SharedFragmentCache> ACTIVE_CACHE = new ThreadLocal<>();
+
+    private static final SharedFragmentCache NO_CACHE = new SharedFragmentCache(null);
+
+    private final Map<Object, Fragment> fragments;
+
+    private SharedFragmentCache(Map<Object, Fragment> fragments) {
+        this.fragments = fragments;
+    }
+
+    public static SharedFragmentCache create() {
+        return new SharedFragmentCache(Collections.synchronizedMap(new IdentityHashMap<>()));
+    }
+
+    public static SharedFragmentCache noCache() {
+        return NO_CACHE;
+    }
+
+    /**
+     * Runs the given action making this cache available to encoding performed by it on the current thread.
+     */
+    public <T> T use(Supplier<T> action) {
+        if (fragments == null) {
+            return action.get();
+        }
+
+        final SharedFragmentCache previous = ACTIVE_CACHE.get();
+        ACTIVE_CACHE.set(this);
+        try {
+            return action.get();
+        } finally {
+            if (previous != null) {
+                ACTIVE_CACHE.set(previous);
+            } else {
+                ACTIVE_CACHE.remove();
+            }
+        }
+    }
+
+    static SharedFragmentCache active() {
+        return ACTIVE_CACHE.get();
+    }
+
+    /**
+     * Returns JSON of the given value encoded with the same serialization config and generator features or null.
+     */
+    SerializableString get(Object value, SerializationConfig config, int featureMask) {
+        final Fragment fragment = fragments.get(value);
+        return fragment != null && fragment.getConfig() == config && fragment.getFeatureMask() == featureMask
+                ? fragment.getJson()
+                : null;
+    }
+
+    void put(Object value, SerializationConfig config, int featureMask, SerializableString json) {
+        fragments.put(value, Fragment.of(config, featureMask, json));
+    }
+
+    @Value(staticConstructor = "of")
+    private static class Fragment {
+
+        SerializationConfig config;
+
+        int featureMask;
+
+        SerializableString json;
+    }
+}
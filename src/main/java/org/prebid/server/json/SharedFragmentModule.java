@@ -0,0 +1,141 @@
+package org.prebid.server.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.iab.openrtb.request.App;
+import com.iab.openrtb.request.Device;
+import com.iab.openrtb.request.Regs;
+import com.iab.openrtb.request.Site;
+import com.iab.openrtb.request.Source;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+/**
+ * Serializes request subtrees that are shared by reference between per-bidder copies of the {@code BidRequest}
+ * only once per auction and writes the pre-encoded JSON to all subsequent outgoing bidder requests.
+ * <p>
+ * Module keeps no state: fragments are taken from {@link SharedFragmentCache} of the auction whose bidder requests
+ * are being created, and outside of it values are serialized as usual.
+ */
+class SharedFragmentModule extends SimpleModule {
+
+    private static final Set<Class<?>> SHARED_TYPES = Set.of(Device.class, Site.class, App.class, Source.class,
+            Regs.class);
+
+    SharedFragmentModule() {
+        setSerializerModifier(new SharedFragmentSerializerModifier());
+    }
+
+    private static class SharedFragmentSerializerModifier extends BeanSerializerModifier {
+
+        @Override
+        public JsonSerializer<?> modifySerializer(SerializationConfig config,
+                                                  BeanDescription beanDesc,
+                                                  JsonSerializer<?> serializer) {
+
+            return SHARED_TYPES.contains(beanDesc.getBeanClass())
+                    ? new SharedFragmentSerializer(serializer)
+                    : serializer;
+        }
+    }
+
+    private static class SharedFragmentSerializer extends JsonSerializer<Object>
+            implements ContextualSerializer, ResolvableSerializer {
+
+        private final JsonSerializer<Object> delegate;
+
+        @SuppressWarnings("unchecked")
+        SharedFragmentSerializer(JsonSerializer<?> delegate) {
+            this.delegate = (JsonSerializer<Object>) delegate;
+        }
+
+        @Override
+        public void serialize(Object value, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+
+            // token buffers (tree conversion) and pretty printed output must get the real structure
+            final SharedFragmentCache cache = SharedFragmentCache.active();
+            final ObjectCodec codec = generator.getCodec();
+            if (cache == null || generator instanceof TokenBuffer || generator.getPrettyPrinter() != null
+                    || provider.getActiveView() != null || !(codec instanceof ObjectMapper)) {
+                delegate.serialize(value, generator, provider);
+                return;
+            }
+
+            // writers of the same mapper may have different settings, so fragment is reused only with the same ones
+            final SerializationConfig config = provider.getConfig();
+            final int featureMask = generator.getFeatureMask();
+            SerializableString fragment = cache.get(value, config, featureMask);
+            if (fragment == null) {
+                fragment = encode(value, (ObjectMapper) codec, generator, provider);
+                cache.put(value, config, featureMask, fragment);
+            }
+            generator.writeRawValue(fragment);
+        }
+
+        private SerializableString encode(Object value,
+                                          ObjectMapper mapper,
+                                          JsonGenerator target,
+                                          SerializerProvider provider) throws IOException {
+
+            final ByteArrayBuilder output = new ByteArrayBuilder();
+            try (JsonGenerator generator = mapper.getFactory().createGenerator(output)) {
+                generator.overrideStdFeatures(target.getFeatureMask(), -1);
+                delegate.serialize(value, generator, provider);
+            }
+            return new SerializedString(new String(output.toByteArray(), StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void serializeWithType(Object value,
+                                      JsonGenerator generator,
+                                      SerializerProvider provider,
+                                      TypeSerializer typeSerializer) throws IOException {
+
+            delegate.serializeWithType(value, generator, provider, typeSerializer);
+        }
+
+        @Override
+        public boolean isEmpty(SerializerProvider provider, Object value) {
+            return delegate.isEmpty(provider, value);
+        }
+
+        @Override
+        public Class<Object> handledType() {
+            return delegate.handledType();
+        }
+
+        @Override
+        public void resolve(SerializerProvider provider) throws JsonMappingException {
+            if (delegate instanceof ResolvableSerializer) {
+                ((ResolvableSerializer) delegate).resolve(provider);
+            }
+        }
+
+        @Override
+        public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
+                throws JsonMappingException {
+
+            final JsonSerializer<?> contextual = provider.handlePrimaryContextualization(delegate, property);
+            return contextual == delegate ? this : new SharedFragmentSerializer(contextual);
+        }
+    }
+}
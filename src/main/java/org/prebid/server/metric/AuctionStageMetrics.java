@@ -0,0 +1,25 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.MetricRegistry;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Auction stage profiling metrics support.
+ */
+class AuctionStageMetrics extends UpdatableMetrics {
+
+    AuctionStageMetrics(MetricRegistry metricRegistry, CounterType counterType, String stage) {
+        super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
+                nameCreator(createPrefix(Objects.requireNonNull(stage))));
+    }
+
+    private static String createPrefix(String stage) {
+        return "auction.stage." + stage;
+    }
+
+    private static Function<MetricName, String> nameCreator(String prefix) {
+        return metricName -> "%s.%s".formatted(prefix, metricName);
+    }
+}
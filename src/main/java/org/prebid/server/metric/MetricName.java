@@ -20,12 +20,15 @@ public enum MetricName {
     geolocation_request_time,
     geolocation_successful,
     geolocation_fail,
+    geolocation_cache_hit,
+    geolocation_cache_miss,
 
     // auction
     requests,
     app_requests,
     no_cookie_requests,
     request_time,
+    ortb_conversion_time,
     prices,
     imps_requested,
     imps_banner,
@@ -96,6 +99,8 @@ public enum MetricName {
     in_geo("in-geo"),
     out_geo("out-geo"),
     unknown_geo("unknown-geo"),
+    consent_cache_hit("consent-cache-hit"),
+    consent_cache_miss("consent-cache-miss"),
 
     // vendor list
     missing,
@@ -122,11 +127,33 @@ public enum MetricName {
     // settings cache
     stored_request("stored-request"),
     amp_stored_request("amp-stored-request"),
+    stored_request_tree("stored-request-tree"),
+    stored_imp_tree("stored-imp-tree"),
     account,
     initialize,
     update,
     hit,
     miss,
+    parse_time,
+
+    // http client pools
+    estimated_active,
+    estimated_over_capacity,
+    in_flight,
+
+    // analytics buffer
+    dropped,
+    queue_size,
+    flush_time,
+
+    // prebid cache batching
+    batch_size,
+    batch_request_time,
+
+    // auction profiling
+    wall_time("wall-time"),
+    cpu_time("cpu-time"),
+    allocated_bytes("allocated-bytes"),
 
     // hooks
     call,
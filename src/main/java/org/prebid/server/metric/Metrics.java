@@ -15,6 +15,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BooleanSupplier;
 import java.util.function.Function;
 import java.util.function.LongSupplier;
@@ -38,6 +39,9 @@ public class Metrics extends UpdatableMetrics {
     private final Function<Integer, BidderCardinalityMetrics> bidderCardinalityMetricsCreator;
     private final Function<MetricName, CircuitBreakerMetrics> circuitBreakerMetricsCreator;
     private final Function<MetricName, SettingsCacheMetrics> settingsCacheMetricsCreator;
+    private final Function<String, HttpClientPoolMetrics> httpClientPoolMetricsCreator;
+    private final Function<String, AuctionStageMetrics> auctionStageMetricsCreator;
+    private final Function<String, RequestValidationRuleMetrics> requestValidationRuleMetricsCreator;
     // not thread-safe maps are intentionally used here because it's harmless in this particular case - eventually
     // this all boils down to metrics lookup by underlying metric registry and that operation is guaranteed to be
     // thread-safe
@@ -56,6 +60,9 @@ public class Metrics extends UpdatableMetrics {
     private final TimeoutNotificationMetrics timeoutNotificationMetrics;
     private final CurrencyRatesMetrics currencyRatesMetrics;
     private final Map<MetricName, SettingsCacheMetrics> settingsCacheMetrics;
+    private final Map<String, HttpClientPoolMetrics> httpClientPoolMetrics;
+    private final Map<String, AuctionStageMetrics> auctionStageMetrics;
+    private final Map<String, RequestValidationRuleMetrics> requestValidationRuleMetrics;
     private final HooksMetrics hooksMetrics;
     private final PgMetrics pgMetrics;
 
@@ -78,6 +85,10 @@ public class Metrics extends UpdatableMetrics {
                 metricRegistry, counterType, account);
         circuitBreakerMetricsCreator = type -> new CircuitBreakerMetrics(metricRegistry, counterType, type);
         settingsCacheMetricsCreator = type -> new SettingsCacheMetrics(metricRegistry, counterType, type);
+        httpClientPoolMetricsCreator = name -> new HttpClientPoolMetrics(metricRegistry, counterType, name);
+        auctionStageMetricsCreator = stage -> new AuctionStageMetrics(metricRegistry, counterType, stage);
+        requestValidationRuleMetricsCreator = rule ->
+                new RequestValidationRuleMetrics(metricRegistry, counterType, rule);
         requestMetrics = new EnumMap<>(MetricName.class);
         accountMetrics = new HashMap<>();
         adapterMetrics = new HashMap<>();
@@ -93,6 +104,9 @@ public class Metrics extends UpdatableMetrics {
         timeoutNotificationMetrics = new TimeoutNotificationMetrics(metricRegistry, counterType);
         currencyRatesMetrics = new CurrencyRatesMetrics(metricRegistry, counterType);
         settingsCacheMetrics = new HashMap<>();
+        httpClientPoolMetrics = new HashMap<>();
+        auctionStageMetrics = new HashMap<>();
+        requestValidationRuleMetrics = new HashMap<>();
         hooksMetrics = new HooksMetrics(metricRegistry, counterType);
         pgMetrics = new PgMetrics(metricRegistry, counterType);
     }
@@ -125,6 +139,14 @@ public class Metrics extends UpdatableMetrics {
         return priceFloorsMetrics.computeIfAbsent("general", priceFloorsMetricsCreator);
     }
 
+    AuctionStageMetrics forAuctionStage(String stage) {
+        return auctionStageMetrics.computeIfAbsent(stage, auctionStageMetricsCreator);
+    }
+
+    RequestValidationRuleMetrics forRequestValidationRule(String rule) {
+        return requestValidationRuleMetrics.computeIfAbsent(rule, requestValidationRuleMetricsCreator);
+    }
+
     AlertsConfigMetrics configFailedForAccount(String accountId) {
         return alertsMetrics.computeIfAbsent(accountId, alertsMetricsCreator);
     }
@@ -161,6 +183,10 @@ public class Metrics extends UpdatableMetrics {
         return settingsCacheMetrics.computeIfAbsent(type, settingsCacheMetricsCreator);
     }
 
+    HttpClientPoolMetrics forHttpClientPool(String name) {
+        return httpClientPoolMetrics.computeIfAbsent(name, httpClientPoolMetricsCreator);
+    }
+
     HooksMetrics hooks() {
         return hooksMetrics;
     }
@@ -219,6 +245,10 @@ public class Metrics extends UpdatableMetrics {
         updateTimer(requestType, millis);
     }
 
+    public void updateOrtbConversionTime(long nanos) {
+        updateTimer(MetricName.ortb_conversion_time, nanos, TimeUnit.NANOSECONDS);
+    }
+
     public void updateRequestTypeMetric(MetricName requestType, MetricName requestStatus) {
         forRequestType(requestType).incCounter(requestStatus);
     }
@@ -313,6 +343,18 @@ public class Metrics extends UpdatableMetrics {
         forAnalyticReporter(analyticCode).forEventType(eventType).incCounter(result);
     }
 
+    public void updateAnalyticsEventDropped(String analyticCode) {
+        forAnalyticReporter(analyticCode).incCounter(MetricName.dropped);
+    }
+
+    public void updateAnalyticsFlushTime(String analyticCode, long millis) {
+        forAnalyticReporter(analyticCode).updateTimer(MetricName.flush_time, millis);
+    }
+
+    public void createAnalyticsQueueSizeGauge(String analyticCode, LongSupplier queueSizeSupplier) {
+        forAnalyticReporter(analyticCode).createGauge(MetricName.queue_size, queueSizeSupplier);
+    }
+
     public void updatePriceFloorFetchMetric(MetricName result) {
         forPriceFloorFetch().incCounter(result);
     }
@@ -423,6 +465,10 @@ public class Metrics extends UpdatableMetrics {
         privacy().tcf().incCounter(MetricName.invalid);
     }
 
+    public void updatePrivacyTcfConsentCacheMetric(boolean hit) {
+        privacy().tcf().incCounter(hit ? MetricName.consent_cache_hit : MetricName.consent_cache_miss);
+    }
+
     public void updatePrivacyTcfRequestsMetric(int version) {
         final UpdatableMetrics versionMetrics = privacy().tcf().fromVersion(version);
         versionMetrics.incCounter(MetricName.requests);
@@ -482,6 +528,17 @@ public class Metrics extends UpdatableMetrics {
         forCircuitBreakerType(MetricName.http).forName(name).removeMetric(MetricName.opened);
     }
 
+    public void createHttpClientPoolGauges(String poolName,
+                                           LongSupplier estimatedActiveSupplier,
+                                           LongSupplier estimatedOverCapacitySupplier,
+                                           LongSupplier inFlightSupplier) {
+
+        final HttpClientPoolMetrics poolMetrics = forHttpClientPool(poolName);
+        poolMetrics.createGauge(MetricName.estimated_active, estimatedActiveSupplier);
+        poolMetrics.createGauge(MetricName.estimated_over_capacity, estimatedOverCapacitySupplier);
+        poolMetrics.createGauge(MetricName.in_flight, inFlightSupplier);
+    }
+
     public void createHttpClientCircuitBreakerNumberGauge(LongSupplier numberSupplier) {
         forCircuitBreakerType(MetricName.http).createGauge(MetricName.existing, numberSupplier);
     }
@@ -547,6 +604,14 @@ public class Metrics extends UpdatableMetrics {
         }
     }
 
+    public void updateGeoLocationCacheMetric(boolean hit) {
+        incCounter(hit ? MetricName.geolocation_cache_hit : MetricName.geolocation_cache_miss);
+    }
+
+    public void updateGeoLocationRequestTime(long millis) {
+        updateTimer(MetricName.geolocation_request_time, millis);
+    }
+
     public void createGeoLocationCircuitBreakerGauge(BooleanSupplier stateSupplier) {
         forCircuitBreakerType(MetricName.geo)
                 .createGauge(MetricName.opened, () -> stateSupplier.getAsBoolean() ? 1 : 0);
@@ -578,6 +643,14 @@ public class Metrics extends UpdatableMetrics {
         forAccount(accountId).cache().requests().updateTimer(MetricName.err, timeElapsed);
     }
 
+    public void updateCacheBatchSize(int batchSize) {
+        cache().updateHistogram(MetricName.batch_size, batchSize);
+    }
+
+    public void updateCacheBatchRequestTime(long timeElapsed) {
+        cache().updateTimer(MetricName.batch_request_time, timeElapsed);
+    }
+
     public void updateCacheCreativeSize(String accountId, int creativeSize, MetricName creativeType) {
         cache().creativeSize().updateHistogram(creativeType, creativeSize);
         forAccount(accountId).cache().creativeSize().updateHistogram(creativeType, creativeSize);
@@ -607,6 +680,29 @@ public class Metrics extends UpdatableMetrics {
         forSettingsCacheType(cacheType).incCounter(event);
     }
 
+    public void updateSettingsCacheParseTime(MetricName cacheType, long parseTimeMicros) {
+        forSettingsCacheType(cacheType).updateHistogram(MetricName.parse_time, parseTimeMicros);
+    }
+
+    /**
+     * Updates profiling histograms of the auction stage. Negative CPU time or allocated bytes
+     * mean the measurement is not supported by JVM and are skipped.
+     */
+    public void updateAuctionStageMetrics(String stage, long wallTimeMicros, long cpuTimeMicros, long allocatedBytes) {
+        final AuctionStageMetrics stageMetrics = forAuctionStage(stage);
+        stageMetrics.updateHistogram(MetricName.wall_time, wallTimeMicros);
+        if (cpuTimeMicros >= 0) {
+            stageMetrics.updateHistogram(MetricName.cpu_time, cpuTimeMicros);
+        }
+        if (allocatedBytes >= 0) {
+            stageMetrics.updateHistogram(MetricName.allocated_bytes, allocatedBytes);
+        }
+    }
+
+    public void updateRequestValidationRuleTime(String rule, long wallTimeMicros) {
+        forRequestValidationRule(rule).updateHistogram(MetricName.wall_time, wallTimeMicros);
+    }
+
     public void updateHooksMetrics(
             String moduleCode,
             Stage stage,
@@ -0,0 +1,25 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.MetricRegistry;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Request validation rule metrics support.
+ */
+class RequestValidationRuleMetrics extends UpdatableMetrics {
+
+    RequestValidationRuleMetrics(MetricRegistry metricRegistry, CounterType counterType, String rule) {
+        super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
+                nameCreator(createPrefix(Objects.requireNonNull(rule))));
+    }
+
+    private static String createPrefix(String rule) {
+        return "requests.validation." + rule;
+    }
+
+    private static Function<MetricName, String> nameCreator(String prefix) {
+        return metricName -> "%s.%s".formatted(prefix, metricName);
+    }
+}
@@ -51,7 +51,14 @@ class UpdatableMetrics {
      * Updates metric's timer with a given value.
      */
     void updateTimer(MetricName metricName, long millis) {
-        metricRegistry.timer(name(metricName)).update(millis, TimeUnit.MILLISECONDS);
+        updateTimer(metricName, millis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Updates metric's timer with a given value in given time unit.
+     */
+    void updateTimer(MetricName metricName, long duration, TimeUnit unit) {
+        metricRegistry.timer(name(metricName)).update(duration, unit);
     }
 
     /**
@@ -1,5 +1,6 @@
 package org.prebid.server.privacy.gdpr;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.iabtcf.decoder.TCString;
 import io.vertx.core.Future;
 import io.vertx.core.logging.Logger;
@@ -57,6 +58,7 @@ public class TcfDefinerService {
     private final boolean consentStringMeansInScope;
     private final Tcf2Service tcf2Service;
     private final Set<String> eeaCountries;
+    private final Map<String, TCString> decodedConsents;
     private final GeoLocationService geoLocationService;
     private final BidderCatalog bidderCatalog;
     private final IpAddressHelper ipAddressHelper;
@@ -64,6 +66,7 @@ public class TcfDefinerService {
 
     public TcfDefinerService(GdprConfig gdprConfig,
                              Set<String> eeaCountries,
+                             int consentCacheSize,
                              Tcf2Service tcf2Service,
                              GeoLocationService geoLocationService,
                              BidderCatalog bidderCatalog,
@@ -76,6 +79,9 @@ public class TcfDefinerService {
                 && BooleanUtils.isTrue(gdprConfig.getConsentStringMeansInScope());
         this.tcf2Service = Objects.requireNonNull(tcf2Service);
         this.eeaCountries = Objects.requireNonNull(eeaCountries);
+        this.decodedConsents = consentCacheSize > 0
+                ? Caffeine.newBuilder().maximumSize(consentCacheSize).<String, TCString>build().asMap()
+                : null;
         this.geoLocationService = geoLocationService;
         this.bidderCatalog = Objects.requireNonNull(bidderCatalog);
         this.ipAddressHelper = Objects.requireNonNull(ipAddressHelper);
@@ -343,7 +349,7 @@ public class TcfDefinerService {
 
     private TCString decodeTcString(String consentString, RequestLogInfo requestLogInfo, List<String> warnings) {
         try {
-            return TCString.decode(consentString);
+            return decodedConsents != null ? decodeCached(consentString) : TCString.decode(consentString);
         } catch (Exception e) {
             logWarn(consentString, e.getMessage(), requestLogInfo);
             warnings.add("Parsing consent string:\"%s\" - failed. %s".formatted(consentString, e.getMessage()));
@@ -351,6 +357,43 @@ public class TcfDefinerService {
         }
     }
 
+    /**
+     * Returns decoded {@link TCString} from cache or decodes and caches it. Only successfully decoded
+     * consent strings are cached, so invalid ones are reported by each request.
+     */
+    private TCString decodeCached(String consentString) {
+        final TCString cached = decodedConsents.get(consentString);
+        metrics.updatePrivacyTcfConsentCacheMetric(cached != null);
+        if (cached != null) {
+            return cached;
+        }
+
+        final TCString decoded = warmUp(TCString.decode(consentString));
+        decodedConsents.put(consentString, decoded);
+        return decoded;
+    }
+
+    /**
+     * Decoder parses sections of {@link TCString} lazily on first access, which is not safe for the instance
+     * shared between requests, so all sections used by enforcement are parsed before caching.
+     * TCF version 1 strings are treated as corrupted and their sections are never accessed.
+     */
+    private static TCString warmUp(TCString tcString) {
+        if (tcString.getVersion() != 2) {
+            return tcString;
+        }
+
+        tcString.getVendorListVersion();
+        tcString.getPurposeOneTreatment();
+        tcString.getPurposesConsent();
+        tcString.getPurposesLITransparency();
+        tcString.getSpecialFeatureOptIns();
+        tcString.getVendorConsent();
+        tcString.getVendorLegitimateInterest();
+        tcString.getPublisherRestrictions();
+        return tcString;
+    }
+
     private static void logWarn(String consent, String message, RequestLogInfo requestLogInfo) {
         if (requestLogInfo == null || requestLogInfo.getRequestType() == null) {
             final String exceptionMessage = "Parsing consent string:\"%s\" failed for undefined type with exception %s"
@@ -0,0 +1,26 @@
+package org.prebid.server.proto.openrtb.ext.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Value;
+
+/**
+ * Defines the contract for bidresponse.ext.debug.profile.{stage}
+ */
+@Value(staticConstructor = "of")
+public class ExtDebugStageProfile {
+
+    @JsonProperty("walltimeus")
+    Long wallTimeMicros;
+
+    /**
+     * Absent if thread CPU time measurement is not supported by JVM.
+     */
+    @JsonProperty("cputimeus")
+    Long cpuTimeMicros;
+
+    /**
+     * Absent if thread allocation measurement is not supported by JVM.
+     */
+    @JsonProperty("allocatedbytes")
+    Long allocatedBytes;
+}
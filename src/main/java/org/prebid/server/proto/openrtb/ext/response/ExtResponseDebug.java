@@ -33,4 +33,9 @@ public class ExtResponseDebug {
      * Defines the contract for bidresponse.ext.debug.trace
      */
     ExtDebugTrace trace;
+
+    /**
+     * Defines the contract for bidresponse.ext.debug.profile
+     */
+    Map<String, ExtDebugStageProfile> profile;
 }
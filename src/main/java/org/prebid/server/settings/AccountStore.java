@@ -0,0 +1,101 @@
+package org.prebid.server.settings;
+
+import lombok.Value;
+import org.prebid.server.settings.model.Account;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Versioned store of accounts kept in sync with the source of truth by periodic refresh.
+ * <p>
+ * Accounts are kept in immutable map which is replaced atomically by every update, so lookups never block
+ * and never observe partially applied update. Entries are not subject to expiration, they stay in the store
+ * until deleted by the source of truth or invalidated.
+ * <p>
+ * Updated account reuses sub-configs of its previous version when they are not changed, so unchanged parts
+ * keep their identity between versions.
+ */
+public class AccountStore {
+
+    private volatile Version current = Version.of(0L, Collections.emptyMap());
+
+    public Account get(String accountId) {
+        return current.getAccounts().get(accountId);
+    }
+
+    public Map<String, Account> accounts() {
+        return current.getAccounts();
+    }
+
+    public long version() {
+        return current.getNumber();
+    }
+
+    /**
+     * Applies given changes as a new version of the store.
+     */
+    public synchronized void update(Map<String, Account> updatedAccounts, Collection<String> deletedAccountIds) {
+        if (updatedAccounts.isEmpty() && deletedAccountIds.isEmpty()) {
+            return;
+        }
+
+        final Map<String, Account> previousAccounts = current.getAccounts();
+        final Map<String, Account> accounts = new HashMap<>(previousAccounts);
+        deletedAccountIds.forEach(accounts::remove);
+        updatedAccounts.forEach((accountId, account) ->
+                accounts.put(accountId, share(previousAccounts.get(accountId), account)));
+
+        swap(accounts);
+    }
+
+    public synchronized void remove(String accountId) {
+        if (current.getAccounts().containsKey(accountId)) {
+            final Map<String, Account> accounts = new HashMap<>(current.getAccounts());
+            accounts.remove(accountId);
+            swap(accounts);
+        }
+    }
+
+    public synchronized void clear() {
+        swap(Collections.emptyMap());
+    }
+
+    private void swap(Map<String, Account> accounts) {
+        current = Version.of(current.getNumber() + 1, Collections.unmodifiableMap(accounts));
+    }
+
+    private static Account share(Account previous, Account account) {
+        if (previous == null || account == null) {
+            return account;
+        }
+        if (previous.equals(account)) {
+            return previous;
+        }
+
+        return account.toBuilder()
+                .auction(reuse(previous.getAuction(), account.getAuction()))
+                .privacy(reuse(previous.getPrivacy(), account.getPrivacy()))
+                .analytics(reuse(previous.getAnalytics(), account.getAnalytics()))
+                .metrics(reuse(previous.getMetrics(), account.getMetrics()))
+                .cookieSync(reuse(previous.getCookieSync(), account.getCookieSync()))
+                .hooks(reuse(previous.getHooks(), account.getHooks()))
+                .ext(reuse(previous.getExt(), account.getExt()))
+                .build();
+    }
+
+    private static <T> T reuse(T previous, T current) {
+        return Objects.equals(previous, current) ? previous : current;
+    }
+
+    @Value(staticConstructor = "of")
+    private static class Version {
+
+        long number;
+
+        Map<String, Account> accounts;
+    }
+}
@@ -18,9 +18,11 @@ import org.prebid.server.settings.model.StoredResponseDataResult;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 
@@ -40,12 +42,15 @@ public class CachingApplicationSettings implements ApplicationSettings {
     private final SettingsCache cache;
     private final SettingsCache ampCache;
     private final SettingsCache videoCache;
+    private final AccountStore accountStore;
     private final Metrics metrics;
+    private final List<AccountInvalidationListener> accountInvalidationListeners = new CopyOnWriteArrayList<>();
 
     public CachingApplicationSettings(ApplicationSettings delegate,
                                       SettingsCache cache,
                                       SettingsCache ampCache,
                                       SettingsCache videoCache,
+                                      AccountStore accountStore,
                                       Metrics metrics,
                                       int ttl,
                                       int size) {
@@ -61,14 +66,21 @@ public class CachingApplicationSettings implements ApplicationSettings {
         this.cache = Objects.requireNonNull(cache);
         this.ampCache = Objects.requireNonNull(ampCache);
         this.videoCache = Objects.requireNonNull(videoCache);
+        this.accountStore = Objects.requireNonNull(accountStore);
         this.metrics = Objects.requireNonNull(metrics);
     }
 
     /**
-     * Retrieves account from cache or delegates it to original fetcher.
+     * Retrieves account from account store, cache or delegates it to original fetcher.
      */
     @Override
     public Future<Account> getAccountById(String accountId, Timeout timeout) {
+        final Account storedAccount = accountStore.get(accountId);
+        if (storedAccount != null) {
+            metrics.updateSettingsCacheEventMetric(MetricName.account, MetricName.hit);
+            return Future.succeededFuture(storedAccount);
+        }
+
         return getFromCacheOrDelegate(
                 accountCache,
                 accountToErrorCache,
@@ -241,16 +253,60 @@ public class CachingApplicationSettings implements ApplicationSettings {
         return idToStoredItem;
     }
 
+    Map<String, Account> getAccountCache() {
+        return accountCache;
+    }
+
+    AccountStore getAccountStore() {
+        return accountStore;
+    }
+
+    /**
+     * Applies accounts changes received from the source of truth. Such accounts are kept until deleted or
+     * invalidated and take precedence over accounts cached on demand.
+     */
+    public void updateAccounts(Map<String, Account> updatedAccounts, Set<String> deletedAccountIds) {
+        accountStore.update(updatedAccounts, deletedAccountIds);
+
+        // stale cached values and lookup errors must not outlive the update
+        updatedAccounts.keySet().forEach(this::evictCachedAccount);
+        deletedAccountIds.forEach(this::evictCachedAccount);
+    }
+
+    private void evictCachedAccount(String accountId) {
+        accountCache.remove(accountId);
+        accountToErrorCache.remove(accountId);
+    }
+
     public void invalidateAccountCache(String accountId) {
+        accountStore.remove(accountId);
         accountCache.remove(accountId);
+        accountInvalidationListeners.forEach(listener -> listener.accountInvalidated(accountId));
         logger.debug("Account with id {0} was invalidated", accountId);
     }
 
     public void invalidateAllAccountCache() {
+        accountStore.clear();
         accountCache.clear();
+        accountInvalidationListeners.forEach(AccountInvalidationListener::allAccountsInvalidated);
         logger.debug("All accounts cache were invalidated");
     }
 
+    /**
+     * Registers listener to be notified when accounts are invalidated, so the source of accounts updates
+     * is able to apply them again.
+     */
+    public void addAccountInvalidationListener(AccountInvalidationListener listener) {
+        accountInvalidationListeners.add(Objects.requireNonNull(listener));
+    }
+
     private static <ANY> void noOp(ANY any) {
     }
+
+    public interface AccountInvalidationListener {
+
+        void accountInvalidated(String accountId);
+
+        void allAccountsInvalidated();
+    }
 }
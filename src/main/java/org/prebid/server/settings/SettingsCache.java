@@ -2,7 +2,6 @@ package org.prebid.server.settings;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
 import org.apache.commons.collections4.MapUtils;
-import org.apache.commons.lang3.ObjectUtils;
 import org.prebid.server.settings.model.StoredItem;
 
 import java.util.Collections;
@@ -28,11 +27,11 @@ public class SettingsCache implements CacheNotificationListener {
         impCache = createCache(ttl, size);
     }
 
-    static <T> Map<String, T> createCache(int ttl, int size) {
+    static <K, T> Map<K, T> createCache(int ttl, int size) {
         return Caffeine.newBuilder()
                 .expireAfterWrite(ttl, TimeUnit.SECONDS)
                 .maximumSize(size)
-                .<String, T>build()
+                .<K, T>build()
                 .asMap();
     }
 
@@ -54,7 +53,9 @@ public class SettingsCache implements CacheNotificationListener {
 
     private static void saveCachedValue(Map<String, Set<StoredItem>> cache,
                                         String accountId, String id, String value) {
-        final Set<StoredItem> values = ObjectUtils.defaultIfNull(cache.get(id), new HashSet<>());
+        // cached sets are never modified, so they can be read outside of event loop, e.g. by settings snapshot
+        final Set<StoredItem> cachedValues = cache.get(id);
+        final Set<StoredItem> values = cachedValues != null ? new HashSet<>(cachedValues) : new HashSet<>();
         values.add(StoredItem.of(accountId, value));
         cache.put(id, values);
     }
@@ -0,0 +1,212 @@
+package org.prebid.server.settings;
+
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import org.apache.commons.collections4.MapUtils;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.settings.model.Account;
+import org.prebid.server.settings.model.SettingsSnapshot;
+import org.prebid.server.settings.model.StoredItem;
+import org.prebid.server.vertx.Initializable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Periodically saves accounts and stored requests/imps kept in memory to the local disk and restores them on startup,
+ * so freshly started instance doesn't serve its first requests with cold caches.
+ * <p>
+ * Snapshot also keeps time of the last successful refresh of each periodic refresh service, so the service
+ * is able to request only changes made after the snapshot instead of fetching all the data again.
+ * <p>
+ * Snapshot is written to temporary file first and then atomically moved to the configured path, so partially
+ * written snapshot is never read.
+ */
+public class SettingsCacheSnapshotter implements Initializable {
+
+    private static final Logger logger = LoggerFactory.getLogger(SettingsCacheSnapshotter.class);
+
+    private static final String STORED_CACHE = "stored";
+    private static final String AMP_CACHE = "amp";
+    private static final String VIDEO_CACHE = "video";
+
+    private final Path path;
+    private final long snapshotPeriod;
+    private final CachingApplicationSettings cachingApplicationSettings;
+    private final SettingsCache settingsCache;
+    private final SettingsCache ampSettingsCache;
+    private final SettingsCache videoSettingsCache;
+    private final Vertx vertx;
+    private final JacksonMapper mapper;
+
+    private final Map<String, Instant> lastModified;
+    private final AtomicBoolean snapshotInProgress;
+
+    public SettingsCacheSnapshotter(String path,
+                                    long snapshotPeriod,
+                                    CachingApplicationSettings cachingApplicationSettings,
+                                    SettingsCache settingsCache,
+                                    SettingsCache ampSettingsCache,
+                                    SettingsCache videoSettingsCache,
+                                    Vertx vertx,
+                                    JacksonMapper mapper) {
+
+        if (snapshotPeriod <= 0) {
+            throw new IllegalArgumentException("snapshot period must be positive");
+        }
+
+        this.path = Paths.get(Objects.requireNonNull(path));
+        this.snapshotPeriod = snapshotPeriod;
+        this.cachingApplicationSettings = Objects.requireNonNull(cachingApplicationSettings);
+        this.settingsCache = Objects.requireNonNull(settingsCache);
+        this.ampSettingsCache = Objects.requireNonNull(ampSettingsCache);
+        this.videoSettingsCache = Objects.requireNonNull(videoSettingsCache);
+        this.vertx = Objects.requireNonNull(vertx);
+        this.mapper = Objects.requireNonNull(mapper);
+
+        lastModified = new ConcurrentHashMap<>();
+        snapshotInProgress = new AtomicBoolean();
+    }
+
+    /**
+     * Fills caches with data from snapshot file, if any. Should be called before server starts accepting requests.
+     * <p>
+     * Missing or corrupted snapshot is not an error, caches just stay empty.
+     */
+    public void restore() {
+        if (!Files.isRegularFile(path)) {
+            logger.info("Settings snapshot {0} not found, starting with empty caches", path);
+            return;
+        }
+
+        final SettingsSnapshot snapshot;
+        try (InputStream input = new GZIPInputStream(Files.newInputStream(path))) {
+            snapshot = mapper.mapper().readValue(input, SettingsSnapshot.class);
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Failed to read settings snapshot {0}, starting with empty caches", e, path);
+            return;
+        }
+
+        MapUtils.emptyIfNull(snapshot.getLastModified())
+                .forEach((source, time) -> lastModified.put(source, Instant.parse(time)));
+
+        final Map<String, Account> accounts = MapUtils.emptyIfNull(snapshot.getAccounts());
+        cachingApplicationSettings.getAccountCache().putAll(accounts);
+
+        final Map<String, Account> refreshedAccounts = MapUtils.emptyIfNull(snapshot.getRefreshedAccounts());
+        cachingApplicationSettings.getAccountStore().update(refreshedAccounts, Collections.emptySet());
+
+        restore(settingsCache, STORED_CACHE, snapshot);
+        restore(ampSettingsCache, AMP_CACHE, snapshot);
+        restore(videoSettingsCache, VIDEO_CACHE, snapshot);
+
+        logger.info("Restored {0} accounts and stored data of {1} sources from settings snapshot {2}",
+                accounts.size() + refreshedAccounts.size(), lastModified.size(), path);
+    }
+
+    private static void restore(SettingsCache cache, String name, SettingsSnapshot snapshot) {
+        final Map<String, Set<StoredItem>> requests = MapUtils.emptyIfNull(snapshot.getRequests()).get(name);
+        if (requests != null) {
+            cache.getRequestCache().putAll(requests);
+        }
+
+        final Map<String, Set<StoredItem>> imps = MapUtils.emptyIfNull(snapshot.getImps()).get(name);
+        if (imps != null) {
+            cache.getImpCache().putAll(imps);
+        }
+    }
+
+    /**
+     * Returns time of the last successful refresh from the given endpoint known to snapshot or null.
+     */
+    public Instant lastModified(String source) {
+        return lastModified.get(source);
+    }
+
+    public void updateLastModified(String source, Instant time) {
+        lastModified.put(source, time);
+    }
+
+    @Override
+    public void initialize() {
+        vertx.setPeriodic(snapshotPeriod, ignored -> snapshot());
+    }
+
+    /**
+     * Collects caches content and writes it to disk on worker thread, so event loop is not blocked by large caches.
+     */
+    void snapshot() {
+        if (!snapshotInProgress.compareAndSet(false, true)) {
+            return;
+        }
+
+        vertx.<Void>executeBlocking(
+                promise -> write(collect(), promise),
+                false,
+                result -> {
+                    snapshotInProgress.set(false);
+                    if (result.failed()) {
+                        logger.warn("Failed to write settings snapshot {0}", result.cause(), path);
+                    }
+                });
+    }
+
+    /**
+     * Caches are concurrent maps which are safe to iterate from worker thread, and their values are never modified
+     * in place, so they are serialized as is without copying.
+     */
+    private SettingsSnapshot collect() {
+        // refresh times go first, so data in snapshot is never older than refresh time restored with it
+        final Map<String, String> sources = new HashMap<>();
+        lastModified.forEach((source, time) -> sources.put(source, time.toString()));
+
+        return SettingsSnapshot.of(
+                sources,
+                cachingApplicationSettings.getAccountCache(),
+                cachingApplicationSettings.getAccountStore().accounts(),
+                Map.of(
+                        STORED_CACHE, settingsCache.getRequestCache(),
+                        AMP_CACHE, ampSettingsCache.getRequestCache(),
+                        VIDEO_CACHE, videoSettingsCache.getRequestCache()),
+                Map.of(
+                        STORED_CACHE, settingsCache.getImpCache(),
+                        AMP_CACHE, ampSettingsCache.getImpCache(),
+                        VIDEO_CACHE, videoSettingsCache.getImpCache()));
+    }
+
+    private void write(SettingsSnapshot snapshot, Promise<Void> promise) {
+        final Path tempPath = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            final Path directory = path.toAbsolutePath().getParent();
+            if (directory != null) {
+                Files.createDirectories(directory);
+            }
+
+            try (OutputStream output = new GZIPOutputStream(Files.newOutputStream(tempPath))) {
+                mapper.mapper().writeValue(output, snapshot);
+            }
+
+            Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            promise.complete();
+        } catch (IOException | RuntimeException e) {
+            promise.fail(e);
+        }
+    }
+}
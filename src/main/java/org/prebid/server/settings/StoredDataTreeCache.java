@@ -0,0 +1,104 @@
+package org.prebid.server.settings;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Value;
+import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.exception.InvalidRequestException;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory cache of already parsed stored requests and imps.
+ * <p>
+ * Keeps {@link JsonNode} per account and stored id, so the same stored data is not parsed again on every auction.
+ * Cached node is reused only while the raw stored data it was parsed from remains the same.
+ * <p>
+ * Returned nodes are shared between requests and must not be modified by callers.
+ */
+public class StoredDataTreeCache {
+
+    private final Map<Key, ParsedStoredItem> requestCache;
+    private final Map<Key, ParsedStoredItem> impCache;
+    private final JacksonMapper mapper;
+    private final Metrics metrics;
+
+    public StoredDataTreeCache(int ttl, int size, JacksonMapper mapper, Metrics metrics) {
+        if (ttl <= 0 || size <= 0) {
+            throw new IllegalArgumentException("ttl and size must be positive");
+        }
+        this.requestCache = SettingsCache.createCache(ttl, size);
+        this.impCache = SettingsCache.createCache(ttl, size);
+        this.mapper = Objects.requireNonNull(mapper);
+        this.metrics = Objects.requireNonNull(metrics);
+    }
+
+    /**
+     * Returns parsed stored request for the given account and id.
+     */
+    public JsonNode getRequestNode(String accountId, String id, String storedData) {
+        return getFromCacheOrParse(requestCache, MetricName.stored_request_tree, accountId, id, storedData);
+    }
+
+    /**
+     * Returns parsed stored imp for the given account and id.
+     */
+    public JsonNode getImpNode(String accountId, String id, String storedData) {
+        return getFromCacheOrParse(impCache, MetricName.stored_imp_tree, accountId, id, storedData);
+    }
+
+    private JsonNode getFromCacheOrParse(Map<Key, ParsedStoredItem> cache,
+                                         MetricName cacheType,
+                                         String accountId,
+                                         String id,
+                                         String storedData) {
+
+        // empty string account ID doesn't make sense
+        final Key key = Key.of(StringUtils.stripToNull(accountId), id);
+
+        final ParsedStoredItem cachedItem = cache.get(key);
+        if (cachedItem != null && Objects.equals(cachedItem.getData(), storedData)) {
+            metrics.updateSettingsCacheEventMetric(cacheType, MetricName.hit);
+            return cachedItem.getNode();
+        }
+
+        metrics.updateSettingsCacheEventMetric(cacheType, MetricName.miss);
+
+        final long startTime = System.nanoTime();
+        final JsonNode node = parse(storedData, id);
+        metrics.updateSettingsCacheParseTime(cacheType, TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startTime));
+
+        cache.put(key, ParsedStoredItem.of(storedData, node));
+
+        return node;
+    }
+
+    private JsonNode parse(String storedData, String id) {
+        try {
+            return mapper.mapper().readTree(storedData);
+        } catch (IOException e) {
+            throw new InvalidRequestException("Can't parse Json for stored request with id " + id);
+        }
+    }
+
+    @Value(staticConstructor = "of")
+    private static class Key {
+
+        String accountId;
+
+        String id;
+    }
+
+    @Value(staticConstructor = "of")
+    private static class ParsedStoredItem {
+
+        String data;
+
+        JsonNode node;
+    }
+}
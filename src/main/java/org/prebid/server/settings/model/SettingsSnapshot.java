@@ -0,0 +1,35 @@
+package org.prebid.server.settings.model;
+
+import lombok.Value;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * On-disk snapshot of in-memory settings caches.
+ */
+@Value(staticConstructor = "of")
+public class SettingsSnapshot {
+
+    /**
+     * Time of the last successful refresh (in rfc3339 format) by refresh endpoint.
+     */
+    Map<String, String> lastModified;
+
+    Map<String, Account> accounts;
+
+    /**
+     * Accounts kept in sync by periodic refresh.
+     */
+    Map<String, Account> refreshedAccounts;
+
+    /**
+     * Stored requests by cache name.
+     */
+    Map<String, Map<String, Set<StoredItem>>> requests;
+
+    /**
+     * Stored imps by cache name.
+     */
+    Map<String, Map<String, Set<StoredItem>>> imps;
+}
@@ -11,6 +11,7 @@ import org.prebid.server.exception.PreBidException;
 import org.prebid.server.json.DecodeException;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.settings.CacheNotificationListener;
+import org.prebid.server.settings.SettingsCacheSnapshotter;
 import org.prebid.server.settings.model.StoredDataType;
 import org.prebid.server.settings.proto.response.HttpRefreshResponse;
 import org.prebid.server.util.HttpUtil;
@@ -57,6 +58,9 @@ import java.util.Objects;
  * <p>
  * To signal deletions, the endpoint may return { "deleted": true }
  * in place of the Stored Data if the "last-modified" param existed.
+ * <p>
+ * If settings snapshot restored on startup contains time of the last refresh from the same endpoint,
+ * the service requests only changes made after that time instead of fetching all the data again.
  */
 public class HttpPeriodicRefreshService implements Initializable {
 
@@ -69,6 +73,7 @@ public class HttpPeriodicRefreshService implements Initializable {
     private final Vertx vertx;
     private final HttpClient httpClient;
     private final JacksonMapper mapper;
+    private final SettingsCacheSnapshotter snapshotter;
 
     private Instant lastUpdateTime;
 
@@ -78,7 +83,8 @@ public class HttpPeriodicRefreshService implements Initializable {
                                       CacheNotificationListener cacheNotificationListener,
                                       Vertx vertx,
                                       HttpClient httpClient,
-                                      JacksonMapper mapper) {
+                                      JacksonMapper mapper,
+                                      SettingsCacheSnapshotter snapshotter) {
 
         this.refreshUrl = HttpUtil.validateUrl(Objects.requireNonNull(refreshUrl));
         this.refreshPeriod = refreshPeriod;
@@ -87,11 +93,19 @@ public class HttpPeriodicRefreshService implements Initializable {
         this.vertx = Objects.requireNonNull(vertx);
         this.httpClient = Objects.requireNonNull(httpClient);
         this.mapper = Objects.requireNonNull(mapper);
+        this.snapshotter = snapshotter;
     }
 
     @Override
     public void initialize() {
-        getAll();
+        final Instant snapshotUpdateTime = snapshotter != null ? snapshotter.lastModified(refreshUrl) : null;
+        if (snapshotUpdateTime != null) {
+            lastUpdateTime = snapshotUpdateTime;
+            refresh();
+        } else {
+            getAll();
+        }
+
         if (refreshPeriod > 0) {
             vertx.setPeriodic(refreshPeriod, aLong -> refresh());
         }
@@ -116,6 +130,9 @@ public class HttpPeriodicRefreshService implements Initializable {
 
     private Void setLastUpdateTime(Instant instant) {
         lastUpdateTime = instant;
+        if (snapshotter != null) {
+            snapshotter.updateLastModified(refreshUrl, instant);
+        }
         return null;
     }
 
@@ -6,6 +6,7 @@ import lombok.NoArgsConstructor;
 import org.apache.commons.collections4.ListUtils;
 import org.prebid.server.analytics.AnalyticsReporter;
 import org.prebid.server.analytics.reporter.AnalyticsReporterDelegator;
+import org.prebid.server.analytics.reporter.BufferedAnalyticsReporter;
 import org.prebid.server.analytics.reporter.log.LogAnalyticsReporter;
 import org.prebid.server.analytics.reporter.pubstack.PubstackAnalyticsReporter;
 import org.prebid.server.analytics.reporter.pubstack.model.PubstackAnalyticsProperties;
@@ -21,7 +22,9 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.validation.annotation.Validated;
 
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
+import java.time.Clock;
 import java.util.List;
 
 @Configuration
@@ -30,19 +33,74 @@ public class AnalyticsConfiguration {
     @Bean
     AnalyticsReporterDelegator analyticsReporterDelegator(
             @Autowired(required = false) List<AnalyticsReporter> delegates,
+            AnalyticsBufferProperties analyticsBufferProperties,
             Vertx vertx,
             PrivacyEnforcementService privacyEnforcementService,
             Metrics metrics,
+            Clock clock,
             @Value("${logging.sampling-rate:0.01}") double logSamplingRate) {
 
+        final List<AnalyticsReporter> reporters = ListUtils.emptyIfNull(delegates);
+
         return new AnalyticsReporterDelegator(
                 logSamplingRate,
-                ListUtils.emptyIfNull(delegates),
+                analyticsBufferProperties.getEnabled()
+                        ? bufferedReporters(reporters, analyticsBufferProperties, vertx, metrics, clock)
+                        : reporters,
                 vertx,
                 privacyEnforcementService,
                 metrics);
     }
 
+    private static List<AnalyticsReporter> bufferedReporters(List<AnalyticsReporter> reporters,
+                                                             AnalyticsBufferProperties properties,
+                                                             Vertx vertx,
+                                                             Metrics metrics,
+                                                             Clock clock) {
+
+        return reporters.stream()
+                .map(reporter -> (AnalyticsReporter) new BufferedAnalyticsReporter(
+                        reporter,
+                        properties.getCapacity(),
+                        properties.getBatchSize(),
+                        properties.getFlushIntervalMs(),
+                        properties.getOverflowPolicy(),
+                        vertx,
+                        metrics,
+                        clock))
+                .toList();
+    }
+
+    @Bean
+    @ConfigurationProperties(prefix = "analytics.buffer")
+    AnalyticsBufferProperties analyticsBufferProperties() {
+        return new AnalyticsBufferProperties();
+    }
+
+    @Validated
+    @Data
+    @NoArgsConstructor
+    private static class AnalyticsBufferProperties {
+
+        @NotNull
+        Boolean enabled;
+
+        @NotNull
+        @Min(1)
+        Integer capacity;
+
+        @NotNull
+        @Min(1)
+        Integer batchSize;
+
+        @NotNull
+        @Min(1)
+        Long flushIntervalMs;
+
+        @NotNull
+        BufferedAnalyticsReporter.OverflowPolicy overflowPolicy;
+    }
+
     @Bean
     @ConditionalOnProperty(prefix = "analytics.log", name = "enabled", havingValue = "true")
     LogAnalyticsReporter logAnalyticsReporter(JacksonMapper mapper) {
@@ -26,6 +26,7 @@ import org.prebid.server.deals.Suspendable;
 import org.prebid.server.deals.TargetingService;
 import org.prebid.server.deals.UserService;
 import org.prebid.server.deals.deviceinfo.DeviceInfoService;
+import org.prebid.server.deals.deviceinfo.UserAgentDeviceInfoService;
 import org.prebid.server.deals.events.AdminEventProcessor;
 import org.prebid.server.deals.events.AdminEventService;
 import org.prebid.server.deals.events.ApplicationEventProcessor;
@@ -47,6 +48,7 @@ import org.prebid.server.log.CriteriaManager;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.settings.CachingApplicationSettings;
 import org.prebid.server.settings.SettingsCache;
+import org.prebid.server.useragent.UserAgentClassifier;
 import org.prebid.server.vertx.ContextRunner;
 import org.prebid.server.vertx.http.HttpClient;
 import org.springframework.beans.BeansException;
@@ -606,6 +608,12 @@ public class DealsConfiguration {
             return new DealsBidderRequestCompletionTrackerFactory();
         }
 
+        @Bean
+        @ConditionalOnProperty(prefix = "device-info", name = "type", havingValue = "user-agent")
+        DeviceInfoService userAgentDeviceInfoService(UserAgentClassifier userAgentClassifier) {
+            return new UserAgentDeviceInfoService(userAgentClassifier);
+        }
+
         @Bean
         DealsPopulator dealsPopulator(LineItemService lineItemService,
                                       @Autowired(required = false) DeviceInfoService deviceInfoService,
@@ -4,12 +4,14 @@ import io.vertx.core.Vertx;
 import io.vertx.core.http.HttpClientOptions;
 import lombok.experimental.UtilityClass;
 import org.prebid.server.execution.RemoteFileSyncer;
+import org.prebid.server.geolocation.CachingGeoLocationService;
 import org.prebid.server.geolocation.CircuitBreakerSecuredGeoLocationService;
 import org.prebid.server.geolocation.CountryCodeMapper;
 import org.prebid.server.geolocation.GeoLocationService;
 import org.prebid.server.geolocation.MaxMindGeoLocationService;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.spring.config.model.CircuitBreakerProperties;
+import org.prebid.server.spring.config.model.GeoLocationCacheProperties;
 import org.prebid.server.spring.config.model.HttpClientProperties;
 import org.prebid.server.spring.config.model.RemoteFileSyncerProperties;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -48,13 +50,22 @@ public class GeoLocationConfiguration {
             return new RemoteFileSyncerProperties();
         }
 
+        @Bean
+        @ConfigurationProperties(prefix = "geolocation.cache")
+        GeoLocationCacheProperties geoLocationCacheProperties() {
+            return new GeoLocationCacheProperties();
+        }
+
         @Bean
         @ConditionalOnProperty(prefix = "geolocation.circuit-breaker", name = "enabled", havingValue = "false",
                 matchIfMissing = true)
         GeoLocationService basicGeoLocationService(RemoteFileSyncerProperties fileSyncerProperties,
-                                                   Vertx vertx) {
+                                                   GeoLocationCacheProperties cacheProperties,
+                                                   Vertx vertx,
+                                                   Metrics metrics,
+                                                   Clock clock) {
 
-            return createGeoLocationService(fileSyncerProperties, vertx);
+            return createGeoLocationService(fileSyncerProperties, cacheProperties, vertx, metrics, clock);
         }
 
         @Bean
@@ -63,17 +74,21 @@ public class GeoLocationConfiguration {
                 Vertx vertx,
                 Metrics metrics,
                 RemoteFileSyncerProperties fileSyncerProperties,
+                GeoLocationCacheProperties cacheProperties,
                 @Qualifier("maxMindCircuitBreakerProperties") CircuitBreakerProperties circuitBreakerProperties,
                 Clock clock) {
 
             return new CircuitBreakerSecuredGeoLocationService(vertx,
-                    createGeoLocationService(fileSyncerProperties, vertx), metrics,
+                    createGeoLocationService(fileSyncerProperties, cacheProperties, vertx, metrics, clock), metrics,
                     circuitBreakerProperties.getOpeningThreshold(), circuitBreakerProperties.getOpeningIntervalMs(),
                     circuitBreakerProperties.getClosingIntervalMs(), clock);
         }
 
         private GeoLocationService createGeoLocationService(RemoteFileSyncerProperties fileSyncerProperties,
-                                                            Vertx vertx) {
+                                                            GeoLocationCacheProperties cacheProperties,
+                                                            Vertx vertx,
+                                                            Metrics metrics,
+                                                            Clock clock) {
 
             final HttpClientProperties httpClientProperties = fileSyncerProperties.getHttpClient();
             final HttpClientOptions httpClientOptions = new HttpClientOptions()
@@ -88,7 +103,19 @@ public class GeoLocationConfiguration {
             final MaxMindGeoLocationService maxMindGeoLocationService = new MaxMindGeoLocationService();
 
             remoteFileSyncer.syncForFilepath(maxMindGeoLocationService);
-            return maxMindGeoLocationService;
+
+            if (!cacheProperties.getEnabled()) {
+                return maxMindGeoLocationService;
+            }
+
+            return new CachingGeoLocationService(
+                    maxMindGeoLocationService,
+                    cacheProperties.getTtlSeconds(),
+                    cacheProperties.getSize(),
+                    cacheProperties.getLookupOnWorker(),
+                    vertx,
+                    metrics,
+                    clock);
         }
     }
 
@@ -13,11 +13,13 @@ import org.prebid.server.floors.PriceFloorEnforcer;
 import org.prebid.server.floors.PriceFloorFetcher;
 import org.prebid.server.floors.PriceFloorProcessor;
 import org.prebid.server.floors.PriceFloorResolver;
+import org.prebid.server.floors.PriceFloorRuleMatcher;
 import org.prebid.server.floors.model.PriceFloorDebugProperties;
 import org.prebid.server.geolocation.CountryCodeMapper;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.settings.ApplicationSettings;
+import org.prebid.server.useragent.UserAgentClassifier;
 import org.prebid.server.vertx.http.HttpClient;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -36,7 +38,8 @@ public class PriceFloorsConfiguration {
             TimeoutFactory timeoutFactory,
             HttpClient httpClient,
             PriceFloorDebugProperties debugProperties,
-            JacksonMapper mapper) {
+            JacksonMapper mapper,
+            PriceFloorRuleMatcher priceFloorRuleMatcher) {
 
         return new PriceFloorFetcher(
                 applicationSettings,
@@ -45,7 +48,14 @@ public class PriceFloorsConfiguration {
                 timeoutFactory,
                 httpClient,
                 debugProperties,
-                mapper);
+                mapper,
+                priceFloorRuleMatcher);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "price-floors", name = "enabled", havingValue = "true")
+    PriceFloorRuleMatcher priceFloorRuleMatcher() {
+        return new PriceFloorRuleMatcher();
     }
 
     @Bean
@@ -66,9 +76,17 @@ public class PriceFloorsConfiguration {
     PriceFloorResolver basicPriceFloorResolver(CurrencyConversionService currencyConversionService,
                                                CountryCodeMapper countryCodeMapper,
                                                Metrics metrics,
-                                               JacksonMapper mapper) {
+                                               JacksonMapper mapper,
+                                               UserAgentClassifier userAgentClassifier,
+                                               PriceFloorRuleMatcher priceFloorRuleMatcher) {
 
-        return new BasicPriceFloorResolver(currencyConversionService, countryCodeMapper, metrics, mapper);
+        return new BasicPriceFloorResolver(
+                currencyConversionService,
+                countryCodeMapper,
+                metrics,
+                mapper,
+                userAgentClassifier,
+                priceFloorRuleMatcher);
     }
 
     @Bean
@@ -94,6 +94,7 @@ public class PrivacyServiceConfiguration {
     TcfDefinerService tcfDefinerService(
             GdprConfig gdprConfig,
             @Value("${gdpr.eea-countries}") String eeaCountriesAsString,
+            @Value("${gdpr.consent-cache-size:0}") int consentCacheSize,
             Tcf2Service tcf2Service,
             @Autowired(required = false) GeoLocationService geoLocationService,
             BidderCatalog bidderCatalog,
@@ -105,6 +106,7 @@ public class PrivacyServiceConfiguration {
         return new TcfDefinerService(
                 gdprConfig,
                 eeaCountries,
+                consentCacheSize,
                 tcf2Service,
                 geoLocationService,
                 bidderCatalog,
@@ -5,7 +5,11 @@ import de.malkusch.whoisServerList.publicSuffixList.PublicSuffixListFactory;
 import io.vertx.core.Vertx;
 import io.vertx.core.file.FileSystem;
 import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpVersion;
 import io.vertx.core.net.JksOptions;
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.lang3.BooleanUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.auction.AmpResponsePostProcessor;
 import org.prebid.server.auction.BidResponseCreator;
 import org.prebid.server.auction.BidResponsePostProcessor;
@@ -32,6 +36,7 @@ import org.prebid.server.auction.mediatypeprocessor.BidderMediaTypeProcessor;
 import org.prebid.server.auction.mediatypeprocessor.MediaTypeProcessor;
 import org.prebid.server.auction.mediatypeprocessor.NoOpMediaTypeProcessor;
 import org.prebid.server.auction.privacycontextfactory.AmpPrivacyContextFactory;
+import org.prebid.server.auction.profiling.AuctionProfiler;
 import org.prebid.server.auction.requestfactory.AmpRequestFactory;
 import org.prebid.server.auction.requestfactory.AuctionRequestFactory;
 import org.prebid.server.auction.requestfactory.Ortb2ImplicitParametersResolver;
@@ -45,7 +50,11 @@ import org.prebid.server.bidder.BidderErrorNotifier;
 import org.prebid.server.bidder.BidderRequestCompletionTrackerFactory;
 import org.prebid.server.bidder.HttpBidderRequestEnricher;
 import org.prebid.server.bidder.HttpBidderRequester;
+import org.prebid.server.cache.CacheNodeRing;
 import org.prebid.server.cache.CacheService;
+import org.prebid.server.cache.CacheWriter;
+import org.prebid.server.cache.CoalescingCacheWriter;
+import org.prebid.server.cache.EmbeddedCacheStore;
 import org.prebid.server.cache.model.CacheTtl;
 import org.prebid.server.cookie.UidsCookieService;
 import org.prebid.server.currency.CurrencyConversionService;
@@ -74,10 +83,14 @@ import org.prebid.server.optout.GoogleRecaptchaVerifier;
 import org.prebid.server.privacy.PrivacyExtractor;
 import org.prebid.server.privacy.gdpr.TcfDefinerService;
 import org.prebid.server.settings.ApplicationSettings;
+import org.prebid.server.settings.StoredDataTreeCache;
 import org.prebid.server.settings.model.BidValidationEnforcement;
+import org.prebid.server.spring.config.bidder.model.BidderConfigurationProperties;
+import org.prebid.server.spring.config.bidder.model.BidderHttpClientProperties;
 import org.prebid.server.spring.config.model.ExternalConversionProperties;
 import org.prebid.server.spring.config.model.HttpClientCircuitBreakerProperties;
 import org.prebid.server.spring.config.model.HttpClientProperties;
+import org.prebid.server.useragent.UserAgentClassifier;
 import org.prebid.server.util.VersionInfo;
 import org.prebid.server.validation.BidderParamValidator;
 import org.prebid.server.validation.RequestValidator;
@@ -88,6 +101,8 @@ import org.prebid.server.version.PrebidVersionProvider;
 import org.prebid.server.vertx.http.BasicHttpClient;
 import org.prebid.server.vertx.http.CircuitBreakerSecuredHttpClient;
 import org.prebid.server.vertx.http.HttpClient;
+import org.prebid.server.vertx.http.HttpClientPool;
+import org.prebid.server.vertx.http.HttpClientPoolRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
@@ -100,9 +115,12 @@ import org.springframework.context.annotation.ScopedProxyMode;
 
 import javax.validation.constraints.Min;
 import java.io.IOException;
+import java.net.URL;
 import java.time.Clock;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
@@ -124,17 +142,33 @@ public class ServiceConfiguration {
             @Value("${auction.cache.expected-request-time-ms}") long expectedCacheTimeMs,
             @Value("${cache.connect-timeout-ms:#{2000}}") long httpClientConnectTimeoutMs,
             @Value("${cache.wait-for-response:#{true}}") boolean waitForResponse,
+            @Value("${cache.coalescing.enabled:false}") boolean coalescingEnabled,
+            @Value("${cache.coalescing.window-ms:5}") long coalescingWindowMs,
+            @Value("${cache.coalescing.max-batch-size:10}") int coalescingMaxBatchSize,
             VastModifier vastModifier,
             EventsService eventsService,
             HttpClient httpClient,
+            Vertx vertx,
             Metrics metrics,
             Clock clock,
-            JacksonMapper mapper) {
+            JacksonMapper mapper,
+            @Autowired(required = false) EmbeddedCacheStore embeddedCacheStore) {
+
+        final URL endpointUrl = CacheService.getCacheEndpointUrl(scheme, host, path);
+        final CacheWriter cacheWriter;
+        if (embeddedCacheStore != null) {
+            cacheWriter = embeddedCacheStore;
+        } else if (coalescingEnabled) {
+            cacheWriter = new CoalescingCacheWriter(vertx, httpClient, endpointUrl.toString(), coalescingWindowMs,
+                    coalescingMaxBatchSize, metrics, clock, mapper);
+        } else {
+            cacheWriter = null;
+        }
 
         return new CacheService(
                 CacheTtl.of(bannerCacheTtl, videoCacheTtl),
                 httpClient,
-                CacheService.getCacheEndpointUrl(scheme, host, path),
+                endpointUrl,
                 CacheService.getCachedAssetUrlTemplate(scheme, host, path, query),
                 expectedCacheTimeMs,
                 httpClientConnectTimeoutMs,
@@ -144,6 +178,33 @@ public class ServiceConfiguration {
                 metrics,
                 clock,
                 new UUIDIdGenerator(),
+                mapper,
+                cacheWriter);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "cache.embedded", name = "enabled", havingValue = "true")
+    EmbeddedCacheStore embeddedCacheStore(
+            @Value("${cache.embedded.max-size-bytes:268435456}") long maxSizeBytes,
+            @Value("${cache.embedded.default-ttl-seconds:300}") int defaultTtlSeconds,
+            @Value("${cache.embedded.max-ttl-seconds:3600}") int maxTtlSeconds,
+            @Value("${cache.embedded.nodes:#{null}}") String nodesAsString,
+            @Value("${cache.embedded.self-node:#{null}}") String selfNode,
+            @Value("${cache.path}") String path,
+            HttpClient httpClient,
+            JacksonMapper mapper) {
+
+        final List<String> nodes = splitToList(nodesAsString);
+        final CacheNodeRing nodeRing = CollectionUtils.isNotEmpty(nodes) ? new CacheNodeRing(nodes, selfNode) : null;
+
+        return new EmbeddedCacheStore(
+                maxSizeBytes,
+                defaultTtlSeconds,
+                maxTtlSeconds,
+                nodeRing,
+                httpClient,
+                path,
+                new UUIDIdGenerator(),
                 mapper);
     }
 
@@ -185,6 +246,11 @@ public class ServiceConfiguration {
         return new IpAddressHelper(ipv6AlwaysMaskBits, ipv6AnonLeftMaskBits, ipv6LocalNetworks);
     }
 
+    @Bean
+    UserAgentClassifier userAgentClassifier(@Value("${user-agent.classifier.cache-size}") int cacheSize) {
+        return new UserAgentClassifier(cacheSize);
+    }
+
     @Bean
     FpdResolver fpdResolver(JacksonMapper mapper, JsonMerger jsonMerger) {
         return new FpdResolver(mapper, jsonMerger);
@@ -308,8 +374,7 @@ public class ServiceConfiguration {
             OrtbTypesResolver ortbTypesResolver,
             PrivacyEnforcementService privacyEnforcementService,
             TimeoutResolver auctionTimeoutResolver,
-            DebugResolver debugResolver,
-            JacksonMapper mapper) {
+            DebugResolver debugResolver) {
 
         return new AuctionRequestFactory(
                 maxRequestSize,
@@ -322,8 +387,7 @@ public class ServiceConfiguration {
                 ortbTypesResolver,
                 privacyEnforcementService,
                 auctionTimeoutResolver,
-                debugResolver,
-                mapper);
+                debugResolver);
     }
 
     @Bean
@@ -462,8 +526,48 @@ public class ServiceConfiguration {
     @Scope(scopeName = VertxContextScope.NAME, proxyMode = ScopedProxyMode.INTERFACES)
     @ConditionalOnProperty(prefix = "http-client.circuit-breaker", name = "enabled", havingValue = "false",
             matchIfMissing = true)
-    BasicHttpClient basicHttpClient(Vertx vertx, HttpClientProperties httpClientProperties) {
-        return createBasicHttpClient(vertx, httpClientProperties);
+    BasicHttpClient basicHttpClient(Vertx vertx,
+                                    HttpClientProperties httpClientProperties,
+                                    HttpClientPoolRegistry httpClientPoolRegistry) {
+
+        return createBasicHttpClient(vertx, httpClientProperties, httpClientPoolRegistry);
+    }
+
+    @Bean
+    HttpClientPoolRegistry httpClientPoolRegistry(
+            HttpClientProperties httpClientProperties,
+            Map<String, BidderConfigurationProperties> beanNameToBidderConfigurationProperties,
+            Metrics metrics) {
+
+        final List<HttpClientPool> pools = new ArrayList<>();
+        for (Map.Entry<String, BidderConfigurationProperties> entry
+                : beanNameToBidderConfigurationProperties.entrySet()) {
+
+            final BidderConfigurationProperties bidderProperties = entry.getValue();
+            final BidderHttpClientProperties poolProperties = bidderProperties.getHttpClient();
+            if (poolProperties == null || !bidderProperties.getEnabled()) {
+                continue;
+            }
+
+            final String host = HttpClientPoolRegistry.hostOf(bidderProperties.getEndpoint());
+            if (host == null || host.contains("{{")) {
+                throw new IllegalArgumentException(
+                        "Cannot resolve host for dedicated http client pool of endpoint: "
+                                + bidderProperties.getEndpoint());
+            }
+            if (BooleanUtils.isTrue(poolProperties.getPipelining())
+                    && BooleanUtils.isFalse(poolProperties.getKeepAlive())) {
+                throw new IllegalArgumentException(
+                        "Http client pipelining requires keep-alive for dedicated pool of endpoint: "
+                                + bidderProperties.getEndpoint());
+            }
+
+            final String poolName = StringUtils.removeEnd(entry.getKey(), "ConfigurationProperties");
+            pools.add(new HttpClientPool(
+                    poolName, host, createHttpClientPoolOptions(httpClientProperties, poolProperties)));
+        }
+
+        return new HttpClientPoolRegistry(pools, metrics);
     }
 
     @Bean
@@ -482,9 +586,10 @@ public class ServiceConfiguration {
             HttpClientProperties httpClientProperties,
             @Qualifier("httpClientCircuitBreakerProperties")
             HttpClientCircuitBreakerProperties circuitBreakerProperties,
+            HttpClientPoolRegistry httpClientPoolRegistry,
             Clock clock) {
 
-        final HttpClient httpClient = createBasicHttpClient(vertx, httpClientProperties);
+        final HttpClient httpClient = createBasicHttpClient(vertx, httpClientProperties, httpClientPoolRegistry);
 
         return new CircuitBreakerSecuredHttpClient(
                 vertx,
@@ -497,7 +602,50 @@ public class ServiceConfiguration {
                 clock);
     }
 
-    private static BasicHttpClient createBasicHttpClient(Vertx vertx, HttpClientProperties httpClientProperties) {
+    private static BasicHttpClient createBasicHttpClient(Vertx vertx,
+                                                         HttpClientProperties httpClientProperties,
+                                                         HttpClientPoolRegistry httpClientPoolRegistry) {
+
+        final HttpClientOptions options = createHttpClientOptions(httpClientProperties);
+        return new BasicHttpClient(vertx, vertx.createHttpClient(options), httpClientPoolRegistry);
+    }
+
+    private static HttpClientOptions createHttpClientPoolOptions(HttpClientProperties httpClientProperties,
+                                                                 BidderHttpClientProperties poolProperties) {
+
+        final HttpClientOptions options = createHttpClientOptions(httpClientProperties)
+                .setMaxPoolSize(poolProperties.getMaxPoolSize());
+
+        if (poolProperties.getIdleTimeoutMs() != null) {
+            options.setIdleTimeout(poolProperties.getIdleTimeoutMs());
+        }
+        if (poolProperties.getKeepAlive() != null) {
+            options.setKeepAlive(poolProperties.getKeepAlive());
+        }
+        if (poolProperties.getKeepAliveTimeoutSec() != null) {
+            options.setKeepAliveTimeout(poolProperties.getKeepAliveTimeoutSec());
+        }
+        if (BooleanUtils.isTrue(poolProperties.getHttp2())) {
+            options
+                    .setProtocolVersion(HttpVersion.HTTP_2)
+                    // h2 is negotiated over TLS with ALPN only, otherwise HTTPS connections stay on HTTP/1.1
+                    .setUseAlpn(true)
+                    .setHttp2MaxPoolSize(poolProperties.getMaxPoolSize());
+            if (poolProperties.getHttp2MultiplexingLimit() != null) {
+                options.setHttp2MultiplexingLimit(poolProperties.getHttp2MultiplexingLimit());
+            }
+        }
+        if (BooleanUtils.isTrue(poolProperties.getPipelining())) {
+            options.setPipelining(true);
+            if (poolProperties.getPipeliningLimit() != null) {
+                options.setPipeliningLimit(poolProperties.getPipeliningLimit());
+            }
+        }
+
+        return options;
+    }
+
+    private static HttpClientOptions createHttpClientOptions(HttpClientProperties httpClientProperties) {
         final HttpClientOptions options = new HttpClientOptions()
                 .setMaxPoolSize(httpClientProperties.getMaxPoolSize())
                 .setIdleTimeoutUnit(TimeUnit.MILLISECONDS)
@@ -519,7 +667,7 @@ public class ServiceConfiguration {
                     .setKeyStoreOptions(jksOptions);
         }
 
-        return new BasicHttpClient(vertx, vertx.createHttpClient(options));
+        return options;
     }
 
     @Bean
@@ -672,7 +820,8 @@ public class ServiceConfiguration {
             Metrics metrics,
             Clock clock,
             JacksonMapper mapper,
-            CriteriaLogManager criteriaLogManager) {
+            CriteriaLogManager criteriaLogManager,
+            AuctionProfiler auctionProfiler) {
 
         return new ExchangeService(
                 expectedCacheTimeMs,
@@ -700,7 +849,15 @@ public class ServiceConfiguration {
                 metrics,
                 clock,
                 mapper,
-                criteriaLogManager);
+                criteriaLogManager,
+                auctionProfiler);
+    }
+
+    @Bean
+    AuctionProfiler auctionProfiler(@Value("${auction.profiling.sampling-rate:0}") double samplingRate,
+                                    Metrics metrics) {
+
+        return new AuctionProfiler(samplingRate, metrics);
     }
 
     @Bean
@@ -713,7 +870,8 @@ public class ServiceConfiguration {
             Metrics metrics,
             TimeoutFactory timeoutFactory,
             JacksonMapper mapper,
-            JsonMerger jsonMerger) {
+            JsonMerger jsonMerger,
+            @Autowired(required = false) StoredDataTreeCache storedDataTreeCache) {
 
         return new StoredRequestProcessor(
                 defaultTimeoutMs,
@@ -725,7 +883,8 @@ public class ServiceConfiguration {
                 metrics,
                 timeoutFactory,
                 mapper,
-                jsonMerger);
+                jsonMerger,
+                storedDataTreeCache);
     }
 
     @Bean
@@ -788,11 +947,21 @@ public class ServiceConfiguration {
     }
 
     @Bean
-    RequestValidator requestValidator(BidderCatalog bidderCatalog,
-                                      BidderParamValidator bidderParamValidator,
-                                      JacksonMapper mapper) {
+    RequestValidator requestValidator(
+            @Value("${auction.validations.collect-all-errors:false}") boolean collectAllErrors,
+            @Value("${auction.validations.rule-timing-enabled:false}") boolean ruleTimingEnabled,
+            BidderCatalog bidderCatalog,
+            BidderParamValidator bidderParamValidator,
+            Metrics metrics,
+            JacksonMapper mapper) {
 
-        return new RequestValidator(bidderCatalog, bidderParamValidator, mapper);
+        return new RequestValidator(
+                bidderCatalog,
+                bidderParamValidator,
+                metrics,
+                mapper,
+                collectAllErrors,
+                ruleTimingEnabled);
     }
 
     @Bean
@@ -805,8 +974,12 @@ public class ServiceConfiguration {
     }
 
     @Bean
-    BidderParamValidator bidderParamValidator(BidderCatalog bidderCatalog, JacksonMapper mapper) {
-        return BidderParamValidator.create(bidderCatalog, "static/bidder-params", mapper);
+    BidderParamValidator bidderParamValidator(
+            @Value("${auction.validations.bidder-params-cache-size:0}") int cacheSize,
+            BidderCatalog bidderCatalog,
+            JacksonMapper mapper) {
+
+        return BidderParamValidator.create(bidderCatalog, "static/bidder-params", cacheSize, mapper);
     }
 
     @Bean
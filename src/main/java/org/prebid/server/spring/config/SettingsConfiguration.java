@@ -15,6 +15,7 @@ import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.json.JsonMerger;
 import org.prebid.server.metric.MetricName;
 import org.prebid.server.metric.Metrics;
+import org.prebid.server.settings.AccountStore;
 import org.prebid.server.settings.ApplicationSettings;
 import org.prebid.server.settings.CachingApplicationSettings;
 import org.prebid.server.settings.CompositeApplicationSettings;
@@ -23,6 +24,8 @@ import org.prebid.server.settings.FileApplicationSettings;
 import org.prebid.server.settings.HttpApplicationSettings;
 import org.prebid.server.settings.JdbcApplicationSettings;
 import org.prebid.server.settings.SettingsCache;
+import org.prebid.server.settings.SettingsCacheSnapshotter;
+import org.prebid.server.settings.StoredDataTreeCache;
 import org.prebid.server.settings.service.HttpPeriodicRefreshService;
 import org.prebid.server.settings.service.JdbcPeriodicRefreshService;
 import org.prebid.server.spring.config.model.CircuitBreakerProperties;
@@ -242,20 +245,24 @@ public class SettingsConfiguration {
         public HttpPeriodicRefreshService httpPeriodicRefreshService(
                 @Value("${settings.in-memory-cache.http-update.endpoint}") String endpoint,
                 SettingsCache settingsCache,
-                JacksonMapper mapper) {
+                JacksonMapper mapper,
+                @Autowired(required = false) SettingsCacheSnapshotter settingsCacheSnapshotter) {
 
             return new HttpPeriodicRefreshService(
-                    endpoint, refreshPeriod, timeout, settingsCache, vertx, httpClient, mapper);
+                    endpoint, refreshPeriod, timeout, settingsCache, vertx, httpClient, mapper,
+                    settingsCacheSnapshotter);
         }
 
         @Bean
         public HttpPeriodicRefreshService ampHttpPeriodicRefreshService(
                 @Value("${settings.in-memory-cache.http-update.amp-endpoint}") String ampEndpoint,
                 SettingsCache ampSettingsCache,
-                JacksonMapper mapper) {
+                JacksonMapper mapper,
+                @Autowired(required = false) SettingsCacheSnapshotter settingsCacheSnapshotter) {
 
             return new HttpPeriodicRefreshService(
-                    ampEndpoint, refreshPeriod, timeout, ampSettingsCache, vertx, httpClient, mapper);
+                    ampEndpoint, refreshPeriod, timeout, ampSettingsCache, vertx, httpClient, mapper,
+                    settingsCacheSnapshotter);
         }
     }
 
@@ -382,6 +389,7 @@ public class SettingsConfiguration {
                 @Qualifier("settingsCache") SettingsCache cache,
                 @Qualifier("ampSettingsCache") SettingsCache ampCache,
                 @Qualifier("videoSettingCache") SettingsCache videoCache,
+                AccountStore accountStore,
                 Metrics metrics) {
 
             return new CachingApplicationSettings(
@@ -389,19 +397,47 @@ public class SettingsConfiguration {
                     cache,
                     ampCache,
                     videoCache,
+                    accountStore,
                     metrics,
                     cacheProperties.getTtlSeconds(),
                     cacheProperties.getCacheSize());
         }
     }
 
+    @Configuration
+    @ConditionalOnProperty(prefix = "settings.in-memory-cache.snapshot", name = {"path", "period-ms"})
+    static class SettingsCacheSnapshotConfiguration {
+
+        @Bean
+        SettingsCacheSnapshotter settingsCacheSnapshotter(
+                @Value("${settings.in-memory-cache.snapshot.path}") String path,
+                @Value("${settings.in-memory-cache.snapshot.period-ms}") long periodMs,
+                CachingApplicationSettings cachingApplicationSettings,
+                @Qualifier("settingsCache") SettingsCache cache,
+                @Qualifier("ampSettingsCache") SettingsCache ampCache,
+                @Qualifier("videoSettingCache") SettingsCache videoCache,
+                Vertx vertx,
+                JacksonMapper mapper) {
+
+            return new SettingsCacheSnapshotter(
+                    path, periodMs, cachingApplicationSettings, cache, ampCache, videoCache, vertx, mapper);
+        }
+    }
+
     @Configuration
     static class ApplicationSettingsConfiguration {
 
         @Bean
         ApplicationSettings applicationSettings(
                 @Autowired(required = false) CachingApplicationSettings cachingApplicationSettings,
+                @Autowired(required = false) SettingsCacheSnapshotter settingsCacheSnapshotter,
                 EnrichingApplicationSettings enrichingApplicationSettings) {
+
+            // caches are warmed up before application settings become available to request handlers
+            if (settingsCacheSnapshotter != null) {
+                settingsCacheSnapshotter.restore();
+            }
+
             return ObjectUtils.defaultIfNull(cachingApplicationSettings, enrichingApplicationSettings);
         }
     }
@@ -427,6 +463,20 @@ public class SettingsConfiguration {
         SettingsCache videoSettingCache(ApplicationSettingsCacheProperties cacheProperties) {
             return new SettingsCache(cacheProperties.getTtlSeconds(), cacheProperties.getCacheSize());
         }
+
+        @Bean
+        AccountStore accountStore() {
+            return new AccountStore();
+        }
+
+        @Bean
+        StoredDataTreeCache storedDataTreeCache(ApplicationSettingsCacheProperties cacheProperties,
+                                                JacksonMapper mapper,
+                                                Metrics metrics) {
+
+            return new StoredDataTreeCache(
+                    cacheProperties.getTtlSeconds(), cacheProperties.getCacheSize(), mapper, metrics);
+        }
     }
 
     @Component
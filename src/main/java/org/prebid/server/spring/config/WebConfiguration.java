@@ -20,6 +20,7 @@ import org.prebid.server.auction.requestfactory.AuctionRequestFactory;
 import org.prebid.server.auction.requestfactory.VideoRequestFactory;
 import org.prebid.server.bidder.BidderCatalog;
 import org.prebid.server.cache.CacheService;
+import org.prebid.server.cache.EmbeddedCacheStore;
 import org.prebid.server.cookie.UidsCookieService;
 import org.prebid.server.deals.UserService;
 import org.prebid.server.deals.events.ApplicationEventService;
@@ -27,6 +28,7 @@ import org.prebid.server.execution.TimeoutFactory;
 import org.prebid.server.handler.BidderParamHandler;
 import org.prebid.server.handler.CookieSyncHandler;
 import org.prebid.server.handler.CustomizedAdminEndpoint;
+import org.prebid.server.handler.EmbeddedCacheHandler;
 import org.prebid.server.handler.ExceptionHandler;
 import org.prebid.server.handler.GetuidsHandler;
 import org.prebid.server.handler.NoCacheHandler;
@@ -52,6 +54,7 @@ import org.prebid.server.validation.BidderParamValidator;
 import org.prebid.server.version.PrebidVersionProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -124,7 +127,8 @@ public class WebConfiguration {
                   BidderDetailsHandler bidderDetailsHandler,
                   NotificationEventHandler notificationEventHandler,
                   List<CustomizedAdminEndpoint> customizedAdminEndpoints,
-                  StaticHandler staticHandler) {
+                  StaticHandler staticHandler,
+                  @Autowired(required = false) EmbeddedCacheHandler embeddedCacheHandler) {
 
         final Router router = Router.router(vertx);
         router.route().handler(bodyHandler);
@@ -145,6 +149,11 @@ public class WebConfiguration {
         router.get("/info/bidders/:bidderName").handler(bidderDetailsHandler);
         router.get("/event").handler(notificationEventHandler);
 
+        if (embeddedCacheHandler != null) {
+            router.get(embeddedCacheHandler.getPath()).handler(embeddedCacheHandler);
+            router.post(embeddedCacheHandler.getPath()).handler(embeddedCacheHandler);
+        }
+
         customizedAdminEndpoints.stream()
                 .filter(CustomizedAdminEndpoint::isOnApplicationPort)
                 .forEach(customizedAdminEndpoint -> customizedAdminEndpoint.router(router));
@@ -321,6 +330,15 @@ public class WebConfiguration {
                 timeoutFactory);
     }
 
+    @Bean
+    @ConditionalOnProperty(prefix = "cache.embedded", name = "enabled", havingValue = "true")
+    EmbeddedCacheHandler embeddedCacheHandler(@Value("${cache.path}") String path,
+                                              EmbeddedCacheStore embeddedCacheStore,
+                                              JacksonMapper mapper) {
+
+        return new EmbeddedCacheHandler(embeddedCacheStore, path, mapper);
+    }
+
     @Bean
     GetuidsHandler getuidsHandler(UidsCookieService uidsCookieService, JacksonMapper mapper) {
         return new GetuidsHandler(uidsCookieService, mapper);
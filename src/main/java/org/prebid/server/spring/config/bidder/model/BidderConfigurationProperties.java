@@ -49,6 +49,8 @@ public class BidderConfigurationProperties {
 
     private CompressionType endpointCompression;
 
+    private BidderHttpClientProperties httpClient;
+
     private final Class<? extends BidderConfigurationProperties> selfClass;
 
     public BidderConfigurationProperties() {
@@ -0,0 +1,36 @@
+package org.prebid.server.spring.config.bidder.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+/**
+ * Dedicated connection pool settings for a bidder endpoint host.
+ * Unset values fall back to the common http-client configuration.
+ */
+@Validated
+@Data
+@NoArgsConstructor
+public class BidderHttpClientProperties {
+
+    @NotNull
+    @Min(1)
+    private Integer maxPoolSize;
+
+    private Integer idleTimeoutMs;
+
+    private Boolean keepAlive;
+
+    private Integer keepAliveTimeoutSec;
+
+    private Boolean http2;
+
+    private Integer http2MultiplexingLimit;
+
+    private Boolean pipelining;
+
+    private Integer pipeliningLimit;
+}
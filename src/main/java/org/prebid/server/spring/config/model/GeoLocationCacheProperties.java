@@ -0,0 +1,28 @@
+package org.prebid.server.spring.config.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+@Validated
+@Data
+@NoArgsConstructor
+public class GeoLocationCacheProperties {
+
+    @NotNull
+    private Boolean enabled;
+
+    @NotNull
+    @Min(1)
+    private Integer ttlSeconds;
+
+    @NotNull
+    @Min(1)
+    private Integer size;
+
+    @NotNull
+    private Boolean lookupOnWorker;
+}
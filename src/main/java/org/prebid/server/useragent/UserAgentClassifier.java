@@ -0,0 +1,67 @@
+package org.prebid.server.useragent;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.useragent.model.UserAgentDeviceType;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Classifies device type by User-Agent string.
+ * <p>
+ * Results are kept in bounded cache since the number of distinct User-Agents seen in traffic is relatively small,
+ * so regular expressions are evaluated only once per User-Agent until it is evicted.
+ */
+public class UserAgentClassifier {
+
+    private static final List<Pattern> PHONE_PATTERNS = compile(
+            "Phone", "iPhone", "Android.*Mobile", "Mobile.*Android");
+    private static final List<Pattern> TABLET_PATTERNS = compile(
+            "tablet", "iPad", "Windows NT.*touch", "touch.*Windows NT", "Android");
+
+    private final Map<String, UserAgentDeviceType> cache;
+
+    public UserAgentClassifier(int cacheSize) {
+        if (cacheSize <= 0) {
+            throw new IllegalArgumentException("cache size must be positive");
+        }
+
+        cache = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .<String, UserAgentDeviceType>build()
+                .asMap();
+    }
+
+    /**
+     * Returns {@link UserAgentDeviceType} for the given User-Agent or null if User-Agent is blank.
+     */
+    public UserAgentDeviceType classify(String userAgent) {
+        return StringUtils.isNotBlank(userAgent)
+                ? cache.computeIfAbsent(userAgent, UserAgentClassifier::resolveDeviceType)
+                : null;
+    }
+
+    private static UserAgentDeviceType resolveDeviceType(String userAgent) {
+        if (matchesAny(PHONE_PATTERNS, userAgent)) {
+            return UserAgentDeviceType.phone;
+        }
+
+        return matchesAny(TABLET_PATTERNS, userAgent) ? UserAgentDeviceType.tablet : UserAgentDeviceType.desktop;
+    }
+
+    private static boolean matchesAny(List<Pattern> patterns, String userAgent) {
+        for (Pattern pattern : patterns) {
+            if (pattern.matcher(userAgent).matches()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<Pattern> compile(String... regexes) {
+        return Arrays.stream(regexes).map(Pattern::compile).toList();
+    }
+}
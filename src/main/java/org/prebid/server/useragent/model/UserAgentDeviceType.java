@@ -0,0 +1,21 @@
+package org.prebid.server.useragent.model;
+
+/**
+ * Compact device classification derived from User-Agent string.
+ * <p>
+ * Keeps corresponding OpenRTB device type (see OpenRTB 2.5, 5.21) to be used in bid requests.
+ */
+public enum UserAgentDeviceType {
+
+    desktop(2), phone(4), tablet(5);
+
+    private final int ortbDeviceType;
+
+    UserAgentDeviceType(int ortbDeviceType) {
+        this.ortbDeviceType = ortbDeviceType;
+    }
+
+    public int getOrtbDeviceType() {
+        return ortbDeviceType;
+    }
+}
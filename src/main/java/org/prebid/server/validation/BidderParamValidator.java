@@ -1,11 +1,14 @@
 package org.prebid.server.validation;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.networknt.schema.JsonSchema;
 import com.networknt.schema.JsonSchemaException;
 import com.networknt.schema.JsonSchemaFactory;
 import com.networknt.schema.SpecVersion;
 import com.networknt.schema.ValidationMessage;
+import lombok.Value;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.bidder.BidderCatalog;
@@ -14,6 +17,8 @@ import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.util.ResourceUtil;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -23,6 +28,10 @@ import java.util.stream.Collectors;
 /**
  * This Component aimed to validate <i>bidrequest.imp[i].ext.{bidder}</i> portion of bidRequest. It relies on
  * JSON schemas that need to be located as resources on classpath.
+ * <p>
+ * Schemas which only declare property types and required fields are compiled to {@link SimpleSchemaValidator},
+ * others are validated by generic JSON schema validator. Validation results may be memoized by bidder and params,
+ * since the same params often come with many requests, e.g. from stored imps.
  */
 public class BidderParamValidator {
 
@@ -31,17 +40,46 @@ public class BidderParamValidator {
     private static final String FILE_SEP = "/";
 
     private final Map<String, JsonSchema> bidderSchemas;
+    private final Map<String, SimpleSchemaValidator> simpleValidators;
     private final String schemas;
+    private final Cache<BidderParams, Set<String>> validationResults;
+
+    private BidderParamValidator(Map<String, JsonSchema> bidderSchemas,
+                                 Map<String, SimpleSchemaValidator> simpleValidators,
+                                 String schemas,
+                                 int cacheSize) {
 
-    private BidderParamValidator(Map<String, JsonSchema> bidderSchemas, String schemas) {
         this.bidderSchemas = bidderSchemas;
+        this.simpleValidators = simpleValidators;
         this.schemas = schemas;
+        this.validationResults = cacheSize > 0 ? Caffeine.newBuilder().maximumSize(cacheSize).build() : null;
     }
 
     /**
      * Validates the {@link JsonNode} input parameter against bidder's JSON-schema
      */
     public Set<String> validate(String bidder, JsonNode jsonNode) {
+        if (validationResults == null) {
+            return doValidate(bidder, jsonNode);
+        }
+
+        final Set<String> cachedMessages = validationResults.getIfPresent(BidderParams.of(bidder, jsonNode));
+        if (cachedMessages != null) {
+            return cachedMessages;
+        }
+
+        final Set<String> messages = Collections.unmodifiableSet(doValidate(bidder, jsonNode));
+        // params are copied, so the key is not affected by later modifications of the request
+        validationResults.put(BidderParams.of(bidder, jsonNode.deepCopy()), messages);
+        return messages;
+    }
+
+    private Set<String> doValidate(String bidder, JsonNode jsonNode) {
+        final SimpleSchemaValidator simpleValidator = simpleValidators.get(bidder);
+        if (simpleValidator != null) {
+            return simpleValidator.validate(jsonNode);
+        }
+
         return bidderSchemas.get(bidder).validate(jsonNode).stream()
                 .map(ValidationMessage::getMessage)
                 .collect(Collectors.toSet());
@@ -79,6 +117,16 @@ public class BidderParamValidator {
     public static BidderParamValidator create(
             BidderCatalog bidderCatalog, String schemaDirectory, JacksonMapper mapper) {
 
+        return create(bidderCatalog, schemaDirectory, 0, mapper);
+    }
+
+    /**
+     * Constructs an instance of {@link BidderParamValidator} keeping up to the given number of validation results
+     * in memory, {@code 0} disables memoization.
+     */
+    public static BidderParamValidator create(
+            BidderCatalog bidderCatalog, String schemaDirectory, int cacheSize, JacksonMapper mapper) {
+
         Objects.requireNonNull(bidderCatalog);
         Objects.requireNonNull(schemaDirectory);
         Objects.requireNonNull(mapper);
@@ -88,7 +136,11 @@ public class BidderParamValidator {
         bidderCatalog.names().forEach(bidder -> bidderRawSchemas.put(
                 bidder, createSchemaNode(schemaDirectory, maybeResolveAlias(bidderCatalog, bidder), mapper)));
 
-        return new BidderParamValidator(toBidderSchemas(bidderRawSchemas), toSchemas(bidderRawSchemas, mapper));
+        return new BidderParamValidator(
+                toBidderSchemas(bidderRawSchemas),
+                toSimpleValidators(bidderRawSchemas),
+                toSchemas(bidderRawSchemas, mapper),
+                cacheSize);
     }
 
     private static Map<String, JsonSchema> toBidderSchemas(Map<String, JsonNode> bidderRawSchemas) {
@@ -96,6 +148,17 @@ public class BidderParamValidator {
                 .collect(Collectors.toMap(Map.Entry::getKey, e -> toBidderSchema(e.getValue(), e.getKey())));
     }
 
+    private static Map<String, SimpleSchemaValidator> toSimpleValidators(Map<String, JsonNode> bidderRawSchemas) {
+        final Map<String, SimpleSchemaValidator> simpleValidators = new HashMap<>();
+        bidderRawSchemas.forEach((bidder, schema) -> {
+            final SimpleSchemaValidator simpleValidator = SimpleSchemaValidator.compile(schema);
+            if (simpleValidator != null) {
+                simpleValidators.put(bidder, simpleValidator);
+            }
+        });
+        return simpleValidators;
+    }
+
     private static String toSchemas(Map<String, JsonNode> bidderRawSchemas, JacksonMapper mapper) {
         try {
             return mapper.encodeToString(bidderRawSchemas);
@@ -146,4 +209,12 @@ public class BidderParamValidator {
         }
         return result;
     }
+
+    @Value(staticConstructor = "of")
+    private static class BidderParams {
+
+        String bidder;
+
+        JsonNode params;
+    }
 }
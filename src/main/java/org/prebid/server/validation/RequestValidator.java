@@ -32,12 +32,14 @@ import com.iab.openrtb.request.ntv.EventTrackingMethod;
 import com.iab.openrtb.request.ntv.EventType;
 import com.iab.openrtb.request.ntv.PlacementType;
 import com.iab.openrtb.request.ntv.Protocol;
+import lombok.Value;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.bidder.BidderCatalog;
 import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.proto.openrtb.ext.request.ExtDevice;
 import org.prebid.server.proto.openrtb.ext.request.ExtDeviceInt;
 import org.prebid.server.proto.openrtb.ext.request.ExtDevicePrebid;
@@ -74,6 +76,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -94,7 +97,12 @@ public class RequestValidator {
 
     private final BidderCatalog bidderCatalog;
     private final BidderParamValidator bidderParamValidator;
+    private final Metrics metrics;
     private final JacksonMapper mapper;
+    private final boolean collectAllErrors;
+    private final boolean ruleTimingEnabled;
+
+    private final List<NamedRule> rules;
 
     /**
      * Constructs a RequestValidator that will use the BidderParamValidator passed in order to validate all critical
@@ -102,90 +110,135 @@ public class RequestValidator {
      */
     public RequestValidator(BidderCatalog bidderCatalog,
                             BidderParamValidator bidderParamValidator,
-                            JacksonMapper mapper) {
+                            Metrics metrics,
+                            JacksonMapper mapper,
+                            boolean collectAllErrors,
+                            boolean ruleTimingEnabled) {
 
         this.bidderCatalog = Objects.requireNonNull(bidderCatalog);
         this.bidderParamValidator = Objects.requireNonNull(bidderParamValidator);
+        this.metrics = Objects.requireNonNull(metrics);
         this.mapper = Objects.requireNonNull(mapper);
+        this.collectAllErrors = collectAllErrors;
+        this.ruleTimingEnabled = ruleTimingEnabled;
+
+        rules = List.of(
+                NamedRule.of("request", (bidRequest, aliases, warnings) -> validateRequestFields(bidRequest)),
+                NamedRule.of("ext", (bidRequest, aliases, warnings) -> validateExtRequest(bidRequest, aliases)),
+                NamedRule.of("imp", this::validateImps),
+                NamedRule.of("site_app", (bidRequest, aliases, warnings) -> validateSiteOrApp(bidRequest)),
+                NamedRule.of("device", (bidRequest, aliases, warnings) -> validateDevice(bidRequest.getDevice())),
+                NamedRule.of("user", (bidRequest, aliases, warnings) -> validateUser(bidRequest.getUser(), aliases)),
+                NamedRule.of("regs", (bidRequest, aliases, warnings) -> validateRegs(bidRequest.getRegs())));
     }
 
     /**
-     * Validates the {@link BidRequest} against a list of validation checks, however, reports only one problem
-     * at a time.
+     * Validates the {@link BidRequest} against a list of validation rules. Every rule reports only one problem at a
+     * time. Validation stops at the first failed rule unless all errors are requested to be collected.
      */
     public ValidationResult validate(BidRequest bidRequest) {
+        final Map<String, String> aliases = aliases(bidRequest);
         final List<String> warnings = new ArrayList<>();
-        try {
-            if (StringUtils.isBlank(bidRequest.getId())) {
-                throw new ValidationException("request missing required field: \"id\"");
+        final List<String> errors = new ArrayList<>();
+
+        for (NamedRule rule : rules) {
+            final long startTime = ruleTimingEnabled ? System.nanoTime() : 0L;
+            try {
+                rule.getRule().validate(bidRequest, aliases, warnings);
+            } catch (ValidationException e) {
+                errors.add(e.getMessage());
             }
 
-            if (bidRequest.getTmax() != null && bidRequest.getTmax() < 0L) {
-                throw new ValidationException("request.tmax must be nonnegative. Got " + bidRequest.getTmax());
+            if (ruleTimingEnabled) {
+                metrics.updateRequestValidationRuleTime(
+                        rule.getName(), TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startTime));
             }
 
-            validateCur(bidRequest.getCur());
+            if (!errors.isEmpty() && !collectAllErrors) {
+                break;
+            }
+        }
 
-            final ExtRequest extRequest = bidRequest.getExt();
+        return errors.isEmpty() ? ValidationResult.success(warnings) : ValidationResult.errors(errors);
+    }
 
-            final ExtRequestPrebid extRequestPrebid = extRequest != null ? extRequest.getPrebid() : null;
+    private static Map<String, String> aliases(BidRequest bidRequest) {
+        final ExtRequest extRequest = bidRequest.getExt();
+        final ExtRequestPrebid extRequestPrebid = extRequest != null ? extRequest.getPrebid() : null;
+        final Map<String, String> aliases = extRequestPrebid != null ? extRequestPrebid.getAliases() : null;
 
-            Map<String, String> aliases = Collections.emptyMap();
+        return ObjectUtils.defaultIfNull(aliases, Collections.emptyMap());
+    }
 
-            if (extRequestPrebid != null) {
-                final ExtRequestTargeting targeting = extRequestPrebid.getTargeting();
-                if (targeting != null) {
-                    validateTargeting(targeting);
-                }
-                aliases = ObjectUtils.defaultIfNull(extRequestPrebid.getAliases(), Collections.emptyMap());
-                validateAliases(aliases);
-                validateAliasesGvlIds(extRequestPrebid, aliases);
-                validateBidAdjustmentFactors(extRequestPrebid.getBidadjustmentfactors(), aliases);
-                validateExtBidPrebidData(extRequestPrebid.getData(), aliases);
-                validateSchains(extRequestPrebid.getSchains());
-            }
+    private void validateRequestFields(BidRequest bidRequest) throws ValidationException {
+        if (StringUtils.isBlank(bidRequest.getId())) {
+            throw new ValidationException("request missing required field: \"id\"");
+        }
 
-            if (CollectionUtils.isEmpty(bidRequest.getImp())) {
-                throw new ValidationException("request.imp must contain at least one element");
-            }
+        if (bidRequest.getTmax() != null && bidRequest.getTmax() < 0L) {
+            throw new ValidationException("request.tmax must be nonnegative. Got " + bidRequest.getTmax());
+        }
 
-            final List<Imp> imps = bidRequest.getImp();
-            final List<String> errors = new ArrayList<>();
-            final Map<String, Integer> uniqueImps = new HashMap<>();
-            for (int i = 0; i < imps.size(); i++) {
-                final String impId = imps.get(i).getId();
-                if (uniqueImps.get(impId) != null) {
-                    errors.add("request.imp[%d].id and request.imp[%d].id are both \"%s\". Imp IDs must be unique."
-                            .formatted(uniqueImps.get(impId), i, impId));
-                }
+        validateCur(bidRequest.getCur());
+    }
 
-                uniqueImps.put(impId, i);
-            }
+    private void validateExtRequest(BidRequest bidRequest, Map<String, String> aliases) throws ValidationException {
+        final ExtRequest extRequest = bidRequest.getExt();
+        final ExtRequestPrebid extRequestPrebid = extRequest != null ? extRequest.getPrebid() : null;
+        if (extRequestPrebid == null) {
+            return;
+        }
 
-            if (CollectionUtils.isNotEmpty(errors)) {
-                throw new ValidationException(String.join(System.lineSeparator(), errors));
-            }
+        final ExtRequestTargeting targeting = extRequestPrebid.getTargeting();
+        if (targeting != null) {
+            validateTargeting(targeting);
+        }
+        validateAliases(aliases);
+        validateAliasesGvlIds(extRequestPrebid, aliases);
+        validateBidAdjustmentFactors(extRequestPrebid.getBidadjustmentfactors(), aliases);
+        validateExtBidPrebidData(extRequestPrebid.getData(), aliases);
+        validateSchains(extRequestPrebid.getSchains());
+    }
 
-            for (int index = 0; index < bidRequest.getImp().size(); index++) {
-                validateImp(bidRequest.getImp().get(index), aliases, index, warnings);
-            }
+    private void validateImps(BidRequest bidRequest,
+                              Map<String, String> aliases,
+                              List<String> warnings) throws ValidationException {
 
-            if (bidRequest.getSite() == null && bidRequest.getApp() == null) {
-                throw new ValidationException("request.site or request.app must be defined");
-            }
+        final List<Imp> imps = bidRequest.getImp();
+        if (CollectionUtils.isEmpty(imps)) {
+            throw new ValidationException("request.imp must contain at least one element");
+        }
 
-            // if site and app present site will be removed
-            if (bidRequest.getApp() == null) {
-                validateSite(bidRequest.getSite());
+        final List<String> errors = new ArrayList<>();
+        final Map<String, Integer> uniqueImps = new HashMap<>();
+        for (int i = 0; i < imps.size(); i++) {
+            final String impId = imps.get(i).getId();
+            if (uniqueImps.get(impId) != null) {
+                errors.add("request.imp[%d].id and request.imp[%d].id are both \"%s\". Imp IDs must be unique."
+                        .formatted(uniqueImps.get(impId), i, impId));
             }
 
-            validateDevice(bidRequest.getDevice());
-            validateUser(bidRequest.getUser(), aliases);
-            validateRegs(bidRequest.getRegs());
-        } catch (ValidationException e) {
-            return ValidationResult.error(e.getMessage());
+            uniqueImps.put(impId, i);
+        }
+
+        if (CollectionUtils.isNotEmpty(errors)) {
+            throw new ValidationException(String.join(System.lineSeparator(), errors));
+        }
+
+        for (int index = 0; index < imps.size(); index++) {
+            validateImp(imps.get(index), aliases, index, warnings);
+        }
+    }
+
+    private void validateSiteOrApp(BidRequest bidRequest) throws ValidationException {
+        if (bidRequest.getSite() == null && bidRequest.getApp() == null) {
+            throw new ValidationException("request.site or request.app must be defined");
+        }
+
+        // if site and app present site will be removed
+        if (bidRequest.getApp() == null) {
+            validateSite(bidRequest.getSite());
         }
-        return ValidationResult.success(warnings);
     }
 
     /**
@@ -1169,4 +1222,19 @@ public class RequestValidator {
     private static boolean hasPositiveValue(Integer value) {
         return value != null && value > 0;
     }
+
+    @FunctionalInterface
+    private interface ValidationRule {
+
+        void validate(BidRequest bidRequest, Map<String, String> aliases, List<String> warnings)
+                throws ValidationException;
+    }
+
+    @Value(staticConstructor = "of")
+    private static class NamedRule {
+
+        String name;
+
+        ValidationRule rule;
+    }
 }
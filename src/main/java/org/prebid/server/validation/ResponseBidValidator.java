@@ -12,6 +12,7 @@ import com.iab.openrtb.request.Site;
 import com.iab.openrtb.response.Bid;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
+import lombok.Value;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.lang3.ObjectUtils;
@@ -46,6 +47,8 @@ import java.util.stream.Stream;
 
 /**
  * Validator for response {@link Bid} object.
+ * <p>
+ * Enforcement settings of {@link Account} are resolved into {@link AccountValidationPlan} once per validated bid.
  */
 public class ResponseBidValidator {
 
@@ -95,7 +98,7 @@ public class ResponseBidValidator {
 
         final Bid bid = bidderBid.getBid();
         final BidRequest bidRequest = auctionContext.getBidRequest();
-        final Account account = auctionContext.getAccount();
+        final AccountValidationPlan plan = accountPlan(auctionContext.getAccount());
         final List<String> warnings = new ArrayList<>();
 
         try {
@@ -105,20 +108,33 @@ public class ResponseBidValidator {
 
             final Imp correspondingImp = findCorrespondingImp(bid, bidRequest);
             if (bidderBid.getType() == BidType.banner) {
-                warnings.addAll(validateBannerFields(bid, bidder, bidRequest, account, correspondingImp, aliases));
+                warnings.addAll(validateBannerFields(bid, bidder, bidRequest, plan, correspondingImp, aliases));
             }
 
             if (dealsEnabled) {
-                validateDealsFor(bidderBid, auctionContext.getBidRequest(), bidder, aliases, warnings);
+                validateDealsFor(bidderBid, correspondingImp, bidder, aliases, warnings);
             }
 
-            warnings.addAll(validateSecureMarkup(bid, bidder, bidRequest, account, correspondingImp, aliases));
+            warnings.addAll(validateSecureMarkup(bid, bidder, bidRequest, plan, correspondingImp, aliases));
         } catch (ValidationException e) {
             return ValidationResult.error(warnings, e.getMessage());
         }
         return ValidationResult.success(warnings);
     }
 
+    private AccountValidationPlan accountPlan(Account account) {
+        final AccountAuctionConfig accountAuctionConfig = account != null ? account.getAuction() : null;
+        final AccountBidValidationConfig validationConfig =
+                accountAuctionConfig != null ? accountAuctionConfig.getBidValidations() : null;
+        final BidValidationEnforcement accountBannerMaxSizeEnforcement =
+                validationConfig != null ? validationConfig.getBannerMaxSizeEnforcement() : null;
+
+        return AccountValidationPlan.of(
+                account != null ? account.getId() : null,
+                ObjectUtils.defaultIfNull(accountBannerMaxSizeEnforcement, bannerMaxSizeEnforcement),
+                secureMarkupEnforcement);
+    }
+
     private static void validateCommonFields(Bid bid) throws ValidationException {
         if (bid == null) {
             throw new ValidationException("Empty bid object submitted");
@@ -174,16 +190,16 @@ public class ResponseBidValidator {
     private List<String> validateBannerFields(Bid bid,
                                               String bidder,
                                               BidRequest bidRequest,
-                                              Account account,
+                                              AccountValidationPlan plan,
                                               Imp correspondingImp,
                                               BidderAliases aliases) throws ValidationException {
 
-        final BidValidationEnforcement bannerMaxSizeEnforcement = effectiveBannerMaxSizeEnforcement(account);
+        final BidValidationEnforcement bannerMaxSizeEnforcement = plan.getBannerMaxSizeEnforcement();
         if (bannerMaxSizeEnforcement != BidValidationEnforcement.skip) {
             final Format maxSize = maxSizeForBanner(correspondingImp);
 
             if (bannerSizeIsNotValid(bid, maxSize)) {
-                final String accountId = account.getId();
+                final String accountId = plan.getAccountId();
                 final String message = """
                         BidResponse validation `%s`: bidder `%s` response triggers creative \
                         size validation for bid %s, account=%s, referrer=%s, max imp size='%dx%d', \
@@ -208,16 +224,6 @@ public class ResponseBidValidator {
         return Collections.emptyList();
     }
 
-    private BidValidationEnforcement effectiveBannerMaxSizeEnforcement(Account account) {
-        final AccountAuctionConfig accountAuctionConfig = account.getAuction();
-        final AccountBidValidationConfig validationConfig =
-                accountAuctionConfig != null ? accountAuctionConfig.getBidValidations() : null;
-        final BidValidationEnforcement accountBannerMaxSizeEnforcement =
-                validationConfig != null ? validationConfig.getBannerMaxSizeEnforcement() : null;
-
-        return ObjectUtils.defaultIfNull(accountBannerMaxSizeEnforcement, bannerMaxSizeEnforcement);
-    }
-
     private static Format maxSizeForBanner(Imp imp) {
         int maxW = 0;
         int maxH = 0;
@@ -244,15 +250,16 @@ public class ResponseBidValidator {
     private List<String> validateSecureMarkup(Bid bid,
                                               String bidder,
                                               BidRequest bidRequest,
-                                              Account account,
+                                              AccountValidationPlan plan,
                                               Imp correspondingImp,
                                               BidderAliases aliases) throws ValidationException {
 
+        final BidValidationEnforcement secureMarkupEnforcement = plan.getSecureMarkupEnforcement();
         if (secureMarkupEnforcement == BidValidationEnforcement.skip) {
             return Collections.emptyList();
         }
 
-        final String accountId = account.getId();
+        final String accountId = plan.getAccountId();
         final String referer = getReferer(bidRequest);
         final String adm = bid.getAdm();
 
@@ -306,19 +313,13 @@ public class ResponseBidValidator {
     }
 
     private void validateDealsFor(BidderBid bidderBid,
-                                  BidRequest bidRequest,
+                                  Imp imp,
                                   String bidder,
                                   BidderAliases aliases,
                                   List<String> warnings) throws ValidationException {
 
         final Bid bid = bidderBid.getBid();
         final String bidId = bid.getId();
-
-        final Imp imp = bidRequest.getImp().stream()
-                .filter(curImp -> Objects.equals(curImp.getId(), bid.getImpid()))
-                .findFirst()
-                .orElseThrow(() -> new ValidationException("Bid \"%s\" has no corresponding imp in request", bidId));
-
         final String dealId = bid.getDealid();
 
         if (isDealsOnlyImp(imp, bidder) && dealId == null) {
@@ -459,4 +460,14 @@ public class ResponseBidValidator {
     private static String formatSize(Format lineItemSize) {
         return "%dx%d".formatted(lineItemSize.getW(), lineItemSize.getH());
     }
+
+    @Value(staticConstructor = "of")
+    private static class AccountValidationPlan {
+
+        String accountId;
+
+        BidValidationEnforcement bannerMaxSizeEnforcement;
+
+        BidValidationEnforcement secureMarkupEnforcement;
+    }
 }
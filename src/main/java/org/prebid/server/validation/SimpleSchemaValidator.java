@@ -0,0 +1,163 @@
+package org.prebid.server.validation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Validator for JSON schemas which only require fields of the root object and declare primitive types of its
+ * properties. Checks types and required fields directly instead of walking the generic schema tree, producing
+ * the same messages as networknt validator does.
+ * <p>
+ * Schemas using any other keyword are not supported, see {@link #compile(JsonNode)}.
+ */
+class SimpleSchemaValidator {
+
+    private static final Set<String> ROOT_KEYWORDS = Set.of(
+            "$schema", "title", "description", "type", "properties", "required");
+    private static final Set<String> PROPERTY_KEYWORDS = Set.of("title", "description", "type");
+    private static final Set<String> TYPES = Set.of(
+            "object", "array", "string", "integer", "number", "boolean", "null");
+
+    private static final String OBJECT_TYPE = "object";
+    private static final String ROOT_PATH = "$";
+
+    private final Map<String, String> propertyTypes;
+    private final List<String> requiredProperties;
+
+    private SimpleSchemaValidator(Map<String, String> propertyTypes, List<String> requiredProperties) {
+        this.propertyTypes = propertyTypes;
+        this.requiredProperties = requiredProperties;
+    }
+
+    /**
+     * Returns validator for the given schema or null if schema is not simple enough.
+     */
+    static SimpleSchemaValidator compile(JsonNode schema) {
+        if (!schema.isObject() || !hasOnlyKeywords(schema, ROOT_KEYWORDS)
+                || !OBJECT_TYPE.equals(textOrNull(schema.get("type")))) {
+            return null;
+        }
+
+        final Map<String, String> propertyTypes = new LinkedHashMap<>();
+        final JsonNode properties = schema.get("properties");
+        if (properties != null) {
+            if (!properties.isObject()) {
+                return null;
+            }
+
+            final Iterator<Map.Entry<String, JsonNode>> fields = properties.fields();
+            while (fields.hasNext()) {
+                final Map.Entry<String, JsonNode> field = fields.next();
+                final JsonNode property = field.getValue();
+                final String type = property.isObject() && hasOnlyKeywords(property, PROPERTY_KEYWORDS)
+                        ? textOrNull(property.get("type"))
+                        : null;
+                if (type == null || !TYPES.contains(type)) {
+                    return null;
+                }
+                propertyTypes.put(field.getKey(), type);
+            }
+        }
+
+        final List<String> requiredProperties = new ArrayList<>();
+        final JsonNode required = schema.get("required");
+        if (required != null) {
+            if (!required.isArray()) {
+                return null;
+            }
+            for (JsonNode requiredProperty : required) {
+                if (!requiredProperty.isTextual()) {
+                    return null;
+                }
+                requiredProperties.add(requiredProperty.textValue());
+            }
+        }
+
+        return new SimpleSchemaValidator(propertyTypes, requiredProperties);
+    }
+
+    Set<String> validate(JsonNode node) {
+        final String nodeType = typeOf(node);
+        if (!OBJECT_TYPE.equals(nodeType)) {
+            return Collections.singleton(typeMismatch(ROOT_PATH, nodeType, OBJECT_TYPE));
+        }
+
+        Set<String> messages = null;
+        for (Map.Entry<String, String> propertyType : propertyTypes.entrySet()) {
+            final String name = propertyType.getKey();
+            final JsonNode value = node.get(name);
+            if (value == null) {
+                continue;
+            }
+
+            final String expectedType = propertyType.getValue();
+            final String valueType = typeOf(value);
+            if (!isTypeMatched(valueType, expectedType)) {
+                messages = add(messages, typeMismatch(ROOT_PATH + "." + name, valueType, expectedType));
+            }
+        }
+
+        for (String name : requiredProperties) {
+            if (node.get(name) == null) {
+                messages = add(messages, "%s.%s: is missing but it is required".formatted(ROOT_PATH, name));
+            }
+        }
+
+        return messages != null ? messages : Collections.emptySet();
+    }
+
+    private static boolean hasOnlyKeywords(JsonNode schema, Set<String> keywords) {
+        final Iterator<String> names = schema.fieldNames();
+        while (names.hasNext()) {
+            if (!keywords.contains(names.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String textOrNull(JsonNode node) {
+        return node != null && node.isTextual() ? node.textValue() : null;
+    }
+
+    private static String typeOf(JsonNode node) {
+        if (node.isObject()) {
+            return "object";
+        } else if (node.isArray()) {
+            return "array";
+        } else if (node.isTextual()) {
+            return "string";
+        } else if (node.isIntegralNumber()) {
+            return "integer";
+        } else if (node.isNumber()) {
+            return "number";
+        } else if (node.isBoolean()) {
+            return "boolean";
+        } else if (node.isNull()) {
+            return "null";
+        }
+        return "unknown";
+    }
+
+    private static boolean isTypeMatched(String valueType, String expectedType) {
+        return valueType.equals(expectedType) || ("number".equals(expectedType) && "integer".equals(valueType));
+    }
+
+    private static String typeMismatch(String path, String foundType, String expectedType) {
+        return "%s: %s found, %s expected".formatted(path, foundType, expectedType);
+    }
+
+    private static Set<String> add(Set<String> messages, String message) {
+        final Set<String> result = messages != null ? messages : new HashSet<>();
+        result.add(message);
+        return result;
+    }
+}
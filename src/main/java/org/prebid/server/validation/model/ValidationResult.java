@@ -28,6 +28,10 @@ public class ValidationResult {
         return new ValidationResult(warnings, Collections.singletonList(errorMessageFormat));
     }
 
+    public static ValidationResult errors(List<String> errors) {
+        return new ValidationResult(Collections.emptyList(), errors);
+    }
+
     public static ValidationResult success() {
         return success(Collections.emptyList());
     }
@@ -11,6 +11,8 @@ import io.vertx.core.http.HttpMethod;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.vertx.http.model.HttpClientResponse;
 
+import java.util.Collections;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
@@ -22,10 +24,23 @@ public class BasicHttpClient implements HttpClient {
 
     private final Vertx vertx;
     private final io.vertx.core.http.HttpClient httpClient;
+    private final HttpClientPoolRegistry poolRegistry;
+    private final Map<String, io.vertx.core.http.HttpClient> hostToHttpClient;
 
     public BasicHttpClient(Vertx vertx, io.vertx.core.http.HttpClient httpClient) {
+        this(vertx, httpClient, null);
+    }
+
+    public BasicHttpClient(Vertx vertx,
+                           io.vertx.core.http.HttpClient httpClient,
+                           HttpClientPoolRegistry poolRegistry) {
+
         this.vertx = Objects.requireNonNull(vertx);
         this.httpClient = Objects.requireNonNull(httpClient);
+        this.poolRegistry = poolRegistry;
+        this.hostToHttpClient = poolRegistry != null
+                ? poolRegistry.createHttpClients(vertx)
+                : Collections.emptyMap();
     }
 
     @Override
@@ -50,9 +65,15 @@ public class BasicHttpClient implements HttpClient {
         if (timeoutMs <= 0) {
             failResponse(new TimeoutException("Timeout has been exceeded"), promise);
         } else {
+            final HttpClientPool pool = poolRegistry != null ? poolRegistry.poolFor(url) : null;
+            if (pool != null) {
+                pool.requestStarted();
+                promise.future().onComplete(ignored -> pool.requestCompleted());
+            }
+
             final HttpClientRequest httpClientRequest;
             try {
-                httpClientRequest = httpClient.requestAbs(method, url);
+                httpClientRequest = httpClientFor(pool).requestAbs(method, url);
             } catch (Exception e) {
                 failResponse(e, promise);
                 return promise.future();
@@ -80,6 +101,10 @@ public class BasicHttpClient implements HttpClient {
         return promise.future();
     }
 
+    private io.vertx.core.http.HttpClient httpClientFor(HttpClientPool pool) {
+        return pool != null ? hostToHttpClient.get(pool.getHost()) : httpClient;
+    }
+
     private void handleTimeout(Promise<HttpClientResponse> promise,
                                long timeoutMs,
                                HttpClientRequest httpClientRequest) {
@@ -107,15 +132,15 @@ public class BasicHttpClient implements HttpClient {
         }
 
         response
-                .bodyHandler(buffer -> successResponse(buffer.toString(), response, promise, timerId))
+                .bodyHandler(buffer -> successResponse(buffer, response, promise, timerId))
                 .exceptionHandler(exception -> failResponse(exception, promise, timerId));
     }
 
-    private void successResponse(String body, io.vertx.core.http.HttpClientResponse response,
+    private void successResponse(Buffer body, io.vertx.core.http.HttpClientResponse response,
                                  Promise<HttpClientResponse> promise, long timerId) {
         vertx.cancelTimer(timerId);
 
-        promise.tryComplete(HttpClientResponse.of(response.statusCode(), response.headers(), body));
+        promise.tryComplete(HttpClientResponse.ofBuffer(response.statusCode(), response.headers(), body));
     }
 
     private void failResponse(Throwable exception, Promise<HttpClientResponse> promise, long timerId) {
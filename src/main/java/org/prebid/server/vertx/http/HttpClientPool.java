@@ -0,0 +1,107 @@
+package org.prebid.server.vertx.http;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpVersion;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Dedicated connection pool configuration for a single host.
+ * <p>
+ * Every event loop bound {@link BasicHttpClient} creates its own underlying client from these options,
+ * while requests accounting is shared between all of them to expose pool utilization.
+ * <p>
+ * Vert.x does not expose state of its connection pools, so utilization is estimated from number of requests
+ * in flight and configured capacity of the pool: it does not reflect actually opened connections or requests
+ * queued by Vert.x.
+ */
+public class HttpClientPool {
+
+    private final String name;
+    private final String host;
+    private final HttpClientOptions options;
+    private final long capacity;
+
+    private final AtomicInteger clients = new AtomicInteger();
+    private final AtomicLong inFlight = new AtomicLong();
+
+    public HttpClientPool(String name, String host, HttpClientOptions options) {
+        this.name = Objects.requireNonNull(name);
+        this.host = Objects.requireNonNull(host);
+        this.options = Objects.requireNonNull(options);
+        this.capacity = capacity(options);
+    }
+
+    /**
+     * Returns number of requests single client can serve at once, HTTP/2 connection without multiplexing limit
+     * is considered as unbounded.
+     */
+    private static long capacity(HttpClientOptions options) {
+        if (options.getProtocolVersion() == HttpVersion.HTTP_2) {
+            final int multiplexingLimit = options.getHttp2MultiplexingLimit();
+            return multiplexingLimit > 0
+                    ? (long) options.getHttp2MaxPoolSize() * multiplexingLimit
+                    : Long.MAX_VALUE;
+        }
+
+        final int requestsPerConnection = options.isPipelining() ? options.getPipeliningLimit() : 1;
+        return (long) options.getMaxPoolSize() * requestsPerConnection;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getHost() {
+        return host;
+    }
+
+    /**
+     * Tells whether the given pool is configured with the same connection options as this one.
+     */
+    boolean hasSameOptions(HttpClientPool other) {
+        return options.toJson().equals(other.options.toJson());
+    }
+
+    io.vertx.core.http.HttpClient createHttpClient(Vertx vertx) {
+        clients.incrementAndGet();
+        return vertx.createHttpClient(new HttpClientOptions(options));
+    }
+
+    void requestStarted() {
+        inFlight.incrementAndGet();
+    }
+
+    void requestCompleted() {
+        inFlight.decrementAndGet();
+    }
+
+    /**
+     * Returns estimated number of requests being served by pool connections.
+     */
+    public long estimatedActive() {
+        return Math.min(inFlight.get(), totalCapacity());
+    }
+
+    /**
+     * Returns estimated number of requests exceeding pool capacity, i.e. ones which have to wait
+     * for a free connection.
+     */
+    public long estimatedOverCapacity() {
+        return Math.max(inFlight.get() - totalCapacity(), 0);
+    }
+
+    /**
+     * Returns number of all requests sent through the pool and not completed yet.
+     */
+    public long inFlight() {
+        return inFlight.get();
+    }
+
+    private long totalCapacity() {
+        return capacity == Long.MAX_VALUE ? capacity : capacity * clients.get();
+    }
+}
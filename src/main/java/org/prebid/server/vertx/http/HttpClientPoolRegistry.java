@@ -0,0 +1,78 @@
+package org.prebid.server.vertx.http;
+
+import io.vertx.core.Vertx;
+import org.prebid.server.metric.Metrics;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Holds dedicated connection pools per destination host, so slow host cannot exhaust connections used for others.
+ * Requests to hosts without dedicated pool are served by the common one.
+ */
+public class HttpClientPoolRegistry {
+
+    private final Map<String, HttpClientPool> hostToPool;
+
+    public HttpClientPoolRegistry(List<HttpClientPool> pools, Metrics metrics) {
+        Objects.requireNonNull(metrics);
+
+        final Map<String, HttpClientPool> registeredPools = new HashMap<>();
+        for (HttpClientPool pool : Objects.requireNonNull(pools)) {
+            final HttpClientPool registeredPool = registeredPools.putIfAbsent(pool.getHost(), pool);
+            if (registeredPool != null && !registeredPool.hasSameOptions(pool)) {
+                throw new IllegalArgumentException(
+                        "Http client pools %s and %s have different settings for the same host %s"
+                                .formatted(registeredPool.getName(), pool.getName(), pool.getHost()));
+            }
+        }
+        hostToPool = Collections.unmodifiableMap(registeredPools);
+
+        hostToPool.values().forEach(pool -> metrics.createHttpClientPoolGauges(
+                pool.getName(), pool::estimatedActive, pool::estimatedOverCapacity, pool::inFlight));
+    }
+
+    /**
+     * Creates underlying clients for each pool, should be called once per event loop bound {@link BasicHttpClient}.
+     */
+    Map<String, io.vertx.core.http.HttpClient> createHttpClients(Vertx vertx) {
+        final Map<String, io.vertx.core.http.HttpClient> hostToHttpClient = new HashMap<>();
+        hostToPool.forEach((host, pool) -> hostToHttpClient.put(host, pool.createHttpClient(vertx)));
+        return hostToHttpClient;
+    }
+
+    /**
+     * Returns dedicated pool for the given url or null if there is no such.
+     */
+    HttpClientPool poolFor(String url) {
+        return hostToPool.isEmpty() ? null : hostToPool.get(hostOf(url));
+    }
+
+    /**
+     * Returns lower-cased host with port (if any) of the given url, or null if it cannot be determined.
+     */
+    public static String hostOf(String url) {
+        if (url == null) {
+            return null;
+        }
+
+        final int schemeEnd = url.indexOf("://");
+        final int hostStart = schemeEnd >= 0 ? schemeEnd + 3 : 0;
+
+        int hostEnd = url.length();
+        for (int i = hostStart; i < url.length(); i++) {
+            final char character = url.charAt(i);
+            if (character == '/' || character == '?' || character == '#') {
+                hostEnd = i;
+                break;
+            }
+        }
+
+        final int userInfoEnd = url.lastIndexOf('@', hostEnd - 1);
+        final String host = url.substring(Math.max(hostStart, userInfoEnd + 1), hostEnd);
+        return host.isEmpty() ? null : host.toLowerCase();
+    }
+}
@@ -0,0 +1,68 @@
+package org.prebid.server.vertx.http.model;
+
+import io.vertx.core.buffer.Buffer;
+
+import java.util.Objects;
+
+/**
+ * Holds HTTP response body given either as {@link String} or as raw {@link Buffer}.
+ * <p>
+ * Raw buffer is decoded to {@link String} only on first {@link #asString()} call, so consumers reading
+ * {@link #asBuffer()} avoid the extra string copy.
+ * <p>
+ * Bodies are compared by decoded string, so equality does not depend on how the body was created.
+ */
+public final class HttpBody {
+
+    private final Buffer buffer;
+
+    private String string;
+
+    private HttpBody(String string, Buffer buffer) {
+        this.string = string;
+        this.buffer = buffer;
+    }
+
+    public static HttpBody of(String body) {
+        return new HttpBody(body, null);
+    }
+
+    public static HttpBody ofBuffer(Buffer body) {
+        return new HttpBody(null, body);
+    }
+
+    public String asString() {
+        if (string == null && buffer != null) {
+            string = buffer.toString();
+        }
+        return string;
+    }
+
+    public Buffer asBuffer() {
+        if (buffer != null) {
+            return buffer;
+        }
+        return string != null ? Buffer.buffer(string) : null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return Objects.equals(asString(), ((HttpBody) o).asString());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(asString());
+    }
+
+    @Override
+    public String toString() {
+        return asString();
+    }
+}
@@ -1,21 +1,50 @@
 package org.prebid.server.vertx.http.model;
 
 import io.vertx.core.MultiMap;
-import lombok.AllArgsConstructor;
-import lombok.Value;
+import io.vertx.core.buffer.Buffer;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
 
 /**
  * Holds Http client response data.
  * <p>
  * Should be created in "bodyHandler(...) after response has been read."
+ * <p>
+ * When created from raw {@link Buffer} the body is decoded to {@link String} only on first {@link #getBody()} call,
+ * so consumers reading {@link #getBodyAsBuffer()} avoid the extra string copy, see {@link HttpBody}.
  */
-@AllArgsConstructor(staticName = "of")
-@Value
+@EqualsAndHashCode
+@ToString
 public class HttpClientResponse {
 
-    int statusCode;
+    @Getter
+    private final int statusCode;
+
+    @Getter
+    private final MultiMap headers;
+
+    private final HttpBody body;
+
+    private HttpClientResponse(int statusCode, MultiMap headers, HttpBody body) {
+        this.statusCode = statusCode;
+        this.headers = headers;
+        this.body = body;
+    }
+
+    public static HttpClientResponse of(int statusCode, MultiMap headers, String body) {
+        return new HttpClientResponse(statusCode, headers, HttpBody.of(body));
+    }
+
+    public static HttpClientResponse ofBuffer(int statusCode, MultiMap headers, Buffer body) {
+        return new HttpClientResponse(statusCode, headers, HttpBody.ofBuffer(body));
+    }
 
-    MultiMap headers;
+    public String getBody() {
+        return body.asString();
+    }
 
-    String body;
+    public Buffer getBodyAsBuffer() {
+        return body.asBuffer();
+    }
 }
@@ -105,7 +105,8 @@ public class CacheServiceNoWaitTest extends VertxTest {
                 metrics,
                 clock,
                 idGenerator,
-                jacksonMapper);
+                jacksonMapper,
+                null);
 
         eventsContext = EventsContext.builder().auctionId("auctionId").build();
 
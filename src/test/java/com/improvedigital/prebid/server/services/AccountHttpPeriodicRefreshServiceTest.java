@@ -4,7 +4,6 @@ import ch.qos.logback.classic.Level;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.improvedigital.prebid.server.UnitTestBase;
 import com.improvedigital.prebid.server.settings.proto.response.HttpAccountRefreshResponse;
-import com.improvedigital.prebid.server.utils.ReflectionUtils;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
@@ -13,6 +12,7 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
@@ -20,6 +20,7 @@ import org.mockito.stubbing.Answer;
 import org.prebid.server.execution.Timeout;
 import org.prebid.server.floors.PriceFloorsConfigResolver;
 import org.prebid.server.metric.Metrics;
+import org.prebid.server.settings.AccountStore;
 import org.prebid.server.settings.ApplicationSettings;
 import org.prebid.server.settings.CachingApplicationSettings;
 import org.prebid.server.settings.SettingsCache;
@@ -124,7 +125,7 @@ public class AccountHttpPeriodicRefreshServiceTest extends UnitTestBase {
     private final Map<String, Account> mergedAccountsAfterRefresh = new HashMap<>() {{
             put(accountId2, mergedAccount2);
         }};
-    private Map<String, Account> accountCache;
+    private AccountStore accountStore;
 
     private final LogCaptor logCaptor = LogCaptor.forClass(AccountHttpPeriodicRefreshService.class);
 
@@ -150,12 +151,9 @@ public class AccountHttpPeriodicRefreshServiceTest extends UnitTestBase {
         given(httpClient.get(matches("[?&]accounts=true&last-modified="), any(), anyLong()))
                 .willReturn(Future.succeededFuture(refreshResponse));
 
+        accountStore = new AccountStore();
         cachingApplicationSettings = new CachingApplicationSettings(
-                delegate, cache, ampCache, videoCache, metrics, 1000, 100
-        );
-
-        accountCache = ReflectionUtils.getPrivateProperty(
-                "accountCache", cachingApplicationSettings, CachingApplicationSettings.class
+                delegate, cache, ampCache, videoCache, accountStore, metrics, 1000, 100
         );
 
         logCaptor.setLogLevelToDebug();
@@ -165,7 +163,7 @@ public class AccountHttpPeriodicRefreshServiceTest extends UnitTestBase {
     public void creationShouldFailOnInvalidUrl() {
         assertThatIllegalArgumentException().isThrownBy(() -> createAndInitService(
                 cachingApplicationSettings, "invalid_url",
-                1, 1, 1,
+                1, 1,
                 vertx, httpClient, metrics
         ));
     }
@@ -175,21 +173,7 @@ public class AccountHttpPeriodicRefreshServiceTest extends UnitTestBase {
         // when
         createAndInitService(
                 cachingApplicationSettings, ENDPOINT_URL,
-                -1, 2000, 5000,
-                vertx, httpClient, metrics
-        );
-
-        // then
-        verify(vertx, never()).setPeriodic(anyLong(), any());
-        verify(httpClient, never()).get(anyString(), anyLong());
-    }
-
-    @Test
-    public void initializeShouldNotMakeAnyRequestIfRefreshPeriodIsGreaterThanCacheTtl() {
-        // when
-        createAndInitService(
-                cachingApplicationSettings, ENDPOINT_URL,
-                1000, 2000, 100,
+                -1, 2000,
                 vertx, httpClient, metrics
         );
 
@@ -207,7 +191,7 @@ public class AccountHttpPeriodicRefreshServiceTest extends UnitTestBase {
 
         // when
         createAndInitService(
-                cachingApplicationSettings, urlWithParam, 1000, 2000, 5000,
+                cachingApplicationSettings, urlWithParam, 1000, 2000,
                 vertx, httpClient, metrics
         );
 
@@ -227,12 +211,12 @@ public class AccountHttpPeriodicRefreshServiceTest extends UnitTestBase {
         // when
         AccountHttpPeriodicRefreshService service = createService(
                 cachingApplicationSettings, ENDPOINT_URL,
-                1000, 2000, 5000, vertx, httpClient,
+                1000, 2000, vertx, httpClient,
                 NULL_ACCOUNT_CONFIG, metrics
         );
 
         assertThat(service.getLastUpdateTime()).isNull();
-        assertThat(accountCache.isEmpty()).isTrue();
+        assertThat(accountStore.accounts().isEmpty()).isTrue();
 
         service.initialize();
 
@@ -243,13 +227,105 @@ public class AccountHttpPeriodicRefreshServiceTest extends UnitTestBase {
                 .get(startsWith(ENDPOINT_URL + "?accounts=true&last-modified="), any(), anyLong());
 
         assertThat(service.getLastUpdateTime()).isNotNull();
-        assertThat(accountCache.size()).isEqualTo(1);
-        assertThat(accountCache.get(accountId1)).isNull();
-        assertThat(accountCache.get(accountId2)).isEqualTo(account2);
+        assertThat(accountStore.accounts().size()).isEqualTo(1);
+        assertThat(accountStore.get(accountId1)).isNull();
+        assertThat(accountStore.get(accountId2)).isEqualTo(account2);
 
         assertLogMessages();
     }
 
+    @Test
+    public void shouldNotApplyAccountsReturnedUnchanged() throws Exception {
+        // given
+        given(httpClient.get(matches("[?&]accounts=true&last-modified="), any(), anyLong()))
+                .willReturn(Future.succeededFuture(HttpClientResponse.of(200, null,
+                        mapper.writeValueAsString(HttpAccountRefreshResponse.of(initialResponseData)))));
+        given(vertx.setPeriodic(anyLong(), any()))
+                .willAnswer(withSelfAndPassObjectToHandler(1L));
+
+        // when
+        createAndInitService(
+                cachingApplicationSettings, ENDPOINT_URL,
+                1000, 2000, vertx, httpClient, metrics
+        );
+
+        // then
+        verify(httpClient, times(1))
+                .get(startsWith(ENDPOINT_URL + "?accounts=true&last-modified="), any(), anyLong());
+        assertThat(accountStore.version()).isEqualTo(1L);
+        assertThat(accountStore.get(accountId1)).isNotNull();
+        assertThat(hasLogEventWith(logCaptor, "No accounts have been updated since last refresh.", Level.DEBUG))
+                .isTrue();
+    }
+
+    @Test
+    public void shouldApplyUnchangedAccountAgainAfterInvalidation() throws Exception {
+        // given
+        given(httpClient.get(matches("[?&]accounts=true&last-modified="), any(), anyLong()))
+                .willReturn(Future.succeededFuture(HttpClientResponse.of(200, null,
+                        mapper.writeValueAsString(HttpAccountRefreshResponse.of(initialResponseData)))));
+        final ArgumentCaptor<Handler<Long>> refreshCaptor = ArgumentCaptor.forClass(Handler.class);
+        given(vertx.setPeriodic(anyLong(), refreshCaptor.capture())).willReturn(1L);
+
+        createAndInitService(
+                cachingApplicationSettings, ENDPOINT_URL,
+                1000, 2000, vertx, httpClient, metrics
+        );
+
+        // when
+        cachingApplicationSettings.invalidateAccountCache(accountId1);
+        refreshCaptor.getValue().handle(1L);
+
+        // then
+        assertThat(accountStore.get(accountId1)).isEqualTo(account1);
+    }
+
+    @Test
+    public void shouldApplyUnchangedAccountsAgainAfterAllAccountsInvalidation() throws Exception {
+        // given
+        given(httpClient.get(matches("[?&]accounts=true&last-modified="), any(), anyLong()))
+                .willReturn(Future.succeededFuture(HttpClientResponse.of(200, null,
+                        mapper.writeValueAsString(HttpAccountRefreshResponse.of(initialResponseData)))));
+        final ArgumentCaptor<Handler<Long>> refreshCaptor = ArgumentCaptor.forClass(Handler.class);
+        given(vertx.setPeriodic(anyLong(), refreshCaptor.capture())).willReturn(1L);
+
+        createAndInitService(
+                cachingApplicationSettings, ENDPOINT_URL,
+                1000, 2000, vertx, httpClient, metrics
+        );
+
+        // when
+        cachingApplicationSettings.invalidateAllAccountCache();
+        refreshCaptor.getValue().handle(1L);
+
+        // then
+        assertThat(accountStore.get(accountId1)).isEqualTo(account1);
+    }
+
+    @Test
+    public void shouldSkipAccountsThatCannotBeConverted() throws Exception {
+        // given
+        final Map<String, ObjectNode> responseData = new HashMap<>();
+        responseData.put(accountId1, mapper.valueToTree(account1));
+        responseData.put(accountId2, mapper.createObjectNode().put("auction", "invalid"));
+        given(httpClient.get(matches("[?&]accounts=true$"), any(), anyLong()))
+                .willReturn(Future.succeededFuture(HttpClientResponse.of(200, null,
+                        mapper.writeValueAsString(HttpAccountRefreshResponse.of(responseData)))));
+
+        // when
+        createAndInitService(
+                cachingApplicationSettings, ENDPOINT_URL,
+                1000, 2000, vertx, httpClient, metrics
+        );
+
+        // then
+        assertThat(accountStore.accounts()).containsOnlyKeys(accountId1);
+        assertThat(accountStore.get(accountId1)).isEqualTo(account1);
+        assertThat(hasLogEventWith(logCaptor, String.format(
+                "Account with id=%s cannot be converted and is skipped until it is changed", accountId2), Level.ERROR))
+                .isTrue();
+    }
+
     private void assertLogMessages() {
         String message = String.format(
                 "Account with id=%s has been saved in cache successfully.",
@@ -293,12 +369,12 @@ public class AccountHttpPeriodicRefreshServiceTest extends UnitTestBase {
         // when
         AccountHttpPeriodicRefreshService service = createService(
                 cachingApplicationSettings, ENDPOINT_URL,
-                1000, 2000, 5000, vertx, httpClient,
+                1000, 2000, vertx, httpClient,
                 DEFAULT_ACCOUNT_CONFIG, metrics
         );
 
         assertThat(service.getLastUpdateTime()).isNull();
-        assertThat(accountCache.isEmpty()).isTrue();
+        assertThat(accountStore.accounts().isEmpty()).isTrue();
 
         service.initialize();
 
@@ -309,8 +385,8 @@ public class AccountHttpPeriodicRefreshServiceTest extends UnitTestBase {
                 .get(startsWith(ENDPOINT_URL + "?accounts=true&last-modified="), any(), anyLong());
 
         assertThat(service.getLastUpdateTime()).isNotNull();
-        assertThat(accountCache.size()).isEqualTo(mergedAccountsAfterRefresh.size());
-        assertThat(accountCache.get(accountId2)).isEqualTo(mergedAccount2);
+        assertThat(accountStore.accounts().size()).isEqualTo(mergedAccountsAfterRefresh.size());
+        assertThat(accountStore.get(accountId2)).isEqualTo(mergedAccount2);
 
         assertLogMessages();
     }
@@ -327,8 +403,7 @@ public class AccountHttpPeriodicRefreshServiceTest extends UnitTestBase {
                     assertThat(asyncResult.result()).isEqualTo(account1);
                 });
 
-        accountCache.remove(accountId1); // reset accountCache
-        shouldUpdateAccountCacheAfterPeriodicUpdate(); // update accountCache with periodic refresher
+        shouldUpdateAccountCacheAfterPeriodicUpdate(); // update account store with periodic refresher
 
         cachingApplicationSettings.getAccountById(accountId2, timeout)
                 .onComplete(asyncResult -> {
@@ -345,7 +420,7 @@ public class AccountHttpPeriodicRefreshServiceTest extends UnitTestBase {
 
     private static AccountHttpPeriodicRefreshService createService(
             CachingApplicationSettings cachingApplicationSettings, String url, long refreshPeriod,
-            long timeout, long cacheTtl, Vertx vertx, HttpClient httpClient,
+            long timeout, Vertx vertx, HttpClient httpClient,
             String accountConfig, Metrics metrics
     ) {
         PriceFloorsConfigResolver priceFloorsConfigResolver = new PriceFloorsConfigResolver(
@@ -353,20 +428,20 @@ public class AccountHttpPeriodicRefreshServiceTest extends UnitTestBase {
         );
         return new AccountHttpPeriodicRefreshService(
                 cachingApplicationSettings, url, refreshPeriod,
-                timeout, cacheTtl, vertx, httpClient,
+                timeout, vertx, httpClient,
                 accountConfig, priceFloorsConfigResolver,
-                merger, jacksonMapper
+                merger, jacksonMapper, null
         );
     }
 
     private static void createAndInitService(
             CachingApplicationSettings cachingApplicationSettings, String url, long refreshPeriod,
-            long timeout, long cacheTtl, Vertx vertx, HttpClient httpClient,
+            long timeout, Vertx vertx, HttpClient httpClient,
             Metrics metrics
     ) {
         final AccountHttpPeriodicRefreshService service = createService(
                 cachingApplicationSettings, url, refreshPeriod, timeout,
-                cacheTtl, vertx, httpClient, NULL_ACCOUNT_CONFIG, metrics
+                vertx, httpClient, NULL_ACCOUNT_CONFIG, metrics
         );
         service.initialize();
     }
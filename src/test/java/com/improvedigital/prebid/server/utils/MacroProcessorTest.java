@@ -0,0 +1,79 @@
+package com.improvedigital.prebid.server.utils;
+
+import com.improvedigital.prebid.server.exception.TokenNotFoundException;
+import org.junit.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class MacroProcessorTest {
+
+    private final MacroProcessor macroProcessor = new MacroProcessor();
+
+    @Test
+    public void processShouldReplaceTokensWithValues() throws TokenNotFoundException {
+        // when
+        final String result = macroProcessor.process(
+                "https://t.com/{{a}}?b={{b}}&a={{a}}", Map.of("a", "1", "b", "2"));
+
+        // then
+        assertThat(result).isEqualTo("https://t.com/1?b=2&a=1");
+    }
+
+    @Test
+    public void processShouldReturnSameResultForRepeatedTemplateWithOtherValues() throws TokenNotFoundException {
+        // given
+        macroProcessor.process("{{a}}-{{b}}", Map.of("a", "1", "b", "2"));
+
+        // when
+        final String result = macroProcessor.process("{{a}}-{{b}}", Map.of("a", "3", "b", "4"));
+
+        // then
+        assertThat(result).isEqualTo("3-4");
+    }
+
+    @Test
+    public void processShouldInsertValuesLiterally() throws TokenNotFoundException {
+        // when
+        final String result = macroProcessor.process("p={{a}}", Map.of("a", "$1\\x"));
+
+        // then
+        assertThat(result).isEqualTo("p=$1\\x");
+    }
+
+    @Test
+    public void processShouldFailOnNotFoundTokens() {
+        assertThatThrownBy(() -> macroProcessor.process("{{a}}{{missing}}", Map.of("a", "1")))
+                .isInstanceOf(TokenNotFoundException.class)
+                .hasMessageContaining("missing");
+    }
+
+    @Test
+    public void processShouldKeepNotFoundTokensWhenIgnored() throws TokenNotFoundException {
+        // when
+        final String result = macroProcessor.process("{{a}}/{{missing}}", Map.of("a", "1"), true);
+
+        // then
+        assertThat(result).isEqualTo("1/{{missing}}");
+    }
+
+    @Test
+    public void processShouldSupportCustomTokenBoundsWithSpaces() throws TokenNotFoundException {
+        // given
+        final MacroProcessor processor = new MacroProcessor("${", "}", true);
+
+        // when
+        final String result = processor.process("x=${ a }&y=${b}", Map.of("a", "1", "b", "2"));
+
+        // then
+        assertThat(result).isEqualTo("x=1&y=2");
+    }
+
+    @Test
+    public void processShouldReturnTemplateWithoutTokensAsIs() throws TokenNotFoundException {
+        assertThat(macroProcessor.process("plain", Map.of())).isEqualTo("plain");
+        assertThat(macroProcessor.process("", Map.of())).isEmpty();
+    }
+}
@@ -191,6 +191,17 @@ public class XmlUtilsTest extends UnitTestBase {
         assertThat(result).isEqualTo(SERIALIZED_IMP);
     }
 
+    @Test
+    public void testWriterFor() throws Exception {
+        assertThat(XmlUtils.writerFor(Imp.class)).isSameAs(XmlUtils.writerFor(Imp.class));
+        assertThat(XmlUtils.writerFor(Imp.class).writeValueAsString(imp)).isEqualTo(SERIALIZED_IMP);
+
+        // pretty printed serialization must not affect the shared compact writer
+        XmlUtils.serialize(debugExtension, true);
+        assertThat(XmlUtils.writerFor(CustomVast.DebugExtension.class).writeValueAsString(debugExtension))
+                .isEqualTo(SERIALIZED_DEBUG_EXTENSION);
+    }
+
     @Test
     @Ignore /* As of now XmlUtils.deserialize() is not used anywhere other than tests. Fix it later. */
     public void testDeserialize() throws Exception {
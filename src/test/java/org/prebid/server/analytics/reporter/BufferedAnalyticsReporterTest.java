@@ -0,0 +1,249 @@
+package org.prebid.server.analytics.reporter;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.analytics.AnalyticsReporter;
+import org.prebid.server.analytics.PreparingAnalyticsReporter;
+import org.prebid.server.analytics.reporter.BufferedAnalyticsReporter.OverflowPolicy;
+import org.prebid.server.exception.PreBidException;
+import org.prebid.server.metric.Metrics;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class BufferedAnalyticsReporterTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private AnalyticsReporter analyticsReporter;
+    @Mock
+    private PreparingAnalyticsReporter preparingAnalyticsReporter;
+    @Mock
+    private Vertx vertx;
+    @Mock
+    private Context context;
+    @Mock
+    private WorkerExecutor workerExecutor;
+    @Mock
+    private Metrics metrics;
+
+    private Clock clock;
+
+    @Before
+    public void setUp() {
+        clock = Clock.fixed(Instant.now(), ZoneId.systemDefault());
+
+        given(analyticsReporter.name()).willReturn("reporter");
+        given(analyticsReporter.processEvent(any())).willReturn(Future.succeededFuture());
+        given(vertx.getOrCreateContext()).willReturn(context);
+        given(vertx.createSharedWorkerExecutor(anyString(), anyInt())).willReturn(workerExecutor);
+
+        willAnswer(invocation -> {
+            final Handler<Void> handler = invocation.getArgument(0);
+            handler.handle(null);
+            return null;
+        }).given(context).runOnContext(any());
+
+        willAnswer(invocation -> {
+            final Handler<Promise<Void>> blockingHandler = invocation.getArgument(0);
+            final Handler<AsyncResult<Void>> resultHandler = invocation.getArgument(2);
+            final Promise<Void> promise = Promise.promise();
+            blockingHandler.handle(promise);
+            resultHandler.handle(promise.future());
+            return null;
+        }).given(workerExecutor).executeBlocking(any(), anyBoolean(), any());
+    }
+
+    @Test
+    public void creationShouldFailOnNonPositiveCapacity() {
+        assertThatIllegalArgumentException().isThrownBy(() -> givenReporter(0, 1, OverflowPolicy.dropNewest));
+    }
+
+    @Test
+    public void processEventShouldNotReportEventUntilBatchIsFull() {
+        // given
+        final BufferedAnalyticsReporter target = givenReporter(10, 2, OverflowPolicy.dropNewest);
+
+        // when
+        final Future<Void> result = target.processEvent("event");
+
+        // then
+        assertThat(result.isComplete()).isFalse();
+        verify(analyticsReporter, never()).processEvent(any());
+    }
+
+    @Test
+    public void processEventShouldReportBufferedEventsOnReporterContextWhenBatchIsFull() {
+        // given
+        final BufferedAnalyticsReporter target = givenReporter(10, 2, OverflowPolicy.dropNewest);
+
+        // when
+        final Future<Void> first = target.processEvent("event1");
+        final Future<Void> second = target.processEvent("event2");
+
+        // then
+        assertThat(first.succeeded()).isTrue();
+        assertThat(second.succeeded()).isTrue();
+        verify(analyticsReporter).processEvent("event1");
+        verify(analyticsReporter).processEvent("event2");
+        verify(workerExecutor).executeBlocking(any(), eq(false), any());
+        verify(metrics).updateAnalyticsFlushTime(eq("reporter"), anyLong());
+    }
+
+    @Test
+    public void processEventShouldRecordFlushTimeWhenBatchIsReported() {
+        // given
+        final Promise<Void> reportPromise = Promise.promise();
+        given(analyticsReporter.processEvent(any())).willReturn(reportPromise.future());
+        final BufferedAnalyticsReporter target = givenReporter(10, 1, OverflowPolicy.dropNewest);
+
+        // when
+        final Future<Void> result = target.processEvent("event");
+
+        // then
+        assertThat(result.isComplete()).isFalse();
+        verify(metrics, never()).updateAnalyticsFlushTime(any(), anyLong());
+
+        // when
+        reportPromise.complete();
+
+        // then
+        assertThat(result.succeeded()).isTrue();
+        verify(metrics).updateAnalyticsFlushTime(eq("reporter"), anyLong());
+    }
+
+    @Test
+    public void processEventShouldNotFlushNextBatchUntilPreviousBatchIsReported() {
+        // given
+        final Promise<Void> reportPromise = Promise.promise();
+        given(analyticsReporter.processEvent("event1")).willReturn(reportPromise.future());
+        final BufferedAnalyticsReporter target = givenReporter(10, 1, OverflowPolicy.dropNewest);
+
+        // when
+        target.processEvent("event1");
+        final Future<Void> second = target.processEvent("event2");
+
+        // then
+        verify(analyticsReporter, never()).processEvent("event2");
+
+        // when
+        reportPromise.complete();
+
+        // then
+        verify(analyticsReporter).processEvent("event2");
+        assertThat(second.succeeded()).isTrue();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void processEventShouldPrepareEventsOnWorkerAndReportThemOnReporterContext() {
+        // given
+        given(preparingAnalyticsReporter.name()).willReturn("reporter");
+        given(preparingAnalyticsReporter.prepareEvent(any())).willReturn("prepared");
+        given(preparingAnalyticsReporter.reportPreparedEvent(any())).willReturn(Future.succeededFuture());
+
+        final BufferedAnalyticsReporter target = new BufferedAnalyticsReporter(
+                preparingAnalyticsReporter, 10, 1, 1000L, OverflowPolicy.dropNewest, vertx, metrics, clock);
+
+        final ArgumentCaptor<Handler<Promise<Object>>> blockingHandlerCaptor = ArgumentCaptor.forClass(Handler.class);
+        final ArgumentCaptor<Handler<AsyncResult<Object>>> resultHandlerCaptor =
+                ArgumentCaptor.forClass(Handler.class);
+        willAnswer(invocation -> null).given(workerExecutor).executeBlocking(
+                blockingHandlerCaptor.capture(), anyBoolean(), resultHandlerCaptor.capture());
+
+        final Future<Void> result = target.processEvent("event");
+        final Promise<Object> blockingPromise = Promise.promise();
+
+        // when
+        blockingHandlerCaptor.getValue().handle(blockingPromise);
+
+        // then
+        verify(preparingAnalyticsReporter).prepareEvent("event");
+        verify(preparingAnalyticsReporter, never()).reportPreparedEvent(any());
+        assertThat(result.isComplete()).isFalse();
+
+        // when
+        resultHandlerCaptor.getValue().handle(blockingPromise.future());
+
+        // then
+        verify(preparingAnalyticsReporter).reportPreparedEvent("prepared");
+        verify(preparingAnalyticsReporter, never()).processEvent(any());
+        assertThat(result.succeeded()).isTrue();
+    }
+
+    @Test
+    public void processEventShouldDropNewEventWhenBufferIsFullAndPolicyIsDropNewest() {
+        // given
+        final BufferedAnalyticsReporter target = givenReporter(1, 10, OverflowPolicy.dropNewest);
+        final Future<Void> buffered = target.processEvent("event1");
+
+        // when
+        final Future<Void> result = target.processEvent("event2");
+
+        // then
+        assertThat(buffered.isComplete()).isFalse();
+        assertThat(result.failed()).isTrue();
+        assertThat(result.cause()).isInstanceOf(PreBidException.class);
+        verify(metrics).updateAnalyticsEventDropped("reporter");
+    }
+
+    @Test
+    public void processEventShouldDropOldestEventWhenBufferIsFullAndPolicyIsDropOldest() {
+        // given
+        final BufferedAnalyticsReporter target = givenReporter(1, 10, OverflowPolicy.dropOldest);
+        final Future<Void> oldest = target.processEvent("event1");
+
+        // when
+        final Future<Void> result = target.processEvent("event2");
+
+        // then
+        assertThat(oldest.failed()).isTrue();
+        assertThat(result.isComplete()).isFalse();
+        verify(metrics).updateAnalyticsEventDropped("reporter");
+    }
+
+    @Test
+    public void creationShouldRegisterQueueSizeGaugeAndFlushTimer() {
+        // when
+        givenReporter(10, 2, OverflowPolicy.dropNewest);
+
+        // then
+        verify(metrics).createAnalyticsQueueSizeGauge(eq("reporter"), any());
+        verify(vertx).createSharedWorkerExecutor("analytics-buffer-reporter", 1);
+        verify(vertx, times(1)).setPeriodic(eq(1000L), any());
+    }
+
+    private BufferedAnalyticsReporter givenReporter(int capacity, int batchSize, OverflowPolicy overflowPolicy) {
+        return new BufferedAnalyticsReporter(
+                analyticsReporter, capacity, batchSize, 1000L, overflowPolicy, vertx, metrics, clock);
+    }
+}
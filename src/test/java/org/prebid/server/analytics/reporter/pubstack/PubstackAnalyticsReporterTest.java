@@ -35,6 +35,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -270,4 +271,22 @@ public class PubstackAnalyticsReporterTest extends VertxTest {
         // then
         verify(videoHandler).handle(same(videoEvent));
     }
+
+    @Test
+    public void reportPreparedEventShouldPassEventSerializedByPrepareEventToEventHandler() {
+        // given
+        pubstackAnalyticsReporter = new PubstackAnalyticsReporter(properties, httpClient, jacksonMapper, vertx);
+        // inject mocked handler to private fields without accessor method
+        ReflectionTestUtils.setField(pubstackAnalyticsReporter, "eventHandlers",
+                Collections.singletonMap(EventType.auction, auctionHandler));
+        final AuctionEvent auctionEvent = AuctionEvent.builder().build();
+        given(auctionHandler.prepare(same(auctionEvent))).willReturn("{}");
+
+        // when
+        pubstackAnalyticsReporter.reportPreparedEvent(pubstackAnalyticsReporter.prepareEvent(auctionEvent));
+
+        // then
+        verify(auctionHandler).report("{}");
+        verify(auctionHandler, never()).handle(any());
+    }
 }
@@ -54,6 +54,7 @@ import org.prebid.server.auction.model.BidderResponse;
 import org.prebid.server.auction.model.DebugContext;
 import org.prebid.server.auction.model.MultiBidConfig;
 import org.prebid.server.auction.model.StoredResponseResult;
+import org.prebid.server.auction.profiling.AuctionProfiler;
 import org.prebid.server.auction.versionconverter.BidRequestOrtbVersionConversionManager;
 import org.prebid.server.bidder.Bidder;
 import org.prebid.server.bidder.BidderCatalog;
@@ -178,6 +179,7 @@ import static org.assertj.core.api.Assertions.entry;
 import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
@@ -273,6 +275,8 @@ public class ExchangeServiceTest extends VertxTest {
     @Mock
     private CriteriaLogManager criteriaLogManager;
 
+    private AuctionProfiler auctionProfiler;
+
     private ExchangeService exchangeService;
 
     private Timeout timeout;
@@ -363,12 +367,13 @@ public class ExchangeServiceTest extends VertxTest {
         given(criteriaLogManager.traceResponse(any(), any(), any(), anyBoolean()))
                 .willAnswer(inv -> inv.getArgument(1));
 
-        given(ortbVersionConversionManager.convertFromAuctionSupportedVersion(any(), any()))
+        given(ortbVersionConversionManager.convertFromAuctionSupportedVersion(any(), any(), any()))
                 .willAnswer(invocation -> invocation.getArgument(0));
 
         clock = Clock.fixed(Instant.now(), ZoneId.systemDefault());
         timeout = new TimeoutFactory(clock).create(500);
         dealsProcessor = new DealsProcessor(jacksonMapper);
+        auctionProfiler = new AuctionProfiler(0, metrics);
 
         exchangeService = new ExchangeService(
                 0,
@@ -396,7 +401,8 @@ public class ExchangeServiceTest extends VertxTest {
                 metrics,
                 clock,
                 jacksonMapper,
-                criteriaLogManager);
+                criteriaLogManager,
+                auctionProfiler);
     }
 
     @Test
@@ -428,7 +434,8 @@ public class ExchangeServiceTest extends VertxTest {
                         metrics,
                         clock,
                         jacksonMapper,
-                        criteriaLogManager))
+                        criteriaLogManager,
+                        auctionProfiler))
                 .withMessage("Expected cache time should be positive");
     }
 
@@ -707,7 +714,8 @@ public class ExchangeServiceTest extends VertxTest {
                 metrics,
                 clock,
                 jacksonMapper,
-                criteriaLogManager);
+                criteriaLogManager,
+                auctionProfiler);
 
         final Bidder<?> bidder1 = mock(Bidder.class);
         final Bidder<?> bidder2 = mock(Bidder.class);
@@ -1105,7 +1113,7 @@ public class ExchangeServiceTest extends VertxTest {
                 .willReturn(Future.succeededFuture(
                         BidResponse.builder()
                                 .ext(ExtBidResponse.builder()
-                                        .debug(ExtResponseDebug.of(null, null, null, null))
+                                        .debug(ExtResponseDebug.of(null, null, null, null, null))
                                         .build())
                                 .build()));
 
@@ -1122,6 +1130,89 @@ public class ExchangeServiceTest extends VertxTest {
         assertThat(result.getBidResponse().getExt().getDebug()).isNotNull();
     }
 
+    @Test
+    public void shouldAddAuctionProfileToDebugInfoAndMetricsWhenProfilingIsEnabled() {
+        // given
+        exchangeService = new ExchangeService(
+                0,
+                abortOnHookError,
+                bidderCatalog,
+                storedResponseProcessor,
+                dealsProcessor,
+                privacyEnforcementService,
+                fpdResolver,
+                supplyChainResolver,
+                debugResolver,
+                new NoOpMediaTypeProcessor(),
+                ortbVersionConversionManager,
+                httpBidderRequester,
+                responseBidValidator,
+                currencyService,
+                bidResponseCreator,
+                bidResponsePostProcessor,
+                hookStageExecutor,
+                applicationEventService,
+                httpInteractionLogger,
+                priceFloorAdjuster,
+                priceFloorEnforcer,
+                bidAdjustmentFactorResolver,
+                metrics,
+                clock,
+                jacksonMapper,
+                criteriaLogManager,
+                new AuctionProfiler(0.5, metrics));
+
+        givenBidder(givenEmptySeatBid());
+        given(bidResponseCreator.create(anyList(), any(), any(), any()))
+                .willReturn(Future.succeededFuture(
+                        BidResponse.builder()
+                                .ext(ExtBidResponse.builder()
+                                        .debug(ExtResponseDebug.of(null, null, null, null, null))
+                                        .build())
+                                .build()));
+
+        final BidRequest bidRequest = givenBidRequest(givenSingleImp(singletonMap("bidder", 2)));
+        final AuctionContext auctionContext = givenRequestContext(bidRequest).toBuilder()
+                .debugContext(DebugContext.of(true, null))
+                .build();
+
+        // when
+        final AuctionContext result = exchangeService.holdAuction(auctionContext).result();
+
+        // then
+        assertThat(result.getBidResponse().getExt().getDebug().getProfile())
+                .containsKeys("stored_responses", "privacy_enforcement", "bidder_requests", "bidder_calls",
+                        "bid_processing", "response_creation", "analytics", "post_processing", "response_hooks")
+                .allSatisfy((stage, profile) -> assertThat(profile.getWallTimeMicros()).isNotNegative());
+        verify(metrics).updateAuctionStageMetrics(eq("bid_processing"), anyLong(), anyLong(), anyLong());
+    }
+
+    @Test
+    public void shouldNotProfileAuctionWhenProfilingIsDisabled() {
+        // given
+        givenBidder(givenEmptySeatBid());
+        given(bidResponseCreator.create(anyList(), any(), any(), any()))
+                .willReturn(Future.succeededFuture(
+                        BidResponse.builder()
+                                .ext(ExtBidResponse.builder()
+                                        .debug(ExtResponseDebug.of(null, null, null, null, null))
+                                        .build())
+                                .build()));
+
+        final BidRequest bidRequest = givenBidRequest(givenSingleImp(singletonMap("bidder", 2)));
+        final AuctionContext auctionContext = givenRequestContext(bidRequest).toBuilder()
+                .debugContext(DebugContext.of(true, null))
+                .build();
+
+        // when
+        final AuctionContext result = exchangeService.holdAuction(auctionContext).result();
+
+        // then
+        assertThat(result.getAuctionProfile()).isNull();
+        assertThat(result.getBidResponse().getExt().getDebug().getProfile()).isNull();
+        verify(metrics, never()).updateAuctionStageMetrics(anyString(), anyLong(), anyLong(), anyLong());
+    }
+
     @Test
     public void shouldAddDebugInfoIfDebugEnabledAndPublisherAndBidderAllowedDebug() {
         // given
@@ -1134,7 +1225,7 @@ public class ExchangeServiceTest extends VertxTest {
                 .willReturn(Future.succeededFuture(
                         BidResponse.builder()
                                 .ext(ExtBidResponse.builder()
-                                        .debug(ExtResponseDebug.of(null, null, null, null))
+                                        .debug(ExtResponseDebug.of(null, null, null, null, null))
                                         .build())
                                 .build()));
 
@@ -2735,7 +2826,8 @@ public class ExchangeServiceTest extends VertxTest {
                 metrics,
                 clock,
                 jacksonMapper,
-                criteriaLogManager);
+                criteriaLogManager,
+                auctionProfiler);
 
         final Bid bid = Bid.builder().id("bidId1").impid("impId1").price(BigDecimal.valueOf(5.67)).build();
         givenBidder(givenSeatBid(singletonList(givenBid(bid))));
@@ -4434,7 +4526,8 @@ public class ExchangeServiceTest extends VertxTest {
                 metrics,
                 clock,
                 jacksonMapper,
-                criteriaLogManager);
+                criteriaLogManager,
+                auctionProfiler);
 
         // when
         final Future<AuctionContext> result = exchangeService.holdAuction(auctionContext);
@@ -4448,7 +4541,7 @@ public class ExchangeServiceTest extends VertxTest {
     @Test
     public void shouldConvertBidRequestOpenRTBVersionToConfiguredByBidder() {
         // given
-        given(ortbVersionConversionManager.convertFromAuctionSupportedVersion(any(), any())).willAnswer(
+        given(ortbVersionConversionManager.convertFromAuctionSupportedVersion(any(), any(), any())).willAnswer(
                 invocation -> ((BidRequest) invocation.getArgument(0))
                         .toBuilder()
                         .source(null)
@@ -4472,6 +4565,34 @@ public class ExchangeServiceTest extends VertxTest {
                 .isNull();
     }
 
+    @Test
+    public void shouldRecordOrtbConversionTimeWhenBidderRequiresConversion() {
+        // given
+        given(ortbVersionConversionManager.isConversionFromAuctionSupportedVersionRequired(any())).willReturn(true);
+
+        final BidRequest bidRequest = givenBidRequest(givenSingleImp(singletonMap("bidderName", 1)));
+
+        // when
+        exchangeService.holdAuction(givenRequestContext(bidRequest));
+
+        // then
+        verify(metrics).updateOrtbConversionTime(anyLong());
+    }
+
+    @Test
+    public void shouldNotRecordOrtbConversionTimeWhenBidderDoesNotRequireConversion() {
+        // given
+        given(ortbVersionConversionManager.isConversionFromAuctionSupportedVersionRequired(any())).willReturn(false);
+
+        final BidRequest bidRequest = givenBidRequest(givenSingleImp(singletonMap("bidderName", 1)));
+
+        // when
+        exchangeService.holdAuction(givenRequestContext(bidRequest));
+
+        // then
+        verify(metrics, never()).updateOrtbConversionTime(anyLong());
+    }
+
     private AuctionContext givenRequestContext(BidRequest bidRequest) {
         return givenRequestContext(
                 bidRequest,
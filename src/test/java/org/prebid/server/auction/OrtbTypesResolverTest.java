@@ -4,15 +4,18 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.IntNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.iab.openrtb.request.BidRequest;
 import org.junit.Test;
 import org.prebid.server.VertxTest;
 import org.prebid.server.json.JsonMerger;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class OrtbTypesResolverTest extends VertxTest {
 
@@ -222,122 +225,123 @@ public class OrtbTypesResolverTest extends VertxTest {
     }
 
     @Test
-    public void normalizeBidRequestShouldMergeUserDataToUserExtDataAndRemoveData() {
+    public void parseBidRequestShouldMergeUserDataToUserExtDataAndRemoveData() throws IOException {
         // given
         final ObjectNode containerNode = obj("user", obj("data", obj("dataField", "dataValue1"))
                 .set("ext", obj("data", obj("extDataField", "extDataValue")
                         .put("dataField", "dataValue2"))));
 
         // when
-        ortbTypesResolver.normalizeBidRequest(containerNode, new ArrayList<>(), "referer");
+        final JsonNode result = parseAsTree(containerNode, new ArrayList<>());
 
         // then
-        assertThat(containerNode).isEqualTo(obj("user", obj("ext", obj("data", obj("extDataField", "extDataValue")
+        assertThat(result).isEqualTo(obj("user", obj("ext", obj("data", obj("extDataField", "extDataValue")
                 .put("dataField", "dataValue1")))));
     }
 
     @Test
-    public void normalizeBidRequestShouldMergeSiteDataToSiteExtDataAndRemoveData() {
+    public void parseBidRequestShouldMergeSiteDataToSiteExtDataAndRemoveData() throws IOException {
         // given
         final ObjectNode containerNode = obj("site", obj("data", obj("dataField", "dataValue1"))
                 .set("ext", obj("data", obj("extDataField", "extDataValue")
                         .put("dataField", "dataValue2"))));
 
         // when
-        ortbTypesResolver.normalizeBidRequest(containerNode, new ArrayList<>(), "referer");
+        final JsonNode result = parseAsTree(containerNode, new ArrayList<>());
 
         // then
-        assertThat(containerNode).isEqualTo(obj("site", obj("ext", obj("data", obj("extDataField", "extDataValue")
+        assertThat(result).isEqualTo(obj("site", obj("ext", obj("data", obj("extDataField", "extDataValue")
                 .put("dataField", "dataValue1")))));
     }
 
     @Test
-    public void normalizeBidRequestShouldMergeAppDataToAppExtDataAndRemoveData() {
+    public void parseBidRequestShouldMergeAppDataToAppExtDataAndRemoveData() throws IOException {
         // given
         final ObjectNode containerNode = obj("app", obj("data", obj("dataField", "dataValue1"))
                 .set("ext", obj("data", obj("extDataField", "extDataValue")
                         .put("dataField", "dataValue2"))));
 
         // when
-        ortbTypesResolver.normalizeBidRequest(containerNode, new ArrayList<>(), "referer");
+        final JsonNode result = parseAsTree(containerNode, new ArrayList<>());
 
         // then
-        assertThat(containerNode).isEqualTo(obj("app", obj("ext", obj("data", obj("extDataField", "extDataValue")
+        assertThat(result).isEqualTo(obj("app", obj("ext", obj("data", obj("extDataField", "extDataValue")
                 .put("dataField", "dataValue1")))));
     }
 
     @Test
-    public void normalizeBidRequestShouldNotChangeUserWhenUserDataNotDefined() {
+    public void parseBidRequestShouldNotChangeUserWhenUserDataNotDefined() throws IOException {
         // given
         final ObjectNode containerNode = obj("user", obj("ext", obj("data", obj("extDataField", "extDataValue"))));
 
         // when
-        ortbTypesResolver.normalizeBidRequest(containerNode, new ArrayList<>(), "referer");
+        final JsonNode result = parseAsTree(containerNode, new ArrayList<>());
 
         // then
-        assertThat(containerNode).isEqualTo(obj("user", obj("ext", obj("data", obj("extDataField", "extDataValue")))));
+        assertThat(result).isEqualTo(obj("user", obj("ext", obj("data", obj("extDataField", "extDataValue")))));
     }
 
     @Test
-    public void normalizeBidRequestShouldNotChangeUserWhenUserDataNotObject() {
+    public void parseBidRequestShouldNotChangeUserWhenUserDataNotObject() throws IOException {
         // given
-        final ObjectNode containerNode = obj("user", obj("ext", obj("data", obj("extDataField", "extDataValue"))))
-                .set("data", mapper.createArrayNode().add(obj("id", "123")));
+        final ObjectNode containerNode = obj("user", obj("ext", obj("data", obj("extDataField", "extDataValue")))
+                .set("data", mapper.createArrayNode().add(obj("id", "123"))));
 
         // when
-        ortbTypesResolver.normalizeBidRequest(containerNode, new ArrayList<>(), "referer");
+        final JsonNode result = parseAsTree(containerNode, new ArrayList<>());
 
         // then
-        assertThat(containerNode).isEqualTo(
-                obj("user", obj("ext", obj("data", obj("extDataField", "extDataValue"))))
-                        .set("data", array(obj("id", "123"))));
+        assertThat(result).isEqualTo(
+                obj("user", obj("ext", obj("data", obj("extDataField", "extDataValue")))
+                        .set("data", array(obj("id", "123")))));
     }
 
     @Test
-    public void normalizeBidRequestShouldSetDataToUserIfExtDataNotExist() {
+    public void parseBidRequestShouldSetDataToUserIfExtDataNotExist() throws IOException {
         // given
         final ObjectNode containerNode = obj("user", obj("data", obj("dataField", "dataValue"))
                 .set("ext", obj("extField", "extValue")));
 
         // when
-        ortbTypesResolver.normalizeBidRequest(containerNode, new ArrayList<>(), "referer");
+        final JsonNode result = parseAsTree(containerNode, new ArrayList<>());
 
         // then
-        assertThat(containerNode).isEqualTo(obj("user", obj("ext", obj("data", obj("dataField", "dataValue"))
+        assertThat(result).isEqualTo(obj("user", obj("ext", obj("data", obj("dataField", "dataValue"))
                 .put("extField", "extValue"))));
     }
 
     @Test
-    public void normalizeBidRequestShouldSetExtDataToUserIfExtNotExist() {
+    public void parseBidRequestShouldSetExtDataToUserIfExtNotExist() throws IOException {
         // given
         final ObjectNode containerNode = obj("user", obj("data", obj("dataField", "dataValue")));
 
         // when
-        ortbTypesResolver.normalizeBidRequest(containerNode, new ArrayList<>(), "referer");
+        final JsonNode result = parseAsTree(containerNode, new ArrayList<>());
 
         // then
-        assertThat(containerNode).isEqualTo(obj("user", obj("ext", obj("data", obj("dataField", "dataValue")))));
+        assertThat(result).isEqualTo(obj("user", obj("ext", obj("data", obj("dataField", "dataValue")))));
     }
 
     @Test
-    public void normalizeBidRequestShouldSetExtDataToUserIfExtIncorrectType() {
+    public void parseBidRequestShouldSetExtDataToUserIfExtIncorrectType() throws IOException {
         // given
         final ObjectNode containerNode = obj("user", obj("data", obj("dataField", "dataValue"))
                 .set("ext", mapper.createArrayNode()));
         final List<String> warnings = new ArrayList<>();
 
         // when
-        ortbTypesResolver.normalizeBidRequest(containerNode, warnings, "referer");
+        final JsonNode result = parseAsTree(containerNode, warnings);
 
         // then
-        assertThat(containerNode).isEqualTo(obj("user", obj("ext", obj("data", obj("dataField", "dataValue")))));
+        assertThat(result).isEqualTo(obj("user", obj("ext", obj("data", obj("dataField", "dataValue")))));
         assertThat(warnings).hasSize(1).containsOnly("""
                 WARNING: Incorrect type for first party data field bidrequest.user.ext, \
                 expected is object, but was ARRAY. Replaced with object""");
     }
 
     @Test
-    public void normalizeBidRequestShouldResolveEmptyOrtbWithFpdFieldsWithIdForRequestAndExcludedIdForBidderConfig() {
+    public void parseBidRequestShouldResolveEmptyOrtbWithFpdFieldsWithIdForRequestAndExcludedIdForBidderConfig()
+            throws IOException {
         // given
         final ObjectNode ortbSite = mapper.createObjectNode();
         ortbSite.set("id", array("id1", "id2"));
@@ -377,10 +381,10 @@ public class OrtbTypesResolverTest extends VertxTest {
         requestNode.set("ext", obj("prebid", obj("bidderconfig", array(obj("config", obj("ortb2", ortbConfig))))));
 
         // when
-        ortbTypesResolver.normalizeBidRequest(requestNode, new ArrayList<>(), "referer");
+        final JsonNode result = parseAsTree(requestNode, new ArrayList<>());
 
         // then
-        assertThat(requestNode.get("site"))
+        assertThat(result.get("site"))
                 .isEqualTo(mapper.createObjectNode()
                         .put("id", "id1")
                         .put("name", "name1")
@@ -390,7 +394,7 @@ public class OrtbTypesResolverTest extends VertxTest {
                         .put("search", "search1")
                         .put("keywords", "keyword1,keyword2"));
 
-        assertThat(requestNode.get("app"))
+        assertThat(result.get("app"))
                 .isEqualTo(mapper.createObjectNode()
                         .put("id", "id1")
                         .put("name", "name1")
@@ -399,12 +403,12 @@ public class OrtbTypesResolverTest extends VertxTest {
                         .put("domain", "domain1")
                         .put("keywords", "keyword1,keyword2"));
 
-        assertThat(requestNode.get("user"))
+        assertThat(result.get("user"))
                 .isEqualTo(mapper.createObjectNode()
                         .put("gender", "gender1")
                         .put("keywords", "keyword1,keyword2"));
 
-        final JsonNode ortb2 = requestNode.path("ext").path("prebid").path("bidderconfig").path(0).path("config")
+        final JsonNode ortb2 = result.path("ext").path("prebid").path("bidderconfig").path(0).path("config")
                 .path("ortb2");
 
         assertThat(ortb2.path("site"))
@@ -433,7 +437,7 @@ public class OrtbTypesResolverTest extends VertxTest {
     }
 
     @Test
-    public void normalizeBidRequestShouldBeMergedWithFpdContextToOrtbSite() {
+    public void parseBidRequestShouldBeMergedWithFpdContextToOrtbSite() throws IOException {
         // given
         final ObjectNode fpdContext = mapper.createObjectNode();
         fpdContext.set("id", array("id1", "id2"));
@@ -460,10 +464,10 @@ public class OrtbTypesResolverTest extends VertxTest {
         final ObjectNode requestedFpdContext = fpdContext.deepCopy();
 
         // when
-        ortbTypesResolver.normalizeBidRequest(requestNode, new ArrayList<>(), "referer");
+        final JsonNode result = parseAsTree(requestNode, new ArrayList<>());
 
         // then
-        final JsonNode config = requestNode.path("ext").path("prebid").path("bidderconfig").path(0);
+        final JsonNode config = result.path("ext").path("prebid").path("bidderconfig").path(0);
         final JsonNode fpd = config.path("config").path("fpd");
         final JsonNode ortb2 = config.path("config").path("ortb2");
 
@@ -485,7 +489,7 @@ public class OrtbTypesResolverTest extends VertxTest {
     }
 
     @Test
-    public void normalizeBidRequestShouldBeMergedWithFpdUserToOrtbUser() {
+    public void parseBidRequestShouldBeMergedWithFpdUserToOrtbUser() throws IOException {
         // given
         final ObjectNode fpdUser = mapper.createObjectNode();
         fpdUser.set("gender", array("gender1", "gender2"));
@@ -505,10 +509,10 @@ public class OrtbTypesResolverTest extends VertxTest {
         final ObjectNode requestFpdUser = fpdUser.deepCopy();
 
         // when
-        ortbTypesResolver.normalizeBidRequest(requestNode, new ArrayList<>(), "referer");
+        final JsonNode result = parseAsTree(requestNode, new ArrayList<>());
 
         // then
-        final JsonNode config = requestNode.path("ext").path("prebid").path("bidderconfig").path(0);
+        final JsonNode config = result.path("ext").path("prebid").path("bidderconfig").path(0);
         final JsonNode fpd = config.path("config").path("fpd");
         final JsonNode ortb2 = config.path("config").path("ortb2");
 
@@ -526,7 +530,7 @@ public class OrtbTypesResolverTest extends VertxTest {
     }
 
     @Test
-    public void normalizeBidRequestShouldNotBeMergedWithFpdAppToOrtbApp() {
+    public void parseBidRequestShouldNotBeMergedWithFpdAppToOrtbApp() {
         // given
         final ObjectNode fpdApp = mapper.createObjectNode();
         fpdApp.set("id", array("id1", "id2"));
@@ -561,6 +565,128 @@ public class OrtbTypesResolverTest extends VertxTest {
         assertThat(fpd.path("app")).isEqualTo(requestFpdApp);
     }
 
+    @Test
+    public void parseBidRequestShouldNormalizeContainersAndBindRestOfRequest() throws IOException {
+        // given
+        final String body = """
+                {
+                  "id": "request-id",
+                  "imp": [{"id": "imp-id", "banner": {"format": [{"w": 300, "h": 250}]},
+                           "ext": {"prebid": {"bidder": {"appnexus": {"placement_id": 1}}}}}],
+                  "site": {"page": ["page1", "page2"], "keywords": ["keyword1", "keyword2"],
+                           "data": {"key": "value"}, "ext": {"amp": 0}},
+                  "app": "app",
+                  "user": {"gender": ["male"], "keywords": 1, "data": {"segment": 1}, "ext": {"data": {"other": 2}}},
+                  "ext": {"prebid": {"bidderconfig": [{"bidders": ["appnexus"],
+                          "config": {"fpd": {"context": {"name": ["name1", "name2"]}, "user": {"gender": "f"}}}}]}}
+                }""";
+
+        // when
+        final List<String> warnings = new ArrayList<>();
+        final BidRequest result = ortbTypesResolver.parseBidRequest(body, warnings, "referer");
+
+        // then
+        final String expectedBody = """
+                {
+                  "id": "request-id",
+                  "imp": [{"id": "imp-id", "banner": {"format": [{"w": 300, "h": 250}]},
+                           "ext": {"prebid": {"bidder": {"appnexus": {"placement_id": 1}}}}}],
+                  "site": {"page": "page1", "keywords": "keyword1,keyword2",
+                           "ext": {"amp": 0, "data": {"key": "value"}}},
+                  "user": {"gender": "male", "ext": {"data": {"other": 2, "segment": 1}}},
+                  "ext": {"prebid": {"bidderconfig": [{"bidders": ["appnexus"],
+                          "config": {"fpd": {"context": {"name": "name1"}, "user": {"gender": "f"}},
+                                     "ortb2": {"site": {"name": "name1"}, "user": {"gender": "f"}}}}]}}
+                }""";
+        assertThat(result).isEqualTo(mapper.readValue(expectedBody, BidRequest.class));
+        assertThat(warnings).containsExactly(
+                """
+                WARNING: Incorrect type for first party data field bidrequest.user.gender, expected is string, \
+                but was an array of strings. Converted to string by taking first element of array.""",
+                """
+                WARNING: Incorrect type for first party data field bidrequest.user.keywords, expected strings, \
+                but was `NUMBER`. Failed to convert to correct type.""",
+                "WARNING: bidrequest.app field ignored. Expected type is object, but was `STRING`.",
+                """
+                WARNING: Incorrect type for first party data field bidrequest.site.page, expected is string, \
+                but was an array of strings. Converted to string by taking first element of array.""",
+                """
+                WARNING: Incorrect type for first party data field bidrequest.site.keywords, expected is string, \
+                but was an array of strings. Converted to string by separating values with comma.""",
+                """
+                WARNING: Incorrect type for first party data field bidrequest.ext.prebid.bidderconfig.site.name, \
+                expected is string, but was an array of strings. \
+                Converted to string by taking first element of array.""");
+    }
+
+    @Test
+    public void parseBidRequestShouldKeepWarningsOrderIndependentOfFieldsOrder() throws IOException {
+        // given
+        final String body = """
+                {"site": {"domain": ["domain"]}, "app": {"bundle": ["bundle"]}, "user": {"gender": ["male"]}}""";
+
+        // when
+        final List<String> warnings = new ArrayList<>();
+        ortbTypesResolver.parseBidRequest(body, warnings, "referer");
+
+        // then
+        assertThat(warnings).containsExactly(
+                """
+                WARNING: Incorrect type for first party data field bidrequest.user.gender, expected is string, \
+                but was an array of strings. Converted to string by taking first element of array.""",
+                """
+                WARNING: Incorrect type for first party data field bidrequest.app.bundle, expected is string, \
+                but was an array of strings. Converted to string by taking first element of array.""",
+                """
+                WARNING: Incorrect type for first party data field bidrequest.site.domain, expected is string, \
+                but was an array of strings. Converted to string by taking first element of array.""");
+    }
+
+    @Test
+    public void parseBidRequestShouldDropExplicitNullContainerWithWarning() throws IOException {
+        // given
+        final String body = "{\"id\": \"request-id\", \"user\": null}";
+
+        // when
+        final List<String> warnings = new ArrayList<>();
+        final BidRequest result = ortbTypesResolver.parseBidRequest(body, warnings, "referer");
+
+        // then
+        assertThat(result).isEqualTo(BidRequest.builder().id("request-id").build());
+        assertThat(warnings).containsExactly(
+                "WARNING: bidrequest.user field ignored. Expected type is object, but was `NULL`.");
+    }
+
+    @Test
+    public void parseBidRequestShouldNotWarnIfRequestHasNothingToNormalize() throws IOException {
+        // given
+        final String body = """
+                {"id": "request-id", "site": {"page": "page"}, "ext": {"prebid": {"debug": 1}}}""";
+
+        // when
+        final List<String> warnings = new ArrayList<>();
+        final BidRequest result = ortbTypesResolver.parseBidRequest(body, warnings, "referer");
+
+        // then
+        assertThat(result).isEqualTo(mapper.readValue(body, BidRequest.class));
+        assertThat(result.getUser()).isNull();
+        assertThat(result.getApp()).isNull();
+        assertThat(warnings).isEmpty();
+    }
+
+    @Test
+    public void parseBidRequestShouldFailOnMalformedBody() {
+        // when and then
+        assertThatThrownBy(() -> ortbTypesResolver.parseBidRequest("body", new ArrayList<>(), "referer"))
+                .isInstanceOf(IOException.class)
+                .hasMessageStartingWith("Unrecognized token 'body'");
+    }
+
+    private JsonNode parseAsTree(JsonNode requestNode, List<String> warnings) throws IOException {
+        return mapper.valueToTree(
+                ortbTypesResolver.parseBidRequest(mapper.writeValueAsString(requestNode), warnings, "referer"));
+    }
+
     private static ArrayNode array(String... fields) {
         final ArrayNode arrayNode = mapper.createArrayNode();
         Arrays.stream(fields).forEach(arrayNode::add);
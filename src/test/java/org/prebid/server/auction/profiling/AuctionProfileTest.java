@@ -0,0 +1,80 @@
+package org.prebid.server.auction.profiling;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AuctionProfileTest {
+
+    @Test
+    public void measureShouldRecordStageAndReturnItsResult() {
+        // given
+        final AuctionProfile auctionProfile = AuctionProfile.enabled(ManagementFactory.getThreadMXBean());
+
+        // when
+        final String result = auctionProfile.measure(AuctionStage.bid_processing, () -> "result");
+
+        // then
+        assertThat(result).isEqualTo("result");
+        assertThat(auctionProfile.getStages()).containsOnlyKeys(AuctionStage.bid_processing);
+        assertThat(auctionProfile.getStages().get(AuctionStage.bid_processing).getWallTime()).isNotNegative();
+    }
+
+    @Test
+    public void measureShouldAccumulateRepeatedStage() {
+        // given
+        final AuctionProfile auctionProfile = AuctionProfile.enabled(ManagementFactory.getThreadMXBean());
+
+        // when
+        auctionProfile.measure(AuctionStage.analytics, () -> null);
+        final long firstWallTime = auctionProfile.getStages().get(AuctionStage.analytics).getWallTime();
+        auctionProfile.measure(AuctionStage.analytics, () -> null);
+
+        // then
+        assertThat(auctionProfile.getStages().get(AuctionStage.analytics).getWallTime())
+                .isGreaterThanOrEqualTo(firstWallTime);
+    }
+
+    @Test
+    public void measureAsyncShouldRecordStageWhenFutureIsCompleted() {
+        // given
+        final AuctionProfile auctionProfile = AuctionProfile.enabled(ManagementFactory.getThreadMXBean());
+        final Promise<String> promise = Promise.promise();
+
+        // when
+        final Future<String> result = auctionProfile.measureAsync(AuctionStage.cache, promise::future);
+
+        // then
+        assertThat(auctionProfile.getStages()).isEmpty();
+
+        promise.complete("result");
+        assertThat(result.result()).isEqualTo("result");
+        assertThat(auctionProfile.getStages()).containsOnlyKeys(AuctionStage.cache);
+    }
+
+    @Test
+    public void disabledProfileShouldRunStagesWithoutRecording() {
+        // given
+        final AuctionProfile auctionProfile = AuctionProfile.disabled();
+
+        // when
+        final String result = auctionProfile.measure(AuctionStage.bid_processing, () -> "result");
+        final Future<String> asyncResult = auctionProfile.measureAsync(
+                AuctionStage.cache, () -> Future.succeededFuture("asyncResult"));
+
+        // then
+        assertThat(result).isEqualTo("result");
+        assertThat(asyncResult.result()).isEqualTo("asyncResult");
+        assertThat(auctionProfile.isEnabled()).isFalse();
+        assertThat(auctionProfile.getStages()).isEmpty();
+    }
+
+    @Test
+    public void ofShouldReturnDisabledProfileForNotProfiledAuction() {
+        assertThat(AuctionProfile.of(null).isEnabled()).isFalse();
+    }
+}
@@ -0,0 +1,134 @@
+package org.prebid.server.auction.profiling;
+
+import com.iab.openrtb.response.BidResponse;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.auction.model.DebugContext;
+import org.prebid.server.metric.Metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+public class AuctionProfilerTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private Metrics metrics;
+
+    private AuctionProfiler auctionProfiler;
+
+    @Before
+    public void setUp() {
+        auctionProfiler = new AuctionProfiler(1, metrics);
+    }
+
+    @Test
+    public void creationShouldFailOnInvalidSamplingRate() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new AuctionProfiler(1.5, metrics));
+    }
+
+    @Test
+    public void startShouldReturnDisabledProfileWhenSamplingRateIsZeroEvenForDebugRequest() {
+        // when
+        final AuctionProfile auctionProfile = new AuctionProfiler(0, metrics).start(true);
+
+        // then
+        assertThat(auctionProfile.isEnabled()).isFalse();
+    }
+
+    @Test
+    public void startShouldReturnEnabledProfileForSampledRequest() {
+        // when
+        final AuctionProfile auctionProfile = auctionProfiler.start(false);
+
+        // then
+        assertThat(auctionProfile.isEnabled()).isTrue();
+    }
+
+    @Test
+    public void publishShouldUpdateMetricsOfMeasuredStages() {
+        // given
+        final AuctionProfile auctionProfile = auctionProfiler.start(false);
+        auctionProfile.measure(AuctionStage.bid_processing, () -> null);
+
+        // when
+        auctionProfiler.publish(auctionProfile);
+
+        // then
+        verify(metrics).updateAuctionStageMetrics(eq("bid_processing"), anyLong(), anyLong(), anyLong());
+    }
+
+    @Test
+    public void publishShouldIgnoreDisabledProfile() {
+        // when
+        auctionProfiler.publish(AuctionProfile.disabled());
+
+        // then
+        verifyNoInteractions(metrics);
+    }
+
+    @Test
+    public void startShouldAttachProfileToSampledAuction() {
+        // when
+        final AuctionContext result = auctionProfiler.start(AuctionContext.builder().build());
+
+        // then
+        assertThat(result.getAuctionProfile()).isNotNull();
+        assertThat(result.getAuctionProfile().isEnabled()).isTrue();
+    }
+
+    @Test
+    public void startShouldNotAttachProfileWhenProfilingIsDisabled() {
+        // when
+        final AuctionContext result = new AuctionProfiler(0, metrics).start(AuctionContext.builder().build());
+
+        // then
+        assertThat(result.getAuctionProfile()).isNull();
+    }
+
+    @Test
+    public void completeShouldAddProfileToResponseDebugWhenDebugIsEnabled() {
+        // given
+        final AuctionContext auctionContext = auctionProfiler.start(AuctionContext.builder()
+                .debugContext(DebugContext.of(true, null))
+                .bidResponse(BidResponse.builder().build())
+                .build());
+        auctionProfiler.measure(auctionContext, AuctionStage.bid_processing, () -> null);
+
+        // when
+        final AuctionContext result = auctionProfiler.complete(auctionContext);
+
+        // then
+        assertThat(result.getBidResponse().getExt().getDebug().getProfile()).containsOnlyKeys("bid_processing");
+        verify(metrics).updateAuctionStageMetrics(eq("bid_processing"), anyLong(), anyLong(), anyLong());
+    }
+
+    @Test
+    public void completeShouldNotAddProfileToResponseWhenDebugIsDisabled() {
+        // given
+        final BidResponse bidResponse = BidResponse.builder().build();
+        final AuctionContext auctionContext = auctionProfiler.start(AuctionContext.builder()
+                .debugContext(DebugContext.of(false, null))
+                .bidResponse(bidResponse)
+                .build());
+        auctionProfiler.measure(auctionContext, AuctionStage.bid_processing, () -> null);
+
+        // when
+        final AuctionContext result = auctionProfiler.complete(auctionContext);
+
+        // then
+        assertThat(result.getBidResponse()).isSameAs(bidResponse);
+        verify(metrics).updateAuctionStageMetrics(eq("bid_processing"), anyLong(), anyLong(), anyLong());
+    }
+}
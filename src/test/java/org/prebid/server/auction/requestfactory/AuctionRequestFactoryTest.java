@@ -20,6 +20,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 import org.prebid.server.VertxTest;
@@ -35,6 +36,7 @@ import org.prebid.server.auction.model.DebugContext;
 import org.prebid.server.auction.versionconverter.BidRequestOrtbVersionConversionManager;
 import org.prebid.server.exception.InvalidRequestException;
 import org.prebid.server.geolocation.model.GeoInfo;
+import org.prebid.server.json.JsonMerger;
 import org.prebid.server.metric.MetricName;
 import org.prebid.server.model.CaseInsensitiveMultiMap;
 import org.prebid.server.model.HttpRequestContext;
@@ -48,6 +50,7 @@ import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebidData;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebidDataEidPermissions;
 import org.prebid.server.settings.model.Account;
 
+import java.io.IOException;
 import java.util.ArrayList;
 
 import static java.util.Collections.emptyList;
@@ -84,8 +87,9 @@ public class AuctionRequestFactoryTest extends VertxTest {
     private Ortb2ImplicitParametersResolver paramsResolver;
     @Mock
     private InterstitialProcessor interstitialProcessor;
-    @Mock
-    private OrtbTypesResolver ortbTypesResolver;
+    @Spy
+    private OrtbTypesResolver ortbTypesResolver =
+            new OrtbTypesResolver(0, jacksonMapper, new JsonMerger(jacksonMapper));
     @Mock
     private PrivacyEnforcementService privacyEnforcementService;
     @Mock
@@ -175,8 +179,7 @@ public class AuctionRequestFactoryTest extends VertxTest {
                 ortbTypesResolver,
                 privacyEnforcementService,
                 timeoutResolver,
-                debugResolver,
-                jacksonMapper);
+                debugResolver);
     }
 
     @Test
@@ -208,8 +211,7 @@ public class AuctionRequestFactoryTest extends VertxTest {
                 ortbTypesResolver,
                 privacyEnforcementService,
                 timeoutResolver,
-                debugResolver,
-                jacksonMapper);
+                debugResolver);
 
         given(routingContext.getBodyAsString()).willReturn("body");
 
@@ -481,7 +483,7 @@ public class AuctionRequestFactoryTest extends VertxTest {
     }
 
     @Test
-    public void shouldCallOrtbFieldsResolver() {
+    public void shouldCallOrtbFieldsResolver() throws IOException {
         // given
         givenValidBidRequest();
 
@@ -489,7 +491,7 @@ public class AuctionRequestFactoryTest extends VertxTest {
         target.fromRequest(routingContext, 0L).result();
 
         // then
-        verify(ortbTypesResolver).normalizeBidRequest(any(), any(), any());
+        verify(ortbTypesResolver).parseBidRequest(any(), any(), any());
     }
 
     @Test
@@ -687,20 +687,28 @@ public class Ortb2RequestFactoryTest extends VertxTest {
 
     @Test
     public void createAuctionContextShouldReturnExpectedAuctionContext() {
+        // given
+        final TxnLog txnLog = TxnLog.create();
+        given(dealsPopulator.createTxnLog()).willReturn(txnLog);
+
         // when
         final AuctionContext result = target.createAuctionContext(Endpoint.openrtb2_auction, MetricName.openrtb2app);
 
         // then
-        assertThat(result).isEqualTo(AuctionContext.builder()
-                .requestTypeMetric(MetricName.openrtb2app)
-                .prebidErrors(new ArrayList<>())
-                .debugWarnings(new ArrayList<>())
-                .hookExecutionContext(hookExecutionContext)
-                .debugContext(DebugContext.empty())
-                .requestRejected(false)
-                .txnLog(TxnLog.create())
-                .debugHttpCalls(emptyMap())
-                .build());
+        assertThat(result.getTxnLog()).isSameAs(txnLog);
+        assertThat(result.getOrtbConversionCache()).isNotNull();
+        assertThat(result.getSharedFragmentCache()).isNotNull();
+        assertThat(result.toBuilder().ortbConversionCache(null).sharedFragmentCache(null).build())
+                .isEqualTo(AuctionContext.builder()
+                        .requestTypeMetric(MetricName.openrtb2app)
+                        .prebidErrors(new ArrayList<>())
+                        .debugWarnings(new ArrayList<>())
+                        .hookExecutionContext(hookExecutionContext)
+                        .debugContext(DebugContext.empty())
+                        .requestRejected(false)
+                        .txnLog(TxnLog.create())
+                        .debugHttpCalls(emptyMap())
+                        .build());
     }
 
     @Test
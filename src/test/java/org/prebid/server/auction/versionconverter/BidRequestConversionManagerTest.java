@@ -47,6 +47,15 @@ public class BidRequestConversionManagerTest extends VertxTest {
                 .isEqualTo("2.6");
     }
 
+    @Test
+    public void isConversionFromAuctionSupportedVersionRequiredShouldReturnTrueOnlyForOtherVersion() {
+        // when and then
+        assertThat(ortbVersionConversionManager.isConversionFromAuctionSupportedVersionRequired(OrtbVersion.ORTB_2_5))
+                .isTrue();
+        assertThat(ortbVersionConversionManager.isConversionFromAuctionSupportedVersionRequired(OrtbVersion.ORTB_2_6))
+                .isFalse();
+    }
+
     @Test
     public void convertFromAuctionSupportedVersionShouldConvertToExpectedVersion() {
         // given
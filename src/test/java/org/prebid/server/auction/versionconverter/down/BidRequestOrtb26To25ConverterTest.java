@@ -22,6 +22,7 @@ import com.iab.openrtb.request.Video;
 import org.junit.Before;
 import org.junit.Test;
 import org.prebid.server.VertxTest;
+import org.prebid.server.auction.versionconverter.BidRequestConversionCache;
 import org.prebid.server.proto.openrtb.ext.request.ExtRegs;
 import org.prebid.server.proto.openrtb.ext.request.ExtSource;
 import org.prebid.server.proto.openrtb.ext.request.ExtUser;
@@ -243,6 +244,48 @@ public class BidRequestOrtb26To25ConverterTest extends VertxTest {
         });
     }
 
+    @Test
+    public void convertShouldReuseSharedPartsConvertedForAnotherBidderRequest() {
+        // given
+        final Site site = Site.builder().cattax(1).build();
+        final Video video = Video.builder().podid(1).build();
+        final BidRequest bidRequest = givenBidRequest(request -> request
+                .site(site)
+                .imp(singletonList(givenImp(imp -> imp.id("1").video(video)))));
+        final BidRequest anotherBidRequest = givenBidRequest(request -> request
+                .site(site)
+                .imp(singletonList(givenImp(imp -> imp.id("2").video(video)))));
+        final BidRequestConversionCache conversionCache = BidRequestConversionCache.create();
+
+        // when
+        final BidRequest result = converter.convert(bidRequest, conversionCache);
+        final BidRequest anotherResult = converter.convert(anotherBidRequest, conversionCache);
+
+        // then
+        assertThat(anotherResult.getSite())
+                .isEqualTo(Site.builder().build())
+                .isSameAs(result.getSite());
+        assertThat(anotherResult.getImp()).extracting(Imp::getId).containsExactly("2");
+        assertThat(anotherResult.getImp().get(0).getVideo())
+                .isEqualTo(Video.builder().build())
+                .isSameAs(result.getImp().get(0).getVideo());
+    }
+
+    @Test
+    public void convertShouldConvertPartChangedForParticularBidderRequestSeparately() {
+        // given
+        final Device device = Device.builder().langb("en").build();
+        final BidRequestConversionCache conversionCache = BidRequestConversionCache.create();
+        converter.convert(givenBidRequest(request -> request.device(device)), conversionCache);
+
+        // when
+        final BidRequest result = converter.convert(
+                givenBidRequest(request -> request.device(device.toBuilder().ip("ip").build())), conversionCache);
+
+        // then
+        assertThat(result.getDevice()).isEqualTo(Device.builder().ip("ip").build());
+    }
+
     private static BidRequest givenBidRequest(UnaryOperator<BidRequest.BidRequestBuilder> bidRequestCustomizer) {
         return bidRequestCustomizer.apply(BidRequest.builder().imp(emptyList())).build();
     }
@@ -0,0 +1,34 @@
+package org.prebid.server.bidder.model;
+
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HttpResponseTest {
+
+    @Test
+    public void getBodyShouldDecodeBuffer() {
+        // given
+        final Buffer buffer = Buffer.buffer("body");
+        final HttpResponse response = HttpResponse.ofBuffer(200, MultiMap.caseInsensitiveMultiMap(), buffer);
+
+        // when and then
+        assertThat(response.getBodyAsBuffer()).isSameAs(buffer);
+        assertThat(response.getBody()).isEqualTo("body");
+    }
+
+    @Test
+    public void equalsShouldNotDependOnHowResponseWasCreated() {
+        // given
+        final MultiMap headers = MultiMap.caseInsensitiveMultiMap();
+        final HttpResponse stringResponse = HttpResponse.of(200, headers, "body");
+        final HttpResponse bufferResponse = HttpResponse.ofBuffer(200, headers, Buffer.buffer("body"));
+
+        // when and then
+        assertThat(bufferResponse).isEqualTo(stringResponse);
+        assertThat(bufferResponse).hasSameHashCodeAs(stringResponse);
+        assertThat(bufferResponse).hasToString(stringResponse.toString());
+    }
+}
@@ -0,0 +1,66 @@
+package org.prebid.server.cache;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class CacheNodeRingTest {
+
+    private static final String NODE_1 = "http://pbs-1:8080";
+    private static final String NODE_2 = "http://pbs-2:8080";
+    private static final String NODE_3 = "http://pbs-3:8080";
+
+    @Test
+    public void creationShouldFailIfNodesAreEmpty() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new CacheNodeRing(emptyList(), NODE_1));
+    }
+
+    @Test
+    public void creationShouldFailIfNodesDoNotContainSelfNode() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new CacheNodeRing(singletonList(NODE_2), NODE_1));
+    }
+
+    @Test
+    public void ownerOfShouldReturnSameNodeOnEveryNodeOfRing() {
+        // given
+        final List<String> nodes = asList(NODE_1, NODE_2, NODE_3);
+        final CacheNodeRing first = new CacheNodeRing(nodes, NODE_1);
+        final CacheNodeRing second = new CacheNodeRing(asList(NODE_3, NODE_2, NODE_1), NODE_2);
+
+        // when and then
+        IntStream.range(0, 100)
+                .mapToObj(i -> UUID.randomUUID().toString())
+                .forEach(key -> assertThat(first.ownerOf(key)).isEqualTo(second.ownerOf(key)));
+    }
+
+    @Test
+    public void ownerOfShouldDistributeKeysAmongAllNodes() {
+        // given
+        final CacheNodeRing nodeRing = new CacheNodeRing(asList(NODE_1, NODE_2, NODE_3), NODE_1);
+
+        // when
+        final List<String> owners = IntStream.range(0, 300)
+                .mapToObj(i -> nodeRing.ownerOf(UUID.randomUUID().toString()))
+                .toList();
+
+        // then
+        assertThat(owners).contains(NODE_1, NODE_2, NODE_3);
+    }
+
+    @Test
+    public void isOwnedBySelfShouldReturnTrueForAnyKeyOfSingleNodeRing() {
+        // given
+        final CacheNodeRing nodeRing = new CacheNodeRing(singletonList(NODE_1), NODE_1);
+
+        // when and then
+        assertThat(nodeRing.isOwnedBySelf("key")).isTrue();
+    }
+}
@@ -19,6 +19,7 @@ import org.prebid.server.VertxTest;
 import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.auction.model.BidInfo;
 import org.prebid.server.auction.model.CachedDebugLog;
+import org.prebid.server.auction.model.DebugContext;
 import org.prebid.server.cache.model.CacheContext;
 import org.prebid.server.cache.model.CacheHttpRequest;
 import org.prebid.server.cache.model.CacheInfo;
@@ -71,8 +72,10 @@ import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
@@ -125,7 +128,8 @@ public class CacheServiceTest extends VertxTest {
                 metrics,
                 clock,
                 idGenerator,
-                jacksonMapper);
+                jacksonMapper,
+                null);
 
         eventsContext = EventsContext.builder().auctionId("auctionId").build();
 
@@ -556,6 +560,116 @@ public class CacheServiceTest extends VertxTest {
                 .containsExactly(10);
     }
 
+    @Test
+    public void cacheBidsOpenrtbShouldSendPutsThroughCoalescingWriterIfConfigured() throws IOException {
+        // given
+        final CoalescingCacheWriter coalescingWriter = mock(CoalescingCacheWriter.class);
+        given(coalescingWriter.write(any(), anyLong()))
+                .willReturn(Future.succeededFuture(BidCacheResponse.of(singletonList(CacheObject.of("uuid1")))));
+
+        cacheService = new CacheService(
+                mediaTypeCacheTtl,
+                httpClient,
+                new URL("http://cache-service/cache"),
+                "http://cache-service-host/cache?uuid=",
+                expectedCacheTimeMs,
+                httpClientConnectTimeoutMs,
+                waitForResponse,
+                vastModifier,
+                eventsService,
+                metrics,
+                clock,
+                idGenerator,
+                jacksonMapper,
+                coalescingWriter);
+
+        // when
+        final Future<CacheServiceResult> future = cacheService.cacheBidsOpenrtb(
+                singletonList(givenBidInfo(bidBuilder -> bidBuilder.id("bidId1"))),
+                givenAuctionContext(),
+                CacheContext.builder()
+                        .shouldCacheBids(true)
+                        .build(),
+                eventsContext);
+
+        // then
+        verify(coalescingWriter).write(argThat(puts -> puts.size() == 1), anyLong());
+        verifyNoInteractions(httpClient);
+
+        assertThat(future.result().getCacheBids().values())
+                .extracting(CacheInfo::getCacheId)
+                .containsExactly("uuid1");
+    }
+
+    @Test
+    public void cacheBidsOpenrtbShouldNotEncodeBodiesOfWrittenPutsIfDebugIsDisabled() {
+        // given
+        final CacheWriter cacheWriter = mock(CacheWriter.class);
+        given(cacheWriter.write(any(), anyLong()))
+                .willReturn(Future.succeededFuture(BidCacheResponse.of(singletonList(CacheObject.of("uuid1")))));
+        cacheService = givenCacheServiceWithWriter(cacheWriter);
+
+        // when
+        final Future<CacheServiceResult> future = cacheService.cacheBidsOpenrtb(
+                singletonList(givenBidInfo(bidBuilder -> bidBuilder.id("bidId1"))),
+                givenAuctionContext(),
+                CacheContext.builder()
+                        .shouldCacheBids(true)
+                        .build(),
+                eventsContext);
+
+        // then
+        final DebugHttpCall httpCall = future.result().getHttpCall();
+        assertThat(httpCall.getRequestBody()).isNull();
+        assertThat(httpCall.getResponseBody()).isNull();
+        assertThat(httpCall.getResponseStatus()).isEqualTo(200);
+    }
+
+    @Test
+    public void cacheBidsOpenrtbShouldAddBodiesOfWrittenPutsToDebugHttpCallIfDebugIsEnabled() {
+        // given
+        final CacheWriter cacheWriter = mock(CacheWriter.class);
+        final BidCacheResponse bidCacheResponse = BidCacheResponse.of(singletonList(CacheObject.of("uuid1")));
+        given(cacheWriter.write(any(), anyLong())).willReturn(Future.succeededFuture(bidCacheResponse));
+        cacheService = givenCacheServiceWithWriter(cacheWriter);
+
+        // when
+        final Future<CacheServiceResult> future = cacheService.cacheBidsOpenrtb(
+                singletonList(givenBidInfo(bidBuilder -> bidBuilder.id("bidId1"))),
+                givenAuctionContext().toBuilder().debugContext(DebugContext.of(true, null)).build(),
+                CacheContext.builder()
+                        .shouldCacheBids(true)
+                        .build(),
+                eventsContext);
+
+        // then
+        final DebugHttpCall httpCall = future.result().getHttpCall();
+        assertThat(httpCall.getRequestBody()).contains("\"puts\"");
+        assertThat(httpCall.getResponseBody()).isEqualTo(jacksonMapper.encodeToString(bidCacheResponse));
+    }
+
+    @Test
+    public void cacheBidsOpenrtbShouldReturnErrorIfCacheWriterFailed() {
+        // given
+        final CacheWriter cacheWriter = mock(CacheWriter.class);
+        given(cacheWriter.write(any(), anyLong()))
+                .willReturn(Future.failedFuture(new PreBidException("HTTP status code 503")));
+        cacheService = givenCacheServiceWithWriter(cacheWriter);
+
+        // when
+        final Future<CacheServiceResult> future = cacheService.cacheBidsOpenrtb(
+                singletonList(givenBidInfo(bidBuilder -> bidBuilder.id("bidId1"))),
+                givenAuctionContext(),
+                CacheContext.builder()
+                        .shouldCacheBids(true)
+                        .build(),
+                eventsContext);
+
+        // then
+        assertThat(future.result().getError()).hasMessage("HTTP status code 503");
+        assertThat(future.result().getCacheBids()).isEmpty();
+    }
+
     @Test
     public void cacheBidsOpenrtbShouldSendCacheRequestWithExpectedTtlAndSetTtlFromAccountBannerTtl()
             throws IOException {
@@ -573,7 +687,8 @@ public class CacheServiceTest extends VertxTest {
                 metrics,
                 clock,
                 idGenerator,
-                jacksonMapper);
+                jacksonMapper,
+                null);
 
         // when
         final Future<CacheServiceResult> future = cacheService.cacheBidsOpenrtb(
@@ -616,7 +731,8 @@ public class CacheServiceTest extends VertxTest {
                 metrics,
                 clock,
                 idGenerator,
-                jacksonMapper);
+                jacksonMapper,
+                null);
 
         // when
         final Future<CacheServiceResult> future = cacheService.cacheBidsOpenrtb(
@@ -655,7 +771,8 @@ public class CacheServiceTest extends VertxTest {
                 metrics,
                 clock,
                 idGenerator,
-                jacksonMapper);
+                jacksonMapper,
+                null);
 
         // when
         final Future<CacheServiceResult> future = cacheService.cacheBidsOpenrtb(
@@ -976,6 +1093,28 @@ public class CacheServiceTest extends VertxTest {
                 .containsExactly(modifiedFirstPutObject, modifiedSecondPutObject, modifiedThirdPutObject);
     }
 
+    private CacheService givenCacheServiceWithWriter(CacheWriter cacheWriter) {
+        try {
+            return new CacheService(
+                    mediaTypeCacheTtl,
+                    httpClient,
+                    new URL("http://cache-service/cache"),
+                    "http://cache-service-host/cache?uuid=",
+                    expectedCacheTimeMs,
+                    httpClientConnectTimeoutMs,
+                    waitForResponse,
+                    vastModifier,
+                    eventsService,
+                    metrics,
+                    clock,
+                    idGenerator,
+                    jacksonMapper,
+                    cacheWriter);
+        } catch (MalformedURLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     private AuctionContext givenAuctionContext(UnaryOperator<Account.AccountBuilder> accountCustomizer,
                                                UnaryOperator<BidRequest.BidRequestBuilder> bidRequestCustomizer) {
 
@@ -0,0 +1,396 @@
+package org.prebid.server.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.node.TextNode;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.VertxTest;
+import org.prebid.server.cache.proto.request.BidCacheRequest;
+import org.prebid.server.cache.proto.request.PutObject;
+import org.prebid.server.cache.proto.response.BidCacheResponse;
+import org.prebid.server.cache.proto.response.CacheObject;
+import org.prebid.server.exception.PreBidException;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.vertx.http.HttpClient;
+import org.prebid.server.vertx.http.model.HttpClientResponse;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.IntStream;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+public class CoalescingCacheWriterTest extends VertxTest {
+
+    private static final String ENDPOINT_URL = "http://cache-service/cache";
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private Vertx vertx;
+    @Mock
+    private HttpClient httpClient;
+    @Mock
+    private Metrics metrics;
+
+    private Vertx eventLoopVertx;
+    private Context context;
+
+    private CoalescingCacheWriter target;
+
+    @Before
+    public void setUp() {
+        given(vertx.setTimer(anyLong(), any())).willReturn(1L);
+
+        eventLoopVertx = Vertx.vertx();
+        context = eventLoopVertx.getOrCreateContext();
+
+        target = new CoalescingCacheWriter(
+                vertx,
+                httpClient,
+                ENDPOINT_URL,
+                5L,
+                3,
+                metrics,
+                Clock.fixed(Instant.now(), ZoneId.systemDefault()),
+                jacksonMapper);
+    }
+
+    @After
+    public void tearDown() {
+        eventLoopVertx.close();
+    }
+
+    @Test
+    public void writeShouldSendSingleBulkRequestForWritesWithinWindow() throws JsonProcessingException {
+        // given
+        givenHttpClientReturnsResponse(200, "uuid1", "uuid2");
+
+        // when
+        final Future<BidCacheResponse> first = write(singletonList(givenPutObject("value1")), 100L);
+        final Future<BidCacheResponse> second = write(singletonList(givenPutObject("value2")), 100L);
+
+        // then
+        verifyNoInteractions(httpClient);
+
+        // when
+        fireWindowTimer();
+
+        // then
+        assertThat(captureBidCacheRequest().getPuts())
+                .extracting(PutObject::getValue)
+                .containsExactly(new TextNode("value1"), new TextNode("value2"));
+
+        assertThat(first.result()).isEqualTo(givenBidCacheResponse("uuid1"));
+        assertThat(second.result()).isEqualTo(givenBidCacheResponse("uuid2"));
+    }
+
+    @Test
+    public void writeShouldSendBulkRequestWhenMaxBatchSizeIsReached() throws JsonProcessingException {
+        // given
+        givenHttpClientReturnsResponse(200, "uuid1", "uuid2", "uuid3");
+
+        // when
+        final Future<BidCacheResponse> first = write(singletonList(givenPutObject("value1")), 100L);
+        final Future<BidCacheResponse> second = write(
+                asList(givenPutObject("value2"), givenPutObject("value3")), 100L);
+
+        // then
+        verify(vertx).cancelTimer(1L);
+        assertThat(captureBidCacheRequest().getPuts()).hasSize(3);
+
+        assertThat(first.result()).isEqualTo(givenBidCacheResponse("uuid1"));
+        assertThat(second.result()).isEqualTo(givenBidCacheResponse("uuid2", "uuid3"));
+    }
+
+    @Test
+    public void writeShouldIgnoreWindowTimerOfAlreadySentBatch() {
+        // given
+        givenHttpClientReturnsResponse(200, "uuid1", "uuid2", "uuid3");
+        write(singletonList(givenPutObject("value1")), 100L);
+        write(asList(givenPutObject("value2"), givenPutObject("value3")), 100L);
+
+        // when
+        fireWindowTimer();
+
+        // then
+        verify(httpClient).post(anyString(), any(), anyString(), anyLong());
+    }
+
+    @Test
+    public void writeShouldUseSmallestTimeoutOfBatchedWrites() {
+        // given
+        givenHttpClientReturnsResponse(200, "uuid1", "uuid2");
+
+        // when
+        write(singletonList(givenPutObject("value1")), 100L);
+        write(singletonList(givenPutObject("value2")), 50L);
+        fireWindowTimer();
+
+        // then
+        verify(httpClient).post(eq(ENDPOINT_URL), any(), anyString(), eq(50L));
+    }
+
+    @Test
+    public void writeShouldFailExpiredWritesWithoutSendingThem() {
+        // when
+        final Future<BidCacheResponse> result = write(singletonList(givenPutObject("value")), 0L);
+        fireWindowTimer();
+
+        // then
+        verifyNoInteractions(httpClient);
+        assertThat(result.failed()).isTrue();
+        assertThat(result.cause()).isInstanceOf(TimeoutException.class);
+    }
+
+    @Test
+    public void writeShouldFailAllWritesIfBulkRequestFailed() {
+        // given
+        given(httpClient.post(anyString(), any(), anyString(), anyLong()))
+                .willReturn(Future.failedFuture(new RuntimeException("error")));
+
+        // when
+        final Future<BidCacheResponse> first = write(singletonList(givenPutObject("value1")), 100L);
+        final Future<BidCacheResponse> second = write(singletonList(givenPutObject("value2")), 100L);
+        fireWindowTimer();
+
+        // then
+        assertThat(first.cause()).hasMessage("error");
+        assertThat(second.cause()).hasMessage("error");
+    }
+
+    @Test
+    public void writeShouldFailAllWritesIfNumberOfCacheObjectsDoesNotMatchPuts() {
+        // given
+        givenHttpClientReturnsResponse(200, "uuid1");
+
+        // when
+        final Future<BidCacheResponse> first = write(singletonList(givenPutObject("value1")), 100L);
+        final Future<BidCacheResponse> second = write(singletonList(givenPutObject("value2")), 100L);
+        fireWindowTimer();
+
+        // then
+        assertThat(first.cause())
+                .isInstanceOf(PreBidException.class)
+                .hasMessage("The number of response cache objects doesn't match with bids");
+        assertThat(second.cause()).isSameAs(first.cause());
+    }
+
+    @Test
+    public void writeShouldFailWriteIfResponseIsNotOk() {
+        // given
+        given(httpClient.post(anyString(), any(), anyString(), anyLong()))
+                .willReturn(Future.succeededFuture(HttpClientResponse.of(503, null, "unavailable")));
+
+        // when
+        final Future<BidCacheResponse> result = write(singletonList(givenPutObject("value")), 100L);
+        fireWindowTimer();
+
+        // then
+        assertThat(result.cause()).isInstanceOf(PreBidException.class).hasMessage("HTTP status code 503");
+    }
+
+    @Test
+    public void writeShouldResendEveryWriteOnItsOwnIfBulkRequestIsRejected() throws JsonProcessingException {
+        // given
+        given(httpClient.post(anyString(), any(), anyString(), anyLong())).willAnswer(invocation -> {
+            final List<PutObject> puts = mapper.readValue((String) invocation.getArgument(2), BidCacheRequest.class)
+                    .getPuts();
+            return Future.succeededFuture(puts.size() == 1 && puts.get(0).getValue().equals(new TextNode("value1"))
+                    ? HttpClientResponse.of(200, null, givenBidCacheResponseBody("uuid1"))
+                    : HttpClientResponse.of(400, null, "invalid"));
+        });
+
+        // when
+        final Future<BidCacheResponse> first = write(singletonList(givenPutObject("value1")), 100L);
+        final Future<BidCacheResponse> second = write(singletonList(givenPutObject("value2")), 100L);
+        fireWindowTimer();
+
+        // then
+        verify(httpClient, times(3)).post(eq(ENDPOINT_URL), any(), anyString(), anyLong());
+        assertThat(first.result()).isEqualTo(givenBidCacheResponse("uuid1"));
+        assertThat(second.cause()).isInstanceOf(PreBidException.class).hasMessage("HTTP status code 400");
+    }
+
+    @Test
+    public void writeShouldSendPendingPutsFirstIfNextWriteWouldExceedMaxBatchSize() throws JsonProcessingException {
+        // given
+        givenHttpClientReturnsResponse(200, "uuid1", "uuid2");
+
+        // when
+        final Future<BidCacheResponse> first = write(
+                asList(givenPutObject("value1"), givenPutObject("value2")), 100L);
+        final Future<BidCacheResponse> second = write(
+                asList(givenPutObject("value3"), givenPutObject("value4")), 100L);
+
+        // then
+        assertThat(captureBidCacheRequest().getPuts())
+                .extracting(PutObject::getValue)
+                .containsExactly(new TextNode("value1"), new TextNode("value2"));
+        assertThat(first.result()).isEqualTo(givenBidCacheResponse("uuid1", "uuid2"));
+        assertThat(second.isComplete()).isFalse();
+    }
+
+    @Test
+    public void writeShouldFailWriteIfResponseCannotBeParsed() {
+        // given
+        given(httpClient.post(anyString(), any(), anyString(), anyLong()))
+                .willReturn(Future.succeededFuture(HttpClientResponse.of(200, null, "invalid")));
+
+        // when
+        final Future<BidCacheResponse> result = write(singletonList(givenPutObject("value")), 100L);
+        fireWindowTimer();
+
+        // then
+        assertThat(result.cause()).isInstanceOf(PreBidException.class).hasMessageStartingWith("Cannot parse response");
+    }
+
+    @Test
+    public void writeShouldUpdateBatchMetrics() {
+        // given
+        givenHttpClientReturnsResponse(200, "uuid1", "uuid2");
+
+        // when
+        write(asList(givenPutObject("value1"), givenPutObject("value2")), 100L);
+        fireWindowTimer();
+
+        // then
+        verify(metrics).updateCacheBatchSize(2);
+        verify(metrics).updateCacheBatchRequestTime(anyLong());
+    }
+
+    @Test
+    public void writeShouldSendWriteImmediatelyIfCalledOutsideOfVertxContext() {
+        // given
+        givenHttpClientReturnsResponse(200, "uuid1");
+
+        // when
+        final Future<BidCacheResponse> result = target.write(singletonList(givenPutObject("value")), 100L);
+
+        // then
+        verifyNoInteractions(vertx);
+        assertThat(result.result()).isEqualTo(givenBidCacheResponse("uuid1"));
+    }
+
+    @Test
+    public void writeShouldCoalesceWritesOfEveryContextSeparatelyAndCompleteThemOnTheirOwnContext() {
+        // given
+        final CoalescingCacheWriter writer = new CoalescingCacheWriter(
+                eventLoopVertx,
+                httpClient,
+                ENDPOINT_URL,
+                5L,
+                100,
+                metrics,
+                Clock.systemUTC(),
+                jacksonMapper);
+
+        final List<Context> postContexts = new CopyOnWriteArrayList<>();
+        given(httpClient.post(anyString(), any(), anyString(), anyLong())).willAnswer(invocation -> {
+            postContexts.add(Vertx.currentContext());
+            final int putCount = mapper.readValue((String) invocation.getArgument(2), BidCacheRequest.class)
+                    .getPuts().size();
+            return Future.succeededFuture(HttpClientResponse.of(200, null, givenBidCacheResponseBody(
+                    IntStream.range(0, putCount).mapToObj(i -> "uuid" + i).toArray(String[]::new))));
+        });
+
+        final Context firstContext = eventLoopVertx.getOrCreateContext();
+        final Context secondContext = eventLoopVertx.getOrCreateContext();
+
+        // when
+        final CompletableFuture<List<Context>> firstCompletions =
+                writeAndGetCompletionContexts(writer, firstContext, 2);
+        final CompletableFuture<List<Context>> secondCompletions =
+                writeAndGetCompletionContexts(writer, secondContext, 1);
+
+        // then
+        assertThat(firstCompletions.join()).containsExactly(firstContext, firstContext);
+        assertThat(secondCompletions.join()).containsExactly(secondContext);
+        assertThat(postContexts).containsExactlyInAnyOrder(firstContext, secondContext);
+        verify(metrics).updateCacheBatchSize(2);
+        verify(metrics).updateCacheBatchSize(1);
+    }
+
+    private Future<BidCacheResponse> write(List<PutObject> puts, long timeout) {
+        final CompletableFuture<Future<BidCacheResponse>> result = new CompletableFuture<>();
+        context.runOnContext(ignored -> result.complete(target.write(puts, timeout)));
+        return result.join();
+    }
+
+    /**
+     * Submits given number of single-put writes from the given context and returns contexts they were completed on.
+     */
+    private static CompletableFuture<List<Context>> writeAndGetCompletionContexts(CoalescingCacheWriter writer,
+                                                                                  Context context,
+                                                                                  int writeCount) {
+
+        final CompletableFuture<List<Context>> result = new CompletableFuture<>();
+        final List<Context> completionContexts = new CopyOnWriteArrayList<>();
+        context.runOnContext(ignored -> IntStream.range(0, writeCount).forEach(i ->
+                writer.write(singletonList(givenPutObject("value" + i)), 1000L).onComplete(ignoredResult -> {
+                    completionContexts.add(Vertx.currentContext());
+                    if (completionContexts.size() == writeCount) {
+                        result.complete(completionContexts);
+                    }
+                })));
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void fireWindowTimer() {
+        final ArgumentCaptor<Handler<Long>> timerHandlerCaptor = ArgumentCaptor.forClass(Handler.class);
+        verify(vertx).setTimer(eq(5L), timerHandlerCaptor.capture());
+        timerHandlerCaptor.getValue().handle(1L);
+    }
+
+    private void givenHttpClientReturnsResponse(int statusCode, String... uuids) {
+        given(httpClient.post(anyString(), any(), anyString(), anyLong()))
+                .willReturn(Future.succeededFuture(
+                        HttpClientResponse.of(statusCode, null, givenBidCacheResponseBody(uuids))));
+    }
+
+    private BidCacheRequest captureBidCacheRequest() throws JsonProcessingException {
+        final ArgumentCaptor<String> bodyCaptor = ArgumentCaptor.forClass(String.class);
+        verify(httpClient).post(eq(ENDPOINT_URL), any(), bodyCaptor.capture(), anyLong());
+        return mapper.readValue(bodyCaptor.getValue(), BidCacheRequest.class);
+    }
+
+    private static PutObject givenPutObject(String value) {
+        return PutObject.builder().type("xml").value(new TextNode(value)).build();
+    }
+
+    private static BidCacheResponse givenBidCacheResponse(String... uuids) {
+        return BidCacheResponse.of(Arrays.stream(uuids).map(CacheObject::of).toList());
+    }
+
+    private static String givenBidCacheResponseBody(String... uuids) {
+        return jacksonMapper.encodeToString(givenBidCacheResponse(uuids));
+    }
+}
@@ -0,0 +1,268 @@
+package org.prebid.server.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import io.vertx.core.Future;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.VertxTest;
+import org.prebid.server.cache.proto.request.BidCacheRequest;
+import org.prebid.server.cache.proto.request.PutObject;
+import org.prebid.server.cache.proto.response.BidCacheResponse;
+import org.prebid.server.cache.proto.response.CacheObject;
+import org.prebid.server.identity.UUIDIdGenerator;
+import org.prebid.server.vertx.http.HttpClient;
+import org.prebid.server.vertx.http.model.HttpClientResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class EmbeddedCacheStoreTest extends VertxTest {
+
+    private static final String SELF_NODE = "http://pbs-1:8080";
+    private static final String OTHER_NODE = "http://pbs-2:8080";
+    private static final String THIRD_NODE = "http://pbs-3:8080";
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private HttpClient httpClient;
+
+    private EmbeddedCacheStore target;
+
+    @Before
+    public void setUp() {
+        target = givenStore(null);
+    }
+
+    @Test
+    public void creationShouldFailIfDefaultTtlExceedsMaxTtl() {
+        assertThatIllegalArgumentException().isThrownBy(() ->
+                new EmbeddedCacheStore(1024, 300, 100, null, httpClient, "/cache", new UUIDIdGenerator(),
+                        jacksonMapper));
+    }
+
+    @Test
+    public void writeShouldRespondWithCacheObjectPerPutInOrderOfPuts() {
+        // when
+        final BidCacheResponse response = target.write(
+                asList(givenPutObject("xml", new TextNode("<VAST/>")), givenPutObject("xml", new TextNode("<a/>"))),
+                100L).result();
+
+        // then
+        final List<CacheObject> cacheObjects = response.getResponses();
+        assertThat(cacheObjects).hasSize(2);
+        assertThat(target.get(cacheObjects.get(0).getUuid()).getContent())
+                .isEqualTo("<VAST/>".getBytes(StandardCharsets.UTF_8));
+        assertThat(target.get(cacheObjects.get(1).getUuid()).getContent())
+                .isEqualTo("<a/>".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void writeShouldStoreJsonValueAsSerializedJson() {
+        // given
+        final PutObject putObject = givenPutObject("json", mapper.createObjectNode().put("adm", "creative"));
+
+        // when
+        final String uuid = writeAndGetUuid(putObject);
+
+        // then
+        final EmbeddedCacheStore.CachedValue cachedValue = target.get(uuid);
+        assertThat(cachedValue.getType()).isEqualTo("json");
+        assertThat(new String(cachedValue.getContent(), StandardCharsets.UTF_8)).isEqualTo("{\"adm\":\"creative\"}");
+    }
+
+    @Test
+    public void writeShouldUseKeyOfPutIfPresent() {
+        // given
+        final PutObject putObject = givenPutObject("xml", new TextNode("<VAST/>")).toBuilder().key("key").build();
+
+        // when
+        final String uuid = writeAndGetUuid(putObject);
+
+        // then
+        assertThat(uuid).isEqualTo("key");
+        assertThat(target.get("key")).isNotNull();
+    }
+
+    @Test
+    public void writeShouldUseTtlOfPutLimitedByMaxTtl() {
+        // given
+        final PutObject putObject = givenPutObject("xml", new TextNode("<VAST/>")).toBuilder()
+                .ttlseconds(7200)
+                .build();
+
+        // when
+        final String uuid = writeAndGetUuid(putObject);
+
+        // then
+        assertThat(target.get(uuid).getTtlSeconds()).isEqualTo(3600);
+    }
+
+    @Test
+    public void writeShouldUseDefaultTtlIfPutHasNoTtl() {
+        // when
+        final String uuid = writeAndGetUuid(givenPutObject("xml", new TextNode("<VAST/>")));
+
+        // then
+        assertThat(target.get(uuid).getTtlSeconds()).isEqualTo(300);
+    }
+
+    @Test
+    public void writeShouldGenerateKeysOwnedBySelfNode() {
+        // given
+        final CacheNodeRing nodeRing = new CacheNodeRing(asList(SELF_NODE, OTHER_NODE), SELF_NODE);
+        target = givenStore(nodeRing);
+
+        // when
+        final String uuid = writeAndGetUuid(givenPutObject("xml", new TextNode("<VAST/>")));
+
+        // then
+        assertThat(nodeRing.isOwnedBySelf(uuid)).isTrue();
+        assertThat(target.ownerOf(uuid)).isNull();
+    }
+
+    @Test
+    public void writeShouldForwardPresetKeyToItsOwnerNode() {
+        // given
+        final CacheNodeRing nodeRing = new CacheNodeRing(asList(SELF_NODE, OTHER_NODE), SELF_NODE);
+        target = givenStore(nodeRing);
+        given(httpClient.post(anyString(), any(), anyString(), anyLong()))
+                .willReturn(Future.succeededFuture(HttpClientResponse.of(200, null, "{}")));
+
+        final String presetKey = keyOwnedBy(nodeRing, OTHER_NODE);
+        final PutObject putObject = givenPutObject("xml", new TextNode("<VAST/>")).toBuilder().key(presetKey).build();
+
+        // when
+        final Future<BidCacheResponse> result = target.write(singletonList(putObject), 100L);
+
+        // then
+        assertThat(result.result().getResponses()).containsExactly(CacheObject.of(presetKey));
+        assertThat(target.get(presetKey)).isNull();
+        verify(httpClient).post(eq(OTHER_NODE + "/cache"), any(),
+                eq(jacksonMapper.encodeToString(BidCacheRequest.of(singletonList(putObject)))), eq(100L));
+    }
+
+    @Test
+    public void writeShouldFailIfOwnerNodeRejectsForwardedPuts() {
+        // given
+        final CacheNodeRing nodeRing = new CacheNodeRing(asList(SELF_NODE, OTHER_NODE), SELF_NODE);
+        target = givenStore(nodeRing);
+        given(httpClient.post(anyString(), any(), anyString(), anyLong()))
+                .willReturn(Future.succeededFuture(HttpClientResponse.of(500, null, null)));
+
+        final PutObject putObject = givenPutObject("xml", new TextNode("<VAST/>")).toBuilder()
+                .key(keyOwnedBy(nodeRing, OTHER_NODE))
+                .build();
+
+        // when
+        final Future<BidCacheResponse> result = target.write(singletonList(putObject), 100L);
+
+        // then
+        assertThat(result.failed()).isTrue();
+        assertThat(result.cause()).hasMessage("Embedded cache node http://pbs-2:8080 responded with HTTP status code 500");
+    }
+
+    @Test
+    public void storeLocallyShouldNotForwardPutsOwnedByOtherNodes() {
+        // given
+        final CacheNodeRing nodeRing = new CacheNodeRing(asList(SELF_NODE, OTHER_NODE), SELF_NODE);
+        target = givenStore(nodeRing);
+
+        final String presetKey = keyOwnedBy(nodeRing, OTHER_NODE);
+        final PutObject putObject = givenPutObject("xml", new TextNode("<VAST/>")).toBuilder().key(presetKey).build();
+
+        // when
+        final BidCacheResponse response = target.storeLocally(singletonList(putObject));
+
+        // then
+        assertThat(response.getResponses()).containsExactly(CacheObject.of(presetKey));
+        assertThat(target.get(presetKey)).isNotNull();
+        verify(httpClient, never()).post(anyString(), any(), anyString(), anyLong());
+    }
+
+    @Test
+    public void presetKeyWrittenByOneNodeShouldBeFoundByAnyNodeThroughItsOwner() {
+        // given
+        final List<String> nodes = asList(SELF_NODE, OTHER_NODE, THIRD_NODE);
+        final Map<String, EmbeddedCacheStore> nodeToStore = new HashMap<>();
+        for (String node : nodes) {
+            nodeToStore.put(node, new EmbeddedCacheStore(1024 * 1024, 300, 3600, new CacheNodeRing(nodes, node),
+                    httpClient, "/cache", new UUIDIdGenerator(), jacksonMapper));
+        }
+        given(httpClient.post(anyString(), any(), anyString(), anyLong())).willAnswer(invocation -> {
+            final String url = invocation.getArgument(0);
+            final BidCacheRequest request = jacksonMapper.decodeValue(
+                    (String) invocation.getArgument(2), BidCacheRequest.class);
+            final BidCacheResponse response = nodeToStore.get(url.substring(0, url.length() - "/cache".length()))
+                    .storeLocally(request.getPuts());
+            return Future.succeededFuture(HttpClientResponse.of(200, null, jacksonMapper.encodeToString(response)));
+        });
+
+        final String presetKey = keyOwnedBy(new CacheNodeRing(nodes, SELF_NODE), THIRD_NODE);
+        final PutObject putObject = givenPutObject("xml", new TextNode("<VAST/>")).toBuilder().key(presetKey).build();
+
+        // when
+        nodeToStore.get(SELF_NODE).write(singletonList(putObject), 100L);
+
+        // then
+        final EmbeddedCacheStore readingNode = nodeToStore.get(OTHER_NODE);
+        assertThat(readingNode.get(presetKey)).isNull();
+        assertThat(readingNode.ownerOf(presetKey)).isEqualTo(THIRD_NODE);
+        assertThat(nodeToStore.get(THIRD_NODE).get(presetKey).getContent())
+                .isEqualTo("<VAST/>".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void ownerOfShouldReturnNullIfThereIsNoNodeRing() {
+        // when and then
+        assertThat(target.ownerOf("uuid")).isNull();
+    }
+
+    @Test
+    public void getShouldReturnNullForUnknownKey() {
+        // when and then
+        assertThat(target.get("unknown")).isNull();
+    }
+
+    private EmbeddedCacheStore givenStore(CacheNodeRing nodeRing) {
+        return new EmbeddedCacheStore(1024 * 1024, 300, 3600, nodeRing, httpClient, "/cache", new UUIDIdGenerator(),
+                jacksonMapper);
+    }
+
+    private static String keyOwnedBy(CacheNodeRing nodeRing, String node) {
+        return IntStream.range(0, 1000)
+                .mapToObj(i -> "log_" + i)
+                .filter(key -> node.equals(nodeRing.ownerOf(key)))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private String writeAndGetUuid(PutObject putObject) {
+        return target.write(singletonList(putObject), 100L).result().getResponses().get(0).getUuid();
+    }
+
+    private static PutObject givenPutObject(String type, JsonNode value) {
+        return PutObject.builder().type(type).value(value).build();
+    }
+}
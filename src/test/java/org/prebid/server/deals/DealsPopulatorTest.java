@@ -23,7 +23,9 @@ import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.deals.deviceinfo.DeviceInfoService;
 import org.prebid.server.deals.lineitem.LineItem;
 import org.prebid.server.deals.model.DeviceInfo;
+import org.prebid.server.deals.model.LineItemIndex;
 import org.prebid.server.deals.model.MatchLineItemsResult;
+import org.prebid.server.deals.model.TxnLog;
 import org.prebid.server.deals.model.UserData;
 import org.prebid.server.deals.model.UserDetails;
 import org.prebid.server.deals.proto.LineItemMetaData;
@@ -98,6 +100,20 @@ public class DealsPopulatorTest extends VertxTest {
                 criteriaLogManager);
     }
 
+    @Test
+    public void createTxnLogShouldReturnTxnLogWithCurrentLineItemIndex() {
+        // given
+        final LineItemIndex lineItemIndex = LineItemIndex.of(singletonList("lineItemId"));
+        given(lineItemService.getLineItemIndex()).willReturn(lineItemIndex);
+
+        // when
+        final TxnLog result = dealsPopulator.createTxnLog();
+
+        // then
+        assertThat(result.lineItemIndex()).isSameAs(lineItemIndex);
+        assertThat(result).isEqualTo(TxnLog.create());
+    }
+
     @Test
     public void populateDealsInfoShouldReturnOriginalContextIfAccountHasNoDeals() {
         // given
@@ -21,6 +21,7 @@ import org.prebid.server.deals.lineitem.DeliveryPlan;
 import org.prebid.server.deals.lineitem.DeliveryToken;
 import org.prebid.server.deals.lineitem.LineItem;
 import org.prebid.server.deals.model.DeepDebugLog;
+import org.prebid.server.deals.model.LineItemIndex;
 import org.prebid.server.deals.model.MatchLineItemsResult;
 import org.prebid.server.deals.model.TxnLog;
 import org.prebid.server.deals.proto.DeliverySchedule;
@@ -354,6 +355,30 @@ public class LineItemServiceTest extends VertxTest {
         assertThat(lineItem2.getReadyAt()).isNull();
     }
 
+    @Test
+    public void updateLineItemsShouldReplaceLineItemIndexWithIndexOfCurrentLineItems() {
+        // given
+        final LineItemIndex initialIndex = lineItemService.getLineItemIndex();
+        final List<LineItemMetaData> planResponse = asList(
+                givenLineItemMetaData("lineItem1", "1001", "rubicon",
+                        singletonList(givenDeliverySchedule("planId1", now.minusHours(1),
+                                now.plusHours(1), singleton(Token.of(1, 100)))), now),
+                givenLineItemMetaData("lineItem2", "1002", "rubicon",
+                        singletonList(givenDeliverySchedule("planId2", now.plusHours(1),
+                                now.plusHours(2), singleton(Token.of(1, 100)))), now));
+
+        // when
+        lineItemService.updateLineItems(planResponse, true);
+
+        // then
+        final LineItemIndex lineItemIndex = lineItemService.getLineItemIndex();
+        assertThat(lineItemIndex).isNotSameAs(initialIndex);
+        assertThat(lineItemIndex.size()).isEqualTo(2);
+        assertThat(lineItemIndex.lineItemIdAt(lineItemIndex.indexOf("lineItem1"))).isEqualTo("lineItem1");
+        assertThat(lineItemIndex.lineItemIdAt(lineItemIndex.indexOf("lineItem2"))).isEqualTo("lineItem2");
+        assertThat(lineItemIndex.indexOf("unknown")).isEqualTo(-1);
+    }
+
     @Test
     public void updateLineItemsShouldCreateLineItemsWithNullTargetingIfCantParse() {
         // given
@@ -555,6 +580,21 @@ public class LineItemServiceTest extends VertxTest {
                 .build()).build())).isFalse();
     }
 
+    @Test
+    public void accountHasDealsShouldReturnFalseWhenLineItemsWereInvalidated() {
+        // given
+        final List<LineItemMetaData> planResponse = singletonList(
+                givenLineItemMetaData("lineItem1", "1001", "rubicon",
+                        singletonList(givenDeliverySchedule("planId1", now.minusHours(1), now.plusHours(1),
+                                emptySet())), now));
+        lineItemService.updateLineItems(planResponse, true);
+        lineItemService.invalidateLineItemsByIds(singletonList("lineItem1"));
+
+        // when and then
+        assertThat(lineItemService.accountHasDeals(AuctionContext.builder().account(Account.builder().id("1001")
+                .build()).build())).isFalse();
+    }
+
     @Test
     public void findMatchingLineItemsShouldReturnEmptyListWhenLineItemsIsEmpty() {
         // given
@@ -798,7 +838,7 @@ public class LineItemServiceTest extends VertxTest {
                 .willReturn(TargetingDefinition.of(context -> false));
         given(targetingService.parseTargetingDefinition(any(), eq("id2")))
                 .willReturn(TargetingDefinition.of(context -> true));
-        given(targetingService.matchesTargeting(any(), any(), any(), anyString(), any()))
+        given(targetingService.matchesTargeting(any(), any()))
                 .willAnswer(withEvaluatedTargeting());
 
         givenClock(now, now.plusMinutes(1));
@@ -855,7 +895,7 @@ public class LineItemServiceTest extends VertxTest {
                 .willReturn(null);
         given(targetingService.parseTargetingDefinition(any(), eq("id2")))
                 .willReturn(TargetingDefinition.of(context -> true));
-        given(targetingService.matchesTargeting(any(), any(), any(), anyString(), any()))
+        given(targetingService.matchesTargeting(any(), any()))
                 .willAnswer(withEvaluatedTargeting());
 
         givenClock(now, now.plusMinutes(1));
@@ -1931,12 +1971,12 @@ public class LineItemServiceTest extends VertxTest {
     private void givenTargetingService() {
         given(targetingService.parseTargetingDefinition(any(), any()))
                 .willReturn(TargetingDefinition.of(context -> true));
-        given(targetingService.matchesTargeting(any(), any(), any(), anyString(), any()))
+        given(targetingService.matchesTargeting(any(), any()))
                 .willAnswer(withEvaluatedTargeting());
     }
 
     private Answer<Boolean> withEvaluatedTargeting() {
-        return invocation -> ((TargetingDefinition) invocation.getArgument(2)).getRootExpression().matches(null);
+        return invocation -> ((TargetingDefinition) invocation.getArgument(1)).getRootExpression().matches(null);
     }
 
     private void givenClock(ZonedDateTime... dateTimes) {
@@ -10,6 +10,7 @@ import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 import org.prebid.server.VertxTest;
 import org.prebid.server.deals.LineItemService;
+import org.prebid.server.deals.model.LineItemIndex;
 import org.prebid.server.deals.model.TxnLog;
 import org.prebid.server.deals.proto.DeliverySchedule;
 import org.prebid.server.deals.proto.Token;
@@ -23,6 +24,8 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -139,6 +142,54 @@ public class DeliveryProgressTest extends VertxTest {
                 .containsOnly("lineItemId1");
     }
 
+    @Test
+    public void recordTransactionLogShouldIncrementLineItemsRecordedByCurrentLineItemIndex() {
+        // given
+        final LineItemIndex lineItemIndex = LineItemIndex.of(asList("lineItemId1", "lineItemId2"));
+        given(lineItemService.getLineItemIndex()).willReturn(lineItemIndex);
+
+        final TxnLog txnLog = TxnLog.create(lineItemIndex);
+        txnLog.lineItemsMatchedWholeTargeting().add("lineItemId1");
+        txnLog.lineItemsMatchedWholeTargeting().add("lineItemId2");
+        txnLog.lineItemsMatchedWholeTargeting().add("lineItemId3");
+        txnLog.lineItemsSentToBidder().get("bidder1").add("lineItemId2");
+
+        // when
+        deliveryProgress.recordTransactionLog(txnLog, emptyMap(), "1001");
+        deliveryProgress.recordTransactionLog(txnLog, emptyMap(), "1001");
+
+        // then
+        final Map<String, LineItemStatus> lineItemStatuses = deliveryProgress.getLineItemStatuses();
+        assertThat(lineItemStatuses).containsOnlyKeys("lineItemId1", "lineItemId2", "lineItemId3");
+        assertThat(lineItemStatuses.get("lineItemId1").getTargetMatched().sum()).isEqualTo(2);
+        assertThat(lineItemStatuses.get("lineItemId2").getTargetMatched().sum()).isEqualTo(2);
+        assertThat(lineItemStatuses.get("lineItemId3").getTargetMatched().sum()).isEqualTo(2);
+        assertThat(lineItemStatuses.get("lineItemId2").getSentToBidder().sum()).isEqualTo(2);
+        assertThat(lineItemStatuses.get("lineItemId1").getSentToBidder().sum()).isZero();
+    }
+
+    @Test
+    public void recordTransactionLogShouldResolveLineItemsRecordedByStaleLineItemIndexByTheirIds() {
+        // given
+        final LineItemIndex currentIndex = LineItemIndex.of(asList("lineItemId2", "lineItemId1"));
+        given(lineItemService.getLineItemIndex()).willReturn(currentIndex);
+
+        final TxnLog currentTxnLog = TxnLog.create(currentIndex);
+        currentTxnLog.lineItemsMatchedWholeTargeting().add("lineItemId2");
+        deliveryProgress.recordTransactionLog(currentTxnLog, emptyMap(), "1001");
+
+        final TxnLog staleTxnLog = TxnLog.create(LineItemIndex.of(asList("lineItemId1", "lineItemId2")));
+        staleTxnLog.lineItemsMatchedWholeTargeting().add("lineItemId1");
+
+        // when
+        deliveryProgress.recordTransactionLog(staleTxnLog, emptyMap(), "1001");
+
+        // then
+        final Map<String, LineItemStatus> lineItemStatuses = deliveryProgress.getLineItemStatuses();
+        assertThat(lineItemStatuses.get("lineItemId1").getTargetMatched().sum()).isEqualTo(1);
+        assertThat(lineItemStatuses.get("lineItemId2").getTargetMatched().sum()).isEqualTo(1);
+    }
+
     @Test
     public void fromAnotherCopyingPlansShouldReturnDeliveryProgressWithPlansAndStatistics() {
         // given
@@ -0,0 +1,104 @@
+package org.prebid.server.deals.model;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LineItemIdSetTest {
+
+    private static final LineItemIndex LINE_ITEM_INDEX = LineItemIndex.of(asList("id1", "id2", "id3"));
+
+    @Test
+    public void shouldKeepIndexedAndUnindexedLineItemIds() {
+        // given
+        final LineItemIdSet lineItemIds = new LineItemIdSet(LINE_ITEM_INDEX);
+
+        // when
+        lineItemIds.add("id3");
+        lineItemIds.add("unknown");
+        lineItemIds.add("id1");
+        lineItemIds.add("id3");
+
+        // then
+        assertThat(lineItemIds).hasSize(3).containsExactly("id1", "id3", "unknown");
+        assertThat(lineItemIds.contains("id2")).isFalse();
+        assertThat(lineItemIds).isEqualTo(new HashSet<>(asList("id1", "id3", "unknown")));
+        assertThat(new HashSet<>(asList("id1", "id3", "unknown"))).isEqualTo(lineItemIds);
+    }
+
+    @Test
+    public void forEachIndexShouldPassIndexesOfIndexedLineItemsOnly() {
+        // given
+        final LineItemIdSet lineItemIds = new LineItemIdSet(LINE_ITEM_INDEX);
+        lineItemIds.addAll(asList("id2", "id3", "unknown"));
+
+        final List<Integer> indexes = new ArrayList<>();
+        final List<String> unindexedLineItemIds = new ArrayList<>();
+
+        // when
+        lineItemIds.forEachIndex(indexes::add);
+        lineItemIds.forEachUnindexed(unindexedLineItemIds::add);
+
+        // then
+        assertThat(indexes).containsExactly(1, 2);
+        assertThat(unindexedLineItemIds).containsExactly("unknown");
+    }
+
+    @Test
+    public void removeShouldRemoveIndexedAndUnindexedLineItemIds() {
+        // given
+        final LineItemIdSet lineItemIds = new LineItemIdSet(LINE_ITEM_INDEX);
+        lineItemIds.addAll(asList("id1", "id2", "unknown"));
+
+        // when
+        final boolean removedIndexed = lineItemIds.remove("id1");
+        final boolean removedUnindexed = lineItemIds.remove("unknown");
+        final boolean removedAbsent = lineItemIds.remove("id3");
+
+        // then
+        assertThat(removedIndexed).isTrue();
+        assertThat(removedUnindexed).isTrue();
+        assertThat(removedAbsent).isFalse();
+        assertThat(lineItemIds).containsExactly("id2");
+    }
+
+    @Test
+    public void iteratorRemoveShouldRemoveLastReturnedLineItemId() {
+        // given
+        final LineItemIdSet lineItemIds = new LineItemIdSet(LINE_ITEM_INDEX);
+        lineItemIds.addAll(asList("id1", "id2", "unknown"));
+
+        // when
+        final Iterator<String> iterator = lineItemIds.iterator();
+        while (iterator.hasNext()) {
+            if (!iterator.next().equals("id2")) {
+                iterator.remove();
+            }
+        }
+
+        // then
+        assertThat(lineItemIds).containsExactly("id2");
+    }
+
+    @Test
+    public void shouldKeepAllLineItemIdsAsUnindexedWithEmptyIndex() {
+        // given
+        final LineItemIdSet lineItemIds = new LineItemIdSet(LineItemIndex.empty());
+
+        // when
+        lineItemIds.add("id1");
+
+        // then
+        final Set<String> unindexedLineItemIds = new HashSet<>();
+        lineItemIds.forEachUnindexed(unindexedLineItemIds::add);
+        assertThat(unindexedLineItemIds).containsExactly("id1");
+        assertThat(lineItemIds).containsExactly("id1");
+    }
+}
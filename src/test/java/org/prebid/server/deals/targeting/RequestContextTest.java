@@ -84,6 +84,67 @@ public class RequestContextTest extends VertxTest {
         assertThat(context.lookupString(category).getValues()).containsExactly("domain.com");
     }
 
+    @Test
+    public void lookupStringShouldReturnSameResultForRepeatedLookupOfCategory() {
+        // given
+        final TargetingCategory category = new TargetingCategory(TargetingCategory.Type.domain);
+        final RequestContext context = new RequestContext(
+                request(r -> r.site(site(s -> s.domain("domain.com")))),
+                imp(identity()),
+                null,
+                aliases,
+                txnLog,
+                jacksonMapper);
+        final LookupResult<String> firstResult = context.lookupString(category);
+
+        // when
+        final LookupResult<String> secondResult =
+                context.lookupString(new TargetingCategory(TargetingCategory.Type.domain));
+
+        // then
+        assertThat(secondResult).isSameAs(firstResult);
+    }
+
+    @Test
+    public void lookupLowerCasedStringShouldReturnLowerCasedValuesOnce() {
+        // given
+        final TargetingCategory category = new TargetingCategory(TargetingCategory.Type.domain);
+        final RequestContext context = new RequestContext(
+                request(r -> r.site(site(s -> s.domain("Domain.COM")))),
+                imp(identity()),
+                null,
+                aliases,
+                txnLog,
+                jacksonMapper);
+        final LookupResult<String> firstResult = context.lookupLowerCasedString(category);
+
+        // when
+        final LookupResult<String> secondResult = context.lookupLowerCasedString(category);
+
+        // then
+        assertThat(firstResult.getValues()).containsExactly("domain.com");
+        assertThat(secondResult).isSameAs(firstResult);
+        assertThat(context.lookupString(category).getValues()).containsExactly("Domain.COM");
+    }
+
+    @Test
+    public void lookupLowerCasedStringsShouldReturnLowerCasedValues() {
+        // given
+        final TargetingCategory category = new TargetingCategory(TargetingCategory.Type.userSegment, "rubicon");
+        final RequestContext context = new RequestContext(
+                request(r -> r.user(user(u -> u.data(singletonList(
+                        data(d -> d.id("rubicon").segment(
+                                asList(segment(s -> s.id("Rock")), segment(s -> s.id("FOLK")))))))))),
+                imp(identity()),
+                null,
+                aliases,
+                txnLog,
+                jacksonMapper);
+
+        // when and then
+        assertThat(context.lookupLowerCasedStrings(category).getValues()).containsExactly(asList("rock", "folk"));
+    }
+
     @Test
     public void lookupStringShouldReturnDomainFromSitePublisher() {
         // given
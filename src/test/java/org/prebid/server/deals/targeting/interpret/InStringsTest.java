@@ -38,26 +38,26 @@ public class InStringsTest {
     @Test
     public void matchesShouldReturnTrueWhenThereIsMatch() {
         // given
-        willReturn(LookupResult.ofValue("Berlin")).given(context).lookupString(any());
+        willReturn(LookupResult.ofValue("berlin")).given(context).lookupLowerCasedString(any());
 
         // when and then
         assertThat(expression.matches(context)).isTrue();
-        verify(context).lookupString(eq(category));
+        verify(context).lookupLowerCasedString(eq(category));
     }
 
     @Test
     public void matchesShouldReturnFalseWhenThereIsNoMatch() {
         // given
-        willReturn(LookupResult.ofValue("Ingolstadt")).given(context).lookupString(any());
+        willReturn(LookupResult.ofValue("ingolstadt")).given(context).lookupLowerCasedString(any());
 
         // when and then
         assertThat(expression.matches(context)).isFalse();
     }
 
     @Test
-    public void matchesShouldPerformCaseInsensitiveComparison() {
+    public void matchesShouldCompareActualValuesWithLowerCasedExpressionValues() {
         // given
-        willReturn(LookupResult.ofValue("BERLIN")).given(context).lookupString(any());
+        willReturn(LookupResult.ofValue("berlin")).given(context).lookupLowerCasedString(any());
 
         // when and then
         assertThat(expression.matches(context)).isTrue();
@@ -66,7 +66,7 @@ public class InStringsTest {
     @Test
     public void matchesShouldReturnFalseWhenActualValueIsMissing() {
         // given
-        willReturn(LookupResult.empty()).given(context).lookupString(any());
+        willReturn(LookupResult.empty()).given(context).lookupLowerCasedString(any());
         willReturn(LookupResult.empty()).given(context).lookupInteger(any());
 
         // when and then
@@ -76,7 +76,7 @@ public class InStringsTest {
     @Test
     public void matchesShouldReturnTrueWhenActualValueIsInteger() {
         // given
-        willReturn(LookupResult.empty()).given(context).lookupString(any());
+        willReturn(LookupResult.empty()).given(context).lookupLowerCasedString(any());
         willReturn(LookupResult.ofValue(123)).given(context).lookupInteger(any());
 
         // when and then
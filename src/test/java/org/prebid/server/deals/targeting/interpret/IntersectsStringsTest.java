@@ -38,26 +38,28 @@ public class IntersectsStringsTest {
     @Test
     public void matchesShouldReturnTrueWhenThereIsMatch() {
         // given
-        willReturn(LookupResult.ofValue(asList("Rock", "Alternative", "Folk"))).given(context).lookupStrings(any());
+        willReturn(LookupResult.ofValue(asList("rock", "alternative", "folk")))
+                .given(context).lookupLowerCasedStrings(any());
 
         // when and then
         assertThat(expression.matches(context)).isTrue();
-        verify(context).lookupStrings(eq(category));
+        verify(context).lookupLowerCasedStrings(eq(category));
     }
 
     @Test
     public void matchesShouldReturnFalseWhenThereIsNoMatch() {
         // given
-        willReturn(LookupResult.ofValue(asList("Folk", "Trance"))).given(context).lookupStrings(any());
+        willReturn(LookupResult.ofValue(asList("folk", "trance"))).given(context).lookupLowerCasedStrings(any());
 
         // when and then
         assertThat(expression.matches(context)).isFalse();
     }
 
     @Test
-    public void matchesShouldPerformCaseInsensitiveComparison() {
+    public void matchesShouldCompareActualValuesWithLowerCasedExpressionValues() {
         // given
-        willReturn(LookupResult.ofValue(asList("ROCK", "ALTERNATIVE", "FOLK"))).given(context).lookupStrings(any());
+        willReturn(LookupResult.ofValue(asList("rock", "alternative", "folk")))
+                .given(context).lookupLowerCasedStrings(any());
 
         // when and then
         assertThat(expression.matches(context)).isTrue();
@@ -66,7 +68,7 @@ public class IntersectsStringsTest {
     @Test
     public void matchesShouldReturnFalseWhenActualValueIsMissing() {
         // given
-        willReturn(LookupResult.empty()).given(context).lookupStrings(any());
+        willReturn(LookupResult.empty()).given(context).lookupLowerCasedStrings(any());
 
         // when and then
         assertThat(expression.matches(context)).isFalse();
@@ -75,7 +77,7 @@ public class IntersectsStringsTest {
     @Test
     public void matchesShouldReturnFalseWhenActualValueIsNotDefined() {
         // given
-        willReturn(LookupResult.empty()).given(context).lookupStrings(any());
+        willReturn(LookupResult.empty()).given(context).lookupLowerCasedStrings(any());
 
         // when and then
         assertThat(expression.matches(context)).isFalse();
@@ -38,11 +38,11 @@ public class MatchesTest {
         // given
         expression = new Matches(category, "adunit");
 
-        willReturn(LookupResult.ofValue("adunit")).given(context).lookupString(any());
+        willReturn(LookupResult.ofValue("adunit")).given(context).lookupLowerCasedString(any());
 
         // when and then
         assertThat(expression.matches(context)).isTrue();
-        verify(context).lookupString(eq(category));
+        verify(context).lookupLowerCasedString(eq(category));
     }
 
     @Test
@@ -50,7 +50,7 @@ public class MatchesTest {
         // given
         expression = new Matches(category, "adunit");
 
-        willReturn(LookupResult.ofValue("notadunit")).given(context).lookupString(any());
+        willReturn(LookupResult.ofValue("notadunit")).given(context).lookupLowerCasedString(any());
 
         // when and then
         assertThat(expression.matches(context)).isFalse();
@@ -61,7 +61,7 @@ public class MatchesTest {
         // given
         expression = new Matches(category, "adunit*");
 
-        willReturn(LookupResult.ofValue("adunitOne")).given(context).lookupString(any());
+        willReturn(LookupResult.ofValue("adunitone")).given(context).lookupLowerCasedString(any());
 
         // when and then
         assertThat(expression.matches(context)).isTrue();
@@ -72,7 +72,7 @@ public class MatchesTest {
         // given
         expression = new Matches(category, "adunit");
 
-        willReturn(LookupResult.ofValue("somedunit")).given(context).lookupString(any());
+        willReturn(LookupResult.ofValue("somedunit")).given(context).lookupLowerCasedString(any());
 
         // when and then
         assertThat(expression.matches(context)).isFalse();
@@ -83,7 +83,7 @@ public class MatchesTest {
         // given
         expression = new Matches(category, "*adunit");
 
-        willReturn(LookupResult.ofValue("someadunit")).given(context).lookupString(any());
+        willReturn(LookupResult.ofValue("someadunit")).given(context).lookupLowerCasedString(any());
 
         // when and then
         assertThat(expression.matches(context)).isTrue();
@@ -94,7 +94,7 @@ public class MatchesTest {
         // given
         expression = new Matches(category, "*adunit");
 
-        willReturn(LookupResult.ofValue("adunitOne")).given(context).lookupString(any());
+        willReturn(LookupResult.ofValue("adunitone")).given(context).lookupLowerCasedString(any());
 
         // when and then
         assertThat(expression.matches(context)).isFalse();
@@ -105,7 +105,7 @@ public class MatchesTest {
         // given
         expression = new Matches(category, "*adunit*");
 
-        willReturn(LookupResult.ofValue("someadunitOne")).given(context).lookupString(any());
+        willReturn(LookupResult.ofValue("someadunitone")).given(context).lookupLowerCasedString(any());
 
         // when and then
         assertThat(expression.matches(context)).isTrue();
@@ -116,7 +116,7 @@ public class MatchesTest {
         // given
         expression = new Matches(category, "*adunit*");
 
-        willReturn(LookupResult.ofValue("adunitOne")).given(context).lookupString(any());
+        willReturn(LookupResult.ofValue("adunitone")).given(context).lookupLowerCasedString(any());
 
         // when and then
         assertThat(expression.matches(context)).isTrue();
@@ -127,7 +127,7 @@ public class MatchesTest {
         // given
         expression = new Matches(category, "*adunit*");
 
-        willReturn(LookupResult.ofValue("someadunit")).given(context).lookupString(any());
+        willReturn(LookupResult.ofValue("someadunit")).given(context).lookupLowerCasedString(any());
 
         // when and then
         assertThat(expression.matches(context)).isTrue();
@@ -138,18 +138,18 @@ public class MatchesTest {
         // given
         expression = new Matches(category, "*adunit*");
 
-        willReturn(LookupResult.ofValue("One")).given(context).lookupString(any());
+        willReturn(LookupResult.ofValue("one")).given(context).lookupLowerCasedString(any());
 
         // when and then
         assertThat(expression.matches(context)).isFalse();
     }
 
     @Test
-    public void matchesShouldPerformCaseInsensitiveComparison() {
+    public void matchesShouldCompareActualValuesWithLowerCasedExpressionValues() {
         // given
         expression = new Matches(category, "AdUnIt");
 
-        willReturn(LookupResult.ofValue("aDuNiT")).given(context).lookupString(any());
+        willReturn(LookupResult.ofValue("adunit")).given(context).lookupLowerCasedString(any());
 
         // when and then
         assertThat(expression.matches(context)).isTrue();
@@ -160,7 +160,7 @@ public class MatchesTest {
         // given
         expression = new Matches(category, "adunit");
 
-        willReturn(LookupResult.empty()).given(context).lookupString(any());
+        willReturn(LookupResult.empty()).given(context).lookupLowerCasedString(any());
 
         // when and then
         assertThat(expression.matches(context)).isFalse();
@@ -35,6 +35,7 @@ import org.prebid.server.proto.openrtb.ext.request.ExtImpPrebidFloors;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequest;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebid;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebidChannel;
+import org.prebid.server.useragent.UserAgentClassifier;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
@@ -73,7 +74,9 @@ public class BasicPriceFloorResolverTest extends VertxTest {
                 currencyConversionService,
                 countryCodeMapper,
                 metrics,
-                jacksonMapper);
+                jacksonMapper,
+                new UserAgentClassifier(100),
+                new PriceFloorRuleMatcher());
     }
 
     @Test
@@ -82,7 +82,8 @@ public class PriceFloorFetcherTest extends VertxTest {
                 timeoutFactory,
                 httpClient,
                 debugProperties,
-                jacksonMapper);
+                jacksonMapper,
+                new PriceFloorRuleMatcher());
     }
 
     @Test
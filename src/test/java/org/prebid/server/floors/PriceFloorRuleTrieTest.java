@@ -0,0 +1,214 @@
+package org.prebid.server.floors;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PriceFloorRuleTrieTest {
+
+    private static final int RANDOM_FIELDS_NUMBER = 3;
+    private static final List<String> RANDOM_VALUES = asList("a", "b", "c");
+
+    @Test
+    public void findShouldReturnExactMatchingRuleIgnoringCase() {
+        // given
+        final PriceFloorRuleTrie trie = PriceFloorRuleTrie.compile(
+                Map.of("Banner|300x250", BigDecimal.ONE, "banner|*", BigDecimal.TEN), "|");
+
+        // when
+        final PriceFloorRuleTrie.Rule result = trie.find(asList(singletonList("banner"), singletonList("300x250")));
+
+        // then
+        assertThat(result).isEqualTo(PriceFloorRuleTrie.Rule.of("banner|300x250", BigDecimal.ONE));
+    }
+
+    @Test
+    public void findShouldPreferRuleWithLessWildcards() {
+        // given
+        final PriceFloorRuleTrie trie = PriceFloorRuleTrie.compile(
+                Map.of("*|*|de", BigDecimal.ONE, "banner|*|*", BigDecimal.TEN), "|");
+
+        // when
+        final PriceFloorRuleTrie.Rule result = trie.find(givenRuleKey("banner", "300x250", "de"));
+
+        // then
+        assertThat(result).isEqualTo(PriceFloorRuleTrie.Rule.of("banner|*|*", BigDecimal.TEN));
+    }
+
+    @Test
+    public void findShouldPreferRuleWithWildcardInRightmostFieldOnEqualNumberOfWildcards() {
+        // given
+        final PriceFloorRuleTrie trie = PriceFloorRuleTrie.compile(
+                Map.of("*|300x250|de", BigDecimal.ONE, "banner|300x250|*", BigDecimal.TEN), "|");
+
+        // when
+        final PriceFloorRuleTrie.Rule result = trie.find(givenRuleKey("banner", "300x250", "de"));
+
+        // then
+        assertThat(result).isEqualTo(PriceFloorRuleTrie.Rule.of("banner|300x250|*", BigDecimal.TEN));
+    }
+
+    @Test
+    public void findShouldMatchOnlyWildcardRuleForUnknownFieldValue() {
+        // given
+        final PriceFloorRuleTrie trie = PriceFloorRuleTrie.compile(
+                Map.of("banner|*", BigDecimal.ONE, "banner|300x250", BigDecimal.TEN), "|");
+
+        // when
+        final PriceFloorRuleTrie.Rule result = trie.find(givenRuleKey("banner", "*"));
+
+        // then
+        assertThat(result).isEqualTo(PriceFloorRuleTrie.Rule.of("banner|*", BigDecimal.ONE));
+    }
+
+    @Test
+    public void findShouldMatchAnyOfMultipleFieldValues() {
+        // given
+        final PriceFloorRuleTrie trie = PriceFloorRuleTrie.compile(Map.of("pub.com|video", BigDecimal.ONE), "|");
+
+        // when
+        final PriceFloorRuleTrie.Rule result = trie.find(
+                asList(asList("site.com", "pub.com"), singletonList("video")));
+
+        // then
+        assertThat(result).isEqualTo(PriceFloorRuleTrie.Rule.of("pub.com|video", BigDecimal.ONE));
+    }
+
+    @Test
+    public void findShouldPairMultipleFieldValuesByIndexInsteadOfCombiningThemAll() {
+        // given
+        final PriceFloorRuleTrie trie = PriceFloorRuleTrie.compile(
+                Map.of("banner|728x90|c.com", BigDecimal.ONE, "*|*|*", BigDecimal.TEN), "|");
+
+        // when
+        final PriceFloorRuleTrie.Rule result = trie.find(asList(
+                asList("banner", "video", "native"),
+                asList("300x250", "728x90", "160x600"),
+                asList("a.com", "b.com", "c.com")));
+
+        // then
+        assertThat(result).isEqualTo(PriceFloorRuleTrie.Rule.of("*|*|*", BigDecimal.TEN));
+    }
+
+    @Test
+    public void findShouldMatchOneOfRuleKeyCandidatesWithLeastWildcardsOnMultipleFieldValues() {
+        // given
+        final Random random = new Random(42);
+
+        for (int i = 0; i < 1000; i++) {
+            final Map<String, BigDecimal> rules = givenRandomRules(random);
+            final List<List<String>> desiredRuleKey = givenRandomRuleKey(random);
+
+            // when
+            final PriceFloorRuleTrie.Rule result = PriceFloorRuleTrie.compile(rules, "|").find(desiredRuleKey);
+
+            // then
+            final Set<String> expectedKeys = firstMatchingRuleKeyCandidates(rules, desiredRuleKey);
+            if (expectedKeys.isEmpty()) {
+                assertThat(result).isNull();
+            } else {
+                assertThat(result).isNotNull();
+                assertThat(expectedKeys).contains(result.getKey());
+            }
+        }
+    }
+
+    @Test
+    public void findShouldReturnNullWhenNoRuleMatches() {
+        // given
+        final PriceFloorRuleTrie trie = PriceFloorRuleTrie.compile(Map.of("banner|300x250", BigDecimal.ONE), "|");
+
+        // when and then
+        assertThat(trie.find(givenRuleKey("video", "300x250"))).isNull();
+    }
+
+    private static List<List<String>> givenRuleKey(String... values) {
+        return Arrays.stream(values).map(Collections::singletonList).toList();
+    }
+
+    private static Map<String, BigDecimal> givenRandomRules(Random random) {
+        final Map<String, BigDecimal> rules = new HashMap<>();
+        final int rulesNumber = 1 + random.nextInt(8);
+        for (int i = 0; i < rulesNumber; i++) {
+            final String ruleKey = IntStream.range(0, RANDOM_FIELDS_NUMBER)
+                    .mapToObj(field -> random.nextInt(4) == 0 ? "*" : RANDOM_VALUES.get(random.nextInt(3)))
+                    .collect(Collectors.joining("|"));
+            rules.put(ruleKey, BigDecimal.valueOf(i));
+        }
+        return rules;
+    }
+
+    private static List<List<String>> givenRandomRuleKey(Random random) {
+        return IntStream.range(0, RANDOM_FIELDS_NUMBER)
+                .mapToObj(field -> random.nextInt(5) == 0
+                        ? singletonList("*")
+                        : RANDOM_VALUES.subList(random.nextInt(2), 2 + random.nextInt(2)))
+                .toList();
+    }
+
+    /**
+     * Returns rule keys matching the first combination of wildcard positions (least wildcards, then wildcards in the
+     * rightmost fields) that has any, building rule key candidates the way
+     * {@code BasicPriceFloorResolver.RuleKeyCandidateIterator} did: every value of a field is paired with the value of
+     * the same index of other fields, or with their last value.
+     */
+    private static Set<String> firstMatchingRuleKeyCandidates(Map<String, BigDecimal> rules,
+                                                              List<List<String>> desiredRuleKey) {
+
+        final int fieldsNumber = desiredRuleKey.size();
+        final int maxValuesNumber = desiredRuleKey.stream().mapToInt(List::size).max().orElse(0);
+
+        final List<List<String>> candidates = new ArrayList<>();
+        for (int position = 0; position < fieldsNumber; position++) {
+            for (String value : desiredRuleKey.get(position)) {
+                for (int index = 0; index < maxValuesNumber; index++) {
+                    final List<String> candidate = new ArrayList<>();
+                    for (int field = 0; field < fieldsNumber; field++) {
+                        final List<String> values = desiredRuleKey.get(field);
+                        candidate.add(field == position ? value : values.get(Math.min(index, values.size() - 1)));
+                    }
+                    candidates.add(candidate);
+                }
+            }
+        }
+
+        final List<Integer> wildcardMasks = IntStream.range(0, 1 << fieldsNumber).boxed()
+                .filter(mask -> IntStream.range(0, fieldsNumber)
+                        .allMatch(field -> !desiredRuleKey.get(field).get(0).equals("*")
+                                || (mask & (1 << (fieldsNumber - 1 - field))) != 0))
+                .sorted(Comparator.comparingInt(Integer::bitCount).thenComparingInt(mask -> mask))
+                .toList();
+
+        for (int mask : wildcardMasks) {
+            final Set<String> matchingKeys = new HashSet<>();
+            for (List<String> candidate : candidates) {
+                final String ruleKey = IntStream.range(0, fieldsNumber)
+                        .mapToObj(field -> (mask & (1 << (fieldsNumber - 1 - field))) != 0 ? "*" : candidate.get(field))
+                        .collect(Collectors.joining("|"));
+                if (rules.containsKey(ruleKey)) {
+                    matchingKeys.add(ruleKey);
+                }
+            }
+            if (!matchingKeys.isEmpty()) {
+                return matchingKeys;
+            }
+        }
+        return Collections.emptySet();
+    }
+}
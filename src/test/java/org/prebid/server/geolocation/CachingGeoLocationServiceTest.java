@@ -0,0 +1,113 @@
+package org.prebid.server.geolocation;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.geolocation.model.GeoInfo;
+import org.prebid.server.metric.Metrics;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class CachingGeoLocationServiceTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private GeoLocationService delegate;
+    @Mock
+    private Vertx vertx;
+    @Mock
+    private Metrics metrics;
+
+    private CachingGeoLocationService geoLocationService;
+
+    @Before
+    public void setUp() {
+        final Clock clock = Clock.fixed(Instant.now(), ZoneId.systemDefault());
+        geoLocationService = new CachingGeoLocationService(delegate, 60, 100, false, vertx, metrics, clock);
+    }
+
+    @Test
+    public void creationShouldFailOnNonPositiveTtl() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new CachingGeoLocationService(
+                delegate, 0, 100, false, vertx, metrics, Clock.systemUTC()));
+    }
+
+    @Test
+    public void lookupShouldReuseResultForAddressesOfSameNetwork() {
+        // given
+        final GeoInfo geoInfo = GeoInfo.builder().vendor("vendor").country("de").build();
+        given(delegate.lookup(anyString(), any())).willReturn(Future.succeededFuture(geoInfo));
+
+        // when
+        final Future<GeoInfo> first = geoLocationService.lookup("192.168.1.10", null);
+        final Future<GeoInfo> second = geoLocationService.lookup("192.168.1.200", null);
+
+        // then
+        assertThat(first.result()).isSameAs(geoInfo);
+        assertThat(second.result()).isSameAs(geoInfo);
+        verify(delegate).lookup("192.168.1.10", null);
+        verify(metrics).updateGeoLocationCacheMetric(false);
+        verify(metrics).updateGeoLocationCacheMetric(true);
+        verify(metrics).updateGeoLocationRequestTime(anyLong());
+    }
+
+    @Test
+    public void lookupShouldNotShareResultBetweenDifferentNetworks() {
+        // given
+        given(delegate.lookup(anyString(), any()))
+                .willReturn(Future.succeededFuture(GeoInfo.builder().vendor("vendor").build()));
+
+        // when
+        geoLocationService.lookup("192.168.1.10", null);
+        geoLocationService.lookup("192.168.2.10", null);
+
+        // then
+        verify(delegate, times(2)).lookup(anyString(), any());
+        verify(metrics, times(2)).updateGeoLocationCacheMetric(false);
+    }
+
+    @Test
+    public void lookupShouldNotCacheFailedLookup() {
+        // given
+        given(delegate.lookup(anyString(), any())).willReturn(Future.failedFuture("failed"));
+
+        // when
+        final Future<GeoInfo> result = geoLocationService.lookup("192.168.1.10", null);
+        geoLocationService.lookup("192.168.1.10", null);
+
+        // then
+        assertThat(result.failed()).isTrue();
+        verify(delegate, times(2)).lookup(anyString(), any());
+    }
+
+    @Test
+    public void lookupShouldDelegateInvalidAddressWithoutCaching() {
+        // given
+        given(delegate.lookup(anyString(), any())).willReturn(Future.failedFuture("invalid"));
+
+        // when
+        geoLocationService.lookup("invalid", null);
+
+        // then
+        verify(delegate).lookup("invalid", null);
+        verify(metrics, times(0)).updateGeoLocationCacheMetric(any(Boolean.class));
+    }
+}
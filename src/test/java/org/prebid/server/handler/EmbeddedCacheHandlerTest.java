@@ -0,0 +1,175 @@
+package org.prebid.server.handler;
+
+import com.fasterxml.jackson.databind.node.TextNode;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.VertxTest;
+import org.prebid.server.cache.EmbeddedCacheStore;
+import org.prebid.server.cache.proto.request.BidCacheRequest;
+import org.prebid.server.cache.proto.request.PutObject;
+import org.prebid.server.cache.proto.response.BidCacheResponse;
+import org.prebid.server.cache.proto.response.CacheObject;
+import org.prebid.server.util.HttpUtil;
+
+import java.nio.charset.StandardCharsets;
+
+import static java.util.Collections.singletonList;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class EmbeddedCacheHandlerTest extends VertxTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private EmbeddedCacheStore cacheStore;
+    @Mock
+    private RoutingContext routingContext;
+    @Mock
+    private HttpServerRequest httpRequest;
+    @Mock
+    private HttpServerResponse httpResponse;
+
+    private EmbeddedCacheHandler target;
+
+    @Before
+    public void setUp() {
+        given(routingContext.request()).willReturn(httpRequest);
+        given(routingContext.response()).willReturn(httpResponse);
+
+        given(httpResponse.setStatusCode(anyInt())).willReturn(httpResponse);
+        given(httpResponse.putHeader(any(CharSequence.class), any(CharSequence.class))).willReturn(httpResponse);
+
+        target = new EmbeddedCacheHandler(cacheStore, "/cache", jacksonMapper);
+    }
+
+    @Test
+    public void shouldRespondWithBadRequestIfUuidIsMissing() {
+        // when
+        target.handle(routingContext);
+
+        // then
+        verify(httpResponse).setStatusCode(400);
+        verify(httpResponse).end("Missing required parameter: uuid");
+    }
+
+    @Test
+    public void shouldStoreForwardedPutsLocally() {
+        // given
+        final PutObject putObject = PutObject.builder().type("xml").value(new TextNode("<VAST/>")).key("key").build();
+        given(httpRequest.method()).willReturn(HttpMethod.POST);
+        given(routingContext.getBody()).willReturn(
+                Buffer.buffer(jacksonMapper.encodeToString(BidCacheRequest.of(singletonList(putObject)))));
+        given(cacheStore.storeLocally(any())).willReturn(BidCacheResponse.of(singletonList(CacheObject.of("key"))));
+
+        // when
+        target.handle(routingContext);
+
+        // then
+        verify(cacheStore).storeLocally(singletonList(putObject));
+        verify(httpResponse).end("{\"responses\":[{\"uuid\":\"key\"}]}");
+    }
+
+    @Test
+    public void shouldRespondWithBadRequestIfForwardedPutsCannotBeParsed() {
+        // given
+        given(httpRequest.method()).willReturn(HttpMethod.POST);
+        given(routingContext.getBody()).willReturn(Buffer.buffer("invalid"));
+
+        // when
+        target.handle(routingContext);
+
+        // then
+        verify(httpResponse).setStatusCode(400);
+        verify(httpResponse).end("Failed to parse request body");
+        verify(cacheStore, never()).storeLocally(any());
+    }
+
+    @Test
+    public void shouldRedirectToOwnerNodeIfKeyIsOwnedByAnotherNode() {
+        // given
+        given(httpRequest.getParam("uuid")).willReturn("uuid");
+        given(cacheStore.ownerOf(anyString())).willReturn("http://pbs-2:8080");
+
+        // when
+        target.handle(routingContext);
+
+        // then
+        verify(httpResponse).setStatusCode(307);
+        verify(httpResponse).putHeader(HttpUtil.LOCATION_HEADER, "http://pbs-2:8080/cache?uuid=uuid");
+        verify(httpResponse).end();
+    }
+
+    @Test
+    public void shouldRespondWithContentStoredLocallyEvenIfKeyIsOwnedByAnotherNode() {
+        // given
+        given(httpRequest.getParam("uuid")).willReturn("log_uuid");
+        given(cacheStore.ownerOf(anyString())).willReturn("http://pbs-2:8080");
+        given(cacheStore.get("log_uuid")).willReturn(
+                EmbeddedCacheStore.CachedValue.of("xml", "<VAST/>".getBytes(StandardCharsets.UTF_8), 300));
+
+        // when
+        target.handle(routingContext);
+
+        // then
+        verify(httpResponse, never()).setStatusCode(307);
+        verify(httpResponse).end(Buffer.buffer("<VAST/>"));
+    }
+
+    @Test
+    public void shouldRespondWithNotFoundIfThereIsNoContentForUuid() {
+        // given
+        given(httpRequest.getParam("uuid")).willReturn("uuid");
+
+        // when
+        target.handle(routingContext);
+
+        // then
+        verify(httpResponse).setStatusCode(404);
+        verify(httpResponse).end("No content stored for uuid=uuid");
+    }
+
+    @Test
+    public void shouldRespondWithXmlContentStoredForUuid() {
+        // given
+        given(httpRequest.getParam("uuid")).willReturn("uuid");
+        given(cacheStore.get("uuid")).willReturn(
+                EmbeddedCacheStore.CachedValue.of("xml", "<VAST/>".getBytes(StandardCharsets.UTF_8), 300));
+
+        // when
+        target.handle(routingContext);
+
+        // then
+        verify(httpResponse).putHeader(HttpUtil.CONTENT_TYPE_HEADER, "application/xml");
+        verify(httpResponse).end(Buffer.buffer("<VAST/>"));
+    }
+
+    @Test
+    public void shouldRespondWithJsonContentStoredForUuid() {
+        // given
+        given(httpRequest.getParam("uuid")).willReturn("uuid");
+        given(cacheStore.get("uuid")).willReturn(
+                EmbeddedCacheStore.CachedValue.of("json", "{}".getBytes(StandardCharsets.UTF_8), 300));
+
+        // when
+        target.handle(routingContext);
+
+        // then
+        verify(httpResponse).putHeader(HttpUtil.CONTENT_TYPE_HEADER, "application/json");
+        verify(httpResponse).end(Buffer.buffer("{}"));
+    }
+}
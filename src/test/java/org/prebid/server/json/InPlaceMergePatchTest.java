@@ -0,0 +1,81 @@
+package org.prebid.server.json;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.fge.jsonpatch.JsonPatchException;
+import com.github.fge.jsonpatch.mergepatch.JsonMergePatch;
+import org.junit.Test;
+import org.prebid.server.VertxTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class InPlaceMergePatchTest extends VertxTest {
+
+    @Test
+    public void applyShouldOverrideTargetFieldsWithPatchFields() throws JsonProcessingException {
+        // given
+        final JsonNode patch = mapper.readTree("{\"a\":\"patch\",\"b\":{\"c\":1}}");
+        final JsonNode target = mapper.readTree("{\"a\":\"target\",\"b\":{\"c\":2,\"d\":3},\"e\":[1,2]}");
+
+        // when
+        final JsonNode result = InPlaceMergePatch.apply(patch, target);
+
+        // then
+        assertThat(result).isEqualTo(mapper.readTree("{\"a\":\"patch\",\"b\":{\"c\":1,\"d\":3},\"e\":[1,2]}"));
+    }
+
+    @Test
+    public void applyShouldRemoveTargetFieldsWithNullValueInPatch() throws JsonProcessingException {
+        // given
+        final JsonNode patch = mapper.readTree("{\"a\":null,\"b\":{\"c\":null,\"d\":null}}");
+        final JsonNode target = mapper.readTree("{\"a\":1,\"b\":{\"c\":2},\"f\":3}");
+
+        // when
+        final JsonNode result = InPlaceMergePatch.apply(patch, target);
+
+        // then
+        assertThat(result).isEqualTo(mapper.readTree("{\"b\":{},\"f\":3}"));
+    }
+
+    @Test
+    public void applyShouldReplaceTargetArraysAndNonObjectValuesWithPatchValues() throws JsonProcessingException {
+        // given
+        final JsonNode patch = mapper.readTree("{\"a\":[3],\"b\":{\"c\":1}}");
+        final JsonNode target = mapper.readTree("{\"a\":[1,2],\"b\":\"string\"}");
+
+        // when
+        final JsonNode result = InPlaceMergePatch.apply(patch, target);
+
+        // then
+        assertThat(result).isEqualTo(mapper.readTree("{\"a\":[3],\"b\":{\"c\":1}}"));
+    }
+
+    @Test
+    public void applyShouldNotModifyTarget() throws JsonProcessingException {
+        // given
+        final JsonNode patch = mapper.readTree("{\"a\":null,\"b\":{\"c\":1}}");
+        final JsonNode target = mapper.readTree("{\"a\":1,\"b\":{\"d\":2}}");
+
+        // when
+        InPlaceMergePatch.apply(patch, target);
+
+        // then
+        assertThat(target).isEqualTo(mapper.readTree("{\"a\":1,\"b\":{\"d\":2}}"));
+    }
+
+    @Test
+    public void applyShouldReturnSameResultAsJsonMergePatch() throws JsonProcessingException, JsonPatchException {
+        // given
+        final String patch = "{\"id\":\"1\",\"imp\":[{\"id\":\"imp\"}],\"ext\":{\"prebid\":{\"debug\":null}},"
+                + "\"site\":{\"page\":\"page\",\"publisher\":{\"id\":\"pub\"}}}";
+        final String target = "{\"id\":\"2\",\"tmax\":500,\"ext\":{\"prebid\":{\"debug\":1,\"targeting\":{}}},"
+                + "\"site\":{\"domain\":\"domain\",\"publisher\":{\"name\":\"name\"}},\"regs\":{\"coppa\":0}}";
+
+        // when
+        final JsonNode result = InPlaceMergePatch.apply(mapper.readTree(patch), mapper.readTree(target));
+
+        // then
+        final JsonNode expected = JsonMergePatch.fromJson(mapper.readTree(patch)).apply(mapper.readTree(target));
+        assertThat(result).isEqualTo(expected);
+    }
+}
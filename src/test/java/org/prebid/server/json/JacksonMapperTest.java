@@ -0,0 +1,74 @@
+package org.prebid.server.json;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.iab.openrtb.request.Site;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.buffer.Buffer;
+import org.junit.Test;
+import org.prebid.server.VertxTest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class JacksonMapperTest extends VertxTest {
+
+    @Test
+    public void decodeValueShouldDecodeBuffer() {
+        // given
+        final Buffer buffer = Buffer.buffer("{\"page\":\"testPage\"}");
+
+        // when
+        final Site result = jacksonMapper.decodeValue(buffer, Site.class);
+
+        // then
+        assertThat(result).isEqualTo(Site.builder().page("testPage").build());
+    }
+
+    @Test
+    public void decodeValueShouldDecodeOnlyReadableBytesOfBuffer() {
+        // given
+        final byte[] bytes = "garbage{\"page\":\"testPage\"}".getBytes(StandardCharsets.UTF_8);
+        final Buffer buffer = Buffer.buffer(Unpooled.wrappedBuffer(bytes).readerIndex(7));
+
+        // when
+        final Site result = jacksonMapper.decodeValue(buffer, Site.class);
+
+        // then
+        assertThat(result).isEqualTo(Site.builder().page("testPage").build());
+    }
+
+    @Test
+    public void decodeValueShouldDecodeDirectBuffer() {
+        // given
+        final byte[] bytes = "{\"page\":\"testPage\"}".getBytes(StandardCharsets.UTF_8);
+        final Buffer buffer = Buffer.buffer(Unpooled.directBuffer().writeBytes(bytes));
+
+        // when
+        final Site result = jacksonMapper.decodeValue(buffer, Site.class);
+
+        // then
+        assertThat(result).isEqualTo(Site.builder().page("testPage").build());
+    }
+
+    @Test
+    public void decodeValueShouldDecodeBufferByTypeReference() {
+        // given
+        final Buffer buffer = Buffer.buffer("{\"key\":\"value\"}");
+
+        // when
+        final Map<String, String> result = jacksonMapper.decodeValue(buffer, new TypeReference<>() {
+        });
+
+        // then
+        assertThat(result).containsOnly(Map.entry("key", "value"));
+    }
+
+    @Test
+    public void decodeValueShouldFailOnInvalidBuffer() {
+        assertThatExceptionOfType(DecodeException.class)
+                .isThrownBy(() -> jacksonMapper.decodeValue(Buffer.buffer("invalid"), Site.class));
+    }
+}
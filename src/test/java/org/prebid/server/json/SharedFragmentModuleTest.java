@@ -0,0 +1,137 @@
+package org.prebid.server.json;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Device;
+import com.iab.openrtb.request.Site;
+import org.junit.Test;
+import org.prebid.server.proto.openrtb.ext.request.ExtDevice;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SharedFragmentModuleTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .setPropertyNamingStrategy(PropertyNamingStrategy.SNAKE_CASE)
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+            .registerModule(new SharedFragmentModule());
+
+    @Test
+    public void shouldEncodeSharedSubtreeSameWayForEveryRequest() {
+        // given
+        final BidRequest bidRequest = BidRequest.builder()
+                .id("id")
+                .device(Device.builder().ip("192.168.0.1").ua("ua").build())
+                .site(Site.builder().page("page").build())
+                .build();
+
+        final SharedFragmentCache cache = SharedFragmentCache.create();
+
+        // when
+        final String first = cache.use(() -> encode(bidRequest.toBuilder().id("bidder1").build()));
+        final String second = cache.use(() -> encode(bidRequest.toBuilder().id("bidder2").build()));
+
+        // then
+        assertThat(first).isEqualTo(
+                "{\"id\":\"bidder1\",\"site\":{\"page\":\"page\"},\"device\":{\"ua\":\"ua\",\"ip\":\"192.168.0.1\"}}");
+        assertThat(second).isEqualTo(
+                "{\"id\":\"bidder2\",\"site\":{\"page\":\"page\"},\"device\":{\"ua\":\"ua\",\"ip\":\"192.168.0.1\"}}");
+    }
+
+    @Test
+    public void shouldEncodeSubtreeChangedForParticularRequest() {
+        // given
+        final Device device = Device.builder().ip("192.168.0.1").build();
+        final SharedFragmentCache cache = SharedFragmentCache.create();
+        cache.use(() -> encode(BidRequest.builder().device(device).build()));
+
+        // when
+        final String result = cache.use(() -> encode(
+                BidRequest.builder().device(device.toBuilder().ip("192.168.0.0").build()).build()));
+
+        // then
+        assertThat(result).isEqualTo("{\"device\":{\"ip\":\"192.168.0.0\"}}");
+    }
+
+    @Test
+    public void shouldKeepStructureWhenConvertingToTree() {
+        // given
+        final Device device = Device.builder().ip("192.168.0.1").build();
+        final SharedFragmentCache cache = SharedFragmentCache.create();
+        cache.use(() -> encode(BidRequest.builder().device(device).build()));
+
+        // when
+        final JsonNode result = cache.use(() -> MAPPER.valueToTree(BidRequest.builder().device(device).build()));
+
+        // then
+        assertThat(result.path("device").path("ip").asText()).isEqualTo("192.168.0.1");
+    }
+
+    @Test
+    public void shouldNotSpliceCompactFragmentIntoPrettyPrintedOutput() {
+        // given
+        final Device device = Device.builder().ip("192.168.0.1").build();
+        final SharedFragmentCache cache = SharedFragmentCache.create();
+        cache.use(() -> encode(BidRequest.builder().device(device).build()));
+
+        // when
+        final String result = cache.use(() -> encode(
+                MAPPER.writerWithDefaultPrettyPrinter(), BidRequest.builder().device(device).build()));
+
+        // then
+        assertThat(result).contains("\"ip\" : \"192.168.0.1\"");
+    }
+
+    @Test
+    public void shouldNotSpliceFragmentEncodedWithDifferentWriterSettings() {
+        // given
+        final Device device = Device.builder().ua("\u00FC").build();
+        final SharedFragmentCache cache = SharedFragmentCache.create();
+        cache.use(() -> encode(BidRequest.builder().device(device).build()));
+        final ObjectWriter asciiWriter = MAPPER.writer().with(JsonGenerator.Feature.ESCAPE_NON_ASCII);
+
+        // when
+        final String result = cache.use(() -> encode(asciiWriter, BidRequest.builder().device(device).build()));
+
+        // then
+        assertThat(result).isEqualTo("{\"device\":{\"ua\":\"\\u00FC\"}}");
+    }
+
+    @Test
+    public void shouldNotKeepFragmentsOutsideOfAuctionCache() {
+        // given
+        final ExtDevice extDevice = ExtDevice.empty();
+        final Device device = Device.builder().ext(extDevice).build();
+        SharedFragmentCache.create().use(() -> encode(BidRequest.builder().device(device).build()));
+
+        extDevice.addProperty("vendor", TextNode.valueOf("value"));
+
+        // when
+        final String notCached = encode(BidRequest.builder().device(device).build());
+        final String nextAuction = SharedFragmentCache.create()
+                .use(() -> encode(BidRequest.builder().device(device).build()));
+
+        // then
+        assertThat(notCached).isEqualTo("{\"device\":{\"ext\":{\"vendor\":\"value\"}}}");
+        assertThat(nextAuction).isEqualTo(notCached);
+    }
+
+    private static String encode(Object value) {
+        return encode(MAPPER.writer(), value);
+    }
+
+    private static String encode(ObjectWriter writer, Object value) {
+        try {
+            return writer.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
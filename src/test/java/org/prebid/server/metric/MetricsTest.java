@@ -1162,6 +1162,17 @@ public class MetricsTest {
         assertThat(metricRegistry.timer("account.accountId.prebid_cache.requests.err").getCount()).isOne();
     }
 
+    @Test
+    public void shouldUpdatePrebidCacheBatchMetrics() {
+        // when
+        metrics.updateCacheBatchSize(12);
+        metrics.updateCacheBatchRequestTime(34L);
+
+        // then
+        assertThat(metricRegistry.histogram("prebid_cache.batch_size").getCount()).isOne();
+        assertThat(metricRegistry.timer("prebid_cache.batch_request_time").getCount()).isOne();
+    }
+
     @Test
     public void shouldIncrementPrebidCacheCreativeSizeHistogram() {
         // when
@@ -1181,6 +1192,30 @@ public class MetricsTest {
                 .isEqualTo(1);
     }
 
+    @Test
+    public void updateAuctionStageMetricsShouldUpdateHistogramsAndSkipUnsupportedMeasurements() {
+        // when
+        metrics.updateAuctionStageMetrics("bid_processing", 100, 80, 2048);
+        metrics.updateAuctionStageMetrics("analytics", 10, -1, -1);
+
+        // then
+        assertThat(metricRegistry.histogram("auction.stage.bid_processing.wall-time").getCount()).isOne();
+        assertThat(metricRegistry.histogram("auction.stage.bid_processing.cpu-time").getCount()).isOne();
+        assertThat(metricRegistry.histogram("auction.stage.bid_processing.allocated-bytes").getCount()).isOne();
+        assertThat(metricRegistry.histogram("auction.stage.analytics.wall-time").getCount()).isOne();
+        assertThat(metricRegistry.getHistograms()).doesNotContainKeys(
+                "auction.stage.analytics.cpu-time", "auction.stage.analytics.allocated-bytes");
+    }
+
+    @Test
+    public void updateRequestValidationRuleTimeShouldUpdateHistogram() {
+        // when
+        metrics.updateRequestValidationRuleTime("imp", 42);
+
+        // then
+        assertThat(metricRegistry.histogram("requests.validation.imp.wall-time").getCount()).isOne();
+    }
+
     @Test
     public void shouldCreateCurrencyRatesGaugeMetric() {
         // when
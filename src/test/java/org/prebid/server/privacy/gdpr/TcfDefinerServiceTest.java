@@ -46,6 +46,7 @@ import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.prebid.server.assertion.FutureAssertion.assertThat;
@@ -86,6 +87,7 @@ public class TcfDefinerServiceTest {
         tcfDefinerService = new TcfDefinerService(
                 gdprConfig,
                 singleton(EEA_COUNTRY),
+                0,
                 tcf2Service,
                 geoLocationService,
                 bidderCatalog,
@@ -100,6 +102,7 @@ public class TcfDefinerServiceTest {
         tcfDefinerService = new TcfDefinerService(
                 gdprConfig,
                 singleton(EEA_COUNTRY),
+                0,
                 tcf2Service,
                 geoLocationService,
                 bidderCatalog,
@@ -178,6 +181,7 @@ public class TcfDefinerServiceTest {
         tcfDefinerService = new TcfDefinerService(
                 gdprConfig,
                 singleton(EEA_COUNTRY),
+                0,
                 tcf2Service,
                 geoLocationService,
                 bidderCatalog,
@@ -210,6 +214,7 @@ public class TcfDefinerServiceTest {
         tcfDefinerService = new TcfDefinerService(
                 gdprConfig,
                 singleton(EEA_COUNTRY),
+                0,
                 tcf2Service,
                 geoLocationService,
                 bidderCatalog,
@@ -242,6 +247,7 @@ public class TcfDefinerServiceTest {
         tcfDefinerService = new TcfDefinerService(
                 gdprConfig,
                 singleton(EEA_COUNTRY),
+                0,
                 tcf2Service,
                 geoLocationService,
                 bidderCatalog,
@@ -272,6 +278,66 @@ public class TcfDefinerServiceTest {
         verify(metrics).updatePrivacyTcfGeoMetric(2, null);
     }
 
+    @Test
+    public void resolveTcfContextShouldReuseDecodedConsentStringWhenCacheEnabled() {
+        // given
+        final GdprConfig gdprConfig = GdprConfig.builder().enabled(true).build();
+        tcfDefinerService = new TcfDefinerService(
+                gdprConfig,
+                singleton(EEA_COUNTRY),
+                10,
+                tcf2Service,
+                geoLocationService,
+                bidderCatalog,
+                ipAddressHelper,
+                metrics);
+
+        final Privacy privacy = Privacy.of("1", "CPBCa-mPBCa-mAAAAAENA0CAAEAAAAAAACiQAaQAwAAgAgABoAAAAAA", null, null);
+        final TCString firstConsent = tcfDefinerService.resolveTcfContext(privacy, null, null, null, null, null)
+                .result().getConsent();
+
+        // when
+        final Future<TcfContext> result = tcfDefinerService.resolveTcfContext(
+                privacy, null, null, null, null, null);
+
+        // then
+        assertThat(result).isSucceeded();
+        assertThat(result.result().getConsent()).isSameAs(firstConsent);
+        assertThat(result.result().isConsentValid()).isTrue();
+        verify(metrics).updatePrivacyTcfConsentCacheMetric(false);
+        verify(metrics).updatePrivacyTcfConsentCacheMetric(true);
+        verify(metrics, times(2)).updatePrivacyTcfRequestsMetric(2);
+    }
+
+    @Test
+    public void resolveTcfContextShouldNotCacheInvalidConsentString() {
+        // given
+        final GdprConfig gdprConfig = GdprConfig.builder().enabled(true).build();
+        tcfDefinerService = new TcfDefinerService(
+                gdprConfig,
+                singleton(EEA_COUNTRY),
+                10,
+                tcf2Service,
+                geoLocationService,
+                bidderCatalog,
+                ipAddressHelper,
+                metrics);
+
+        final Privacy privacy = Privacy.of("1", "invalid", null, null);
+        tcfDefinerService.resolveTcfContext(privacy, null, null, null, null, null);
+
+        // when
+        final Future<TcfContext> result = tcfDefinerService.resolveTcfContext(
+                privacy, null, null, null, null, null);
+
+        // then
+        assertThat(result).isSucceeded();
+        assertThat(result.result().getConsent()).isInstanceOf(TCStringEmpty.class);
+        assertThat(result.result().getWarnings()).hasSize(1);
+        verify(metrics, times(2)).updatePrivacyTcfConsentCacheMetric(false);
+        verify(metrics, times(2)).updatePrivacyTcfInvalidMetric();
+    }
+
     @Test
     public void resolveTcfContextShouldReturnGdprFromCountryWhenGdprFromRequestIsNotValid() {
 
@@ -334,6 +400,7 @@ public class TcfDefinerServiceTest {
         tcfDefinerService = new TcfDefinerService(
                 gdprConfig,
                 singleton(EEA_COUNTRY),
+                0,
                 tcf2Service,
                 geoLocationService,
                 bidderCatalog,
@@ -369,6 +436,7 @@ public class TcfDefinerServiceTest {
         tcfDefinerService = new TcfDefinerService(
                 gdprConfig,
                 singleton(EEA_COUNTRY),
+                0,
                 tcf2Service,
                 geoLocationService,
                 bidderCatalog,
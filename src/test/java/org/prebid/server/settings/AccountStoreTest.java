@@ -0,0 +1,120 @@
+package org.prebid.server.settings;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.prebid.server.settings.model.Account;
+import org.prebid.server.settings.model.AccountAuctionConfig;
+import org.prebid.server.settings.model.AccountGdprConfig;
+import org.prebid.server.settings.model.AccountPrivacyConfig;
+
+import java.util.Map;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class AccountStoreTest {
+
+    private AccountStore accountStore;
+
+    @Before
+    public void setUp() {
+        accountStore = new AccountStore();
+    }
+
+    @Test
+    public void updateShouldApplyChangesAsNewVersion() {
+        // given
+        accountStore.update(Map.of("id1", Account.empty("id1"), "id2", Account.empty("id2")), emptySet());
+        final Map<String, Account> previousAccounts = accountStore.accounts();
+
+        // when
+        accountStore.update(singletonMap("id3", Account.empty("id3")), singleton("id1"));
+
+        // then
+        assertThat(accountStore.version()).isEqualTo(2L);
+        assertThat(accountStore.accounts()).containsOnlyKeys("id2", "id3");
+        assertThat(previousAccounts).containsOnlyKeys("id1", "id2");
+    }
+
+    @Test
+    public void updateShouldNotCreateNewVersionWhenNothingChanged() {
+        // when
+        accountStore.update(emptyMap(), emptySet());
+
+        // then
+        assertThat(accountStore.version()).isZero();
+    }
+
+    @Test
+    public void accountsShouldNotBeModifiable() {
+        // given
+        accountStore.update(singletonMap("id", Account.empty("id")), emptySet());
+
+        // when and then
+        assertThatThrownBy(() -> accountStore.accounts().remove("id"))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void updateShouldReuseUnchangedSubConfigsOfPreviousVersion() {
+        // given
+        final AccountAuctionConfig auction = AccountAuctionConfig.builder().priceGranularity("low").build();
+        accountStore.update(singletonMap("id", Account.builder()
+                .id("id")
+                .auction(auction)
+                .privacy(givenPrivacy(true))
+                .build()), emptySet());
+
+        // when
+        accountStore.update(singletonMap("id", Account.builder()
+                .id("id")
+                .auction(auction.toBuilder().build())
+                .privacy(givenPrivacy(false))
+                .build()), emptySet());
+
+        // then
+        final Account account = accountStore.get("id");
+        assertThat(account.getAuction()).isSameAs(auction);
+        assertThat(account.getPrivacy()).isEqualTo(givenPrivacy(false));
+    }
+
+    @Test
+    public void updateShouldKeepPreviousInstanceWhenAccountIsNotChanged() {
+        // given
+        final Account account = Account.builder().id("id").build();
+        accountStore.update(singletonMap("id", account), emptySet());
+
+        // when
+        accountStore.update(singletonMap("id", account.toBuilder().build()), emptySet());
+
+        // then
+        assertThat(accountStore.get("id")).isSameAs(account);
+    }
+
+    @Test
+    public void removeAndClearShouldDropAccounts() {
+        // given
+        accountStore.update(Map.of("id1", Account.empty("id1"), "id2", Account.empty("id2")), emptySet());
+
+        // when
+        accountStore.remove("id1");
+
+        // then
+        assertThat(accountStore.get("id1")).isNull();
+        assertThat(accountStore.get("id2")).isNotNull();
+
+        // when
+        accountStore.clear();
+
+        // then
+        assertThat(accountStore.accounts()).isEmpty();
+    }
+
+    private static AccountPrivacyConfig givenPrivacy(boolean gdprEnabled) {
+        return AccountPrivacyConfig.of(AccountGdprConfig.builder().enabled(gdprEnabled).build(), null);
+    }
+}
@@ -39,6 +39,7 @@ import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 public class CachingApplicationSettingsTest {
@@ -51,6 +52,8 @@ public class CachingApplicationSettingsTest {
     @Mock
     private Metrics metrics;
 
+    private AccountStore accountStore;
+
     private CachingApplicationSettings cachingApplicationSettings;
 
     private Timeout timeout;
@@ -58,12 +61,14 @@ public class CachingApplicationSettingsTest {
     @Before
     public void setUp() {
         timeout = new TimeoutFactory(Clock.fixed(Instant.now(), ZoneId.systemDefault())).create(500L);
+        accountStore = new AccountStore();
 
         cachingApplicationSettings = new CachingApplicationSettings(
                 applicationSettings,
                 new SettingsCache(360, 100),
                 new SettingsCache(360, 100),
                 new SettingsCache(360, 100),
+                accountStore,
                 metrics,
                 360,
                 100);
@@ -92,6 +97,65 @@ public class CachingApplicationSettingsTest {
         verifyNoMoreInteractions(applicationSettings);
     }
 
+    @Test
+    public void getAccountByIdShouldReturnUpdatedAccountWithoutCallingDelegate() {
+        // given
+        final Account account = Account.builder().id("accountId").build();
+        cachingApplicationSettings.updateAccounts(singletonMap("accountId", account), emptySet());
+
+        // when
+        final Future<Account> future = cachingApplicationSettings.getAccountById("accountId", timeout);
+
+        // then
+        assertThat(future.result()).isSameAs(account);
+        verify(metrics).updateSettingsCacheEventMetric(MetricName.account, MetricName.hit);
+        verifyNoInteractions(applicationSettings);
+    }
+
+    @Test
+    public void updateAccountsShouldEvictCachedLookupError() {
+        // given
+        final Account account = Account.builder().id("accountId").build();
+        given(applicationSettings.getAccountById(anyString(), any()))
+                .willReturn(Future.failedFuture(new PreBidException("error")));
+        cachingApplicationSettings.getAccountById("accountId", timeout);
+
+        // when
+        cachingApplicationSettings.updateAccounts(singletonMap("accountId", account), emptySet());
+
+        // then
+        assertThat(cachingApplicationSettings.getAccountById("accountId", timeout).result()).isSameAs(account);
+    }
+
+    @Test
+    public void updateAccountsShouldEvictDeletedAccountFromCache() {
+        // given
+        final Account account = Account.builder().id("accountId").build();
+        given(applicationSettings.getAccountById(anyString(), any()))
+                .willReturn(Future.succeededFuture(account))
+                .willReturn(Future.failedFuture(new PreBidException("not found")));
+        cachingApplicationSettings.getAccountById("accountId", timeout);
+
+        // when
+        cachingApplicationSettings.updateAccounts(emptyMap(), singleton("accountId"));
+
+        // then
+        assertThat(cachingApplicationSettings.getAccountById("accountId", timeout).failed()).isTrue();
+    }
+
+    @Test
+    public void invalidateAccountCacheShouldRemoveAccountFromStore() {
+        // given
+        cachingApplicationSettings.updateAccounts(
+                singletonMap("accountId", Account.builder().id("accountId").build()), emptySet());
+
+        // when
+        cachingApplicationSettings.invalidateAccountCache("accountId");
+
+        // then
+        assertThat(accountStore.get("accountId")).isNull();
+    }
+
     @Test
     public void getAccountByIdShouldPropagateFailure() {
         // given
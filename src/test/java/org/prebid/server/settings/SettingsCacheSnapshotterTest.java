@@ -0,0 +1,193 @@
+package org.prebid.server.settings;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.VertxTest;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.settings.model.Account;
+import org.prebid.server.settings.model.AccountAuctionConfig;
+import org.prebid.server.settings.model.StoredItem;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Instant;
+
+import static java.util.Collections.singleton;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.verify;
+
+public class SettingsCacheSnapshotterTest extends VertxTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Mock
+    private ApplicationSettings delegateSettings;
+    @Mock
+    private Metrics metrics;
+    @Mock
+    private Vertx vertx;
+
+    private String path;
+
+    @Before
+    public void setUp() {
+        path = temporaryFolder.getRoot().toPath().resolve("snapshot.gz").toString();
+
+        willAnswer(invocation -> {
+            final Handler<Promise<Void>> blockingHandler = invocation.getArgument(0);
+            final Handler<AsyncResult<Void>> resultHandler = invocation.getArgument(2);
+            final Promise<Void> promise = Promise.promise();
+            blockingHandler.handle(promise);
+            resultHandler.handle(promise.future());
+            return null;
+        }).given(vertx).executeBlocking(any(), anyBoolean(), any());
+    }
+
+    @Test
+    public void creationShouldFailOnNonPositivePeriod() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new SettingsCacheSnapshotter(
+                path, 0, givenCachingSettings(), givenCache(), givenCache(), givenCache(), vertx, jacksonMapper));
+    }
+
+    @Test
+    public void initializeShouldScheduleSnapshot() {
+        // when
+        givenSnapshotter(givenCachingSettings(), givenCache(), givenCache()).initialize();
+
+        // then
+        verify(vertx).setPeriodic(eq(1000L), any());
+    }
+
+    @Test
+    public void restoreShouldLeaveCachesEmptyWhenSnapshotIsMissing() {
+        // given
+        final CachingApplicationSettings cachingSettings = givenCachingSettings();
+        final SettingsCacheSnapshotter snapshotter = givenSnapshotter(cachingSettings, givenCache(), givenCache());
+
+        // when
+        snapshotter.restore();
+
+        // then
+        assertThat(cachingSettings.getAccountCache()).isEmpty();
+        assertThat(snapshotter.lastModified("http://endpoint")).isNull();
+    }
+
+    @Test
+    public void restoreShouldLeaveCachesEmptyWhenSnapshotIsCorrupted() throws IOException {
+        // given
+        Files.writeString(temporaryFolder.getRoot().toPath().resolve("snapshot.gz"), "corrupted");
+
+        final CachingApplicationSettings cachingSettings = givenCachingSettings();
+        final SettingsCacheSnapshotter snapshotter = givenSnapshotter(cachingSettings, givenCache(), givenCache());
+
+        // when
+        snapshotter.restore();
+
+        // then
+        assertThat(cachingSettings.getAccountCache()).isEmpty();
+    }
+
+    @Test
+    public void restoreShouldFillCachesWithDataSavedBySnapshot() {
+        // given
+        final Account account = Account.builder()
+                .id("accountId")
+                .auction(AccountAuctionConfig.builder().priceGranularity("low").build())
+                .build();
+        final CachingApplicationSettings cachingSettings = givenCachingSettings();
+        cachingSettings.getAccountCache().put("accountId", account);
+
+        final SettingsCache cache = givenCache();
+        cache.saveRequestCache("accountId", "requestId", "request");
+        cache.saveImpCache(null, "impId", "imp");
+
+        final SettingsCache ampCache = givenCache();
+        ampCache.saveRequestCache(null, "ampRequestId", "ampRequest");
+
+        final SettingsCacheSnapshotter snapshotter = givenSnapshotter(cachingSettings, cache, ampCache);
+        snapshotter.updateLastModified("http://endpoint", Instant.parse("2022-01-01T00:00:00Z"));
+        snapshotter.snapshot();
+
+        final CachingApplicationSettings restoredCachingSettings = givenCachingSettings();
+        final SettingsCache restoredCache = givenCache();
+        final SettingsCache restoredAmpCache = givenCache();
+        final SettingsCacheSnapshotter restoringSnapshotter =
+                givenSnapshotter(restoredCachingSettings, restoredCache, restoredAmpCache);
+
+        // when
+        restoringSnapshotter.restore();
+
+        // then
+        assertThat(restoredCachingSettings.getAccountCache()).containsEntry("accountId", account);
+        assertThat(restoredCache.getRequestCache())
+                .containsEntry("requestId", singleton(StoredItem.of("accountId", "request")));
+        assertThat(restoredCache.getImpCache()).containsEntry("impId", singleton(StoredItem.of(null, "imp")));
+        assertThat(restoredAmpCache.getRequestCache())
+                .containsEntry("ampRequestId", singleton(StoredItem.of(null, "ampRequest")));
+        assertThat(restoredAmpCache.getImpCache()).isEmpty();
+        assertThat(restoringSnapshotter.lastModified("http://endpoint"))
+                .isEqualTo(Instant.parse("2022-01-01T00:00:00Z"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void snapshotShouldCollectCachesOnWorkerThread() {
+        // given
+        willAnswer(invocation -> null).given(vertx).executeBlocking(any(), anyBoolean(), any());
+
+        final SettingsCache cache = givenCache();
+        final SettingsCacheSnapshotter snapshotter = givenSnapshotter(givenCachingSettings(), cache, givenCache());
+
+        // when
+        snapshotter.snapshot();
+
+        // then
+        final ArgumentCaptor<Handler<Promise<Void>>> blockingHandlerCaptor = ArgumentCaptor.forClass(Handler.class);
+        verify(vertx).executeBlocking(blockingHandlerCaptor.capture(), anyBoolean(), any());
+
+        // data saved before worker runs is still included into snapshot
+        cache.saveRequestCache(null, "requestId", "request");
+        blockingHandlerCaptor.getValue().handle(Promise.promise());
+
+        final SettingsCache restoredCache = givenCache();
+        givenSnapshotter(givenCachingSettings(), restoredCache, givenCache()).restore();
+        assertThat(restoredCache.getRequestCache())
+                .containsEntry("requestId", singleton(StoredItem.of(null, "request")));
+    }
+
+    private SettingsCacheSnapshotter givenSnapshotter(CachingApplicationSettings cachingSettings,
+                                                      SettingsCache cache,
+                                                      SettingsCache ampCache) {
+
+        return new SettingsCacheSnapshotter(
+                path, 1000L, cachingSettings, cache, ampCache, givenCache(), vertx, jacksonMapper);
+    }
+
+    private CachingApplicationSettings givenCachingSettings() {
+        return new CachingApplicationSettings(
+                delegateSettings, givenCache(), givenCache(), givenCache(), new AccountStore(), metrics, 360, 100);
+    }
+
+    private static SettingsCache givenCache() {
+        return new SettingsCache(360, 100);
+    }
+}
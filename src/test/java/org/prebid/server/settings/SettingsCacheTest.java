@@ -4,6 +4,8 @@ import org.junit.Before;
 import org.junit.Test;
 import org.prebid.server.settings.model.StoredItem;
 
+import java.util.Set;
+
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
@@ -48,6 +50,21 @@ public class SettingsCacheTest {
                 .containsEntry("impId1", singleton(StoredItem.of("1001", "impValue1")));
     }
 
+    @Test
+    public void saveRequestCacheShouldNotModifyAlreadyCachedSet() {
+        // given
+        settingsCache.saveRequestCache("1001", "reqId1", "reqValue1");
+        final Set<StoredItem> cachedItems = settingsCache.getRequestCache().get("reqId1");
+
+        // when
+        settingsCache.saveRequestCache("1002", "reqId1", "reqValue2");
+
+        // then
+        assertThat(cachedItems).containsOnly(StoredItem.of("1001", "reqValue1"));
+        assertThat(settingsCache.getRequestCache().get("reqId1"))
+                .containsOnly(StoredItem.of("1001", "reqValue1"), StoredItem.of("1002", "reqValue2"));
+    }
+
     @Test
     public void saveShouldAddNewItemsToCache() {
         // when
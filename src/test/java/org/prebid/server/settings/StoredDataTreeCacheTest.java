@@ -0,0 +1,101 @@
+package org.prebid.server.settings;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.VertxTest;
+import org.prebid.server.exception.InvalidRequestException;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class StoredDataTreeCacheTest extends VertxTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private Metrics metrics;
+
+    private StoredDataTreeCache storedDataTreeCache;
+
+    @Before
+    public void setUp() {
+        storedDataTreeCache = new StoredDataTreeCache(10, 10, jacksonMapper, metrics);
+    }
+
+    @Test
+    public void creationShouldFailOnInvalidTtlAndSize() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new StoredDataTreeCache(0, 10, jacksonMapper, metrics))
+                .withMessage("ttl and size must be positive");
+    }
+
+    @Test
+    public void getRequestNodeShouldReturnParsedStoredData() {
+        // when
+        final JsonNode result = storedDataTreeCache.getRequestNode("1001", "reqId", "{\"id\":\"value\"}");
+
+        // then
+        assertThat(result).isEqualTo(mapper.createObjectNode().put("id", "value"));
+        verify(metrics).updateSettingsCacheEventMetric(MetricName.stored_request_tree, MetricName.miss);
+        verify(metrics).updateSettingsCacheParseTime(eq(MetricName.stored_request_tree), anyLong());
+    }
+
+    @Test
+    public void getRequestNodeShouldReturnSameNodeForSameAccountIdAndStoredData() {
+        // given
+        final JsonNode first = storedDataTreeCache.getRequestNode("1001", "reqId", "{\"id\":\"value\"}");
+
+        // when
+        final JsonNode second = storedDataTreeCache.getRequestNode("1001", "reqId", "{\"id\":\"value\"}");
+
+        // then
+        assertThat(second).isSameAs(first);
+        verify(metrics).updateSettingsCacheEventMetric(MetricName.stored_request_tree, MetricName.hit);
+    }
+
+    @Test
+    public void getRequestNodeShouldParseAgainWhenStoredDataChanged() {
+        // given
+        storedDataTreeCache.getRequestNode("1001", "reqId", "{\"id\":\"value\"}");
+
+        // when
+        final JsonNode result = storedDataTreeCache.getRequestNode("1001", "reqId", "{\"id\":\"updated\"}");
+
+        // then
+        assertThat(result).isEqualTo(mapper.createObjectNode().put("id", "updated"));
+        verify(metrics, times(2)).updateSettingsCacheEventMetric(MetricName.stored_request_tree, MetricName.miss);
+    }
+
+    @Test
+    public void getImpNodeShouldNotShareEntriesBetweenAccounts() {
+        // given
+        final JsonNode first = storedDataTreeCache.getImpNode("1001", "impId", "{\"id\":\"value\"}");
+
+        // when
+        final JsonNode second = storedDataTreeCache.getImpNode("1002", "impId", "{\"id\":\"value\"}");
+
+        // then
+        assertThat(second).isNotSameAs(first).isEqualTo(first);
+        verify(metrics, times(2)).updateSettingsCacheEventMetric(MetricName.stored_imp_tree, MetricName.miss);
+    }
+
+    @Test
+    public void getImpNodeShouldFailOnInvalidJson() {
+        assertThatThrownBy(() -> storedDataTreeCache.getImpNode("1001", "impId", "{invalid"))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("Can't parse Json for stored request with id impId");
+    }
+}
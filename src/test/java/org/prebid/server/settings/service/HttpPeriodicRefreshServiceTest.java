@@ -13,10 +13,12 @@ import org.mockito.junit.MockitoRule;
 import org.mockito.stubbing.Answer;
 import org.prebid.server.VertxTest;
 import org.prebid.server.settings.CacheNotificationListener;
+import org.prebid.server.settings.SettingsCacheSnapshotter;
 import org.prebid.server.settings.proto.response.HttpRefreshResponse;
 import org.prebid.server.vertx.http.HttpClient;
 import org.prebid.server.vertx.http.model.HttpClientResponse;
 
+import java.time.Instant;
 import java.util.Map;
 
 import static java.util.Collections.emptyList;
@@ -48,6 +50,8 @@ public class HttpPeriodicRefreshServiceTest extends VertxTest {
     private HttpClient httpClient;
     @Mock
     private Vertx vertx;
+    @Mock
+    private SettingsCacheSnapshotter snapshotter;
 
     private HttpClientResponse updatedResponse;
     private final Map<String, String> expectedRequests = singletonMap("id1", "{\"field1\":\"field-value1\"}");
@@ -152,6 +156,22 @@ public class HttpPeriodicRefreshServiceTest extends VertxTest {
         verify(httpClient).get(anyString(), anyLong());
     }
 
+    @Test
+    public void initializeShouldRequestOnlyChangesSinceSnapshotWhenSnapshotHasLastModified() {
+        // given
+        given(snapshotter.lastModified(ENDPOINT_URL)).willReturn(Instant.parse("2022-01-01T00:00:00Z"));
+
+        // when
+        new HttpPeriodicRefreshService(ENDPOINT_URL, -1, 2000, cacheNotificationListener, vertx, httpClient,
+                jacksonMapper, snapshotter).initialize();
+
+        // then
+        verify(httpClient).get(eq("http://stored-requests.prebid.com?last-modified=2022-01-01T00:00:00Z"), anyLong());
+        verify(httpClient, never()).get(eq(ENDPOINT_URL), anyLong());
+        verify(cacheNotificationListener).invalidate(singletonList("id1"), emptyList());
+        verify(snapshotter).updateLastModified(eq(ENDPOINT_URL), any());
+    }
+
     @Test
     public void shouldModifyEndpointUrlCorrectlyIfUrlHasParameters() {
         // given
@@ -170,7 +190,7 @@ public class HttpPeriodicRefreshServiceTest extends VertxTest {
                                              String url, long refreshPeriod, long timeout,
                                              Vertx vertx, HttpClient httpClient) {
         final HttpPeriodicRefreshService httpPeriodicRefreshService = new HttpPeriodicRefreshService(
-                url, refreshPeriod, timeout, notificationListener, vertx, httpClient, jacksonMapper);
+                url, refreshPeriod, timeout, notificationListener, vertx, httpClient, jacksonMapper, null);
         httpPeriodicRefreshService.initialize();
     }
 
@@ -0,0 +1,53 @@
+package org.prebid.server.useragent;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.prebid.server.useragent.model.UserAgentDeviceType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class UserAgentClassifierTest {
+
+    private UserAgentClassifier userAgentClassifier;
+
+    @Before
+    public void setUp() {
+        userAgentClassifier = new UserAgentClassifier(10);
+    }
+
+    @Test
+    public void creationShouldFailOnNonPositiveCacheSize() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new UserAgentClassifier(0))
+                .withMessage("cache size must be positive");
+    }
+
+    @Test
+    public void classifyShouldReturnNullForBlankUserAgent() {
+        // when and then
+        assertThat(userAgentClassifier.classify(null)).isNull();
+        assertThat(userAgentClassifier.classify(" ")).isNull();
+    }
+
+    @Test
+    public void classifyShouldReturnPhoneWhenUserAgentMatchesPhonePattern() {
+        // when and then
+        assertThat(userAgentClassifier.classify("iPhone")).isEqualTo(UserAgentDeviceType.phone);
+        assertThat(userAgentClassifier.classify("Android 12 Mobile")).isEqualTo(UserAgentDeviceType.phone);
+    }
+
+    @Test
+    public void classifyShouldReturnTabletWhenUserAgentMatchesTabletPattern() {
+        // when and then
+        assertThat(userAgentClassifier.classify("iPad")).isEqualTo(UserAgentDeviceType.tablet);
+        assertThat(userAgentClassifier.classify("Windows NT 10.0; touch")).isEqualTo(UserAgentDeviceType.tablet);
+    }
+
+    @Test
+    public void classifyShouldReturnDesktopWhenUserAgentDoesNotMatchAnyPattern() {
+        // when and then
+        assertThat(userAgentClassifier.classify("Mozilla/5.0 (X11; Linux x86_64)"))
+                .isEqualTo(UserAgentDeviceType.desktop);
+    }
+}
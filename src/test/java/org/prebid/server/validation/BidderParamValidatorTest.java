@@ -1,6 +1,7 @@
 package org.prebid.server.validation;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -366,6 +367,40 @@ public class BidderParamValidatorTest extends VertxTest {
         assertThat(messages.size()).isEqualTo(2);
     }
 
+    @Test
+    public void validateShouldReturnMemoizedResultForEqualParams() {
+        // given
+        bidderParamValidator = BidderParamValidator.create(
+                bidderCatalog, "static/bidder-params", 10, jacksonMapper);
+
+        final ObjectNode node = mapper.valueToTree(ExtImpRubicon.builder().siteId(2).zoneId(3).build());
+        final Set<String> messages = bidderParamValidator.validate(RUBICON, node);
+
+        // when
+        final Set<String> result = bidderParamValidator.validate(RUBICON, node.deepCopy());
+
+        // then
+        assertThat(result).hasSize(1).isSameAs(messages);
+    }
+
+    @Test
+    public void validateShouldNotBeAffectedByModificationOfMemoizedParams() {
+        // given
+        bidderParamValidator = BidderParamValidator.create(
+                bidderCatalog, "static/bidder-params", 10, jacksonMapper);
+
+        final ObjectNode node = mapper.valueToTree(ExtImpRubicon.builder().siteId(2).zoneId(3).build());
+        bidderParamValidator.validate(RUBICON, node);
+        node.put("accountId", 1);
+
+        // when
+        final Set<String> result = bidderParamValidator.validate(
+                RUBICON, mapper.valueToTree(ExtImpRubicon.builder().siteId(2).zoneId(3).build()));
+
+        // then
+        assertThat(result).hasSize(1);
+    }
+
     @Test
     public void schemaShouldReturnSchemasString() throws IOException {
         // given
@@ -39,6 +39,7 @@ import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 import org.prebid.server.VertxTest;
 import org.prebid.server.bidder.BidderCatalog;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.proto.openrtb.ext.request.ExtDevice;
 import org.prebid.server.proto.openrtb.ext.request.ExtDeviceInt;
 import org.prebid.server.proto.openrtb.ext.request.ExtDevicePrebid;
@@ -75,9 +76,13 @@ import static java.util.Collections.singletonMap;
 import static java.util.function.UnaryOperator.identity;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 public class RequestValidatorTest extends VertxTest {
 
@@ -90,6 +95,8 @@ public class RequestValidatorTest extends VertxTest {
     private BidderCatalog bidderCatalog;
     @Mock
     private BidderParamValidator bidderParamValidator;
+    @Mock
+    private Metrics metrics;
 
     private RequestValidator requestValidator;
 
@@ -99,7 +106,8 @@ public class RequestValidatorTest extends VertxTest {
         given(bidderCatalog.isValidName(eq(RUBICON))).willReturn(true);
         given(bidderCatalog.isActive(eq(RUBICON))).willReturn(true);
 
-        requestValidator = new RequestValidator(bidderCatalog, bidderParamValidator, jacksonMapper);
+        requestValidator = new RequestValidator(
+                bidderCatalog, bidderParamValidator, metrics, jacksonMapper, false, false);
     }
 
     @Test
@@ -115,6 +123,46 @@ public class RequestValidatorTest extends VertxTest {
         assertThat(result.getErrors()).hasSize(1);
     }
 
+    @Test
+    public void validateShouldReturnErrorOfEveryFailedRuleIfAllErrorsShouldBeCollected() {
+        // given
+        requestValidator = new RequestValidator(
+                bidderCatalog, bidderParamValidator, metrics, jacksonMapper, true, false);
+        final BidRequest bidRequest = BidRequest.builder().build();
+
+        // when
+        final ValidationResult result = requestValidator.validate(bidRequest);
+
+        // then
+        assertThat(result.getErrors()).containsExactly(
+                "request missing required field: \"id\"",
+                "request.imp must contain at least one element",
+                "request.site or request.app must be defined");
+    }
+
+    @Test
+    public void validateShouldReportTimeOfEveryRuleIfRuleTimingIsEnabled() {
+        // given
+        requestValidator = new RequestValidator(
+                bidderCatalog, bidderParamValidator, metrics, jacksonMapper, false, true);
+
+        // when
+        requestValidator.validate(validBidRequestBuilder().build());
+
+        // then
+        verify(metrics, times(7)).updateRequestValidationRuleTime(anyString(), anyLong());
+        verify(metrics).updateRequestValidationRuleTime(eq("imp"), anyLong());
+    }
+
+    @Test
+    public void validateShouldNotReportRuleTimeIfRuleTimingIsDisabled() {
+        // when
+        requestValidator.validate(validBidRequestBuilder().build());
+
+        // then
+        verifyNoInteractions(metrics);
+    }
+
     @Test
     public void validateShouldReturnValidationMessageWhenRequestIdIsEmpty() {
         // given
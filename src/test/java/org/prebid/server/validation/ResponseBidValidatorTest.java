@@ -161,6 +161,23 @@ public class ResponseBidValidatorTest extends VertxTest {
                         max imp size='100x200', bid response size='150x150'""");
     }
 
+    @Test
+    public void validateShouldApplyDefaultEnforcementIfAccountIsAbsent() {
+        // when
+        final ValidationResult result = responseBidValidator.validate(
+                givenBid(builder -> builder.w(150).h(150)),
+                BIDDER_NAME,
+                givenAuctionContext(givenBidRequest(identity()), null),
+                bidderAliases);
+
+        // then
+        assertThat(result.getErrors())
+                .containsOnly("""
+                        BidResponse validation `enforce`: bidder `bidder` response triggers \
+                        creative size validation for bid bidId1, account=null, referrer=unknown, \
+                        max imp size='100x200', bid response size='150x150'""");
+    }
+
     @Test
     public void validateShouldFailIfBannerBidHeightIsGreaterThanImposedByImp() {
         // when
@@ -224,6 +241,29 @@ public class ResponseBidValidatorTest extends VertxTest {
         assertThat(result.hasErrors()).isFalse();
     }
 
+    @Test
+    public void validateShouldResolveEnforcementOfEveryAccountSeparately() {
+        // given
+        final Account skippingAccount = givenAccount(builder -> builder.auction(AccountAuctionConfig.builder()
+                .bidValidations(AccountBidValidationConfig.of(skip))
+                .build()));
+        responseBidValidator.validate(
+                givenBid(builder -> builder.w(150).h(150)),
+                BIDDER_NAME,
+                givenAuctionContext(skippingAccount),
+                bidderAliases);
+
+        // when
+        final ValidationResult result = responseBidValidator.validate(
+                givenBid(builder -> builder.w(150).h(150)),
+                BIDDER_NAME,
+                givenAuctionContext(givenAccount()),
+                bidderAliases);
+
+        // then
+        assertThat(result.hasErrors()).isTrue();
+    }
+
     @Test
     public void validateShouldFailIfBidHasNoCorrespondingImp() {
         // when
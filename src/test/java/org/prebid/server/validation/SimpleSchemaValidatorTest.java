@@ -0,0 +1,127 @@
+package org.prebid.server.validation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.networknt.schema.JsonSchema;
+import com.networknt.schema.JsonSchemaFactory;
+import com.networknt.schema.SpecVersion;
+import com.networknt.schema.ValidationMessage;
+import org.junit.Test;
+import org.prebid.server.VertxTest;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SimpleSchemaValidatorTest extends VertxTest {
+
+    private static final JsonSchemaFactory SCHEMA_FACTORY = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V4);
+
+    @Test
+    public void compileShouldReturnNullForSchemaWithUnsupportedKeywords() {
+        // given
+        final ObjectNode schema = mapper.createObjectNode().put("type", "object");
+        schema.putObject("properties").putObject("placementId").put("type", "string").put("minLength", 1);
+
+        // when and then
+        assertThat(SimpleSchemaValidator.compile(schema)).isNull();
+    }
+
+    @Test
+    public void validateShouldCheckTypesAndRequiredProperties() {
+        // given
+        final ObjectNode schema = mapper.createObjectNode().put("type", "object");
+        schema.putObject("properties").putObject("siteId").put("type", "integer");
+        schema.putArray("required").add("siteId").add("zoneId");
+
+        final ObjectNode params = mapper.createObjectNode().put("siteId", "1");
+
+        // when
+        final Set<String> result = SimpleSchemaValidator.compile(schema).validate(params);
+
+        // then
+        assertThat(result).containsOnly(
+                "$.siteId: string found, integer expected",
+                "$.zoneId: is missing but it is required");
+    }
+
+    @Test
+    public void validateShouldReturnSameMessagesAsGenericValidatorForAllSimpleBidderSchemas()
+            throws IOException, URISyntaxException {
+
+        // given
+        final Path schemaDirectory = Paths.get(Objects.requireNonNull(
+                getClass().getClassLoader().getResource("static/bidder-params")).toURI());
+
+        final List<JsonNode> schemas;
+        try (Stream<Path> files = Files.list(schemaDirectory)) {
+            schemas = files.map(SimpleSchemaValidatorTest::readTree).toList();
+        }
+
+        int simpleSchemas = 0;
+        for (JsonNode schema : schemas) {
+            final SimpleSchemaValidator simpleValidator = SimpleSchemaValidator.compile(schema);
+            if (simpleValidator == null) {
+                continue;
+            }
+            simpleSchemas++;
+
+            final JsonSchema genericValidator = SCHEMA_FACTORY.getSchema(schema);
+
+            // when and then
+            for (JsonNode params : givenParams(schema)) {
+                assertThat(simpleValidator.validate(params))
+                        .describedAs("Schema %s, params %s", schema.get("title"), params)
+                        .isEqualTo(genericValidator.validate(params).stream()
+                                .map(ValidationMessage::getMessage)
+                                .collect(Collectors.toSet()));
+            }
+        }
+
+        assertThat(simpleSchemas).isPositive();
+    }
+
+    private static JsonNode readTree(Path path) {
+        try {
+            return mapper.readTree(path.toFile());
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    private static List<JsonNode> givenParams(JsonNode schema) {
+        final List<JsonNode> values = List.of(
+                TextNode.valueOf("value"),
+                mapper.getNodeFactory().numberNode(1),
+                mapper.getNodeFactory().numberNode(1.5),
+                mapper.getNodeFactory().booleanNode(true),
+                mapper.getNodeFactory().nullNode(),
+                mapper.createArrayNode(),
+                mapper.createObjectNode());
+
+        final List<JsonNode> params = new ArrayList<>(values);
+
+        final JsonNode properties = schema.get("properties");
+        final Iterator<String> names = properties != null ? properties.fieldNames() : null;
+        while (names != null && names.hasNext()) {
+            final String name = names.next();
+            for (JsonNode value : values) {
+                params.add(mapper.createObjectNode().set(name, value));
+            }
+        }
+
+        return params;
+    }
+}
@@ -0,0 +1,122 @@
+package org.prebid.server.vertx.http;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClientOptions;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.metric.Metrics;
+
+import java.util.List;
+
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+public class HttpClientPoolRegistryTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private Metrics metrics;
+    @Mock
+    private Vertx vertx;
+
+    @Test
+    public void hostOfShouldReturnLowerCasedHostWithPort() {
+        assertThat(HttpClientPoolRegistry.hostOf("https://User@Bidder.com:8080/path?query#hash"))
+                .isEqualTo("bidder.com:8080");
+        assertThat(HttpClientPoolRegistry.hostOf("http://bidder.com?query")).isEqualTo("bidder.com");
+        assertThat(HttpClientPoolRegistry.hostOf("bidder.com/path")).isEqualTo("bidder.com");
+    }
+
+    @Test
+    public void hostOfShouldReturnNullForAbsentHost() {
+        assertThat(HttpClientPoolRegistry.hostOf(null)).isNull();
+        assertThat(HttpClientPoolRegistry.hostOf("http:///path")).isNull();
+    }
+
+    @Test
+    public void poolForShouldReturnPoolRegisteredForUrlHost() {
+        // given
+        final HttpClientPool pool = new HttpClientPool("bidder", "bidder.com", new HttpClientOptions());
+        final HttpClientPoolRegistry registry = new HttpClientPoolRegistry(List.of(pool), metrics);
+
+        // when and then
+        assertThat(registry.poolFor("https://bidder.com/bid")).isSameAs(pool);
+        assertThat(registry.poolFor("https://other.com/bid")).isNull();
+    }
+
+    @Test
+    public void creationShouldFailIfPoolsOfSameHostHaveDifferentSettings() {
+        // given
+        final List<HttpClientPool> pools = List.of(
+                new HttpClientPool("bidder1", "bidder.com", new HttpClientOptions().setMaxPoolSize(10)),
+                new HttpClientPool("bidder2", "bidder.com", new HttpClientOptions().setMaxPoolSize(20)));
+
+        // when and then
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new HttpClientPoolRegistry(pools, metrics))
+                .withMessage("Http client pools bidder1 and bidder2 have different settings for the same host "
+                        + "bidder.com");
+    }
+
+    @Test
+    public void creationShouldShareFirstPoolBetweenPoolsOfSameHostWithSameSettings() {
+        // given
+        final HttpClientPool pool = new HttpClientPool("bidder1", "bidder.com", new HttpClientOptions());
+        final List<HttpClientPool> pools = List.of(
+                pool, new HttpClientPool("bidder2", "bidder.com", new HttpClientOptions()));
+
+        // when
+        final HttpClientPoolRegistry registry = new HttpClientPoolRegistry(pools, metrics);
+
+        // then
+        assertThat(registry.poolFor("https://bidder.com/bid")).isSameAs(pool);
+    }
+
+    @Test
+    public void poolForShouldReturnNullWhenNoPoolsRegistered() {
+        // given
+        final HttpClientPoolRegistry registry = new HttpClientPoolRegistry(emptyList(), metrics);
+
+        // when and then
+        assertThat(registry.poolFor("https://bidder.com/bid")).isNull();
+    }
+
+    @Test
+    public void creationShouldRegisterPoolGauges() {
+        // when
+        new HttpClientPoolRegistry(
+                List.of(new HttpClientPool("bidder", "bidder.com", new HttpClientOptions())), metrics);
+
+        // then
+        verify(metrics).createHttpClientPoolGauges(eq("bidder"), any(), any(), any());
+    }
+
+    @Test
+    public void poolShouldSplitRequestsInFlightToActiveAndOverCapacity() {
+        // given
+        final HttpClientPool pool = new HttpClientPool("bidder", "bidder.com",
+                new HttpClientOptions().setMaxPoolSize(2));
+        new HttpClientPoolRegistry(List.of(pool), metrics).createHttpClients(vertx);
+
+        // when
+        pool.requestStarted();
+        pool.requestStarted();
+        pool.requestStarted();
+        pool.requestCompleted();
+        pool.requestStarted();
+
+        // then
+        assertThat(pool.estimatedActive()).isEqualTo(2);
+        assertThat(pool.estimatedOverCapacity()).isEqualTo(1);
+        assertThat(pool.inFlight()).isEqualTo(3);
+    }
+}
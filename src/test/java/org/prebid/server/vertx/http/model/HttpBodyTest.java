@@ -0,0 +1,71 @@
+package org.prebid.server.vertx.http.model;
+
+import io.vertx.core.buffer.Buffer;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HttpBodyTest {
+
+    @Test
+    public void asStringShouldDecodeBufferLazily() {
+        // given
+        final Buffer buffer = Buffer.buffer("body");
+        final HttpBody body = HttpBody.ofBuffer(buffer);
+
+        // when and then
+        assertThat(body.asBuffer()).isSameAs(buffer);
+        assertThat(body.asString()).isEqualTo("body");
+    }
+
+    @Test
+    public void asBufferShouldReturnBufferOfStringBody() {
+        // given
+        final HttpBody body = HttpBody.of("body");
+
+        // when and then
+        assertThat(body.asBuffer()).isEqualTo(Buffer.buffer("body"));
+    }
+
+    @Test
+    public void asStringShouldReturnNullWhenBodyIsAbsent() {
+        // given
+        final HttpBody body = HttpBody.ofBuffer(null);
+
+        // when and then
+        assertThat(body.asString()).isNull();
+        assertThat(body.asBuffer()).isNull();
+        assertThat(body).isEqualTo(HttpBody.of(null));
+    }
+
+    @Test
+    public void equalsShouldCompareDecodedBuffers() {
+        // when and then
+        assertThat(HttpBody.ofBuffer(Buffer.buffer("first"))).isNotEqualTo(HttpBody.ofBuffer(Buffer.buffer("second")));
+    }
+
+    @Test
+    public void equalsShouldNotDependOnHowBodyWasCreated() {
+        // given
+        final HttpBody stringBody = HttpBody.of("body");
+        final HttpBody bufferBody = HttpBody.ofBuffer(Buffer.buffer("body"));
+
+        // when and then
+        assertThat(bufferBody).isEqualTo(stringBody);
+        assertThat(bufferBody).hasSameHashCodeAs(stringBody);
+        assertThat(bufferBody).hasToString("body");
+    }
+
+    @Test
+    public void hashCodeShouldNotChangeAfterBodyIsDecoded() {
+        // given
+        final HttpBody body = HttpBody.ofBuffer(Buffer.buffer("body"));
+        final int hashCode = body.hashCode();
+
+        // when
+        body.asString();
+
+        // then
+        assertThat(body.hashCode()).isEqualTo(hashCode);
+    }
+}
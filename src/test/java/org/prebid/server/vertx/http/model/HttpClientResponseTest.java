@@ -0,0 +1,35 @@
+package org.prebid.server.vertx.http.model;
+
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HttpClientResponseTest {
+
+    @Test
+    public void getBodyShouldDecodeBuffer() {
+        // given
+        final Buffer buffer = Buffer.buffer("body");
+        final HttpClientResponse response = HttpClientResponse.ofBuffer(
+                200, MultiMap.caseInsensitiveMultiMap(), buffer);
+
+        // when and then
+        assertThat(response.getBodyAsBuffer()).isSameAs(buffer);
+        assertThat(response.getBody()).isEqualTo("body");
+    }
+
+    @Test
+    public void equalsShouldNotDependOnHowResponseWasCreated() {
+        // given
+        final MultiMap headers = MultiMap.caseInsensitiveMultiMap();
+        final HttpClientResponse stringResponse = HttpClientResponse.of(200, headers, "body");
+        final HttpClientResponse bufferResponse = HttpClientResponse.ofBuffer(200, headers, Buffer.buffer("body"));
+
+        // when and then
+        assertThat(bufferResponse).isEqualTo(stringResponse);
+        assertThat(bufferResponse).hasSameHashCodeAs(stringResponse);
+        assertThat(bufferResponse).hasToString(stringResponse.toString());
+    }
+}